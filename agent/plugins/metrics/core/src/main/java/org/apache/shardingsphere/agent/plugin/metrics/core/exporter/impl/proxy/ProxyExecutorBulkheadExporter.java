@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.executor.kernel.bulkhead.ExecutorBulkhead;
+import org.apache.shardingsphere.infra.executor.kernel.bulkhead.ExecutorBulkheadManager;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy executor bulkhead exporter.
+ */
+public final class ProxyExecutorBulkheadExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_executor_bulkhead",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Executor bulkhead of every data source in ShardingSphere-Proxy. "
+                    + "limit is current concurrency limit; in_flight is executing count; queue_depth is waiting count; wait_time_millis is total wait time; rejected is total rejected count",
+            Arrays.asList("database", "data_source", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        Optional<ExecutorBulkheadManager> bulkheadManager = BackendExecutorContext.getInstance().getExecutorEngine().getBulkheadManager();
+        if (!bulkheadManager.isPresent()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (ExecutorBulkhead each : bulkheadManager.get().getBulkheads()) {
+            result.addMetric(Arrays.asList(each.getDatabaseName(), each.getDataSourceName(), "limit"), each.getLimit());
+            result.addMetric(Arrays.asList(each.getDatabaseName(), each.getDataSourceName(), "in_flight"), each.getInFlight());
+            result.addMetric(Arrays.asList(each.getDatabaseName(), each.getDataSourceName(), "queue_depth"), each.getQueueDepth());
+            result.addMetric(Arrays.asList(each.getDatabaseName(), each.getDataSourceName(), "wait_time_millis"), each.getWaitTimeMillis());
+            result.addMetric(Arrays.asList(each.getDatabaseName(), each.getDataSourceName(), "rejected"), each.getRejectedCount());
+        }
+        return Optional.of(result);
+    }
+}
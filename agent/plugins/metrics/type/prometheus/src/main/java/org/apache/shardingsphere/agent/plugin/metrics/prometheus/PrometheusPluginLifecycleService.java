@@ -26,6 +26,7 @@ import org.apache.shardingsphere.agent.plugin.core.config.validator.PluginConfig
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.BuildInfoExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCMetaDataInfoExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCStateExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyExecutorBulkheadExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMetaDataInfoExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.exoprter.PrometheusMetricsExporter;
@@ -76,6 +77,7 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     private void registerCollectorForProxy() {
         new PrometheusMetricsExporter(new ProxyStateExporter()).register();
         new PrometheusMetricsExporter(new ProxyMetaDataInfoExporter()).register();
+        new PrometheusMetricsExporter(new ProxyExecutorBulkheadExporter()).register();
     }
     
     private void registerCollectorForJDBC() {
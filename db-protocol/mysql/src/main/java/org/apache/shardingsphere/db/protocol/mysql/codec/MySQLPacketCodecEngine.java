@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacketBatch;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -87,6 +88,10 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
     
     @Override
     public void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
+        if (message instanceof MySQLPacketBatch) {
+            writeBatch(context, (MySQLPacketBatch) message, out);
+            return;
+        }
         MySQLPacketPayload payload = new MySQLPacketPayload(prepareMessageHeader(out).markWriterIndex(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
         try {
             message.write(payload);
@@ -104,6 +109,13 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
         }
     }
     
+    private void writeBatch(final ChannelHandlerContext context, final MySQLPacketBatch batch, final ByteBuf out) {
+        batch.assignSequenceIds(context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get());
+        ByteBuf content = batch.content();
+        out.ensureWritable(content.readableBytes());
+        out.writeBytes(content, content.readerIndex(), content.readableBytes());
+    }
+    
     private ByteBuf prepareMessageHeader(final ByteBuf out) {
         return out.writeInt(0);
     }
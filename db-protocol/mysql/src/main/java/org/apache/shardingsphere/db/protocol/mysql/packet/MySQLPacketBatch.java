@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DefaultByteBufHolder;
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Batch of MySQL packets framed into one buffer, sequence IDs are assigned when the batch is encoded.
+ */
+public final class MySQLPacketBatch extends DefaultByteBufHolder implements DatabasePacket {
+    
+    private static final int MAX_PACKET_LENGTH = 0xFFFFFF;
+    
+    private static final int PAYLOAD_LENGTH = 3;
+    
+    private static final int SEQUENCE_LENGTH = 1;
+    
+    private final MySQLPacketPayload payload;
+    
+    @Getter
+    private int packetCount;
+    
+    public MySQLPacketBatch(final ByteBuf byteBuf, final Charset charset) {
+        super(byteBuf);
+        payload = new MySQLPacketPayload(byteBuf, charset);
+    }
+    
+    /**
+     * Add packet to batch.
+     *
+     * @param packet packet to be added
+     * @return added or not, packet which payload does not fit in one MySQL packet will not be added
+     */
+    public boolean add(final DatabasePacket packet) {
+        ByteBuf byteBuf = content();
+        int headerIndex = byteBuf.writerIndex();
+        byteBuf.writeInt(0);
+        try {
+            packet.write(payload);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            byteBuf.writerIndex(headerIndex + PAYLOAD_LENGTH + SEQUENCE_LENGTH);
+            new MySQLErrPacket(new UnknownSQLException(ex).toSQLException()).write(payload);
+        }
+        int payloadLength = byteBuf.writerIndex() - headerIndex - PAYLOAD_LENGTH - SEQUENCE_LENGTH;
+        if (payloadLength >= MAX_PACKET_LENGTH) {
+            byteBuf.writerIndex(headerIndex);
+            return false;
+        }
+        byteBuf.setMediumLE(headerIndex, payloadLength);
+        packetCount++;
+        return true;
+    }
+    
+    /**
+     * Judge whether batch is empty.
+     *
+     * @return is empty or not
+     */
+    public boolean isEmpty() {
+        return 0 == packetCount;
+    }
+    
+    /**
+     * Get size of batch in bytes.
+     *
+     * @return size in bytes
+     */
+    public int getSize() {
+        return content().readableBytes();
+    }
+    
+    /**
+     * Assign sequence IDs to packets of batch.
+     *
+     * @param sequenceId sequence ID of channel
+     */
+    public void assignSequenceIds(final AtomicInteger sequenceId) {
+        ByteBuf byteBuf = content();
+        int index = byteBuf.readerIndex();
+        for (int i = 0; i < packetCount; i++) {
+            byteBuf.setByte(index + PAYLOAD_LENGTH, sequenceId.getAndIncrement());
+            index += PAYLOAD_LENGTH + SEQUENCE_LENGTH + byteBuf.getUnsignedMediumLE(index);
+        }
+    }
+    
+    @Override
+    public void write(final PacketPayload payload) {
+        ByteBuf byteBuf = content();
+        payload.getByteBuf().writeBytes(byteBuf, byteBuf.readerIndex(), byteBuf.readableBytes());
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
@@ -71,4 +72,31 @@ public final class MySQLBinaryResultSetRowPacket extends MySQLPacket {
             }
         }
     }
+    
+    /**
+     * Write row into payload without creating binary row.
+     *
+     * @param payload payload
+     * @param columnTypes column types of row
+     * @param values values of row
+     */
+    public static void write(final MySQLPacketPayload payload, final MySQLBinaryColumnType[] columnTypes, final Object[] values) {
+        payload.writeInt1(PACKET_HEADER);
+        int nullBitmapLength = (values.length + NULL_BITMAP_OFFSET + 7) / 8;
+        for (int i = 0; i < nullBitmapLength; i++) {
+            int nullBits = 0;
+            for (int bit = 0; bit < 8; bit++) {
+                int index = i * 8 + bit - NULL_BITMAP_OFFSET;
+                if (index >= 0 && index < values.length && null == values[index]) {
+                    nullBits |= 1 << bit;
+                }
+            }
+            payload.writeInt1(nullBits);
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (null != values[i]) {
+                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes[i]).write(payload, values[i]);
+            }
+        }
+    }
 }
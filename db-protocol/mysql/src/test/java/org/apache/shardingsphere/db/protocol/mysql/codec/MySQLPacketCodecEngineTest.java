@@ -25,6 +25,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacketBatch;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,6 +52,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -184,6 +186,21 @@ class MySQLPacketCodecEngineTest {
         verify(byteBuf).setByte(3, 2);
     }
     
+    @Test
+    void assertEncodePacketBatch() {
+        MySQLPacketBatch batch = new MySQLPacketBatch(Unpooled.buffer(), StandardCharsets.UTF_8);
+        batch.add(mock(MySQLPacket.class));
+        batch.add(mock(MySQLPacket.class));
+        context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().set(1);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, batch, out);
+        verify(context, never()).write(any());
+        assertThat(out.readableBytes(), is(8));
+        assertThat(out.getUnsignedByte(3), is((short) 1));
+        assertThat(out.getUnsignedByte(7), is((short) 2));
+        assertThat(batch.refCnt(), is(1));
+    }
+    
     @Test
     void assertCreatePacketPayload() {
         assertThat(new MySQLPacketCodecEngine().createPacketPayload(byteBuf, StandardCharsets.UTF_8).getByteBuf(), is(byteBuf));
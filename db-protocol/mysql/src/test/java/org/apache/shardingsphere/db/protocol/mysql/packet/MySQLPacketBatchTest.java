@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class MySQLPacketBatchTest {
+    
+    @Test
+    void assertAddAndAssignSequenceIds() {
+        MySQLPacketBatch actual = new MySQLPacketBatch(Unpooled.buffer(), StandardCharsets.UTF_8);
+        assertTrue(actual.isEmpty());
+        assertTrue(actual.add(mockPacket(2)));
+        assertTrue(actual.add(mockPacket(3)));
+        assertThat(actual.getPacketCount(), is(2));
+        assertThat(actual.getSize(), is(13));
+        AtomicInteger sequenceId = new AtomicInteger(1);
+        actual.assignSequenceIds(sequenceId);
+        assertThat(sequenceId.get(), is(3));
+        ByteBuf content = actual.content();
+        assertThat(content.getUnsignedMediumLE(0), is(2));
+        assertThat(content.getUnsignedByte(3), is((short) 1));
+        assertThat(content.getUnsignedMediumLE(6), is(3));
+        assertThat(content.getUnsignedByte(9), is((short) 2));
+    }
+    
+    @Test
+    void assertAddPacketMoreThan16MB() {
+        MySQLPacketBatch actual = new MySQLPacketBatch(Unpooled.buffer(), StandardCharsets.UTF_8);
+        assertTrue(actual.add(mockPacket(1)));
+        assertFalse(actual.add(mockPacket(0xFFFFFF)));
+        assertThat(actual.getPacketCount(), is(1));
+        assertThat(actual.getSize(), is(5));
+    }
+    
+    @Test
+    void assertAddPacketOccursException() {
+        MySQLPacket packet = mock(MySQLPacket.class);
+        doThrow(RuntimeException.class).when(packet).write(any(PacketPayload.class));
+        MySQLPacketBatch actual = new MySQLPacketBatch(Unpooled.buffer(), StandardCharsets.UTF_8);
+        assertTrue(actual.add(packet));
+        assertThat(actual.getPacketCount(), is(1));
+        assertThat(actual.content().getUnsignedByte(4), is((short) 0xFF));
+    }
+    
+    @Test
+    void assertWrite() {
+        MySQLPacketBatch batch = new MySQLPacketBatch(Unpooled.buffer(), StandardCharsets.UTF_8);
+        batch.add(mockPacket(2));
+        ByteBuf actual = Unpooled.buffer();
+        batch.write(new MySQLPacketPayload(actual, StandardCharsets.UTF_8));
+        assertThat(actual.readableBytes(), is(6));
+        assertThat(batch.getSize(), is(6));
+    }
+    
+    private MySQLPacket mockPacket(final int payloadLength) {
+        MySQLPacket result = mock(MySQLPacket.class);
+        doAnswer(invocation -> ((PacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(payloadLength)).when(result).write(any(PacketPayload.class));
+        return result;
+    }
+}
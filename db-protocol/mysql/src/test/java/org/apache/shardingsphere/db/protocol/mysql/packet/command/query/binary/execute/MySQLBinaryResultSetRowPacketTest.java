@@ -45,4 +45,12 @@ class MySQLBinaryResultSetRowPacketTest {
         verify(payload).writeInt1(0x08);
         verify(payload).writeStringLenenc("value");
     }
+    
+    @Test
+    void assertWriteValues() {
+        MySQLBinaryResultSetRowPacket.write(payload, new MySQLBinaryColumnType[]{MySQLBinaryColumnType.STRING, MySQLBinaryColumnType.STRING}, new Object[]{"value", null});
+        verify(payload).writeInt1(0x00);
+        verify(payload).writeInt1(0x08);
+        verify(payload).writeStringLenenc("value");
+    }
 }
@@ -20,6 +20,9 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.admin.PostgreSQLUnsupportedCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLComCopyDonePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLComCopyFailPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.close.PostgreSQLComClosePacket;
@@ -50,7 +53,7 @@ public final class PostgreSQLCommandPacketFactory {
      * @return created instance
      */
     public static PostgreSQLCommandPacket newInstance(final PostgreSQLCommandPacketType commandPacketType, final PostgreSQLPacketPayload payload, final boolean sqlCommentParseEnabled) {
-        if (!PostgreSQLCommandPacketType.isExtendedProtocolPacketType(commandPacketType)) {
+        if (!PostgreSQLCommandPacketType.isExtendedProtocolPacketType(commandPacketType) && !PostgreSQLCommandPacketType.isCopyPacketType(commandPacketType)) {
             payload.getByteBuf().skipBytes(1);
             return getPostgreSQLCommandPacket(commandPacketType, payload, sqlCommentParseEnabled);
         }
@@ -83,6 +86,12 @@ public final class PostgreSQLCommandPacketFactory {
                 return new PostgreSQLComClosePacket(payload);
             case FLUSH_COMMAND:
                 return new PostgreSQLComFlushPacket(payload);
+            case COPY_DATA:
+                return new PostgreSQLComCopyDataPacket(payload);
+            case COPY_DONE:
+                return new PostgreSQLComCopyDonePacket(payload);
+            case COPY_FAIL:
+                return new PostgreSQLComCopyFailPacket(payload);
             case TERMINATE:
                 return new PostgreSQLComTerminationPacket(payload);
             default:
@@ -53,12 +53,21 @@ public enum PostgreSQLCommandPacketType implements CommandPacketType, PostgreSQL
     
     FLUSH_COMMAND('H'),
     
+    COPY_DATA('d'),
+    
+    COPY_DONE('c'),
+    
+    COPY_FAIL('f'),
+    
     TERMINATE('X');
     
     private static final Set<PostgreSQLCommandPacketType> EXTENDED_PROTOCOL_PACKET_TYPES = EnumSet.of(PostgreSQLCommandPacketType.PARSE_COMMAND,
             PostgreSQLCommandPacketType.BIND_COMMAND, PostgreSQLCommandPacketType.DESCRIBE_COMMAND, PostgreSQLCommandPacketType.EXECUTE_COMMAND,
             PostgreSQLCommandPacketType.SYNC_COMMAND, PostgreSQLCommandPacketType.CLOSE_COMMAND, PostgreSQLCommandPacketType.FLUSH_COMMAND);
     
+    private static final Set<PostgreSQLCommandPacketType> COPY_PACKET_TYPES = EnumSet.of(PostgreSQLCommandPacketType.COPY_DATA,
+            PostgreSQLCommandPacketType.COPY_DONE, PostgreSQLCommandPacketType.COPY_FAIL);
+    
     private final char value;
     
     /**
@@ -86,4 +95,14 @@ public enum PostgreSQLCommandPacketType implements CommandPacketType, PostgreSQL
     public static boolean isExtendedProtocolPacketType(final CommandPacketType commandPacketType) {
         return EXTENDED_PROTOCOL_PACKET_TYPES.contains(commandPacketType);
     }
+    
+    /**
+     * Check if the packet type is copy sub-protocol packet type.
+     *
+     * @param commandPacketType command packet type
+     * @return is copy sub-protocol packet type
+     */
+    public static boolean isCopyPacketType(final CommandPacketType commandPacketType) {
+        return COPY_PACKET_TYPES.contains(commandPacketType);
+    }
 }
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.db.protocol.postgresql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
@@ -38,10 +40,12 @@ import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -87,6 +91,23 @@ class PostgreSQLPacketCodecEngineTest {
         assertTrue(out.isEmpty());
     }
     
+    @Test
+    void assertDecodeWithCopyPackets() {
+        when(context.alloc().compositeBuffer(anyInt())).thenReturn(Unpooled.compositeBuffer());
+        PostgreSQLPacketCodecEngine engine = new PostgreSQLPacketCodecEngine();
+        List<Object> out = new LinkedList<>();
+        engine.decode(context, Unpooled.buffer().writeInt(8).writeInt(196608), out);
+        out.clear();
+        ByteBuf in = Unpooled.buffer();
+        in.writeByte('d').writeInt(6).writeByte('1').writeByte('\n');
+        in.writeByte('d').writeInt(6).writeByte('2').writeByte('\n');
+        in.writeByte('c').writeInt(4);
+        engine.decode(context, in, out);
+        assertThat(out.size(), is(1));
+        assertThat(out.get(0), instanceOf(CompositeByteBuf.class));
+        assertThat(((ByteBuf) out.get(0)).readableBytes(), is(19));
+    }
+    
     @Test
     void assertEncodePostgreSQLPacket() {
         PostgreSQLPacket packet = mock(PostgreSQLPacket.class);
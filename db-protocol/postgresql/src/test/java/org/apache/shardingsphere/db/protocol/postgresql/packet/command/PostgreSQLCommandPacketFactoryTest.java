@@ -84,4 +84,9 @@ class PostgreSQLCommandPacketFactoryTest {
         when(payload.getByteBuf()).thenReturn(mock(ByteBuf.class));
         assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.TERMINATE, payload, false), instanceOf(PostgreSQLComTerminationPacket.class));
     }
+    
+    @Test
+    void assertNewInstanceWithCopyDataComPacket() {
+        assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.COPY_DATA, payload, false), instanceOf(PostgreSQLAggregatedCommandPacket.class));
+    }
 }
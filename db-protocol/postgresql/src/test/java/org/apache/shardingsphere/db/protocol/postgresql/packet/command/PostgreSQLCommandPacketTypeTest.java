@@ -20,6 +20,7 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command;
 import org.apache.shardingsphere.db.protocol.postgresql.exception.PostgreSQLProtocolException;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -40,4 +41,12 @@ class PostgreSQLCommandPacketTypeTest {
         assertTrue(PostgreSQLCommandPacketType.isExtendedProtocolPacketType(PostgreSQLCommandPacketType.FLUSH_COMMAND));
         assertTrue(PostgreSQLCommandPacketType.isExtendedProtocolPacketType(PostgreSQLCommandPacketType.SYNC_COMMAND));
     }
+    
+    @Test
+    void assertIsCopyPacketType() {
+        assertTrue(PostgreSQLCommandPacketType.isCopyPacketType(PostgreSQLCommandPacketType.COPY_DATA));
+        assertTrue(PostgreSQLCommandPacketType.isCopyPacketType(PostgreSQLCommandPacketType.COPY_DONE));
+        assertTrue(PostgreSQLCommandPacketType.isCopyPacketType(PostgreSQLCommandPacketType.COPY_FAIL));
+        assertFalse(PostgreSQLCommandPacketType.isCopyPacketType(PostgreSQLCommandPacketType.SIMPLE_QUERY));
+    }
 }
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.broadcast.api.config.BroadcastRuleConfiguration
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.scope.DatabaseRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.ColocatedJoinRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
@@ -42,7 +43,7 @@ import java.util.stream.Collectors;
  * Broadcast rule.
  */
 @Getter
-public final class BroadcastRule implements DatabaseRule, DataNodeContainedRule, TableContainedRule {
+public final class BroadcastRule implements DatabaseRule, DataNodeContainedRule, TableContainedRule, ColocatedJoinRule {
     
     private final BroadcastRuleConfiguration configuration;
     
@@ -175,6 +176,11 @@ public final class BroadcastRule implements DatabaseRule, DataNodeContainedRule,
         return !logicTableNames.isEmpty() && tables.containsAll(logicTableNames);
     }
     
+    @Override
+    public boolean isColocatedJoin(final String leftTableName, final String rightTableName, final Map<String, String> joinColumns) {
+        return tables.contains(leftTableName) || tables.contains(rightTableName);
+    }
+    
     @Override
     public TableNamesMapper getLogicTableMapper() {
         return logicalTableMapper;
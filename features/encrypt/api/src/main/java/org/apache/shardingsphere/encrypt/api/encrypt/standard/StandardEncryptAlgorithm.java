@@ -20,6 +20,9 @@ package org.apache.shardingsphere.encrypt.api.encrypt.standard;
 import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Standard encrypt algorithm.
  */
@@ -33,4 +36,19 @@ public interface StandardEncryptAlgorithm extends EncryptAlgorithm {
      * @return plain value
      */
     Object decrypt(Object cipherValue, EncryptContext encryptContext);
+    
+    /**
+     * Decrypt in batch.
+     *
+     * @param cipherValues cipher values
+     * @param encryptContext encrypt context
+     * @return plain values, null cipher values will be returned as null
+     */
+    default List<Object> batchDecrypt(final List<Object> cipherValues, final EncryptContext encryptContext) {
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(null == each ? null : decrypt(each, encryptContext));
+        }
+        return result;
+    }
 }
@@ -20,6 +20,9 @@ package org.apache.shardingsphere.encrypt.spi;
 import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
 import org.apache.shardingsphere.infra.algorithm.ShardingSphereAlgorithm;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Encrypt algorithm.
  */
@@ -33,4 +36,19 @@ public interface EncryptAlgorithm extends ShardingSphereAlgorithm {
      * @return cipher value
      */
     Object encrypt(Object plainValue, EncryptContext encryptContext);
+    
+    /**
+     * Encrypt in batch.
+     *
+     * @param plainValues plain values
+     * @param encryptContext encrypt context
+     * @return cipher values, null plain values will be returned as null
+     */
+    default List<Object> batchEncrypt(final List<Object> plainValues, final EncryptContext encryptContext) {
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(null == each ? null : encrypt(each, encryptContext));
+        }
+        return result;
+    }
 }
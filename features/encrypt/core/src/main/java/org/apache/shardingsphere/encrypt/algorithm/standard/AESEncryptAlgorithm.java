@@ -28,18 +28,19 @@ import org.apache.shardingsphere.encrypt.exception.algorithm.EncryptAlgorithmIni
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * AES encrypt algorithm.
+ * 
+ * <p>Initialized ciphers are cached by threads, because cipher is not thread-safe and creating cipher is expensive.</p>
  */
 @EqualsAndHashCode
 public final class AESEncryptAlgorithm implements StandardEncryptAlgorithm {
@@ -50,9 +51,18 @@ public final class AESEncryptAlgorithm implements StandardEncryptAlgorithm {
     
     private byte[] secretKey;
     
+    @EqualsAndHashCode.Exclude
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    @EqualsAndHashCode.Exclude
+    private ThreadLocal<Cipher> decryptCipher;
+    
     @Override
     public void init(final Properties props) {
         secretKey = createSecretKey(props);
+        SecretKeySpec secretKeySpec = new SecretKeySpec(secretKey, getType());
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE, secretKeySpec));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE, secretKeySpec));
     }
     
     private byte[] createSecretKey(final Properties props) {
@@ -64,29 +74,60 @@ public final class AESEncryptAlgorithm implements StandardEncryptAlgorithm {
     }
     
     @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode, final SecretKeySpec secretKeySpec) {
+        Cipher result = Cipher.getInstance(getType());
+        result.init(cipherMode, secretKeySpec);
+        return result;
+    }
+    
     @Override
     public String encrypt(final Object plainValue, final EncryptContext encryptContext) {
-        if (null == plainValue) {
-            return null;
+        return null == plainValue ? null : encrypt(encryptCipher.get(), plainValue);
+    }
+    
+    @Override
+    public List<Object> batchEncrypt(final List<Object> plainValues, final EncryptContext encryptContext) {
+        Cipher cipher = encryptCipher.get();
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(null == each ? null : encrypt(cipher, each));
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        return result;
+    }
+    
+    private String encrypt(final Cipher cipher, final Object plainValue) {
+        byte[] result = doFinal(encryptCipher, cipher, String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
         return Base64.getEncoder().encodeToString(result);
     }
     
-    @SneakyThrows(GeneralSecurityException.class)
     @Override
     public Object decrypt(final Object cipherValue, final EncryptContext encryptContext) {
-        if (null == cipherValue) {
-            return null;
+        return null == cipherValue ? null : decrypt(decryptCipher.get(), cipherValue);
+    }
+    
+    @Override
+    public List<Object> batchDecrypt(final List<Object> cipherValues, final EncryptContext encryptContext) {
+        Cipher cipher = decryptCipher.get();
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(null == each ? null : decrypt(cipher, each));
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue.toString().trim()));
+        return result;
+    }
+    
+    private String decrypt(final Cipher cipher, final Object cipherValue) {
+        byte[] result = doFinal(decryptCipher, cipher, Base64.getDecoder().decode(cipherValue.toString().trim()));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
-        return result;
+    @SneakyThrows(GeneralSecurityException.class)
+    private byte[] doFinal(final ThreadLocal<Cipher> cachedCipher, final Cipher cipher, final byte[] input) {
+        try {
+            return cipher.doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cachedCipher.remove();
+            throw ex;
+        }
     }
     
     @Override
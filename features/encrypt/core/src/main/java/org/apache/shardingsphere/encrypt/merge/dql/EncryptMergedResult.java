@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
@@ -29,11 +31,14 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Optional;
 
 /**
  * Merged result for encrypt.
+ * 
+ * <p>Decrypt plan of every column is resolved once when the column is read firstly, and reused by the following rows.</p>
  */
 @RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
@@ -46,6 +51,10 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private ColumnDecryptPlan[] columnDecryptPlans = new ColumnDecryptPlan[0];
+    
+    private String schemaName;
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -53,20 +62,42 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ColumnDecryptPlan columnDecryptPlan = getColumnDecryptPlan(columnIndex);
+        if (null == columnDecryptPlan.getCipher()) {
+            return mergedResult.getValue(columnIndex, type);
+        }
+        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
+        return columnDecryptPlan.getCipher().decrypt(database.getName(), schemaName, columnDecryptPlan.getTableName(), columnDecryptPlan.getColumnName(), cipherValue);
+    }
+    
+    private ColumnDecryptPlan getColumnDecryptPlan(final int columnIndex) {
+        if (columnIndex > columnDecryptPlans.length) {
+            columnDecryptPlans = Arrays.copyOf(columnDecryptPlans, columnIndex);
+        }
+        ColumnDecryptPlan result = columnDecryptPlans[columnIndex - 1];
+        if (null == result) {
+            result = createColumnDecryptPlan(columnIndex);
+            columnDecryptPlans[columnIndex - 1] = result;
+        }
+        return result;
+    }
+    
+    private ColumnDecryptPlan createColumnDecryptPlan(final int columnIndex) {
         Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
         if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
+            return ColumnDecryptPlan.PASSTHROUGH;
         }
         String originalTableName = columnProjection.get().getOriginalTable().getValue();
         String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
         if (!encryptRule.findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
+            return ColumnDecryptPlan.PASSTHROUGH;
+        }
+        if (null == schemaName) {
+            schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                    .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
         }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
         EncryptColumn encryptColumn = encryptRule.getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
-        String schemaName =
-                selectStatementContext.getTablesContext().getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
+        return new ColumnDecryptPlan(originalTableName, originalColumnName, encryptColumn.getCipher());
     }
     
     @Override
@@ -88,4 +119,22 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ColumnDecryptPlan {
+        
+        private static final ColumnDecryptPlan PASSTHROUGH = new ColumnDecryptPlan(null, null, null);
+        
+        private final String tableName;
+        
+        private final String columnName;
+        
+        private final CipherColumnItem cipher;
+    }
 }
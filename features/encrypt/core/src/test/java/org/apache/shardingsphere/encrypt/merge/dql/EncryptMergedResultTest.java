@@ -18,11 +18,17 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -31,11 +37,14 @@ import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,7 +56,7 @@ class EncryptMergedResultTest {
     @Mock
     private EncryptRule encryptRule;
     
-    @Mock
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private SelectStatementContext selectStatementContext;
     
     @Mock
@@ -58,6 +67,38 @@ class EncryptMergedResultTest {
         assertFalse(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).next());
     }
     
+    @Test
+    void assertGetValueWithoutColumnProjection() throws SQLException {
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.empty());
+        when(mergedResult.getValue(1, String.class)).thenReturn("VALUE");
+        EncryptMergedResult actual = new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("VALUE"));
+        assertThat(actual.getValue(1, String.class), is("VALUE"));
+        verify(selectStatementContext).findColumnProjection(1);
+    }
+    
+    @Test
+    void assertGetValueWithEncryptColumn() throws SQLException {
+        ColumnProjection columnProjection = new ColumnProjection(new IdentifierValue("foo_tbl"), new IdentifierValue("foo_col"), null, mock(DatabaseType.class));
+        columnProjection.setOriginalTable(new IdentifierValue("foo_tbl"));
+        columnProjection.setOriginalColumn(new IdentifierValue("foo_col"));
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        when(database.getName()).thenReturn("foo_db");
+        EncryptTable encryptTable = mock(EncryptTable.class, RETURNS_DEEP_STUBS);
+        when(encryptTable.isEncryptColumn("foo_col")).thenReturn(true);
+        CipherColumnItem cipherColumnItem = mock(CipherColumnItem.class);
+        when(cipherColumnItem.decrypt("foo_db", "foo_schema", "foo_tbl", "foo_col", "CIPHER_VALUE")).thenReturn("PLAIN_VALUE");
+        when(encryptTable.getEncryptColumn("foo_col").getCipher()).thenReturn(cipherColumnItem);
+        when(encryptRule.findEncryptTable("foo_tbl")).thenReturn(Optional.of(encryptTable));
+        when(encryptRule.getEncryptTable("foo_tbl")).thenReturn(encryptTable);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("CIPHER_VALUE");
+        EncryptMergedResult actual = new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("PLAIN_VALUE"));
+        assertThat(actual.getValue(1, String.class), is("PLAIN_VALUE"));
+        verify(encryptRule).findEncryptTable("foo_tbl");
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.mask.merge.dql;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.mask.spi.MaskAlgorithm;
@@ -24,11 +25,13 @@ import org.apache.shardingsphere.mask.spi.MaskAlgorithm;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
-import java.util.Optional;
 
 /**
  * Merged result for mask.
+ * 
+ * <p>Mask plan of every column is resolved once when the column is read firstly, and reused by the following rows.</p>
  */
 @RequiredArgsConstructor
 public final class MaskMergedResult implements MergedResult {
@@ -37,6 +40,8 @@ public final class MaskMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private ColumnMaskPlan[] columnMaskPlans = new ColumnMaskPlan[0];
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -45,12 +50,24 @@ public final class MaskMergedResult implements MergedResult {
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<MaskAlgorithm> maskAlgorithm = metaData.findMaskAlgorithmByColumnIndex(columnIndex);
-        if (!maskAlgorithm.isPresent()) {
+        MaskAlgorithm maskAlgorithm = getColumnMaskPlan(columnIndex).getMaskAlgorithm();
+        if (null == maskAlgorithm) {
             return mergedResult.getValue(columnIndex, type);
         }
         Object originalValue = mergedResult.getValue(columnIndex, Object.class);
-        return null == originalValue ? null : maskAlgorithm.get().mask(originalValue);
+        return null == originalValue ? null : maskAlgorithm.mask(originalValue);
+    }
+    
+    private ColumnMaskPlan getColumnMaskPlan(final int columnIndex) {
+        if (columnIndex > columnMaskPlans.length) {
+            columnMaskPlans = Arrays.copyOf(columnMaskPlans, columnIndex);
+        }
+        ColumnMaskPlan result = columnMaskPlans[columnIndex - 1];
+        if (null == result) {
+            result = new ColumnMaskPlan(metaData.findMaskAlgorithmByColumnIndex(columnIndex).orElse(null));
+            columnMaskPlans[columnIndex - 1] = result;
+        }
+        return result;
     }
     
     @Override
@@ -72,4 +89,17 @@ public final class MaskMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @SuppressWarnings("rawtypes")
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ColumnMaskPlan {
+        
+        private final MaskAlgorithm maskAlgorithm;
+    }
 }
@@ -30,7 +30,8 @@ import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingA
 import org.apache.shardingsphere.sharding.exception.data.InvalidDatetimeFormatException;
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
 
-import java.text.DecimalFormat;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.text.ParsePosition;
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -100,8 +101,8 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     }
     
     private int doSharding(final long shardingValue) {
-        String position = new DecimalFormat("0.00").format((double) shardingValue / shardingSeconds);
-        return Math.min(Math.max(0, (int) Math.ceil(Double.parseDouble(position))), autoTablesAmount - 1);
+        double position = new BigDecimal((double) shardingValue / shardingSeconds).setScale(2, RoundingMode.HALF_EVEN).doubleValue();
+        return Math.min(Math.max(0, (int) Math.ceil(position)), autoTablesAmount - 1);
     }
     
     private int getFirstPartition(final Range<Comparable<?>> valueRange) {
@@ -19,7 +19,10 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.BoundType;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Range;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
@@ -41,13 +44,24 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
-import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -67,6 +81,8 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private static final String INTERVAL_UNIT_KEY = "datetime-interval-unit";
     
+    private static final int MAX_LISTED_INTERVAL_COUNT = 10000;
+    
     private DateTimeFormatter dateTimeFormatter;
     
     private int dateTimePatternLength;
@@ -81,6 +97,10 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private ChronoUnit stepUnit;
     
+    private IntervalIndex intervalIndex;
+    
+    private Map<Collection<String>, TargetNamesIndex> targetNamesIndexes;
+    
     @Override
     public void init(final Properties props) {
         String dateTimePattern = getDateTimePattern(props);
@@ -91,6 +111,8 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         tableSuffixPattern = getTableSuffixPattern(props);
         stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
         stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
+        intervalIndex = createIntervalIndex();
+        targetNamesIndexes = new MapMaker().weakKeys().makeMap();
     }
     
     private String getDateTimePattern(final Properties props) {
@@ -136,174 +158,124 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
-        return doSharding(availableTargetNames, Range.singleton(shardingValue.getValue())).stream().findFirst().orElse(null);
+        long index = intervalIndex.findInterval(shardingValue.getValue());
+        if (index < 0L) {
+            return null;
+        }
+        Collection<String> result = getTargetNamesIndex(availableTargetNames).getTargetNamesBySuffix().get(intervalIndex.getSuffix(index));
+        return null == result ? null : result.iterator().next();
     }
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
-        return doSharding(availableTargetNames, shardingValue.getValueRange());
+        long[] intervalRange = intervalIndex.findIntervals(shardingValue.getValueRange());
+        if (intervalRange[0] > intervalRange[1]) {
+            return Collections.emptySet();
+        }
+        Map<String, Collection<String>> targetNamesBySuffix = getTargetNamesIndex(availableTargetNames).getTargetNamesBySuffix();
+        Collection<String> result = new LinkedHashSet<>();
+        for (long i = intervalRange[0]; i <= intervalRange[1] && result.size() < availableTargetNames.size(); i++) {
+            result.addAll(targetNamesBySuffix.getOrDefault(intervalIndex.getSuffix(i), Collections.emptyList()));
+        }
+        return result;
     }
     
-    private Collection<String> doSharding(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
-        TemporalAccessor calculateTime = dateTimeLower;
-        if (!calculateTime.isSupported(ChronoField.NANO_OF_DAY)) {
-            if (calculateTime.isSupported(ChronoField.EPOCH_DAY)) {
-                return doShardingInLocalDate(availableTargetNames, range, calculateTime);
+    private IntervalIndex createIntervalIndex() {
+        if (!dateTimeLower.isSupported(ChronoField.NANO_OF_DAY)) {
+            if (dateTimeLower.isSupported(ChronoField.EPOCH_DAY)) {
+                return createTemporalIntervalIndex(dateTimeLower.query(TemporalQueries.localDate()), dateTimeUpper.query(TemporalQueries.localDate()),
+                        tableSuffixPattern::format, this::parseLocalDate);
             }
-            if (calculateTime.isSupported(ChronoField.YEAR) && calculateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                return doShardingInYearMonth(availableTargetNames, range, calculateTime);
+            if (dateTimeLower.isSupported(ChronoField.YEAR) && dateTimeLower.isSupported(ChronoField.MONTH_OF_YEAR)) {
+                return createTemporalIntervalIndex(dateTimeLower.query(YearMonth::from), dateTimeUpper.query(YearMonth::from), tableSuffixPattern::format, this::parseYearMonth);
             }
-            if (calculateTime.isSupported(ChronoField.YEAR)) {
-                return doShardingInYear(availableTargetNames, range, calculateTime);
+            if (dateTimeLower.isSupported(ChronoField.YEAR)) {
+                return createTemporalIntervalIndex(dateTimeLower.query(Year::from), dateTimeUpper.query(Year::from), tableSuffixPattern::format, this::parseYear);
             }
-            if (calculateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                return doShardingInMonth(availableTargetNames, range, calculateTime);
+            if (dateTimeLower.isSupported(ChronoField.MONTH_OF_YEAR)) {
+                return createListedIntervalIndex(dateTimeLower.query(Month::from), dateTimeUpper.query(Month::from),
+                        each -> each.plus(stepAmount), each -> each.getValue() + stepAmount <= Month.DECEMBER.getValue(), tableSuffixPattern::format, this::parseMonth);
             }
         }
-        if (!calculateTime.isSupported(ChronoField.EPOCH_DAY)) {
-            return doShardingInLocalTime(availableTargetNames, range, calculateTime);
+        if (!dateTimeLower.isSupported(ChronoField.EPOCH_DAY)) {
+            return createTemporalIntervalIndex(dateTimeLower.query(TemporalQueries.localTime()), dateTimeUpper.query(TemporalQueries.localTime()),
+                    each -> each.format(tableSuffixPattern), this::parseLocalTime);
         }
-        return doShardingInLocalDateTime(availableTargetNames, range, calculateTime);
+        return createTemporalIntervalIndex(LocalDateTime.from(dateTimeLower), LocalDateTime.from(dateTimeUpper), each -> each.format(tableSuffixPattern), this::parseLocalDateTime);
     }
     
-    private Collection<String> doShardingInLocalDateTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        LocalDateTime calculateTimeAsView = LocalDateTime.from(calculateTime);
-        LocalDateTime dateTimeUpperAsLocalDateTime = LocalDateTime.from(dateTimeUpper);
-        LocalDateTime dateTimeLowerAsLocalDateTime = LocalDateTime.from(dateTimeLower);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDateTime)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalDateTime, dateTimeUpperAsLocalDateTime)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+    @SuppressWarnings("unchecked")
+    private <T extends Temporal & Comparable<? super T>> IntervalIndex createTemporalIntervalIndex(final T lower, final T upper,
+                                                                                                  final Function<T, String> suffixFunction, final Function<Comparable<?>, T> endpointParser) {
+        if (stepAmount > 0 && lower.compareTo(upper) <= 0) {
+            long intervalCount = lower.until(upper, stepUnit) / stepAmount + 1L;
+            if (intervalCount > MAX_LISTED_INTERVAL_COUNT) {
+                return new SteppedIntervalIndex<>(lower, intervalCount, stepAmount, stepUnit, suffixFunction, endpointParser);
             }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
         }
-        return result;
+        return createListedIntervalIndex(lower, upper, each -> (T) each.plus(stepAmount, stepUnit), each -> true, suffixFunction, endpointParser);
     }
     
-    private Collection<String> doShardingInLocalTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        LocalTime dateTimeUpperAsLocalTime = dateTimeUpper.query(TemporalQueries.localTime());
-        LocalTime dateTimeLowerAsLocalTime = dateTimeLower.query(TemporalQueries.localTime());
-        LocalTime calculateTimeAsView = calculateTime.query(TemporalQueries.localTime());
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalTime)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalTime, dateTimeUpperAsLocalTime)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+    private <T extends Comparable<? super T>> IntervalIndex createListedIntervalIndex(final T lower, final T upper, final UnaryOperator<T> nextLowerFunction, final Predicate<T> intervalPredicate,
+                                                                                      final Function<T, String> suffixFunction, final Function<Comparable<?>, T> endpointParser) {
+        List<T> lowers = new ArrayList<>();
+        List<T> uppers = new ArrayList<>();
+        List<String> suffixes = new ArrayList<>();
+        T each = lower;
+        while (each.compareTo(upper) <= 0 && intervalPredicate.test(each)) {
+            T next = nextLowerFunction.apply(each);
+            lowers.add(each);
+            uppers.add(next);
+            suffixes.add(suffixFunction.apply(each));
+            if (next.compareTo(each) <= 0) {
+                break;
             }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
+            each = next;
         }
-        return result;
+        return new ListedIntervalIndex<>(lowers, uppers, suffixes, endpointParser);
     }
     
-    private Collection<String> doShardingInLocalDate(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        LocalDate dateTimeUpperAsLocalDate = dateTimeUpper.query(TemporalQueries.localDate());
-        LocalDate dateTimeLowerAsLocalDate = dateTimeLower.query(TemporalQueries.localDate());
-        LocalDate calculateTimeAsView = calculateTime.query(TemporalQueries.localDate());
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDate)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalDate, dateTimeUpperAsLocalDate)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
-            }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
+    private TargetNamesIndex getTargetNamesIndex(final Collection<String> availableTargetNames) {
+        TargetNamesIndex result = targetNamesIndexes.get(availableTargetNames);
+        if (null != result && result.getSize() == availableTargetNames.size()) {
+            return result;
         }
+        result = new TargetNamesIndex(availableTargetNames.size(), createTargetNamesBySuffix(availableTargetNames));
+        targetNamesIndexes.put(availableTargetNames, result);
         return result;
     }
     
-    private Collection<String> doShardingInYear(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        Year dateTimeUpperAsYear = dateTimeUpper.query(Year::from);
-        Year dateTimeLowerAsYear = dateTimeLower.query(Year::from);
-        Year calculateTimeAsView = calculateTime.query(Year::from);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsYear)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsYear, dateTimeUpperAsYear)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
-            }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
-        }
-        return result;
+    private Map<String, Collection<String>> createTargetNamesBySuffix(final Collection<String> availableTargetNames) {
+        return intervalIndex.findSuffixes().map(optional -> createTargetNamesBySuffix(availableTargetNames, optional)).orElseGet(() -> createTargetNamesByAllSuffixes(availableTargetNames));
     }
     
-    private Collection<String> doShardingInMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        Month dateTimeUpperAsMonth = dateTimeUpper.query(Month::from);
-        Month dateTimeLowerAsMonth = dateTimeLower.query(Month::from);
-        Month calculateTimeAsView = calculateTime.query(Month::from);
-        while (calculateTimeAsView.getValue() <= dateTimeUpperAsMonth.getValue() && (calculateTimeAsView.getValue() + stepAmount) <= Month.DECEMBER.getValue()) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount)), range, dateTimeLowerAsMonth, dateTimeUpperAsMonth)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+    private Map<String, Collection<String>> createTargetNamesBySuffix(final Collection<String> availableTargetNames, final Collection<String> suffixes) {
+        Collection<Integer> suffixLengths = suffixes.stream().map(String::length).collect(Collectors.toSet());
+        Map<String, Collection<String>> result = new HashMap<>(suffixes.size(), 1F);
+        for (String each : availableTargetNames) {
+            for (int suffixLength : suffixLengths) {
+                if (each.length() < suffixLength) {
+                    continue;
+                }
+                String suffix = each.substring(each.length() - suffixLength);
+                if (suffixes.contains(suffix)) {
+                    result.computeIfAbsent(suffix, unused -> new LinkedList<>()).add(each);
+                }
             }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount);
         }
         return result;
     }
     
-    private Collection<String> doShardingInYearMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        YearMonth dateTimeUpperAsYearMonth = dateTimeUpper.query(YearMonth::from);
-        YearMonth dateTimeLowerAsYearMonth = dateTimeLower.query(YearMonth::from);
-        YearMonth calculateTimeAsView = calculateTime.query(YearMonth::from);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsYearMonth)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsYearMonth, dateTimeUpperAsYearMonth)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+    private Map<String, Collection<String>> createTargetNamesByAllSuffixes(final Collection<String> availableTargetNames) {
+        Map<String, Collection<String>> result = new HashMap<>();
+        for (String each : availableTargetNames) {
+            for (int i = 0; i < each.length(); i++) {
+                result.computeIfAbsent(each.substring(i), unused -> new LinkedList<>()).add(each);
             }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
         }
         return result;
     }
     
-    private boolean hasIntersection(final Range<LocalDateTime> calculateRange, final Range<Comparable<?>> range, final LocalDateTime dateTimeLower, final LocalDateTime dateTimeUpper) {
-        LocalDateTime lower = range.hasLowerBound() ? parseLocalDateTime(range.lowerEndpoint()) : dateTimeLower;
-        LocalDateTime upper = range.hasUpperBound() ? parseLocalDateTime(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDateTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
-    private boolean hasIntersection(final Range<LocalDate> calculateRange, final Range<Comparable<?>> range, final LocalDate dateTimeLower, final LocalDate dateTimeUpper) {
-        LocalDate lower = range.hasLowerBound() ? parseLocalDate(range.lowerEndpoint()) : dateTimeLower;
-        LocalDate upper = range.hasUpperBound() ? parseLocalDate(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDate> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
-    private boolean hasIntersection(final Range<LocalTime> calculateRange, final Range<Comparable<?>> range, final LocalTime dateTimeLower, final LocalTime dateTimeUpper) {
-        LocalTime lower = range.hasLowerBound() ? parseLocalTime(range.lowerEndpoint()) : dateTimeLower;
-        LocalTime upper = range.hasUpperBound() ? parseLocalTime(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
-    private boolean hasIntersection(final Range<Year> calculateRange, final Range<Comparable<?>> range, final Year dateTimeLower, final Year dateTimeUpper) {
-        Year lower = range.hasLowerBound() ? parseYear(range.lowerEndpoint()) : dateTimeLower;
-        Year upper = range.hasUpperBound() ? parseYear(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<Year> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
-    private boolean hasIntersection(final Range<Month> calculateRange, final Range<Comparable<?>> range, final Month dateTimeLower, final Month dateTimeUpper) {
-        Month lower = range.hasLowerBound() ? parseMonth(range.lowerEndpoint()) : dateTimeLower;
-        Month upper = range.hasUpperBound() ? parseMonth(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<Month> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
-    private boolean hasIntersection(final Range<YearMonth> calculateRange, final Range<Comparable<?>> range, final YearMonth dateTimeLower, final YearMonth dateTimeUpper) {
-        YearMonth lower = range.hasLowerBound() ? parseYearMonth(range.lowerEndpoint()) : dateTimeLower;
-        YearMonth upper = range.hasUpperBound() ? parseYearMonth(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<YearMonth> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
     private LocalDateTime parseLocalDateTime(final Comparable<?> endpoint) {
         return LocalDateTime.parse(getDateTimeText(endpoint).substring(0, dateTimePatternLength), dateTimeFormatter);
     }
@@ -344,36 +316,178 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return endpoint.toString();
     }
     
-    private Collection<String> getMatchedTables(final TemporalAccessor dateTime, final Collection<String> availableTargetNames) {
-        String tableSuffix;
-        if (!dateTime.isSupported(ChronoField.NANO_OF_DAY)) {
-            if (dateTime.isSupported(ChronoField.EPOCH_DAY)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(TemporalQueries.localDate()));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+    private static <T extends Comparable<? super T>> Range<T> parseRange(final Range<Comparable<?>> range, final Function<Comparable<?>, T> endpointParser) {
+        if (range.hasLowerBound() && range.hasUpperBound()) {
+            return Range.range(endpointParser.apply(range.lowerEndpoint()), range.lowerBoundType(), endpointParser.apply(range.upperEndpoint()), range.upperBoundType());
+        }
+        if (range.hasLowerBound()) {
+            return Range.downTo(endpointParser.apply(range.lowerEndpoint()), range.lowerBoundType());
+        }
+        return range.hasUpperBound() ? Range.upTo(endpointParser.apply(range.upperEndpoint()), range.upperBoundType()) : Range.all();
+    }
+    
+    @Override
+    public String getType() {
+        return "INTERVAL";
+    }
+    
+    private interface IntervalIndex {
+        
+        /**
+         * Find index of interval which contains the value.
+         *
+         * @param value value
+         * @return index of interval, -1 if no interval contains the value
+         */
+        long findInterval(Comparable<?> value);
+        
+        /**
+         * Find indexes of first and last intervals which intersect with the range.
+         *
+         * @param range range
+         * @return indexes of first and last intervals, first index is greater than last index if no interval intersects with the range
+         */
+        long[] findIntervals(Range<Comparable<?>> range);
+        
+        /**
+         * Get suffix of interval.
+         *
+         * @param index index of interval
+         * @return suffix
+         */
+        String getSuffix(long index);
+        
+        /**
+         * Find suffixes of all intervals.
+         *
+         * @return suffixes, empty if suffixes are not listed
+         */
+        Optional<Collection<String>> findSuffixes();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ListedIntervalIndex<T extends Comparable<? super T>> implements IntervalIndex {
+        
+        private final List<T> lowers;
+        
+        private final List<T> uppers;
+        
+        private final List<String> suffixes;
+        
+        private final Function<Comparable<?>, T> endpointParser;
+        
+        @Override
+        public long findInterval(final Comparable<?> value) {
+            T parsedValue = endpointParser.apply(value);
+            int result = findLastLowerIndex(parsedValue, true);
+            return result >= 0 && uppers.get(result).compareTo(parsedValue) > 0 ? result : -1L;
+        }
+        
+        @Override
+        public long[] findIntervals(final Range<Comparable<?>> range) {
+            Range<T> parsedRange = parseRange(range, endpointParser);
+            if (parsedRange.isEmpty()) {
+                return new long[]{0L, -1L};
             }
-            if (dateTime.isSupported(ChronoField.YEAR) && dateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(YearMonth::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+            int firstIndex = 0;
+            if (parsedRange.hasLowerBound()) {
+                firstIndex = Math.max(0, findLastLowerIndex(parsedRange.lowerEndpoint(), true));
+                if (firstIndex < uppers.size() && uppers.get(firstIndex).compareTo(parsedRange.lowerEndpoint()) <= 0) {
+                    firstIndex++;
+                }
             }
-            if (dateTime.isSupported(ChronoField.YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(Year::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+            int lastIndex = parsedRange.hasUpperBound() ? findLastLowerIndex(parsedRange.upperEndpoint(), BoundType.CLOSED == parsedRange.upperBoundType()) : lowers.size() - 1;
+            return new long[]{firstIndex, lastIndex};
+        }
+        
+        private int findLastLowerIndex(final T value, final boolean inclusive) {
+            int result = Collections.binarySearch(lowers, value);
+            if (result >= 0) {
+                return inclusive ? result : result - 1;
             }
-            if (dateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(Month::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+            return -result - 2;
+        }
+        
+        @Override
+        public String getSuffix(final long index) {
+            return suffixes.get((int) index);
+        }
+        
+        @Override
+        public Optional<Collection<String>> findSuffixes() {
+            return Optional.of(new HashSet<>(suffixes));
+        }
+    }
+    
+    /**
+     * Stepped interval index.
+     * 
+     * <p>Intervals are not listed, index and suffix of interval are computed by the offset to the lower bound, for too many intervals of fine units.</p>
+     */
+    @RequiredArgsConstructor
+    private static final class SteppedIntervalIndex<T extends Temporal & Comparable<? super T>> implements IntervalIndex {
+        
+        private final T lower;
+        
+        private final long intervalCount;
+        
+        private final int stepAmount;
+        
+        private final ChronoUnit stepUnit;
+        
+        private final Function<T, String> suffixFunction;
+        
+        private final Function<Comparable<?>, T> endpointParser;
+        
+        @Override
+        public long findInterval(final Comparable<?> value) {
+            long result = findLastLowerIndex(endpointParser.apply(value), true);
+            return result < intervalCount ? result : -1L;
+        }
+        
+        @Override
+        public long[] findIntervals(final Range<Comparable<?>> range) {
+            Range<T> parsedRange = parseRange(range, endpointParser);
+            if (parsedRange.isEmpty()) {
+                return new long[]{0L, -1L};
+            }
+            long firstIndex = parsedRange.hasLowerBound() ? Math.min(Math.max(0L, findLastLowerIndex(parsedRange.lowerEndpoint(), true)), intervalCount) : 0L;
+            long lastIndex = parsedRange.hasUpperBound()
+                    ? Math.min(findLastLowerIndex(parsedRange.upperEndpoint(), BoundType.CLOSED == parsedRange.upperBoundType()), intervalCount - 1L)
+                    : intervalCount - 1L;
+            return new long[]{firstIndex, lastIndex};
+        }
+        
+        private long findLastLowerIndex(final T value, final boolean inclusive) {
+            if (value.compareTo(lower) < 0) {
+                return -1L;
             }
+            long result = lower.until(value, stepUnit) / stepAmount;
+            return inclusive || getLower(result).compareTo(value) < 0 ? result : result - 1L;
+        }
+        
+        @SuppressWarnings("unchecked")
+        private T getLower(final long index) {
+            return (T) lower.plus(index * stepAmount, stepUnit);
+        }
+        
+        @Override
+        public String getSuffix(final long index) {
+            return suffixFunction.apply(getLower(index));
         }
-        if (!dateTime.isSupported(ChronoField.EPOCH_DAY)) {
-            tableSuffix = dateTime.query(TemporalQueries.localTime()).format(tableSuffixPattern);
-            return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+        
+        @Override
+        public Optional<Collection<String>> findSuffixes() {
+            return Optional.empty();
         }
-        tableSuffix = LocalDateTime.from(dateTime).format(tableSuffixPattern);
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
     }
     
-    @Override
-    public String getType() {
-        return "INTERVAL";
+    @RequiredArgsConstructor
+    @Getter
+    private static final class TargetNamesIndex {
+        
+        private final int size;
+        
+        private final Map<String, Collection<String>> targetNamesBySuffix;
     }
 }
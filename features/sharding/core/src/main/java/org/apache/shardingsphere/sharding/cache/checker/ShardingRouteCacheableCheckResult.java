@@ -19,8 +19,12 @@ package org.apache.shardingsphere.sharding.cache.checker;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sharding.route.engine.condition.Column;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Route cacheable check result.
@@ -32,4 +36,10 @@ public class ShardingRouteCacheableCheckResult {
     private final boolean probablyCacheable;
     
     private final List<Integer> shardingConditionParameterMarkerIndexes;
+    
+    private final Map<Integer, Collection<Column>> preciseShardingColumns;
+    
+    public ShardingRouteCacheableCheckResult(final boolean probablyCacheable, final List<Integer> shardingConditionParameterMarkerIndexes) {
+        this(probablyCacheable, shardingConditionParameterMarkerIndexes, Collections.emptyMap());
+    }
 }
@@ -33,6 +33,7 @@ import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.cache.checker.algorithm.CacheableShardingAlgorithmChecker;
+import org.apache.shardingsphere.sharding.route.engine.condition.Column;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.InsertClauseShardingConditionEngine;
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.WhereClauseShardingConditionEngine;
@@ -51,8 +52,11 @@ import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -108,7 +112,8 @@ public final class ShardingRouteCacheableChecker {
             return new ShardingRouteCacheableCheckResult(false, Collections.emptyList());
         }
         List<ShardingCondition> shardingConditions = new WhereClauseShardingConditionEngine(database, shardingRule, timestampServiceRule).createShardingConditions(statementContext, params);
-        return checkShardingConditionsCacheable(shardingConditions);
+        ShardingRouteCacheableCheckResult result = checkShardingConditionsCacheable(shardingConditions);
+        return statementContext.isContainsSubquery() ? new ShardingRouteCacheableCheckResult(result.isProbablyCacheable(), result.getShardingConditionParameterMarkerIndexes()) : result;
     }
     
     private ShardingRouteCacheableCheckResult checkUpdateCacheable(final UpdateStatementContext statementContext, final List<Object> params, final ShardingSphereDatabase database) {
@@ -175,15 +180,25 @@ public final class ShardingRouteCacheableChecker {
     
     private static ShardingRouteCacheableCheckResult checkShardingConditionsCacheable(final List<ShardingCondition> shardingConditions) {
         Set<Integer> result = new TreeSet<>();
+        Map<Integer, Collection<Column>> preciseShardingColumns = new HashMap<>();
+        Collection<Integer> rangeParameterMarkerIndexes = new HashSet<>();
         for (ShardingCondition each : shardingConditions) {
             for (ShardingConditionValue conditionValue : each.getValues()) {
                 if (!isConditionTypeCacheable(conditionValue)) {
                     return new ShardingRouteCacheableCheckResult(false, Collections.emptyList());
                 }
                 result.addAll(conditionValue.getParameterMarkerIndexes());
+                if (conditionValue instanceof ListShardingConditionValue<?>) {
+                    for (int index : conditionValue.getParameterMarkerIndexes()) {
+                        preciseShardingColumns.computeIfAbsent(index, unused -> new LinkedHashSet<>()).add(new Column(conditionValue.getColumnName(), conditionValue.getTableName()));
+                    }
+                } else {
+                    rangeParameterMarkerIndexes.addAll(conditionValue.getParameterMarkerIndexes());
+                }
             }
         }
-        return new ShardingRouteCacheableCheckResult(true, new ArrayList<>(result));
+        preciseShardingColumns.keySet().removeAll(rangeParameterMarkerIndexes);
+        return new ShardingRouteCacheableCheckResult(true, new ArrayList<>(result), preciseShardingColumns);
     }
     
     private static boolean isConditionTypeCacheable(final ShardingConditionValue conditionValue) {
@@ -27,9 +27,11 @@ import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCheckResult;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.Column;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,21 +67,21 @@ public final class CachedShardingSQLRouter {
             if (each >= queryContext.getParameters().size()) {
                 return Optional.empty();
             }
-            shardingConditionParams.add(queryContext.getParameters().get(each));
+            shardingConditionParams.add(getShardingConditionParameter(shardingCache, cacheableCheckResult, each, queryContext.getParameters().get(each)));
         }
-        Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams))
-                .flatMap(ShardingRouteCacheValue::getCachedRouteContext);
+        ShardingRouteCacheKey cacheKey = new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams);
+        Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(cacheKey).flatMap(ShardingRouteCacheValue::getCachedRouteContext);
         RouteContext result = cachedResult.orElseGet(
                 () -> originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), props, connectionContext));
-        if (!cachedResult.isPresent() && hitOneShardOnly(result)) {
-            shardingCache.getRouteCache().put(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams), new ShardingRouteCacheValue(result));
+        if (!cachedResult.isPresent() && !result.getRouteUnits().isEmpty()) {
+            shardingCache.getRouteCache().put(cacheKey, new ShardingRouteCacheValue(result));
         }
         return Optional.of(result);
     }
     
-    private boolean hitOneShardOnly(final RouteContext routeContext) {
-        return 1 == routeContext.getRouteUnits().size() && 1 == routeContext.getRouteUnits().iterator().next().getTableMappers().size()
-                && 1 == routeContext.getOriginalDataNodes().size() && 1 == routeContext.getOriginalDataNodes().iterator().next().size();
+    private Object getShardingConditionParameter(final ShardingCache shardingCache, final ShardingRouteCacheableCheckResult cacheableCheckResult, final int parameterMarkerIndex, final Object param) {
+        Collection<Column> preciseShardingColumns = cacheableCheckResult.getPreciseShardingColumns().get(parameterMarkerIndex);
+        return null == preciseShardingColumns ? param : shardingCache.getRouteTargetMapper().map(preciseShardingColumns, param);
     }
     
     @FunctionalInterface
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.Column;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sharding route target mapper.
+ * 
+ * <p>Precise sharding values are mapped to the data source and table they are routed to, so that different values hitting the same shards share one route cache entry.</p>
+ */
+@RequiredArgsConstructor
+public final class ShardingRouteTargetMapper {
+    
+    private final ShardingRule shardingRule;
+    
+    private final Map<Column, Optional<ColumnTargetMapper>> columnTargetMappers = new ConcurrentHashMap<>();
+    
+    /**
+     * Map precise sharding value to route targets.
+     *
+     * @param columns sharding columns which value is compared with
+     * @param value precise sharding value
+     * @return route targets of every column, or the value itself if any column is not sharded by standard sharding strategy
+     */
+    public Object map(final Collection<Column> columns, final Object value) {
+        List<Object> result = new ArrayList<>(columns.size());
+        for (Column each : columns) {
+            Optional<ColumnTargetMapper> columnTargetMapper = columnTargetMappers.computeIfAbsent(each, this::createColumnTargetMapper);
+            if (!columnTargetMapper.isPresent()) {
+                return value;
+            }
+            result.add(columnTargetMapper.get().map(each, value));
+        }
+        return result;
+    }
+    
+    private Optional<ColumnTargetMapper> createColumnTargetMapper(final Column column) {
+        Optional<TableRule> tableRule = shardingRule.findTableRule(column.getTableName());
+        if (!tableRule.isPresent()) {
+            return Optional.empty();
+        }
+        Collection<String> actualTableNames = new LinkedHashSet<>();
+        for (DataNode each : tableRule.get().getActualDataNodes()) {
+            actualTableNames.add(each.getTableName());
+        }
+        Optional<TargetMapper> databaseTargetMapper = createTargetMapper(
+                column, shardingRule.getDatabaseShardingStrategyConfiguration(tableRule.get()), tableRule.get().getActualDataSourceNames(), tableRule.get().getDataSourceDataNode());
+        Optional<TargetMapper> tableTargetMapper =
+                createTargetMapper(column, shardingRule.getTableShardingStrategyConfiguration(tableRule.get()), actualTableNames, tableRule.get().getTableDataNode());
+        return databaseTargetMapper.isPresent() && tableTargetMapper.isPresent() ? Optional.of(new ColumnTargetMapper(databaseTargetMapper.get(), tableTargetMapper.get())) : Optional.empty();
+    }
+    
+    private Optional<TargetMapper> createTargetMapper(final Column column, final ShardingStrategyConfiguration shardingStrategyConfig,
+                                                      final Collection<String> availableTargetNames, final DataNodeInfo dataNodeInfo) {
+        ShardingStrategy shardingStrategy = null == shardingStrategyConfig
+                ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingRule.getShardingAlgorithms().get(shardingStrategyConfig.getShardingAlgorithmName()),
+                        shardingRule.getDefaultShardingColumn());
+        if (!shardingStrategy.getShardingColumns().contains(column.getName())) {
+            return Optional.of(new TargetMapper(null, availableTargetNames, dataNodeInfo));
+        }
+        return shardingStrategy instanceof StandardShardingStrategy ? Optional.of(new TargetMapper((StandardShardingStrategy) shardingStrategy, availableTargetNames, dataNodeInfo)) : Optional.empty();
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class ColumnTargetMapper {
+        
+        private final TargetMapper databaseTargetMapper;
+        
+        private final TargetMapper tableTargetMapper;
+        
+        private List<String> map(final Column column, final Object value) {
+            return Arrays.asList(databaseTargetMapper.map(column, value), tableTargetMapper.map(column, value));
+        }
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class TargetMapper {
+        
+        private final StandardShardingStrategy shardingStrategy;
+        
+        private final Collection<String> availableTargetNames;
+        
+        private final DataNodeInfo dataNodeInfo;
+        
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private String map(final Column column, final Object value) {
+            return null == shardingStrategy ? null
+                    : shardingStrategy.getShardingAlgorithm().doSharding(availableTargetNames, new PreciseShardingValue(column.getTableName(), column.getName(), dataNodeInfo, value));
+        }
+    }
+}
@@ -21,8 +21,11 @@ import com.cedarsoftware.util.CaseInsensitiveMap;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.metadata.database.DialectDatabaseMetaData;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -35,6 +38,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.builder.PaginationDecoratorMergedResultBuilder;
@@ -46,6 +50,7 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 
 /**
  * DQL result merger for Sharding.
@@ -55,6 +60,12 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final ConfigurationProperties props;
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType) {
+        this(protocolType, new ConfigurationProperties(new Properties()));
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -117,11 +128,23 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
+        boolean approximateDistinct = props.getValue(ConfigurationPropertyKey.MERGE_APPROXIMATE_DISTINCT_AGGREGATION_ENABLED);
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema, approximateDistinct);
+        }
+        int maxMemoryRows = props.getValue(ConfigurationPropertyKey.MERGE_GROUP_BY_MAX_MEMORY_ROWS);
+        if (maxMemoryRows > 0 && isSpillableAggregation(selectStatementContext)) {
+            return new GroupBySpillMergedResult(queryResults, selectStatementContext, schema, maxMemoryRows, approximateDistinct);
+        }
+        return approximateDistinct
+                ? new GroupBySpillMergedResult(queryResults, selectStatementContext, schema, 0, true)
                 : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
     }
     
+    private boolean isSpillableAggregation(final SelectStatementContext selectStatementContext) {
+        return selectStatementContext.getProjectionsContext().getAggregationProjections().stream().noneMatch(AggregationDistinctProjection.class::isInstance);
+    }
+    
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
         return !selectStatementContext.getOrderByContext().getItems().isEmpty();
     }
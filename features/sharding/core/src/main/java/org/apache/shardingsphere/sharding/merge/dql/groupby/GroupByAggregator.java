@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Group by aggregator.
+ */
+public final class GroupByAggregator {
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final Collection<OrderByItem> groupByItems;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final boolean approximateDistinct;
+    
+    private GroupByHashTable hashTable;
+    
+    public GroupByAggregator(final SelectStatementContext selectStatementContext) {
+        this(selectStatementContext, false);
+    }
+    
+    public GroupByAggregator(final SelectStatementContext selectStatementContext, final boolean approximateDistinct) {
+        this.selectStatementContext = selectStatementContext;
+        this.approximateDistinct = approximateDistinct;
+        groupByItems = selectStatementContext.getGroupByContext().getItems();
+        aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        hashTable = new GroupByHashTable(aggregationProjections.size());
+    }
+    
+    /**
+     * Aggregate current row of query result into its group.
+     *
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult) throws SQLException {
+        Object[] groupValues = loadGroupValues(queryResult);
+        int hash = GroupByHashTable.hash(groupValues);
+        int group = hashTable.find(groupValues, hash);
+        if (-1 == group) {
+            group = addGroup(groupValues, hash, new MemoryQueryResultRow(queryResult));
+        }
+        for (int i = 0; i < aggregationProjections.size(); i++) {
+            hashTable.getAggregationUnit(group, i).merge(getAggregationValues(queryResult, aggregationProjections.get(i)));
+        }
+    }
+    
+    private Object[] loadGroupValues(final QueryResult queryResult) throws SQLException {
+        Object[] result = new Object[groupByItems.size()];
+        int index = 0;
+        for (OrderByItem each : groupByItems) {
+            result[index++] = queryResult.getValue(each.getIndex(), Object.class);
+        }
+        return result;
+    }
+    
+    private int addGroup(final Object[] groupValues, final int hash, final MemoryQueryResultRow row) {
+        int result = hashTable.add(groupValues, hash, row);
+        for (int i = 0; i < aggregationProjections.size(); i++) {
+            hashTable.setAggregationUnit(result, i, createAggregationUnit(aggregationProjections.get(i), hashTable.size()));
+        }
+        return result;
+    }
+    
+    private AggregationUnit createAggregationUnit(final AggregationProjection aggregationProjection, final int groupCount) {
+        return AggregationUnitFactory.create(aggregationProjection.getType(), aggregationProjection instanceof AggregationDistinctProjection, approximateDistinct, groupCount);
+    }
+    
+    private List<Comparable<?>> getAggregationValues(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        List<Comparable<?>> result = new ArrayList<>(2);
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            result.add(getAggregationValue(queryResult, aggregationProjection));
+        } else {
+            for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+                result.add(getAggregationValue(queryResult, each));
+            }
+        }
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Create aggregation units for one group.
+     *
+     * @return aggregation units
+     */
+    public AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = createAggregationUnit(aggregationProjections.get(i), 1);
+        }
+        return result;
+    }
+    
+    /**
+     * Set aggregation results to row.
+     *
+     * @param row row to be set
+     * @param aggregationUnits aggregation units of row
+     */
+    public void setAggregationResults(final MemoryQueryResultRow row, final AggregationUnit[] aggregationUnits) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            row.setCell(aggregationProjections.get(i).getIndex(), aggregationUnits[i].getResult());
+        }
+    }
+    
+    /**
+     * Get group size.
+     *
+     * @return group size
+     */
+    public int size() {
+        return hashTable.size();
+    }
+    
+    /**
+     * Get group values.
+     *
+     * @param group group index
+     * @return group values
+     */
+    public Object[] getGroupValues(final int group) {
+        return hashTable.getGroupValues(group);
+    }
+    
+    /**
+     * Get first row of group.
+     *
+     * @param group group index
+     * @return first row of group
+     */
+    public MemoryQueryResultRow getRow(final int group) {
+        return hashTable.getRow(group);
+    }
+    
+    /**
+     * Get partial aggregation values of group.
+     *
+     * @param group group index
+     * @return partial aggregation values
+     */
+    public Object[][] getPartialValues(final int group) {
+        Object[][] result = new Object[aggregationProjections.size()][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = hashTable.getAggregationUnit(group, i).getPartialValues().toArray();
+        }
+        return result;
+    }
+    
+    /**
+     * Get aggregated rows.
+     *
+     * @return aggregated rows
+     */
+    public List<MemoryQueryResultRow> getAggregatedRows() {
+        List<MemoryQueryResultRow> result = new ArrayList<>(hashTable.size());
+        for (int group = 0; group < hashTable.size(); group++) {
+            MemoryQueryResultRow row = hashTable.getRow(group);
+            for (int i = 0; i < aggregationProjections.size(); i++) {
+                row.setCell(aggregationProjections.get(i).getIndex(), hashTable.getAggregationUnit(group, i).getResult());
+            }
+            result.add(row);
+        }
+        return result;
+    }
+    
+    /**
+     * Clear all groups.
+     */
+    public void clear() {
+        hashTable = new GroupByHashTable(aggregationProjections.size());
+    }
+    
+    /**
+     * Get value case sensitive flags, indexed by column index.
+     *
+     * @param queryResult query result
+     * @param schema schema
+     * @return value case sensitive flags
+     * @throws SQLException SQL exception
+     */
+    public List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final ShardingSphereSchema schema) throws SQLException {
+        List<Boolean> result = new ArrayList<>();
+        result.add(false);
+        for (int columnIndex = 1; columnIndex <= queryResult.getMetaData().getColumnCount(); columnIndex++) {
+            result.add(getValueCaseSensitiveFromTables(queryResult, schema, columnIndex));
+        }
+        return result;
+    }
+    
+    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            ShardingSpherePreconditions.checkState(schema.containsTable(tableName), () -> new NoSuchTableException(tableName));
+            ShardingSphereTable table = schema.getTable(tableName);
+            String columnName = queryResult.getMetaData().getColumnName(columnIndex);
+            if (table.containsColumn(columnName)) {
+                return table.getColumn(columnName).isCaseSensitive();
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get rows for empty result, which contains aggregated values without any group.
+     *
+     * @return rows for empty result
+     */
+    public List<MemoryQueryResultRow> getEmptyResultRows() {
+        List<Projection> projections = new ArrayList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] data = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                data[i] = 0;
+            }
+        }
+        return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
+    }
+}
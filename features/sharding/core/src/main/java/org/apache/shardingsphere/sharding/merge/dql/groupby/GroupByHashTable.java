@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table for group by merge.
+ * 
+ * <p>Group values, rows and aggregation units are held in flat arrays indexed by group, aggregation units of one group are stored contiguously.</p>
+ */
+public final class GroupByHashTable {
+    
+    private static final int DEFAULT_GROUP_CAPACITY = 1024;
+    
+    private final int aggregationSize;
+    
+    private int[] slots;
+    
+    private int slotMask;
+    
+    private int[] hashes;
+    
+    private Object[][] groupValues;
+    
+    private MemoryQueryResultRow[] rows;
+    
+    private AggregationUnit[] aggregationUnits;
+    
+    private int size;
+    
+    public GroupByHashTable(final int aggregationSize) {
+        this.aggregationSize = aggregationSize;
+        initArrays(DEFAULT_GROUP_CAPACITY);
+    }
+    
+    private void initArrays(final int groupCapacity) {
+        slots = new int[groupCapacity * 2];
+        slotMask = slots.length - 1;
+        hashes = new int[groupCapacity];
+        groupValues = new Object[groupCapacity][];
+        rows = new MemoryQueryResultRow[groupCapacity];
+        aggregationUnits = new AggregationUnit[groupCapacity * aggregationSize];
+        size = 0;
+    }
+    
+    /**
+     * Calculate hash of group values.
+     *
+     * @param groupValues group values
+     * @return hash of group values
+     */
+    public static int hash(final Object[] groupValues) {
+        int result = Arrays.hashCode(groupValues);
+        return result ^ result >>> 16;
+    }
+    
+    /**
+     * Find group index.
+     *
+     * @param groupValues group values
+     * @param hash hash of group values
+     * @return group index, -1 if group is absent
+     */
+    public int find(final Object[] groupValues, final int hash) {
+        int slot = hash & slotMask;
+        while (0 != slots[slot]) {
+            int group = slots[slot] - 1;
+            if (hash == hashes[group] && Arrays.equals(groupValues, this.groupValues[group])) {
+                return group;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        return -1;
+    }
+    
+    /**
+     * Add group, the group must be absent.
+     *
+     * @param groupValues group values
+     * @param hash hash of group values
+     * @param row first row of group
+     * @return group index
+     */
+    public int add(final Object[] groupValues, final int hash, final MemoryQueryResultRow row) {
+        if (size == rows.length) {
+            grow();
+        }
+        int result = size++;
+        hashes[result] = hash;
+        this.groupValues[result] = groupValues;
+        rows[result] = row;
+        insertSlot(result);
+        return result;
+    }
+    
+    private void insertSlot(final int group) {
+        int slot = hashes[group] & slotMask;
+        while (0 != slots[slot]) {
+            slot = (slot + 1) & slotMask;
+        }
+        slots[slot] = group + 1;
+    }
+    
+    private void grow() {
+        int groupCapacity = rows.length * 2;
+        hashes = Arrays.copyOf(hashes, groupCapacity);
+        groupValues = Arrays.copyOf(groupValues, groupCapacity);
+        rows = Arrays.copyOf(rows, groupCapacity);
+        aggregationUnits = Arrays.copyOf(aggregationUnits, groupCapacity * aggregationSize);
+        slots = new int[groupCapacity * 2];
+        slotMask = slots.length - 1;
+        for (int i = 0; i < size; i++) {
+            insertSlot(i);
+        }
+    }
+    
+    /**
+     * Get group size.
+     *
+     * @return group size
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Get group values.
+     *
+     * @param group group index
+     * @return group values
+     */
+    public Object[] getGroupValues(final int group) {
+        return groupValues[group];
+    }
+    
+    /**
+     * Get first row of group.
+     *
+     * @param group group index
+     * @return first row of group
+     */
+    public MemoryQueryResultRow getRow(final int group) {
+        return rows[group];
+    }
+    
+    /**
+     * Get aggregation unit.
+     *
+     * @param group group index
+     * @param aggregationIndex aggregation index
+     * @return aggregation unit
+     */
+    public AggregationUnit getAggregationUnit(final int group, final int aggregationIndex) {
+        return aggregationUnits[group * aggregationSize + aggregationIndex];
+    }
+    
+    /**
+     * Set aggregation unit.
+     *
+     * @param group group index
+     * @param aggregationIndex aggregation index
+     * @param aggregationUnit aggregation unit
+     */
+    public void setAggregationUnit(final int group, final int aggregationIndex, final AggregationUnit aggregationUnit) {
+        aggregationUnits[group * aggregationSize + aggregationIndex] = aggregationUnit;
+    }
+}
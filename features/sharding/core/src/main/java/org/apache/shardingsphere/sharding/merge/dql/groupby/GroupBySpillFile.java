@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Spill file for group by merge.
+ * 
+ * <p>Rows are written in sorted order by {@link GroupBySpillValueCodec}, and read back sequentially after writing finished. The file is deleted when read finished or closed.</p>
+ */
+public final class GroupBySpillFile implements AutoCloseable {
+    
+    private static final String FILE_PREFIX = "shardingsphere-group-by-";
+    
+    private final Path path;
+    
+    private DataOutputStream outputStream;
+    
+    private DataInputStream inputStream;
+    
+    @Getter
+    private Object[] cells;
+    
+    @Getter
+    private Object[][] partialValues;
+    
+    public GroupBySpillFile() {
+        path = createTempFile();
+        try {
+            outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        } catch (final IOException ex) {
+            close();
+            throw new GroupByMergeSpillException(ex.getMessage());
+        }
+    }
+    
+    private static Path createTempFile() {
+        try {
+            return Files.createTempFile(FILE_PREFIX, ".spill");
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex.getMessage());
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param cells cells of row
+     * @param partialValues partial aggregation values of row
+     * @throws GroupByMergeSpillException group by merge spill exception
+     */
+    public void write(final Object[] cells, final Object[][] partialValues) {
+        try {
+            outputStream.writeBoolean(true);
+            writeValues(cells);
+            outputStream.writeInt(partialValues.length);
+            for (Object[] each : partialValues) {
+                writeValues(each);
+            }
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex.getMessage());
+        }
+    }
+    
+    private void writeValues(final Object[] values) throws IOException {
+        outputStream.writeInt(values.length);
+        for (Object each : values) {
+            GroupBySpillValueCodec.write(outputStream, each);
+        }
+    }
+    
+    /**
+     * Finish write and prepare for read.
+     *
+     * @throws GroupByMergeSpillException group by merge spill exception
+     */
+    public void finishWrite() {
+        try {
+            outputStream.writeBoolean(false);
+            outputStream.close();
+            outputStream = null;
+            inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex.getMessage());
+        }
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return has next row or not
+     * @throws GroupByMergeSpillException group by merge spill exception
+     */
+    public boolean next() {
+        if (null == inputStream) {
+            return false;
+        }
+        try {
+            if (inputStream.readBoolean()) {
+                cells = readValues();
+                partialValues = new Object[inputStream.readInt()][];
+                for (int i = 0; i < partialValues.length; i++) {
+                    partialValues[i] = readValues();
+                }
+                return true;
+            }
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex.getMessage());
+        }
+        close();
+        return false;
+    }
+    
+    private Object[] readValues() throws IOException {
+        Object[] result = new Object[inputStream.readInt()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = GroupBySpillValueCodec.read(inputStream);
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        cells = null;
+        partialValues = null;
+        try {
+            if (null != outputStream) {
+                outputStream.close();
+                outputStream = null;
+            }
+            if (null != inputStream) {
+                inputStream.close();
+                inputStream = null;
+            }
+            Files.deleteIfExists(path);
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.CalendarValueConverter;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.CompareUtils;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Spillable merged result for group by.
+ * 
+ * <p>Groups are aggregated in memory until the max memory rows exceeded, then sorted by group values and spilled to local temporary files as partitions.
+ * Partitions are merged by k-way merge into aggregated rows, which are sorted into runs of max memory rows and streamed out by k-way merge again.
+ * Groups are never spilled if max memory rows is not positive. Spill files are deleted once read to the end, or when the merged result is closed.</p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final Collection<OrderByItem> groupByItems;
+    
+    private final int maxMemoryRows;
+    
+    private final GroupByAggregator aggregator;
+    
+    private final int columnCount;
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    private Iterator<MemoryQueryResultRow> memoryRows;
+    
+    private Queue<SortedRunCursor> sortedRunCursors;
+    
+    private SortedRunCursor currentSortedRunCursor;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final int maxMemoryRows, final boolean approximateDistinct) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        groupByItems = selectStatementContext.getGroupByContext().getItems();
+        this.maxMemoryRows = maxMemoryRows;
+        aggregator = new GroupByAggregator(selectStatementContext, approximateDistinct);
+        columnCount = queryResults.isEmpty() ? 0 : queryResults.get(0).getMetaData().getColumnCount();
+        boolean merged = false;
+        try {
+            merge(queryResults, schema);
+            merged = true;
+        } finally {
+            if (!merged) {
+                close();
+            }
+        }
+    }
+    
+    private void merge(final List<QueryResult> queryResults, final ShardingSphereSchema schema) throws SQLException {
+        List<GroupBySpillFile> partitions = new LinkedList<>();
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                aggregator.aggregate(each);
+                if (maxMemoryRows > 0 && aggregator.size() >= maxMemoryRows) {
+                    partitions.add(spillPartition());
+                }
+            }
+        }
+        if (partitions.isEmpty() && 0 == aggregator.size()) {
+            memoryRows = aggregator.getEmptyResultRows().iterator();
+            return;
+        }
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : aggregator.getValueCaseSensitive(queryResults.get(0), schema);
+        GroupByRowComparator rowComparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        if (partitions.isEmpty()) {
+            List<MemoryQueryResultRow> rows = aggregator.getAggregatedRows();
+            rows.sort(rowComparator);
+            memoryRows = rows.iterator();
+            return;
+        }
+        if (0 != aggregator.size()) {
+            partitions.add(spillPartition());
+        }
+        mergePartitions(partitions, rowComparator);
+    }
+    
+    private GroupBySpillFile spillPartition() {
+        List<Integer> groups = IntStream.range(0, aggregator.size()).boxed()
+                .sorted((o1, o2) -> compareGroupValues(aggregator.getGroupValues(o1), aggregator.getGroupValues(o2))).collect(Collectors.toList());
+        GroupBySpillFile result = createSpillFile();
+        for (int each : groups) {
+            result.write(getCells(aggregator.getRow(each)), aggregator.getPartialValues(each));
+        }
+        result.finishWrite();
+        aggregator.clear();
+        return result;
+    }
+    
+    private GroupBySpillFile createSpillFile() {
+        GroupBySpillFile result = new GroupBySpillFile();
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private Object[] getCells(final MemoryQueryResultRow row) {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = row.getCell(i + 1);
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private int compareGroupValues(final Object[] groupValues1, final Object[] groupValues2) {
+        int index = 0;
+        for (OrderByItem each : groupByItems) {
+            Object value1 = groupValues1[index];
+            ShardingSpherePreconditions.checkState(null == value1 || value1 instanceof Comparable, () -> new NotImplementComparableValueException("Group by", value1));
+            Object value2 = groupValues2[index];
+            ShardingSpherePreconditions.checkState(null == value2 || value2 instanceof Comparable, () -> new NotImplementComparableValueException("Group by", value2));
+            int result = CompareUtils.compareTo((Comparable) value1, (Comparable) value2, each.getSegment().getOrderDirection(),
+                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType()), true);
+            if (0 != result) {
+                return result;
+            }
+            index++;
+        }
+        return 0;
+    }
+    
+    private Object[] getGroupValues(final Object[] cells) {
+        Object[] result = new Object[groupByItems.size()];
+        int index = 0;
+        for (OrderByItem each : groupByItems) {
+            result[index++] = cells[each.getIndex() - 1];
+        }
+        return result;
+    }
+    
+    private void mergePartitions(final List<GroupBySpillFile> partitions, final Comparator<MemoryQueryResultRow> rowComparator) {
+        Queue<GroupBySpillFile> partitionQueue = new PriorityQueue<>(partitions.size(), (o1, o2) -> compareGroupValues(getGroupValues(o1.getCells()), getGroupValues(o2.getCells())));
+        for (GroupBySpillFile each : partitions) {
+            if (each.next()) {
+                partitionQueue.offer(each);
+            }
+        }
+        List<GroupBySpillFile> sortedRuns = new LinkedList<>();
+        List<MemoryQueryResultRow> buffer = new ArrayList<>(maxMemoryRows);
+        while (!partitionQueue.isEmpty()) {
+            buffer.add(mergeGroup(partitionQueue));
+            if (buffer.size() >= maxMemoryRows) {
+                sortedRuns.add(spillSortedRun(buffer, rowComparator));
+                buffer = new ArrayList<>(maxMemoryRows);
+            }
+        }
+        if (sortedRuns.isEmpty()) {
+            buffer.sort(rowComparator);
+            memoryRows = buffer.iterator();
+            return;
+        }
+        if (!buffer.isEmpty()) {
+            sortedRuns.add(spillSortedRun(buffer, rowComparator));
+        }
+        sortedRunCursors = new PriorityQueue<>(sortedRuns.size(), (o1, o2) -> rowComparator.compare(o1.getRow(), o2.getRow()));
+        for (GroupBySpillFile each : sortedRuns) {
+            SortedRunCursor cursor = new SortedRunCursor(each);
+            if (cursor.next()) {
+                sortedRunCursors.offer(cursor);
+            }
+        }
+    }
+    
+    private MemoryQueryResultRow mergeGroup(final Queue<GroupBySpillFile> partitionQueue) {
+        GroupBySpillFile first = partitionQueue.poll();
+        Object[] cells = first.getCells();
+        Object[] groupValues = getGroupValues(cells);
+        AggregationUnit[] aggregationUnits = aggregator.createAggregationUnits();
+        mergePartialValues(aggregationUnits, first.getPartialValues());
+        if (first.next()) {
+            partitionQueue.offer(first);
+        }
+        while (!partitionQueue.isEmpty() && Arrays.equals(groupValues, getGroupValues(partitionQueue.peek().getCells()))) {
+            GroupBySpillFile each = partitionQueue.poll();
+            mergePartialValues(aggregationUnits, each.getPartialValues());
+            if (each.next()) {
+                partitionQueue.offer(each);
+            }
+        }
+        MemoryQueryResultRow result = new MemoryQueryResultRow(cells);
+        aggregator.setAggregationResults(result, aggregationUnits);
+        return result;
+    }
+    
+    private void mergePartialValues(final AggregationUnit[] aggregationUnits, final Object[][] partialValues) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            List<Comparable<?>> values = new ArrayList<>(partialValues[i].length);
+            for (Object each : partialValues[i]) {
+                values.add((Comparable<?>) each);
+            }
+            aggregationUnits[i].merge(values);
+        }
+    }
+    
+    private GroupBySpillFile spillSortedRun(final List<MemoryQueryResultRow> rows, final Comparator<MemoryQueryResultRow> rowComparator) {
+        rows.sort(rowComparator);
+        GroupBySpillFile result = createSpillFile();
+        for (MemoryQueryResultRow each : rows) {
+            result.write(getCells(each), new Object[0][]);
+        }
+        result.finishWrite();
+        return result;
+    }
+    
+    @Override
+    public boolean next() {
+        if (null != memoryRows) {
+            if (memoryRows.hasNext()) {
+                currentRow = memoryRows.next();
+                return true;
+            }
+            return false;
+        }
+        if (null != currentSortedRunCursor && currentSortedRunCursor.next()) {
+            sortedRunCursors.offer(currentSortedRunCursor);
+        }
+        currentSortedRunCursor = sortedRunCursors.poll();
+        if (null == currentSortedRunCursor) {
+            return false;
+        }
+        currentRow = currentSortedRunCursor.getRow();
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkState(!INVALID_MEMORY_TYPES.contains(type), () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return CalendarValueConverter.convert(result, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        spillFiles.forEach(GroupBySpillFile::close);
+        spillFiles.clear();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SortedRunCursor {
+        
+        private final GroupBySpillFile sortedRun;
+        
+        @Getter
+        private MemoryQueryResultRow row;
+        
+        boolean next() {
+            if (sortedRun.next()) {
+                row = new MemoryQueryResultRow(sortedRun.getCells());
+                return true;
+            }
+            return false;
+        }
+    }
+}
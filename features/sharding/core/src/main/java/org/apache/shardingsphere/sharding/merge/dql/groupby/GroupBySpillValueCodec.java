@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Value codec for group by spill file.
+ *
+ * <p>Values of common JDBC types are written with type tags, other serializable values are written by java serialization.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GroupBySpillValueCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte BOOLEAN = 1;
+    
+    private static final byte BYTE = 2;
+    
+    private static final byte SHORT = 3;
+    
+    private static final byte INTEGER = 4;
+    
+    private static final byte LONG = 5;
+    
+    private static final byte FLOAT = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte BIG_INTEGER = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte STRING = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte DATE = 12;
+    
+    private static final byte TIME = 13;
+    
+    private static final byte TIMESTAMP = 14;
+    
+    private static final byte UTIL_DATE = 15;
+    
+    private static final byte LOCAL_DATE = 16;
+    
+    private static final byte LOCAL_TIME = 17;
+    
+    private static final byte LOCAL_DATE_TIME = 18;
+    
+    private static final byte OFFSET_DATE_TIME = 19;
+    
+    private static final byte SERIALIZABLE = 127;
+    
+    /**
+     * Write value.
+     *
+     * @param output data output
+     * @param value value to be written
+     * @throws IOException IO exception
+     * @throws GroupByMergeSpillException group by merge spill exception
+     */
+    public static void write(final DataOutput output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else if (value instanceof Date) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof Time) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (value instanceof Timestamp) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value.getClass() == java.util.Date.class) {
+            output.writeByte(UTIL_DATE);
+            output.writeLong(((java.util.Date) value).getTime());
+        } else if (value instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            output.writeByte(LOCAL_TIME);
+            output.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else if (value instanceof OffsetDateTime) {
+            output.writeByte(OFFSET_DATE_TIME);
+            output.writeLong(((OffsetDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((OffsetDateTime) value).toLocalTime().toNanoOfDay());
+            output.writeInt(((OffsetDateTime) value).getOffset().getTotalSeconds());
+        } else if (value instanceof Serializable) {
+            output.writeByte(SERIALIZABLE);
+            writeBytes(output, serialize(value));
+        } else {
+            throw new GroupByMergeSpillException(String.format("Unsupported spill value type `%s`", value.getClass().getName()));
+        }
+    }
+    
+    private static void writeBytes(final DataOutput output, final byte[] value) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    private static byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Read value.
+     *
+     * @param input data input
+     * @return read value
+     * @throws IOException IO exception
+     * @throws GroupByMergeSpillException group by merge spill exception
+     */
+    public static Object read(final DataInput input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return input.readBoolean();
+            case BYTE:
+                return input.readByte();
+            case SHORT:
+                return input.readShort();
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BIG_DECIMAL:
+                return readBigDecimal(input);
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(input);
+            case DATE:
+                return new Date(input.readLong());
+            case TIME:
+                return new Time(input.readLong());
+            case TIMESTAMP:
+                return readTimestamp(input);
+            case UTIL_DATE:
+                return new java.util.Date(input.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                return readLocalDateTime(input);
+            case OFFSET_DATE_TIME:
+                return OffsetDateTime.of(readLocalDateTime(input), ZoneOffset.ofTotalSeconds(input.readInt()));
+            case SERIALIZABLE:
+                return deserialize(readBytes(input));
+            default:
+                throw new GroupByMergeSpillException(String.format("Unknown spill value type tag `%s`", type));
+        }
+    }
+    
+    private static BigDecimal readBigDecimal(final DataInput input) throws IOException {
+        int scale = input.readInt();
+        return new BigDecimal(new BigInteger(readBytes(input)), scale);
+    }
+    
+    private static Timestamp readTimestamp(final DataInput input) throws IOException {
+        Timestamp result = new Timestamp(input.readLong());
+        result.setNanos(input.readInt());
+        return result;
+    }
+    
+    private static LocalDateTime readLocalDateTime(final DataInput input) throws IOException {
+        LocalDate date = LocalDate.ofEpochDay(input.readLong());
+        return LocalDateTime.of(date, LocalTime.ofNanoOfDay(input.readLong()));
+    }
+    
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    private static Object deserialize(final byte[] value) throws IOException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(value))) {
+            return objectInputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new GroupByMergeSpillException(ex.getMessage());
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -37,4 +38,15 @@ public interface AggregationUnit {
      * @return aggregation result
      */
     Comparable<?> getResult();
+    
+    /**
+     * Get partial aggregation values.
+     * 
+     * <p>Partial aggregation values can be merged into a new aggregation unit of same type to restore current aggregation state.</p>
+     *
+     * @return partial aggregation values
+     */
+    default List<Comparable<?>> getPartialValues() {
+        return Collections.singletonList(getResult());
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.sketch.ThetaSketch;
 import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
 
 /**
@@ -37,21 +38,62 @@ public final class AggregationUnitFactory {
      * @throws UnsupportedSQLOperationException unsupported SQL operation exception
      */
     public static AggregationUnit create(final AggregationType type, final boolean isDistinct) {
+        return create(type, isDistinct, false);
+    }
+    
+    /**
+     * Create aggregation unit instance.
+     * 
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param isApproximateDistinct is distinct aggregation estimated by sketches
+     * @return aggregation unit instance
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final boolean isApproximateDistinct) {
+        return create(type, isDistinct, isApproximateDistinct, 1);
+    }
+    
+    /**
+     * Create aggregation unit instance.
+     * 
+     * <p>Sketches of approximate distinct aggregation get smaller when more groups are aggregated together.</p>
+     * 
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param isApproximateDistinct is distinct aggregation estimated by sketches
+     * @param groupCount count of groups aggregated together
+     * @return aggregation unit instance
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final boolean isApproximateDistinct, final int groupCount) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
             case MIN:
                 return new ComparableAggregationUnit(true);
             case SUM:
-                return isDistinct ? new DistinctSumAggregationUnit() : new AccumulationAggregationUnit();
+                return isDistinct ? createDistinctSumAggregationUnit(isApproximateDistinct, groupCount) : new AccumulationAggregationUnit();
             case COUNT:
-                return isDistinct ? new DistinctCountAggregationUnit() : new AccumulationAggregationUnit();
+                return isDistinct ? createDistinctCountAggregationUnit(isApproximateDistinct) : new AccumulationAggregationUnit();
             case AVG:
-                return isDistinct ? new DistinctAverageAggregationUnit() : new AverageAggregationUnit();
+                return isDistinct ? createDistinctAverageAggregationUnit(isApproximateDistinct, groupCount) : new AverageAggregationUnit();
             case BIT_XOR:
                 return new BitXorAggregationUnit();
             default:
                 throw new UnsupportedSQLOperationException(type.name());
         }
     }
+    
+    private static AggregationUnit createDistinctSumAggregationUnit(final boolean isApproximateDistinct, final int groupCount) {
+        return isApproximateDistinct ? new ApproximateDistinctSumAggregationUnit(ThetaSketch.getNominalEntries(groupCount)) : new DistinctSumAggregationUnit();
+    }
+    
+    private static AggregationUnit createDistinctCountAggregationUnit(final boolean isApproximateDistinct) {
+        return isApproximateDistinct ? new ApproximateDistinctCountAggregationUnit() : new DistinctCountAggregationUnit();
+    }
+    
+    private static AggregationUnit createDistinctAverageAggregationUnit(final boolean isApproximateDistinct, final int groupCount) {
+        return isApproximateDistinct ? new ApproximateDistinctAverageAggregationUnit(ThetaSketch.getNominalEntries(groupCount)) : new DistinctAverageAggregationUnit();
+    }
 }
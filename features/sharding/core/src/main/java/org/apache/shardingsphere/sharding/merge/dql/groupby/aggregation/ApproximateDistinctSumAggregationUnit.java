@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.sketch.DistinctValueHashUtils;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.sketch.ThetaSketch;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Approximate distinct sum aggregation unit.
+ */
+public final class ApproximateDistinctSumAggregationUnit implements AggregationUnit {
+    
+    private final ThetaSketch sketch;
+    
+    public ApproximateDistinctSumAggregationUnit(final int nominalEntries) {
+        sketch = new ThetaSketch(nominalEntries);
+    }
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        sketch.update(DistinctValueHashUtils.hash(values.get(0)), new BigDecimal(values.get(0).toString()));
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return sketch.isEmpty() ? null : sketch.estimateSum();
+    }
+    
+    @Override
+    public List<Comparable<?>> getPartialValues() {
+        throw new UnsupportedSQLOperationException("Partial values of distinct aggregation");
+    }
+}
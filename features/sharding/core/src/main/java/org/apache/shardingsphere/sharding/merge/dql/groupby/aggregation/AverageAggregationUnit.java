@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -56,4 +57,9 @@ public final class AverageAggregationUnit implements AggregationUnit {
         // TODO use metadata to fetch float number precise for database field
         return sum.divide(count, 4, RoundingMode.HALF_UP);
     }
+    
+    @Override
+    public List<Comparable<?>> getPartialValues() {
+        return Arrays.asList(count, sum);
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -64,4 +65,9 @@ public final class DistinctAverageAggregationUnit implements AggregationUnit {
         // TODO use metadata to fetch float number precise for database field
         return sum.divide(count, 4, RoundingMode.HALF_UP);
     }
+    
+    @Override
+    public List<Comparable<?>> getPartialValues() {
+        throw new UnsupportedSQLOperationException("Partial values of distinct aggregation");
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
 
 import java.util.Collection;
 import java.util.HashSet;
@@ -43,4 +44,9 @@ public final class DistinctCountAggregationUnit implements AggregationUnit {
     public Comparable<?> getResult() {
         return values.size();
     }
+    
+    @Override
+    public List<Comparable<?>> getPartialValues() {
+        throw new UnsupportedSQLOperationException("Partial values of distinct aggregation");
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
 
 import java.math.BigDecimal;
 import java.util.Collection;
@@ -51,4 +52,9 @@ public final class DistinctSumAggregationUnit implements AggregationUnit {
     public Comparable<?> getResult() {
         return result;
     }
+    
+    @Override
+    public List<Comparable<?>> getPartialValues() {
+        throw new UnsupportedSQLOperationException("Partial values of distinct aggregation");
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.sketch;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Distinct value hash utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DistinctValueHashUtils {
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    /**
+     * Hash distinct value, numeric values with same magnitude will get same hash even if they are returned in different java types.
+     * 
+     * <p>Non-finite floating point values have no magnitude, so they are hashed by their text.</p>
+     *
+     * @param value distinct value
+     * @return 64 bits hash
+     */
+    public static long hash(final Comparable<?> value) {
+        String text = value instanceof Number && isFinite((Number) value) ? new BigDecimal(value.toString()).stripTrailingZeros().toPlainString() : value.toString();
+        return HASH_FUNCTION.hashString(text, StandardCharsets.UTF_8).asLong();
+    }
+    
+    private static boolean isFinite(final Number value) {
+        if (value instanceof Double) {
+            return Double.isFinite((Double) value);
+        }
+        if (value instanceof Float) {
+            return Float.isFinite((Float) value);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.sketch;
+
+/**
+ * HyperLogLog sketch for approximate distinct count.
+ * 
+ * <p>Hashes are kept exactly in a sparse set until it reaches the memory of dense registers, then folded into dense registers.
+ * The memory of one sketch is bounded by the registers, whatever the cardinality is.</p>
+ */
+public final class HyperLogLogSketch {
+    
+    private static final int DEFAULT_PRECISION = 14;
+    
+    private final int precision;
+    
+    private final int registerSize;
+    
+    private final int sparseThreshold;
+    
+    private long[] sparseHashes = new long[16];
+    
+    private int sparseSize;
+    
+    private boolean containsZeroHash;
+    
+    private byte[] registers;
+    
+    public HyperLogLogSketch() {
+        this(DEFAULT_PRECISION);
+    }
+    
+    public HyperLogLogSketch(final int precision) {
+        this.precision = precision;
+        registerSize = 1 << precision;
+        sparseThreshold = registerSize / 32;
+    }
+    
+    /**
+     * Update sketch with hash of value.
+     *
+     * @param hash 64 bits hash of value
+     */
+    public void update(final long hash) {
+        if (null != registers) {
+            updateRegister(hash);
+            return;
+        }
+        if (0L == hash) {
+            containsZeroHash = true;
+        } else if (addSparseHash(hash) && sparseSize > sparseThreshold) {
+            toDense();
+        }
+    }
+    
+    private boolean addSparseHash(final long hash) {
+        int mask = sparseHashes.length - 1;
+        int slot = (int) (hash ^ hash >>> 32) & mask;
+        while (0L != sparseHashes[slot]) {
+            if (hash == sparseHashes[slot]) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        sparseHashes[slot] = hash;
+        sparseSize++;
+        if (sparseSize * 2 > sparseHashes.length) {
+            resizeSparseHashes();
+        }
+        return true;
+    }
+    
+    private void resizeSparseHashes() {
+        long[] oldSparseHashes = sparseHashes;
+        sparseHashes = new long[oldSparseHashes.length * 2];
+        sparseSize = 0;
+        for (long each : oldSparseHashes) {
+            if (0L != each) {
+                addSparseHash(each);
+            }
+        }
+    }
+    
+    private void toDense() {
+        registers = new byte[registerSize];
+        for (long each : sparseHashes) {
+            if (0L != each) {
+                updateRegister(each);
+            }
+        }
+        if (containsZeroHash) {
+            updateRegister(0L);
+        }
+        sparseHashes = null;
+    }
+    
+    private void updateRegister(final long hash) {
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        byte rank = (byte) (Long.numberOfLeadingZeros(hash << precision | 1L << (precision - 1)) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    /**
+     * Estimate distinct count.
+     *
+     * @return estimated distinct count
+     */
+    public long estimate() {
+        if (null == registers) {
+            return sparseSize + (containsZeroHash ? 1 : 0);
+        }
+        double sum = 0D;
+        int zeroRegisters = 0;
+        for (byte each : registers) {
+            sum += 1D / (1L << each);
+            if (0 == each) {
+                zeroRegisters++;
+            }
+        }
+        double result = getAlpha() * registerSize * registerSize / sum;
+        if (result <= 2.5D * registerSize && 0 != zeroRegisters) {
+            result = registerSize * Math.log((double) registerSize / zeroRegisters);
+        }
+        return Math.round(result);
+    }
+    
+    private double getAlpha() {
+        switch (registerSize) {
+            case 16:
+                return 0.673D;
+            case 32:
+                return 0.697D;
+            case 64:
+                return 0.709D;
+            default:
+                return 0.7213D / (1D + 1.079D / registerSize);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.sketch;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+
+/**
+ * Theta sketch for approximate distinct sum and distinct average.
+ * 
+ * <p>Only the distinct values whose normalized hashes are less than theta are retained with their numeric values, at least nominal entries.
+ * Every distinct value is retained with the probability of theta, so count and sum of retained values scaled by theta are unbiased estimations.</p>
+ * 
+ * <p>Retained hashes are kept in an open addressing table of primitive longs, which grows from a small capacity up to twice of nominal entries.
+ * When the table is full, theta is lowered to keep nominal entries only.</p>
+ */
+public final class ThetaSketch {
+    
+    private static final int MAX_NOMINAL_ENTRIES = 4096;
+    
+    private static final int MIN_NOMINAL_ENTRIES = 64;
+    
+    private static final int TOTAL_NOMINAL_ENTRIES = 1 << 20;
+    
+    private static final int MIN_CAPACITY = 16;
+    
+    private final int nominalEntries;
+    
+    private final int maxCapacity;
+    
+    private long[] hashes;
+    
+    private BigDecimal[] values;
+    
+    private int size;
+    
+    private long theta = Long.MAX_VALUE;
+    
+    public ThetaSketch() {
+        this(MAX_NOMINAL_ENTRIES);
+    }
+    
+    public ThetaSketch(final int nominalEntries) {
+        this.nominalEntries = nominalEntries;
+        maxCapacity = Integer.highestOneBit(Math.max(1, nominalEntries * 2 - 1)) << 1;
+        int capacity = Math.min(MIN_CAPACITY, maxCapacity);
+        hashes = new long[capacity];
+        values = new BigDecimal[capacity];
+    }
+    
+    /**
+     * Get nominal entries of sketch for one group, so that sketches of many groups share a bounded count of retained entries.
+     *
+     * @param groupCount count of groups aggregated together
+     * @return nominal entries
+     */
+    public static int getNominalEntries(final int groupCount) {
+        return Math.max(MIN_NOMINAL_ENTRIES, Math.min(MAX_NOMINAL_ENTRIES, TOTAL_NOMINAL_ENTRIES / Math.max(1, groupCount)));
+    }
+    
+    /**
+     * Update sketch with hash and numeric value of distinct value.
+     *
+     * @param hash 64 bits hash of distinct value
+     * @param value numeric value
+     */
+    public void update(final long hash, final BigDecimal value) {
+        long normalizedHash = hash >>> 1;
+        if (normalizedHash >= theta) {
+            return;
+        }
+        long key = normalizedHash + 1L;
+        int index = findIndex(hashes, key);
+        if (key == hashes[index]) {
+            return;
+        }
+        hashes[index] = key;
+        values[index] = value;
+        size++;
+        if (size * 4L > hashes.length * 3L) {
+            if (hashes.length < maxCapacity) {
+                rehash(hashes.length * 2);
+            } else {
+                lowerTheta();
+            }
+        }
+    }
+    
+    private int findIndex(final long[] table, final long key) {
+        int mask = table.length - 1;
+        int result = (int) key & mask;
+        while (0L != table[result] && key != table[result]) {
+            result = (result + 1) & mask;
+        }
+        return result;
+    }
+    
+    private void lowerTheta() {
+        long[] sortedHashes = new long[size];
+        int index = 0;
+        for (long each : hashes) {
+            if (0L != each) {
+                sortedHashes[index++] = each;
+            }
+        }
+        Arrays.sort(sortedHashes);
+        theta = sortedHashes[nominalEntries] - 1L;
+        rehash(hashes.length);
+    }
+    
+    private void rehash(final int capacity) {
+        long[] oldHashes = hashes;
+        BigDecimal[] oldValues = values;
+        hashes = new long[capacity];
+        values = new BigDecimal[capacity];
+        size = 0;
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (0L != oldHashes[i] && oldHashes[i] - 1L < theta) {
+                int index = findIndex(hashes, oldHashes[i]);
+                hashes[index] = oldHashes[i];
+                values[index] = oldValues[i];
+                size++;
+            }
+        }
+    }
+    
+    /**
+     * Judge whether sketch is empty.
+     *
+     * @return sketch is empty or not
+     */
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+    
+    /**
+     * Estimate sum of distinct values.
+     *
+     * @return estimated sum of distinct values
+     */
+    public BigDecimal estimateSum() {
+        BigDecimal result = getRetainedSum();
+        return Long.MAX_VALUE == theta ? result : result.divide(BigDecimal.valueOf(getThetaFraction()), MathContext.DECIMAL64);
+    }
+    
+    /**
+     * Get sum of retained values.
+     *
+     * @return sum of retained values
+     */
+    public BigDecimal getRetainedSum() {
+        BigDecimal result = BigDecimal.ZERO;
+        for (int i = 0; i < hashes.length; i++) {
+            if (0L != hashes[i]) {
+                result = result.add(values[i]);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get retained entries count.
+     *
+     * @return retained entries count
+     */
+    public int getRetainedCount() {
+        return size;
+    }
+    
+    private double getThetaFraction() {
+        return (double) theta / Long.MAX_VALUE;
+    }
+}
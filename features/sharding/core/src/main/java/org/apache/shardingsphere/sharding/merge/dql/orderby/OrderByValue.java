@@ -20,21 +20,21 @@ package org.apache.shardingsphere.sharding.merge.dql.orderby;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 
 /**
  * Order by value.
@@ -44,28 +44,35 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     @Getter
     private final QueryResult queryResult;
     
-    private final Collection<OrderByItem> orderByItems;
+    private final SelectStatementContext selectStatementContext;
     
-    private final List<Boolean> orderValuesCaseSensitive;
+    private final int[] columnIndexes;
     
-    private final SelectStatementContext selectStatementContext;
+    private final OrderDirection[] orderDirections;
+    
+    private final NullsOrderType[] nullsOrderTypes;
     
-    private List<Comparable<?>> orderValues;
+    private final boolean[] orderValuesCaseSensitive;
+    
+    private final Comparable<?>[] orderValues;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
-        this.orderByItems = orderByItems;
         this.selectStatementContext = selectStatementContext;
-        orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
-    }
-    
-    private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
-        List<Boolean> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem eachOrderByItem : orderByItems) {
-            result.add(getOrderValuesCaseSensitiveFromTables(schema, eachOrderByItem));
+        columnIndexes = new int[orderByItems.size()];
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullsOrderTypes = new NullsOrderType[orderByItems.size()];
+        orderValuesCaseSensitive = new boolean[orderByItems.size()];
+        orderValues = new Comparable<?>[orderByItems.size()];
+        int index = 0;
+        for (OrderByItem each : orderByItems) {
+            columnIndexes[index] = each.getIndex();
+            orderDirections[index] = each.getSegment().getOrderDirection();
+            nullsOrderTypes[index] = each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType());
+            orderValuesCaseSensitive[index] = getOrderValuesCaseSensitiveFromTables(schema, each);
+            index++;
         }
-        return result;
     }
     
     private boolean getOrderValuesCaseSensitiveFromTables(final ShardingSphereSchema schema, final OrderByItem eachOrderByItem) throws SQLException {
@@ -99,30 +106,29 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        } else {
+            Arrays.fill(orderValues, null);
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < columnIndexes.length; i++) {
+            Object value = queryResult.getValue(columnIndexes[i], Object.class);
             ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
-            result.add((Comparable<?>) value);
+            orderValues[i] = (Comparable<?>) value;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtils.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType()), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = CompareUtils.compareTo(orderValues[i], orderByValue.orderValues[i], orderDirections[i], nullsOrderTypes[i], orderValuesCaseSensitive[i]);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
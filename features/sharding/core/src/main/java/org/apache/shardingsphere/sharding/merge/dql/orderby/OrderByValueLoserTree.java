@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loser tree of order by values for k-way merge.
+ * 
+ * <p>Every internal node keeps the loser of the match between its subtrees and the root keeps the overall winner,
+ * so advancing the winner only replays the matches on the path from its leaf to the root, which costs one comparison per level.
+ * Exhausted order by values are treated as larger than any others.
+ * Ties are won by the row loaded earlier, so equal rows are merged in the order they are fetched.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private static final int MIN_SENTINEL = -1;
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final long[] loadedSequences;
+    
+    private final int[] losers;
+    
+    private long loadedCount;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) throws SQLException {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[this.orderByValues.length];
+        loadedSequences = new long[this.orderByValues.length];
+        losers = new int[Math.max(this.orderByValues.length, 1)];
+        for (int i = 0; i < this.orderByValues.length; i++) {
+            load(i);
+        }
+        build();
+    }
+    
+    private void load(final int leaf) throws SQLException {
+        exhausted[leaf] = !orderByValues[leaf].next();
+        loadedSequences[leaf] = loadedCount++;
+    }
+    
+    private void build() {
+        Arrays.fill(losers, MIN_SENTINEL);
+        for (int i = orderByValues.length - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int node = (leaf + orderByValues.length) >> 1; node > 0; node >>= 1) {
+            if (isLess(losers[node], winner)) {
+                int loser = winner;
+                winner = losers[node];
+                losers[node] = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    private boolean isLess(final int left, final int right) {
+        if (MIN_SENTINEL == left) {
+            return true;
+        }
+        if (MIN_SENTINEL == right || exhausted[left]) {
+            return false;
+        }
+        if (exhausted[right]) {
+            return true;
+        }
+        int result = orderByValues[left].compareTo(orderByValues[right]);
+        return 0 == result ? loadedSequences[left] < loadedSequences[right] : result < 0;
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == orderByValues.length || exhausted[losers[0]];
+    }
+    
+    /**
+     * Get winner order by value.
+     *
+     * @return winner order by value, null if all order by values are exhausted
+     */
+    public OrderByValue peek() {
+        return isEmpty() ? null : orderByValues[losers[0]];
+    }
+    
+    /**
+     * Iterate winner order by value to next data and select next winner.
+     *
+     * @return has next data
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (isEmpty()) {
+            return false;
+        }
+        int winner = losers[0];
+        load(winner);
+        replay(winner);
+        return !isEmpty();
+    }
+}
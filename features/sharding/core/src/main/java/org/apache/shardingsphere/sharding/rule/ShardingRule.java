@@ -32,7 +32,10 @@ import org.apache.shardingsphere.infra.instance.InstanceContextAware;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.identifier.scope.DatabaseRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.ColocatedJoinRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.GlobalUniqueKeyRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.RoutingColumnRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableNamesMapper;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -75,6 +78,7 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeSet;
@@ -85,7 +89,7 @@ import java.util.stream.Collectors;
  * Sharding rule.
  */
 @Getter
-public final class ShardingRule implements DatabaseRule, DataNodeContainedRule, TableContainedRule {
+public final class ShardingRule implements DatabaseRule, DataNodeContainedRule, TableContainedRule, ColocatedJoinRule, GlobalUniqueKeyRule, RoutingColumnRule {
     
     private static final String ALGORITHM_EXPRESSION_KEY = "algorithm-expression";
     
@@ -478,6 +482,91 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return isJoinConditionContainsShardingColumns(schema, select, logicTableNames, select.getWhereSegments());
     }
     
+    @Override
+    public boolean isColocatedJoin(final String leftTableName, final String rightTableName, final Map<String, String> joinColumns) {
+        if (!isAllBindingTables(Arrays.asList(leftTableName, rightTableName))) {
+            return false;
+        }
+        TableRule leftTableRule = getTableRule(leftTableName);
+        TableRule rightTableRule = getTableRule(rightTableName);
+        return isJoinColumnsContainShardingColumns(leftTableRule, rightTableRule, true, joinColumns) && isJoinColumnsContainShardingColumns(leftTableRule, rightTableRule, false, joinColumns);
+    }
+    
+    private boolean isJoinColumnsContainShardingColumns(final TableRule leftTableRule, final TableRule rightTableRule, final boolean databaseAlgorithm, final Map<String, String> joinColumns) {
+        ShardingStrategyConfiguration leftConfig = databaseAlgorithm ? getDatabaseShardingStrategyConfiguration(leftTableRule) : getTableShardingStrategyConfiguration(leftTableRule);
+        ShardingStrategyConfiguration rightConfig = databaseAlgorithm ? getDatabaseShardingStrategyConfiguration(rightTableRule) : getTableShardingStrategyConfiguration(rightTableRule);
+        if (!(leftConfig instanceof StandardShardingStrategyConfiguration) || !(rightConfig instanceof StandardShardingStrategyConfiguration)
+                || !isSameShardingAlgorithm(leftTableRule, leftConfig, rightTableRule, rightConfig, databaseAlgorithm)) {
+            return false;
+        }
+        Collection<String> leftShardingColumns = getShardingColumns(leftConfig);
+        Collection<String> rightShardingColumns = getShardingColumns(rightConfig);
+        for (Entry<String, String> entry : joinColumns.entrySet()) {
+            if (leftShardingColumns.stream().anyMatch(entry.getKey()::equalsIgnoreCase) && rightShardingColumns.stream().anyMatch(entry.getValue()::equalsIgnoreCase)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isSameShardingAlgorithm(final TableRule leftTableRule, final ShardingStrategyConfiguration leftConfig, final TableRule rightTableRule,
+                                            final ShardingStrategyConfiguration rightConfig, final boolean databaseAlgorithm) {
+        if (leftConfig.getShardingAlgorithmName().equals(rightConfig.getShardingAlgorithmName())) {
+            return true;
+        }
+        Optional<String> leftAlgorithmStructure = getAlgorithmStructure(leftTableRule, leftConfig, databaseAlgorithm);
+        return leftAlgorithmStructure.isPresent() && leftAlgorithmStructure.equals(getAlgorithmStructure(rightTableRule, rightConfig, databaseAlgorithm));
+    }
+    
+    private Optional<String> getAlgorithmStructure(final TableRule tableRule, final ShardingStrategyConfiguration shardingStrategyConfig, final boolean databaseAlgorithm) {
+        ShardingAlgorithm shardingAlgorithm = shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName());
+        String dataNodePrefix = databaseAlgorithm ? tableRule.getDataSourceDataNode().getPrefix() : tableRule.getTableDataNode().getPrefix();
+        return null == shardingAlgorithm ? Optional.empty() : shardingAlgorithm.getAlgorithmStructure(dataNodePrefix, getShardingColumn(shardingStrategyConfig, defaultShardingColumn));
+    }
+    
+    @Override
+    public boolean isGlobalUniqueKey(final String logicTableName, final Collection<String> keyColumnNames) {
+        Optional<TableRule> tableRule = findTableRule(logicTableName);
+        if (!tableRule.isPresent()) {
+            return true;
+        }
+        boolean databaseSharded = tableRule.get().getActualDataSourceNames().size() > 1;
+        boolean tableSharded = tableRule.get().getActualDataSourceNames().stream().anyMatch(each -> tableRule.get().getActualTableNames(each).size() > 1);
+        return (!databaseSharded || isKeyContainsShardingColumns(getDatabaseShardingStrategyConfiguration(tableRule.get()), keyColumnNames))
+                && (!tableSharded || isKeyContainsShardingColumns(getTableShardingStrategyConfiguration(tableRule.get()), keyColumnNames));
+    }
+    
+    @Override
+    public boolean isRoutingColumn(final String logicTableName, final String columnName) {
+        return findShardingColumn(columnName, logicTableName).isPresent() || isGenerateKeyColumn(columnName, logicTableName);
+    }
+    
+    private boolean isKeyContainsShardingColumns(final ShardingStrategyConfiguration shardingStrategyConfig, final Collection<String> keyColumnNames) {
+        Collection<String> shardingColumns = getShardingColumns(shardingStrategyConfig);
+        if (shardingColumns.isEmpty()) {
+            return false;
+        }
+        for (String each : shardingColumns) {
+            if (keyColumnNames.stream().noneMatch(each::equalsIgnoreCase)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Collection<String> getShardingColumns(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
+            String shardingColumn = null == ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn()
+                    ? defaultShardingColumn
+                    : ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+            return null == shardingColumn ? Collections.emptyList() : Collections.singletonList(shardingColumn);
+        }
+        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            return Splitter.on(",").trimResults().omitEmptyStrings().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns());
+        }
+        return Collections.emptyList();
+    }
+    
     private Optional<BindingTableRule> findBindingTableRule(final Collection<String> logicTableNames) {
         for (String each : logicTableNames) {
             Optional<BindingTableRule> result = findBindingTableRule(each);
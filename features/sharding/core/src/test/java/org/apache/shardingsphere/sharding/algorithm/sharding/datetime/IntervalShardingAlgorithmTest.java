@@ -42,13 +42,17 @@ import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Properties;
+import java.util.TreeSet;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IntervalShardingAlgorithmTest {
     
@@ -319,6 +323,67 @@ class IntervalShardingAlgorithmTest {
         assertThat(actual.size(), is(24));
     }
     
+    @Test
+    void assertRangeDoShardingBeyondBounds() {
+        assertTrue(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.atLeast("2022-01-01 00:00:00"))).isEmpty());
+        assertTrue(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.lessThan("2016-01-01 00:00:00"))).isEmpty());
+        assertThat(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.atMost("2016-01-01 00:00:00"))), is(Collections.singleton("t_order_201601")));
+    }
+    
+    @Test
+    void assertRangeDoShardingWithSameSuffixInDifferentIntervals() {
+        IntervalShardingAlgorithm shardingAlgorithm = (IntervalShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INTERVAL", PropertiesBuilder.build(
+                new Property("datetime-pattern", "yyyy-MM-dd HH:mm:ss"),
+                new Property("datetime-lower", "2016-01-01 00:00:00"),
+                new Property("datetime-upper", "2021-12-31 00:00:00"),
+                new Property("sharding-suffix-pattern", "MM"),
+                new Property("datetime-interval-amount", "1"),
+                new Property("datetime-interval-unit", "Months")));
+        Collection<String> availableTargetNames = Arrays.asList("t_order_01", "t_order_02", "t_order_03", "t_order_10", "t_order_11", "t_order_12");
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("2019-11-15 00:00:00", "2020-02-01 00:00:00")));
+        assertThat(new TreeSet<>(actual), is(new TreeSet<>(Arrays.asList("t_order_01", "t_order_02", "t_order_11", "t_order_12"))));
+    }
+    
+    @Test
+    void assertDoShardingWithSteppedIntervals() {
+        IntervalShardingAlgorithm shardingAlgorithm = (IntervalShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INTERVAL", PropertiesBuilder.build(
+                new Property("datetime-pattern", "yyyy-MM-dd HH:mm:ss"),
+                new Property("datetime-lower", "2000-01-01 00:00:00"),
+                new Property("datetime-upper", "2030-12-31 23:59:59"),
+                new Property("sharding-suffix-pattern", "yyyyMMddHHmmss"),
+                new Property("datetime-interval-amount", "30"),
+                new Property("datetime-interval-unit", "Seconds")));
+        Collection<String> availableTargetNames = Arrays.asList("t_order_20210601000000", "t_order_20210601000030", "t_order_20210601000100", "t_order_20301231235930");
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-06-01 00:00:45")), is("t_order_20210601000030"));
+        assertNull(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2031-01-01 00:00:00")));
+        assertNull(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "1999-12-31 23:59:59")));
+        assertThat(new TreeSet<>(shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("2021-06-01 00:00:10", "2021-06-01 00:01:00")))),
+                is(new TreeSet<>(Arrays.asList("t_order_20210601000000", "t_order_20210601000030", "t_order_20210601000100"))));
+        assertThat(new TreeSet<>(shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closedOpen("2021-06-01 00:00:10", "2021-06-01 00:01:00")))),
+                is(new TreeSet<>(Arrays.asList("t_order_20210601000000", "t_order_20210601000030"))));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.atLeast("2030-12-31 23:59:00"))), is(Collections.singleton("t_order_20301231235930")));
+        assertTrue(shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.atLeast("2031-01-01 00:00:00"))).isEmpty());
+    }
+    
+    @Test
+    void assertPreciseDoShardingWithAlternateAvailableTargetNames() {
+        Collection<String> anotherAvailableTargetNames = Arrays.asList("t_order_202101", "t_order_202102");
+        for (int i = 0; i < 2; i++) {
+            assertThat(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                    new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2020-01-01 00:00:01")), is("t_order_202001"));
+            assertThat(shardingAlgorithmByMonth.doSharding(anotherAvailableTargetNames,
+                    new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-02-01 00:00:01")), is("t_order_202102"));
+        }
+    }
+    
     @Test
     void assertFormat() {
         String inputFormat = "yyyy-MM-dd HH:mm:ss.SSS";
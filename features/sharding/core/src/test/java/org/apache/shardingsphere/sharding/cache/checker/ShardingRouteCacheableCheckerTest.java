@@ -42,6 +42,7 @@ import org.apache.shardingsphere.sharding.api.config.rule.ShardingAutoTableRuleC
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableReferenceRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.engine.condition.Column;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -50,6 +51,7 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.shardingsphere.timeservice.api.config.TimestampServiceRuleConfiguration;
 import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -67,6 +69,7 @@ import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ShardingRouteCacheableCheckerTest {
@@ -86,6 +89,18 @@ class ShardingRouteCacheableCheckerTest {
         assertThat(actual.getShardingConditionParameterMarkerIndexes(), is(expectedShardingConditionParameterMarkerIndexes));
     }
     
+    @Test
+    void assertCheckPreciseShardingColumns() {
+        ShardingRule shardingRule = createShardingRule();
+        ShardingSphereDatabase database = createDatabase(shardingRule, createTimeServiceRule());
+        ShardingRouteCacheableChecker checker = new ShardingRouteCacheableChecker(shardingRule.getShardingCache());
+        ShardingRouteCacheableCheckResult actual = checker.check(database, createQueryContext(database, "select * from t_warehouse where id in (?, ?)", Arrays.asList(1, 2)));
+        assertThat(actual.getPreciseShardingColumns().size(), is(2));
+        assertThat(actual.getPreciseShardingColumns().get(0), is(Collections.singleton(new Column("id", "t_warehouse"))));
+        assertThat(actual.getPreciseShardingColumns().get(1), is(Collections.singleton(new Column("id", "t_warehouse"))));
+        assertTrue(checker.check(database, createQueryContext(database, "select * from t_warehouse where id between ? and ?", Arrays.asList(1, 10))).getPreciseShardingColumns().isEmpty());
+    }
+    
     private ShardingRule createShardingRule() {
         ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
         ruleConfig.getBindingTableGroups().add(new ShardingTableReferenceRuleConfiguration("foo", "t_order,t_order_item"));
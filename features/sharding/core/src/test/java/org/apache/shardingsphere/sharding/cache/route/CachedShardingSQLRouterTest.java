@@ -32,12 +32,14 @@ import org.apache.shardingsphere.sharding.cache.route.CachedShardingSQLRouter.Or
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.Column;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
 
@@ -47,6 +49,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -141,6 +144,41 @@ class CachedShardingSQLRouterTest {
         Optional<RouteContext> actual = new CachedShardingSQLRouter().loadRouteContext(router, queryContext, globalRuleMetaData, null, shardingCache, null, null);
         assertTrue(actual.isPresent());
         assertThat(actual.get(), is(expected));
+        verify(shardingCache.getRouteCache()).put(eq(new ShardingRouteCacheKey("select * from t", Collections.emptyList())), any(ShardingRouteCacheValue.class));
+    }
+    
+    @Test
+    void assertCreateRouteContextWithEmptyRouteUnits() {
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "select * from t", Collections.emptyList());
+        when(shardingCache.getConfiguration()).thenReturn(new ShardingCacheConfiguration(100, null));
+        when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
+        when(shardingCache.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(true, Collections.emptyList()));
+        when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
+        RouteContext expected = new RouteContext();
+        OriginSQLRouter router = (unused, globalRuleMetaData, database, rule, props, connectionContext) -> expected;
+        Optional<RouteContext> actual = new CachedShardingSQLRouter().loadRouteContext(router, queryContext, mock(RuleMetaData.class), null, shardingCache, null, null);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(expected));
         verify(shardingCache.getRouteCache(), never()).put(any(ShardingRouteCacheKey.class), any(ShardingRouteCacheValue.class));
     }
+    
+    @Test
+    void assertCreateRouteContextWithPreciseShardingValuesMappedToRouteTargets() {
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "select * from t where id in (?, ?)", Arrays.asList(1, 3));
+        when(shardingCache.getConfiguration()).thenReturn(new ShardingCacheConfiguration(100, null));
+        when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
+        Collection<Column> columns = Collections.singleton(new Column("id", "t"));
+        when(shardingCache.getRouteCacheableChecker().check(null, queryContext)).thenReturn(
+                new ShardingRouteCacheableCheckResult(true, Arrays.asList(0, 1), Collections.singletonMap(1, columns)));
+        when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
+        when(shardingCache.getRouteTargetMapper()).thenReturn(mock(ShardingRouteTargetMapper.class));
+        when(shardingCache.getRouteTargetMapper().map(columns, 3)).thenReturn("ds_1.t_1");
+        RouteContext expected = new RouteContext();
+        expected.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t", "t_1"))));
+        when(shardingCache.getRouteCache().get(new ShardingRouteCacheKey("select * from t where id in (?, ?)", Arrays.asList(1, "ds_1.t_1"))))
+                .thenReturn(Optional.of(new ShardingRouteCacheValue(expected)));
+        Optional<RouteContext> actual = new CachedShardingSQLRouter().loadRouteContext(null, queryContext, mock(RuleMetaData.class), null, shardingCache, null, null);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRouteUnits(), is(expected.getRouteUnits()));
+    }
 }
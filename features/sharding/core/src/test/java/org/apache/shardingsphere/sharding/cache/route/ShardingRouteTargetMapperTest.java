@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route;
+
+import org.apache.groovy.util.Maps;
+import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingAutoTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.engine.condition.Column;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ShardingRouteTargetMapperTest {
+    
+    private ShardingRouteTargetMapper mapper;
+    
+    @BeforeEach
+    void setUp() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getShardingAlgorithms().put("mod", new AlgorithmConfiguration("MOD", PropertiesBuilder.build(new Property("sharding-count", "4"))));
+        ruleConfig.getShardingAlgorithms().put("complex", new AlgorithmConfiguration("COMPLEX_INLINE",
+                PropertiesBuilder.build(new Property("sharding-columns", "id,user_id"), new Property("algorithm-expression", "ds_${id % 2}"))));
+        ShardingAutoTableRuleConfiguration warehouse = new ShardingAutoTableRuleConfiguration("t_warehouse", "ds_${0..1}");
+        warehouse.setShardingStrategy(new StandardShardingStrategyConfiguration("id", "mod"));
+        ruleConfig.getAutoTables().add(warehouse);
+        ShardingTableRuleConfiguration order = new ShardingTableRuleConfiguration("t_order", "ds_${0..1}.t_order");
+        order.setDatabaseShardingStrategy(new ComplexShardingStrategyConfiguration("id,user_id", "complex"));
+        ruleConfig.getTables().add(order);
+        ShardingRule shardingRule = new ShardingRule(ruleConfig, Maps.of("ds_0", new MockedDataSource(), "ds_1", new MockedDataSource()),
+                new InstanceContext(mock(ComputeNodeInstance.class), props -> 0, null, null, null, null));
+        mapper = new ShardingRouteTargetMapper(shardingRule);
+    }
+    
+    @Test
+    void assertMapValuesHitSameShard() {
+        Object actual = mapper.map(Collections.singleton(new Column("id", "t_warehouse")), 1);
+        assertThat(actual, is(Collections.singletonList(Arrays.asList(null, "t_warehouse_1"))));
+        assertThat(mapper.map(Collections.singleton(new Column("id", "t_warehouse")), 5), is(actual));
+        assertThat(mapper.map(Collections.singleton(new Column("id", "t_warehouse")), 2), not(actual));
+    }
+    
+    @Test
+    void assertMapValueWithNonStandardShardingStrategy() {
+        assertThat(mapper.map(Collections.singleton(new Column("id", "t_order")), 1), is(1));
+    }
+    
+    @Test
+    void assertMapValueWithNonShardingTable() {
+        assertThat(mapper.map(Collections.singleton(new Column("id", "t_non_sharding")), 1), is(1));
+    }
+}
@@ -23,6 +23,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -35,5 +37,8 @@ class ShardingRouteCacheTest {
         assertFalse(cache.get(key).isPresent());
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
+        assertThat(cache.getEstimatedSize(), is(1L));
+        assertThat(cache.getStats().hitCount(), is(1L));
+        assertThat(cache.getStats().missCount(), is(1L));
     }
 }
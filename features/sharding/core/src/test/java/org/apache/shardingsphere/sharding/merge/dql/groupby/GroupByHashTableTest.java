@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AccumulationAggregationUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GroupByHashTableTest {
+    
+    @Test
+    void assertFindAbsentGroup() {
+        GroupByHashTable hashTable = new GroupByHashTable(1);
+        Object[] groupValues = {1, "foo"};
+        assertThat(hashTable.find(groupValues, GroupByHashTable.hash(groupValues)), is(-1));
+    }
+    
+    @Test
+    void assertAddAndFindGroups() {
+        GroupByHashTable hashTable = new GroupByHashTable(1);
+        for (int i = 0; i < 5000; i++) {
+            Object[] groupValues = {i, "foo_" + i};
+            int group = hashTable.add(groupValues, GroupByHashTable.hash(groupValues), new MemoryQueryResultRow(new Object[]{i}));
+            hashTable.setAggregationUnit(group, 0, new AccumulationAggregationUnit());
+        }
+        assertThat(hashTable.size(), is(5000));
+        Object[] groupValues = {4321, "foo_4321"};
+        int actual = hashTable.find(groupValues, GroupByHashTable.hash(groupValues));
+        assertThat(actual, is(4321));
+        assertThat(hashTable.getGroupValues(actual), is(groupValues));
+        assertThat(hashTable.getRow(actual).getCell(1), is(4321));
+        assertThat(hashTable.getAggregationUnit(actual, 0), instanceOf(AccumulationAggregationUnit.class));
+    }
+}
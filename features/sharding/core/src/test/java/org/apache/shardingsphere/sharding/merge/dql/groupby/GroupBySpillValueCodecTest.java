@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GroupBySpillValueCodecTest {
+    
+    @Test
+    void assertWriteAndReadValues() throws IOException {
+        Timestamp timestamp = new Timestamp(1700000000123L);
+        timestamp.setNanos(123456789);
+        Object[] values = {true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.6D, new BigInteger("12345678901234567890"), new BigDecimal("-123.4500"), "foo_bar", new byte[]{1, 2},
+                new Date(1700000000000L), timestamp, LocalDateTime.of(2023, 11, 14, 22, 13, 20, 1000), OffsetDateTime.of(2023, 11, 14, 22, 13, 20, 0, ZoneOffset.ofHours(8)),
+                UUID.fromString("9d4e3c36-8f4a-4a44-b3a6-4d5c2b2f2e0a")};
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(byteArrayOutputStream);
+        GroupBySpillValueCodec.write(output, null);
+        for (Object each : values) {
+            GroupBySpillValueCodec.write(output, each);
+        }
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+        assertNull(GroupBySpillValueCodec.read(input));
+        for (Object each : values) {
+            assertThat(GroupBySpillValueCodec.read(input), is(each));
+        }
+    }
+    
+    @Test
+    void assertWriteNotSerializableValue() {
+        assertThrows(GroupByMergeSpillException.class, () -> GroupBySpillValueCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new Object()));
+    }
+}
@@ -61,4 +61,24 @@ class AggregationUnitFactoryTest {
     void assertCreateBitXorAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.BIT_XOR, false), instanceOf(BitXorAggregationUnit.class));
     }
+    
+    @Test
+    void assertCreateApproximateDistinctSumAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, true, true), instanceOf(ApproximateDistinctSumAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateApproximateDistinctCountAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true, true), instanceOf(ApproximateDistinctCountAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateApproximateDistinctAverageAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, true, true), instanceOf(ApproximateDistinctAverageAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateAccumulationAggregationUnitWithApproximateDistinct() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, true), instanceOf(AccumulationAggregationUnit.class));
+    }
 }
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DistinctValueHashUtilsTest {
+    
+    @Test
+    void assertHashNumericValuesOfDifferentTypes() {
+        assertThat(DistinctValueHashUtils.hash(1), is(DistinctValueHashUtils.hash(1L)));
+        assertThat(DistinctValueHashUtils.hash(1.0D), is(DistinctValueHashUtils.hash(new BigDecimal("1.00"))));
+    }
+    
+    @Test
+    void assertHashNonFiniteValues() {
+        assertThat(DistinctValueHashUtils.hash(Double.NaN), is(DistinctValueHashUtils.hash(Float.NaN)));
+        assertThat(DistinctValueHashUtils.hash(Double.POSITIVE_INFINITY), is(DistinctValueHashUtils.hash(Float.POSITIVE_INFINITY)));
+        assertThat(DistinctValueHashUtils.hash(Double.POSITIVE_INFINITY), not(DistinctValueHashUtils.hash(Double.NEGATIVE_INFINITY)));
+        assertThat(DistinctValueHashUtils.hash(Double.NaN), not(DistinctValueHashUtils.hash(Double.POSITIVE_INFINITY)));
+    }
+}
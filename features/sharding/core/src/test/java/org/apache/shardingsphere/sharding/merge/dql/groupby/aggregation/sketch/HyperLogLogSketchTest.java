@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+
+class HyperLogLogSketchTest {
+    
+    @Test
+    void assertEstimateExactlyWhenSparse() {
+        HyperLogLogSketch sketch = new HyperLogLogSketch();
+        for (int i = 0; i < 100; i++) {
+            sketch.update(DistinctValueHashUtils.hash(i % 50));
+        }
+        assertThat(sketch.estimate(), is(50L));
+    }
+    
+    @Test
+    void assertEstimateWhenDense() {
+        HyperLogLogSketch sketch = new HyperLogLogSketch();
+        for (int i = 0; i < 100000; i++) {
+            sketch.update(DistinctValueHashUtils.hash(i));
+        }
+        assertThat((double) sketch.estimate(), closeTo(100000D, 100000D * 0.03D));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class ThetaSketchTest {
+    
+    @Test
+    void assertEstimateExactlyWithinNominalEntries() {
+        ThetaSketch sketch = new ThetaSketch();
+        for (int i = 1; i <= 200; i++) {
+            sketch.update(DistinctValueHashUtils.hash(i % 100), new BigDecimal(i % 100));
+        }
+        assertThat(sketch.getRetainedCount(), is(100));
+        assertThat(sketch.estimateSum(), is(new BigDecimal(4950)));
+    }
+    
+    @Test
+    void assertEstimateBeyondNominalEntries() {
+        ThetaSketch sketch = new ThetaSketch();
+        for (int i = 0; i < 100000; i++) {
+            sketch.update(DistinctValueHashUtils.hash(i), BigDecimal.ONE);
+        }
+        assertThat(sketch.getRetainedCount(), allOf(greaterThanOrEqualTo(4096), lessThanOrEqualTo(6144)));
+        assertThat(sketch.estimateSum().doubleValue(), closeTo(100000D, 100000D * 0.05D));
+    }
+    
+    @Test
+    void assertEstimateWithSmallNominalEntries() {
+        ThetaSketch sketch = new ThetaSketch(64);
+        for (int i = 0; i < 100000; i++) {
+            sketch.update(DistinctValueHashUtils.hash(i), BigDecimal.ONE);
+        }
+        assertThat(sketch.getRetainedCount(), allOf(greaterThanOrEqualTo(64), lessThanOrEqualTo(96)));
+        assertThat(sketch.estimateSum().doubleValue(), closeTo(100000D, 100000D * 0.5D));
+    }
+    
+    @Test
+    void assertGetNominalEntries() {
+        assertThat(ThetaSketch.getNominalEntries(1), is(4096));
+        assertThat(ThetaSketch.getNominalEntries(1024), is(1024));
+        assertThat(ThetaSketch.getNominalEntries(1000000), is(64));
+    }
+    
+    @Test
+    void assertIsEmpty() {
+        assertThat(new ThetaSketch().isEmpty(), is(true));
+    }
+}
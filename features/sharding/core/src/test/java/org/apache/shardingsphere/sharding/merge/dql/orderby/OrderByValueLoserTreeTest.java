@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByValueLoserTreeTest {
+    
+    private final Map<OrderByValue, Integer> currentValues = new HashMap<>();
+    
+    @Test
+    void assertIsEmptyWithoutOrderByValues() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.emptyList());
+        assertTrue(actual.isEmpty());
+        assertThat(actual.peek(), nullValue());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertIsEmptyWithExhaustedOrderByValues() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(createOrderByValues(Collections.emptyList(), Collections.emptyList()));
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    void assertMergeWithOneOrderByValue() throws SQLException {
+        assertMerge(createRandomSortedValues(1, 10));
+    }
+    
+    @Test
+    void assertMergeWithSomeExhaustedOrderByValues() throws SQLException {
+        List<List<Integer>> sortedValues = createRandomSortedValues(7, 10);
+        sortedValues.set(0, Collections.emptyList());
+        sortedValues.set(4, Collections.emptyList());
+        assertMerge(sortedValues);
+    }
+    
+    @Test
+    void assertMergeWithManyOrderByValues() throws SQLException {
+        assertMerge(createRandomSortedValues(100, 20));
+    }
+    
+    private void assertMerge(final List<List<Integer>> sortedValues) throws SQLException {
+        List<Integer> expected = new ArrayList<>();
+        sortedValues.forEach(expected::addAll);
+        Collections.sort(expected);
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(createOrderByValues(sortedValues.toArray(new List[0])));
+        List<Integer> actual = new ArrayList<>(expected.size());
+        if (!loserTree.isEmpty()) {
+            do {
+                actual.add(currentValues.get(loserTree.peek()));
+            } while (loserTree.next());
+        }
+        assertThat(actual, is(expected));
+    }
+    
+    private List<List<Integer>> createRandomSortedValues(final int size, final int maxLength) {
+        Random random = new Random(size);
+        List<List<Integer>> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            List<Integer> values = new ArrayList<>();
+            for (int j = random.nextInt(maxLength) + 1; j > 0; j--) {
+                values.add(random.nextInt(50));
+            }
+            Collections.sort(values);
+            result.add(values);
+        }
+        return result;
+    }
+    
+    @SafeVarargs
+    private final List<OrderByValue> createOrderByValues(final List<Integer>... sortedValues) throws SQLException {
+        List<OrderByValue> result = new ArrayList<>(sortedValues.length);
+        for (List<Integer> each : sortedValues) {
+            result.add(createOrderByValue(each));
+        }
+        return result;
+    }
+    
+    private OrderByValue createOrderByValue(final List<Integer> sortedValues) throws SQLException {
+        OrderByValue result = mock(OrderByValue.class);
+        when(result.getQueryResult()).thenReturn(mock(QueryResult.class));
+        int[] cursor = new int[1];
+        when(result.next()).thenAnswer(invocation -> {
+            if (cursor[0] >= sortedValues.size()) {
+                currentValues.remove(result);
+                return false;
+            }
+            currentValues.put(result, sortedValues.get(cursor[0]++));
+            return true;
+        });
+        when(result.compareTo(any())).thenAnswer(invocation -> Integer.compare(currentValues.get(result), currentValues.get((OrderByValue) invocation.getArgument(0))));
+        return result;
+    }
+}
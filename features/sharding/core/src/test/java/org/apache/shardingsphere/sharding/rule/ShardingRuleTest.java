@@ -231,6 +231,80 @@ class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().isAllBindingTables(Collections.singleton("new_Table")));
     }
     
+    @Test
+    void assertIsColocatedJoin() {
+        Map<String, String> joinColumns = new HashMap<>(2, 1F);
+        joinColumns.put("user_id", "user_id");
+        joinColumns.put("order_id", "order_id");
+        assertTrue(createMaximumShardingRule().isColocatedJoin("logic_table", "sub_logic_table", joinColumns));
+    }
+    
+    @Test
+    void assertIsNotColocatedJoinWithoutShardingColumns() {
+        assertFalse(createMaximumShardingRule().isColocatedJoin("logic_table", "sub_logic_table", Collections.singletonMap("user_id", "user_id")));
+        assertFalse(createMaximumShardingRule().isColocatedJoin("logic_table", "sub_logic_table", Collections.singletonMap("user_id", "order_id")));
+    }
+    
+    @Test
+    void assertIsNotColocatedJoinWithoutBindingTables() {
+        assertFalse(createMaximumShardingRule().isColocatedJoin("logic_table", "new_table", Collections.singletonMap("user_id", "user_id")));
+    }
+    
+    @Test
+    void assertIsNotColocatedJoinWithNoneShardingStrategy() {
+        ShardingRuleConfiguration shardingRuleConfig = createBindingTablesRuleConfiguration();
+        shardingRuleConfig.getTables().forEach(each -> each.setTableShardingStrategy(new NoneShardingStrategyConfiguration()));
+        Map<String, String> joinColumns = new HashMap<>(2, 1F);
+        joinColumns.put("user_id", "user_id");
+        joinColumns.put("order_id", "order_id");
+        assertFalse(new ShardingRule(shardingRuleConfig, createDataSources(), mock(InstanceContext.class)).isColocatedJoin("logic_table", "sub_logic_table", joinColumns));
+    }
+    
+    @Test
+    void assertIsNotColocatedJoinWithDifferentShardingAlgorithms() {
+        ShardingRuleConfiguration shardingRuleConfig = createBindingTablesRuleConfiguration();
+        shardingRuleConfig.getTables().iterator().next().setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "other_table_inline"));
+        Map<String, String> joinColumns = new HashMap<>(2, 1F);
+        joinColumns.put("user_id", "user_id");
+        joinColumns.put("order_id", "order_id");
+        assertFalse(new ShardingRule(shardingRuleConfig, createDataSources(), mock(InstanceContext.class)).isColocatedJoin("logic_table", "sub_logic_table", joinColumns));
+    }
+    
+    private ShardingRuleConfiguration createBindingTablesRuleConfiguration() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration shardingTableRuleConfig = createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
+        ShardingTableRuleConfiguration subTableRuleConfig = createTableRuleConfiguration("SUB_LOGIC_TABLE", "ds_${0..1}.sub_table_${0..2}");
+        result.getTables().add(shardingTableRuleConfig);
+        result.getTables().add(subTableRuleConfig);
+        result.getBindingTableGroups().add(new ShardingTableReferenceRuleConfiguration("foo", shardingTableRuleConfig.getLogicTable() + "," + subTableRuleConfig.getLogicTable()));
+        return result;
+    }
+    
+    @Test
+    void assertIsGlobalUniqueKey() {
+        assertTrue(createMaximumShardingRule().isGlobalUniqueKey("logic_table", Arrays.asList("order_id", "USER_ID")));
+    }
+    
+    @Test
+    void assertIsNotGlobalUniqueKeyWithoutShardingColumns() {
+        assertFalse(createMaximumShardingRule().isGlobalUniqueKey("logic_table", Collections.singleton("order_id")));
+    }
+    
+    @Test
+    void assertIsGlobalUniqueKeyWithoutShardingTable() {
+        assertTrue(createMaximumShardingRule().isGlobalUniqueKey("new_table", Collections.singleton("id")));
+    }
+    
+    @Test
+    void assertIsRoutingColumn() {
+        ShardingRule actual = createMaximumShardingRule();
+        assertTrue(actual.isRoutingColumn("logic_table", "USER_ID"));
+        assertTrue(actual.isRoutingColumn("logic_table", "order_id"));
+        assertTrue(actual.isRoutingColumn("logic_table", "id"));
+        assertFalse(actual.isRoutingColumn("logic_table", "status"));
+        assertFalse(actual.isRoutingColumn("new_table", "order_id"));
+    }
+    
     @Test
     void assertGetBindingTableRuleForNotConfig() {
         assertFalse(createMinimumShardingRule().findBindingTableRule("logic_Table").isPresent());
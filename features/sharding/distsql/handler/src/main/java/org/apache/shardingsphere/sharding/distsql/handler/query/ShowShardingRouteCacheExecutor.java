@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.distsql.handler.query;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.distsql.handler.query.RQLExecutor;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.distsql.statement.ShowShardingRouteCacheStatement;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Show sharding route cache executor.
+ */
+public final class ShowShardingRouteCacheExecutor implements RQLExecutor<ShowShardingRouteCacheStatement> {
+    
+    @Override
+    public Collection<String> getColumnNames() {
+        return Arrays.asList("size", "hit_count", "miss_count", "eviction_count", "hit_rate");
+    }
+    
+    @Override
+    public Collection<LocalDataQueryResultRow> getRows(final ShardingSphereDatabase database, final ShowShardingRouteCacheStatement sqlStatement) {
+        Optional<ShardingRule> rule = database.getRuleMetaData().findSingleRule(ShardingRule.class);
+        if (!rule.isPresent() || !rule.get().isShardingCacheEnabled()) {
+            return Collections.emptyList();
+        }
+        ShardingRouteCache routeCache = rule.get().getShardingCache().getRouteCache();
+        CacheStats stats = routeCache.getStats();
+        return Collections.singleton(new LocalDataQueryResultRow(routeCache.getEstimatedSize(), stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.hitRate()));
+    }
+    
+    @Override
+    public Class<ShowShardingRouteCacheStatement> getType() {
+        return ShowShardingRouteCacheStatement.class;
+    }
+}
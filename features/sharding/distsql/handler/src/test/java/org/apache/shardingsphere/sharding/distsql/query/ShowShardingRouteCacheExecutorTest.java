@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.distsql.query;
+
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
+import org.apache.shardingsphere.sharding.distsql.handler.query.ShowShardingRouteCacheExecutor;
+import org.apache.shardingsphere.sharding.distsql.statement.ShowShardingRouteCacheStatement;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShowShardingRouteCacheExecutorTest {
+    
+    @Test
+    void assertGetRowData() {
+        ShardingRouteCache routeCache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 1, 1));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select * from t_order where order_id = ?", Collections.singletonList(1));
+        routeCache.get(key);
+        routeCache.put(key, new ShardingRouteCacheValue(new RouteContext()));
+        routeCache.get(key);
+        Collection<LocalDataQueryResultRow> actual = new ShowShardingRouteCacheExecutor().getRows(mockDatabase(routeCache), mock(ShowShardingRouteCacheStatement.class));
+        assertThat(actual.size(), is(1));
+        LocalDataQueryResultRow row = actual.iterator().next();
+        assertThat(row.getCell(1), is(1L));
+        assertThat(row.getCell(2), is(1L));
+        assertThat(row.getCell(3), is(1L));
+        assertThat(row.getCell(4), is(0L));
+        assertThat(row.getCell(5), is(0.5D));
+    }
+    
+    @Test
+    void assertGetRowDataWithoutShardingCache() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getRuleMetaData()).thenReturn(new RuleMetaData(Collections.singleton(mock(ShardingRule.class))));
+        assertTrue(new ShowShardingRouteCacheExecutor().getRows(database, mock(ShowShardingRouteCacheStatement.class)).isEmpty());
+    }
+    
+    @Test
+    void assertGetColumns() {
+        Collection<String> columns = new ShowShardingRouteCacheExecutor().getColumnNames();
+        assertThat(columns.size(), is(5));
+        Iterator<String> iterator = columns.iterator();
+        assertThat(iterator.next(), is("size"));
+        assertThat(iterator.next(), is("hit_count"));
+        assertThat(iterator.next(), is("miss_count"));
+        assertThat(iterator.next(), is("eviction_count"));
+        assertThat(iterator.next(), is("hit_rate"));
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final ShardingRouteCache routeCache) {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        ShardingRule rule = mock(ShardingRule.class, RETURNS_DEEP_STUBS);
+        when(rule.isShardingCacheEnabled()).thenReturn(true);
+        when(rule.getShardingCache().getRouteCache()).thenReturn(routeCache);
+        when(result.getRuleMetaData()).thenReturn(new RuleMetaData(Collections.singleton(rule)));
+        return result;
+    }
+}
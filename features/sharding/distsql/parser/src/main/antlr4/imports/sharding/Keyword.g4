@@ -187,6 +187,14 @@ COUNT
     : C O U N T
     ;
 
+ROUTE
+    : R O U T E
+    ;
+
+CACHE
+    : C A C H E
+    ;
+
 AUDITOR
     : A U D I T O R
     ;
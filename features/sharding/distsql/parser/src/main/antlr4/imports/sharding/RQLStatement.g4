@@ -75,6 +75,10 @@ countShardingRule
     : COUNT SHARDING RULE (FROM databaseName)?
     ;
 
+showShardingRouteCache
+    : SHOW SHARDING ROUTE CACHE (FROM databaseName)?
+    ;
+
 tableRule
     : RULE tableName
     ;
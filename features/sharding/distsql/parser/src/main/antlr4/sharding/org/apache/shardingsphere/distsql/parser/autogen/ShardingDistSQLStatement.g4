@@ -46,6 +46,7 @@ execute
     | showUnusedShardingKeyGenerators
     | showUnusedShardingAuditors
     | countShardingRule
+    | showShardingRouteCache
     | showShardingAlgorithmImplementations
     ) SEMI_? EOF
     ;
@@ -54,6 +54,22 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * The max concurrency of executor bulkhead for each data source, and it is adjusted adaptively by observed latency.
+     * Less than or equal to 0 means executor bulkhead is disabled.
+     */
+    KERNEL_EXECUTOR_BULKHEAD_MAX_CONCURRENCY("kernel-executor-bulkhead-max-concurrency", String.valueOf(0), int.class, true),
+    
+    /**
+     * The max wait milliseconds for permit of saturated executor bulkhead, 0 means failing fast.
+     */
+    KERNEL_EXECUTOR_BULKHEAD_MAX_WAIT_MILLISECONDS("kernel-executor-bulkhead-max-wait-milliseconds", String.valueOf(0), long.class, true),
+    
+    /**
+     * Whether to run SQL executor and proxy command executor by virtual threads, only takes effect on JDK 21 or later.
+     */
+    VIRTUAL_THREAD_ENABLED("virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -80,6 +96,17 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Max rows of each multi-row insert coalesced from batched single-row inserts of proxy. Less than or equal to 1 means no coalescing.
+     */
+    PROXY_BACKEND_INSERT_COALESCING_MAX_ROWS("proxy-backend-insert-coalescing-max-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether to keep replayed session variables on released backend connections and only send the difference when they are acquired again.
+     * Other borrowers of storage units, such as metadata loading and statistics collection, get the kept session variables reset when acquiring the connection.
+     */
+    PROXY_BACKEND_SESSION_VARIABLES_REUSE_ENABLED("proxy-backend-session-variables-reuse-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
@@ -123,7 +150,30 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * Agent plugins enabled.
      */
-    AGENT_PLUGINS_ENABLED("agent-plugins-enabled", String.valueOf(Boolean.TRUE), boolean.class, false);
+    AGENT_PLUGINS_ENABLED("agent-plugins-enabled", String.valueOf(Boolean.TRUE), boolean.class, false),
+    
+    /**
+     * Max group size held in memory for group by merge, exceeded groups will be spilled to local temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    MERGE_GROUP_BY_MAX_MEMORY_ROWS("merge-group-by-max-memory-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether to estimate distinct aggregations by mergeable sketches instead of collecting all distinct values in merge.
+     */
+    MERGE_APPROXIMATE_DISTINCT_AGGREGATION_ENABLED("merge-approximate-distinct-aggregation-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max rows buffered for each table scan of SQL federation, which is started asynchronously when execution begins.
+     * At most twice the number of CPU cores table scans are prefetched at the same time, the others are executed when their rows are requested.
+     * Less than or equal to 0 means table scans are executed when their rows are requested.
+     */
+    SQL_FEDERATION_SCAN_PREFETCH_ROWS("sql-federation-scan-prefetch-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether to commit or rollback connections of local transaction concurrently.
+     */
+    TRANSACTION_PARALLEL_COMMIT_ENABLED("transaction-parallel-commit-enabled", String.valueOf(Boolean.FALSE), boolean.class, false);
     
     private final String key;
     
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoader;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
@@ -54,6 +55,7 @@ import java.util.stream.Collectors;
  * Generic schema builder.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class GenericSchemaBuilder {
     
     /**
@@ -76,11 +78,15 @@ public final class GenericSchemaBuilder {
      * @throws SQLException SQL exception
      */
     public static Map<String, ShardingSphereSchema> build(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) throws SQLException {
+        long startTime = System.currentTimeMillis();
         Map<String, SchemaMetaData> result = loadSchemas(tableNames, material);
+        long loadedTime = System.currentTimeMillis();
         if (!material.isSameProtocolAndStorageTypes()) {
             result = translate(result, material);
         }
-        return revise(result, material);
+        Map<String, ShardingSphereSchema> schemas = revise(result, material);
+        log.debug("Build schemas of {} tables, load cost {} ms, translate and revise cost {} ms.", tableNames.size(), loadedTime - startTime, System.currentTimeMillis() - loadedTime);
+        return schemas;
     }
     
     private static Collection<String> getAllTableNames(final Collection<ShardingSphereRule> rules) {
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datanode.DataNodes;
+import org.apache.shardingsphere.infra.datasource.pool.props.creator.DataSourcePoolPropertiesCreator;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
 import org.apache.shardingsphere.infra.metadata.database.schema.exception.UnsupportedActualDataNodeStructureException;
@@ -68,7 +69,8 @@ public final class SchemaMetaDataUtils {
         for (Entry<String, Collection<String>> entry : dataSourceTableGroups.entrySet()) {
             DatabaseType storageType = material.getStorageTypes().get(entry.getKey());
             String defaultSchemaName = getDefaultSchemaNameByStorageType(storageType, material.getDefaultSchemaName());
-            result.add(new MetaDataLoaderMaterial(entry.getValue(), getDataSource(material, entry.getKey()), storageType, defaultSchemaName));
+            DataSource dataSource = getDataSource(material, entry.getKey());
+            result.add(new MetaDataLoaderMaterial(entry.getValue(), dataSource, storageType, defaultSchemaName, getMaxConnectionCount(dataSource)));
         }
         return result;
     }
@@ -81,6 +83,14 @@ public final class SchemaMetaDataUtils {
         return material.getDataSourceMap().get(dataSourceName.contains(".") ? dataSourceName.split("\\.")[0] : dataSourceName);
     }
     
+    private static int getMaxConnectionCount(final DataSource dataSource) {
+        if (null == dataSource) {
+            return 0;
+        }
+        Object result = DataSourcePoolPropertiesCreator.create(dataSource).getPoolPropertySynonyms().getStandardProperties().get("maxPoolSize");
+        return result instanceof Number ? ((Number) result).intValue() : 0;
+    }
+    
     private static void checkDataSourceTypeIncludeInstanceAndSetDatabaseTableMap(final Collection<DatabaseType> notSupportThreeTierStructureStorageTypes, final DataNodes dataNodes,
                                                                                  final String tableName) {
         for (DataNode dataNode : dataNodes.getDataNodes(tableName)) {
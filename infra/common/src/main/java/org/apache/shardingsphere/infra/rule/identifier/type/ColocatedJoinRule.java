@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rule.identifier.type;
+
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.util.Map;
+
+/**
+ * ShardingSphere rule which can judge whether join of tables is co-located.
+ */
+public interface ColocatedJoinRule extends ShardingSphereRule {
+    
+    /**
+     * Judge whether inner join of two logic tables can be executed on each data node independently.
+     *
+     * @param leftTableName left logic table name
+     * @param rightTableName right logic table name
+     * @param joinColumns equal join columns, key is left column name and value is right column name
+     * @return whether inner join of two logic tables is co-located or not
+     */
+    boolean isColocatedJoin(String leftTableName, String rightTableName, Map<String, String> joinColumns);
+}
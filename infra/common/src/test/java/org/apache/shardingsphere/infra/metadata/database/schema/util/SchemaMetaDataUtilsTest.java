@@ -56,9 +56,11 @@ class SchemaMetaDataUtilsTest {
         MetaDataLoaderMaterial firstMaterial = iterator.next();
         assertThat(firstMaterial.getDefaultSchemaName(), is("sharding_db"));
         assertThat(firstMaterial.getActualTableNames(), is(Collections.singletonList("t_order_0")));
+        assertThat(firstMaterial.getMaxConnectionCount(), is(10));
         MetaDataLoaderMaterial secondMaterial = iterator.next();
         assertThat(secondMaterial.getDefaultSchemaName(), is("sharding_db"));
         assertThat(secondMaterial.getActualTableNames(), is(Collections.singletonList("t_order_1")));
+        assertThat(secondMaterial.getMaxConnectionCount(), is(0));
     }
     
     @Test
@@ -103,7 +105,9 @@ class SchemaMetaDataUtilsTest {
     
     private Map<String, DataSource> mockDataSourceMap() {
         Map<String, DataSource> result = new HashMap<>(2, 1F);
-        result.put("ds_0", new MockedDataSource());
+        MockedDataSource dataSource = new MockedDataSource();
+        dataSource.setMaxPoolSize(10);
+        result.put("ds_0", dataSource);
         result.put("ds_1", new MockedDataSource());
         return result;
     }
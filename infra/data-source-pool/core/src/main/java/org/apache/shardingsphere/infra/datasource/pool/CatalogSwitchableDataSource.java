@@ -29,6 +29,8 @@ import java.util.logging.Logger;
 
 /**
  * Catalog switchable data source.
+ * 
+ * <p>Every borrower of storage unit acquires connections here, so session variables kept on released connections are reconciled here too.</p>
  */
 @RequiredArgsConstructor
 public final class CatalogSwitchableDataSource implements DataSource, AutoCloseable {
@@ -43,7 +45,18 @@ public final class CatalogSwitchableDataSource implements DataSource, AutoClosea
     
     @Override
     public Connection getConnection() throws SQLException {
-        Connection result = dataSource.getConnection();
+        return getConnection(KeptSessionVariablesRegistry.RESET_RECONCILER);
+    }
+    
+    /**
+     * Get connection and reconcile session variables kept on it.
+     *
+     * @param reconciler reconciler of kept session variables
+     * @return connection
+     * @throws SQLException SQL exception
+     */
+    public Connection getConnection(final KeptSessionVariablesReconciler reconciler) throws SQLException {
+        Connection result = KeptSessionVariablesRegistry.reconcile(dataSource.getConnection(), reconciler);
         if (null != catalog) {
             result.setCatalog(catalog);
         }
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Reconciler of session variables kept on acquired pooled connection.
+ */
+@FunctionalInterface
+public interface KeptSessionVariablesReconciler {
+    
+    /**
+     * Reconcile session variables kept on connection.
+     *
+     * @param connection acquired connection
+     * @param keptSessionVariables session variables kept on connection
+     * @throws SQLException SQL exception
+     */
+    void reconcile(Connection connection, KeptSessionVariables keptSessionVariables) throws SQLException;
+    
+    /**
+     * Accept connection acquired from pool, after session variables kept on it are reconciled.
+     *
+     * @param connection acquired connection
+     */
+    default void accept(final Connection connection) {
+    }
+}
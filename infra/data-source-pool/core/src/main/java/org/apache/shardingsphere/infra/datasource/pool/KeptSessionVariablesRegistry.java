@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool;
+
+import com.google.common.collect.MapMaker;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registry of session variables kept on released pooled connections.
+ * 
+ * <p>Session variables are registered by physical connection, and are taken back by {@link CatalogSwitchableDataSource} when the physical connection is acquired again.
+ * Borrowers which do not reconcile them get the kept session variables reset.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeptSessionVariablesRegistry {
+    
+    /**
+     * Reconciler to reset kept session variables.
+     */
+    public static final KeptSessionVariablesReconciler RESET_RECONCILER = KeptSessionVariablesRegistry::reset;
+    
+    private static final Map<Connection, KeptSessionVariables> KEPT_SESSION_VARIABLES = new MapMaker().weakKeys().makeMap();
+    
+    /**
+     * Keep session variables on connection to be released.
+     *
+     * @param connection connection to be released
+     * @param keptSessionVariables session variables to be kept
+     */
+    public static void keep(final Connection connection, final KeptSessionVariables keptSessionVariables) {
+        KEPT_SESSION_VARIABLES.put(getPhysicalConnection(connection), keptSessionVariables);
+    }
+    
+    /**
+     * Take session variables kept on acquired connection.
+     *
+     * @param connection acquired connection
+     * @return session variables kept on connection
+     */
+    public static Optional<KeptSessionVariables> take(final Connection connection) {
+        return KEPT_SESSION_VARIABLES.isEmpty() ? Optional.empty() : Optional.ofNullable(KEPT_SESSION_VARIABLES.remove(getPhysicalConnection(connection)));
+    }
+    
+    /**
+     * Reconcile session variables kept on acquired connection.
+     * 
+     * <p>If reconciliation failed, the session variables are kept again and the connection is released.
+     * Otherwise the connection is accepted by the reconciler, whether session variables were kept on it or not.</p>
+     *
+     * @param connection acquired connection
+     * @param reconciler reconciler of kept session variables
+     * @return reconciled connection
+     * @throws SQLException SQL exception
+     */
+    public static Connection reconcile(final Connection connection, final KeptSessionVariablesReconciler reconciler) throws SQLException {
+        Optional<KeptSessionVariables> keptSessionVariables = take(connection);
+        if (keptSessionVariables.isPresent()) {
+            try {
+                reconciler.reconcile(connection, keptSessionVariables.get());
+            } catch (final SQLException ex) {
+                keep(connection, keptSessionVariables.get());
+                connection.close();
+                throw ex;
+            }
+        }
+        reconciler.accept(connection);
+        return connection;
+    }
+    
+    private static Connection getPhysicalConnection(final Connection connection) {
+        try {
+            Connection result = connection.unwrap(Connection.class);
+            return null == result ? connection : result;
+        } catch (final SQLException ignored) {
+            return connection;
+        }
+    }
+    
+    private static void reset(final Connection connection, final KeptSessionVariables keptSessionVariables) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String each : keptSessionVariables.getResetSQLs()) {
+                statement.execute(each);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool;
+
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CatalogSwitchableDataSourceTest {
+    
+    @Test
+    void assertGetConnectionWithCatalog() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        Connection actual = new CatalogSwitchableDataSource(new MockedDataSource(connection), "foo_db", "jdbc:mock://127.0.0.1/foo_db").getConnection();
+        verify(actual).setCatalog("foo_db");
+        verify(connection, never()).createStatement();
+    }
+    
+    @Test
+    void assertGetConnectionAndResetKeptSessionVariables() throws SQLException {
+        Connection connection = mockConnection();
+        KeptSessionVariablesRegistry.keep(connection, new KeptSessionVariables(Collections.singletonMap("key", "value"), Collections.singletonList("RESET ALL")));
+        CatalogSwitchableDataSource dataSource = new CatalogSwitchableDataSource(new MockedDataSource(connection), null, "jdbc:mock://127.0.0.1/foo_db");
+        dataSource.getConnection();
+        dataSource.getConnection();
+        verify(connection.createStatement(), times(1)).execute("RESET ALL");
+    }
+    
+    @Test
+    void assertGetConnectionAndReconcileKeptSessionVariables() throws SQLException {
+        Connection connection = mockConnection();
+        KeptSessionVariables keptSessionVariables = new KeptSessionVariables(Collections.singletonMap("key", "value"), Collections.singletonList("RESET ALL"));
+        KeptSessionVariablesRegistry.keep(connection, keptSessionVariables);
+        KeptSessionVariablesReconciler reconciler = mock(KeptSessionVariablesReconciler.class);
+        new CatalogSwitchableDataSource(new MockedDataSource(connection), null, "jdbc:mock://127.0.0.1/foo_db").getConnection(reconciler);
+        verify(reconciler).reconcile(connection, keptSessionVariables);
+        verify(reconciler).accept(connection);
+        verify(connection, never()).createStatement();
+        assertFalse(KeptSessionVariablesRegistry.take(connection).isPresent());
+    }
+    
+    @Test
+    void assertGetConnectionAndFailedToReconcileKeptSessionVariables() throws SQLException {
+        Connection connection = mockConnection();
+        KeptSessionVariablesRegistry.keep(connection, new KeptSessionVariables(Collections.singletonMap("key", "value"), Collections.singletonList("RESET ALL")));
+        KeptSessionVariablesReconciler reconciler = mock(KeptSessionVariablesReconciler.class);
+        doThrow(SQLException.class).when(reconciler).reconcile(any(), any());
+        assertThrows(SQLException.class, () -> new CatalogSwitchableDataSource(new MockedDataSource(connection), null, "jdbc:mock://127.0.0.1/foo_db").getConnection(reconciler));
+        verify(connection).close();
+        verify(reconciler, never()).accept(any());
+        assertTrue(KeptSessionVariablesRegistry.take(connection).isPresent());
+    }
+    
+    private Connection mockConnection() throws SQLException {
+        Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(result.unwrap(Connection.class)).thenReturn(result);
+        return result;
+    }
+}
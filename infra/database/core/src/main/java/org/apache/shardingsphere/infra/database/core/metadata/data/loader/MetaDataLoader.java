@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.database.core.metadata.data.loader;
 
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -28,6 +29,7 @@ import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -40,15 +42,22 @@ import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Meta data loader.
+ * 
+ * <p>Tables of one data source are loaded by partitions concurrently, count of partitions is capped by max connection count of the data source.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Slf4j
 public final class MetaDataLoader {
     
-    private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final int DIALECT_LOAD_BATCH_SIZE = 1000;
+    
+    private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(PARALLELISM, PARALLELISM,
             0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaMetaDataLoaderEngine-%d").build());
     
     /**
@@ -62,7 +71,10 @@ public final class MetaDataLoader {
         Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
         Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
         for (MetaDataLoaderMaterial each : materials) {
-            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+            Optional<DialectMetaDataLoader> dialectLoader = DatabaseTypedSPILoader.findService(DialectMetaDataLoader.class, each.getStorageType());
+            for (MetaDataLoaderMaterial partition : partition(each, getLoadBatchSize(each, dialectLoader.isPresent()))) {
+                futures.add(EXECUTOR_SERVICE.submit(() -> load(partition, dialectLoader)));
+            }
         }
         try {
             for (Future<Collection<SchemaMetaData>> each : futures) {
@@ -79,16 +91,36 @@ public final class MetaDataLoader {
         return result;
     }
     
-    private static Collection<SchemaMetaData> load(final MetaDataLoaderMaterial material) throws SQLException {
-        Optional<DialectMetaDataLoader> dialectLoader = DatabaseTypedSPILoader.findService(DialectMetaDataLoader.class, material.getStorageType());
+    private static int getLoadBatchSize(final MetaDataLoaderMaterial material, final boolean isDialectLoad) {
+        int tableCount = material.getActualTableNames().size();
+        int maxConnectionCount = material.getMaxConnectionCount();
+        int minBatchSize = maxConnectionCount > 0 ? (tableCount + maxConnectionCount - 1) / maxConnectionCount : 1;
+        int batchSize = isDialectLoad ? DIALECT_LOAD_BATCH_SIZE : (tableCount + PARALLELISM - 1) / PARALLELISM;
+        return Math.max(Math.max(1, minBatchSize), batchSize);
+    }
+    
+    private static Collection<MetaDataLoaderMaterial> partition(final MetaDataLoaderMaterial material, final int batchSize) {
+        if (material.getActualTableNames().size() <= batchSize) {
+            return Collections.singletonList(material);
+        }
+        return Lists.partition(new ArrayList<>(material.getActualTableNames()), batchSize).stream()
+                .map(each -> new MetaDataLoaderMaterial(each, material.getDataSource(), material.getStorageType(), material.getDefaultSchemaName(), material.getMaxConnectionCount())).collect(Collectors.toList());
+    }
+    
+    private static Collection<SchemaMetaData> load(final MetaDataLoaderMaterial material, final Optional<DialectMetaDataLoader> dialectLoader) throws SQLException {
+        long startTime = System.currentTimeMillis();
         if (dialectLoader.isPresent()) {
             try {
-                return dialectLoader.get().load(material);
+                Collection<SchemaMetaData> result = dialectLoader.get().load(material);
+                log.debug("Dialect load meta data of {} tables cost {} ms.", material.getActualTableNames().size(), System.currentTimeMillis() - startTime);
+                return result;
             } catch (final SQLException ex) {
                 log.debug("Dialect load schema meta data error.", ex);
             }
         }
-        return loadByDefault(material);
+        Collection<SchemaMetaData> result = loadByDefault(material);
+        log.debug("Default load meta data of {} tables cost {} ms.", material.getActualTableNames().size(), System.currentTimeMillis() - startTime);
+        return result;
     }
     
     private static Collection<SchemaMetaData> loadByDefault(final MetaDataLoaderMaterial material) throws SQLException {
@@ -38,4 +38,10 @@ public final class MetaDataLoaderMaterial {
     private final DatabaseType storageType;
     
     private final String defaultSchemaName;
+    
+    private final int maxConnectionCount;
+    
+    public MetaDataLoaderMaterial(final Collection<String> actualTableNames, final DataSource dataSource, final DatabaseType storageType, final String defaultSchemaName) {
+        this(actualTableNames, dataSource, storageType, defaultSchemaName, 0);
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.loader;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.fixture.DialectMetaDataLoaderFixture;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MetaDataLoaderTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "BRANCH");
+    
+    @Test
+    void assertLoadWithPartitionedMaterial() throws SQLException {
+        List<String> tableNames = IntStream.range(0, 2500).mapToObj(each -> "t_order_" + each).collect(Collectors.toList());
+        Map<String, SchemaMetaData> actual = MetaDataLoader.load(Collections.singletonList(new MetaDataLoaderMaterial(tableNames, mock(DataSource.class), databaseType, "foo_schema")));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("foo_schema").getTables().stream().map(TableMetaData::getName).collect(Collectors.toList()), is(tableNames));
+    }
+    
+    @Test
+    void assertLoadWithPartitionsCappedByMaxConnectionCount() throws SQLException {
+        List<String> tableNames = IntStream.range(0, 2500).mapToObj(each -> "t_order_" + each).collect(Collectors.toList());
+        DialectMetaDataLoaderFixture.getLoadedTableCounts().clear();
+        Map<String, SchemaMetaData> actual = MetaDataLoader.load(Collections.singletonList(new MetaDataLoaderMaterial(tableNames, mock(DataSource.class), databaseType, "foo_schema", 2)));
+        assertThat(actual.get("foo_schema").getTables().stream().map(TableMetaData::getName).collect(Collectors.toList()), is(tableNames));
+        assertThat(new ArrayList<>(DialectMetaDataLoaderFixture.getLoadedTableCounts()), is(Arrays.asList(1250, 1250)));
+    }
+    
+    @Test
+    void assertLoadWithMultipleMaterials() throws SQLException {
+        Collection<MetaDataLoaderMaterial> materials = Arrays.asList(new MetaDataLoaderMaterial(Collections.singletonList("t_order"), mock(DataSource.class), databaseType, "foo_schema"),
+                new MetaDataLoaderMaterial(Collections.singletonList("t_user"), mock(DataSource.class), databaseType, "bar_schema"),
+                new MetaDataLoaderMaterial(Collections.singletonList("t_order_item"), mock(DataSource.class), databaseType, "foo_schema"));
+        Map<String, SchemaMetaData> actual = MetaDataLoader.load(materials);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("foo_schema").getTables().stream().map(TableMetaData::getName).collect(Collectors.toList()), is(Arrays.asList("t_order", "t_order_item")));
+        assertThat(actual.get("bar_schema").getTables().size(), is(1));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.loader.fixture;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.DialectMetaDataLoader;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+public final class DialectMetaDataLoaderFixture implements DialectMetaDataLoader {
+    
+    private static final Collection<Integer> LOADED_TABLE_COUNTS = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * Get loaded table counts of each material.
+     *
+     * @return loaded table counts
+     */
+    public static Collection<Integer> getLoadedTableCounts() {
+        return LOADED_TABLE_COUNTS;
+    }
+    
+    @Override
+    public Collection<SchemaMetaData> load(final MetaDataLoaderMaterial material) {
+        LOADED_TABLE_COUNTS.add(material.getActualTableNames().size());
+        Collection<TableMetaData> tables = material.getActualTableNames().stream()
+                .map(each -> new TableMetaData(each, Collections.emptyList(), Collections.emptyList(), Collections.emptyList())).collect(Collectors.toList());
+        return Collections.singletonList(new SchemaMetaData(material.getDefaultSchemaName(), tables));
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "BRANCH";
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.exception;
+
+import org.apache.shardingsphere.infra.exception.core.external.sql.sqlstate.XOpenSQLState;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.kernel.category.ConnectionSQLException;
+
+/**
+ * Executor bulkhead saturated exception.
+ */
+public final class ExecutorBulkheadSaturatedException extends ConnectionSQLException {
+    
+    private static final long serialVersionUID = 2936183727816434526L;
+    
+    public ExecutorBulkheadSaturatedException(final String databaseName, final String dataSourceName, final long maxWaitMillis) {
+        super(XOpenSQLState.CONNECTION_EXCEPTION, 21, "Executor bulkhead of data source `%s.%s` is saturated, waited %d milliseconds. "
+                + "Please consider increasing the `kernel-executor-bulkhead-max-concurrency` or `kernel-executor-bulkhead-max-wait-milliseconds` in properties.", databaseName, dataSourceName, maxWaitMillis);
+    }
+}
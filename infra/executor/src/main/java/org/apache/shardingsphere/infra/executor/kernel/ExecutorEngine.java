@@ -18,6 +18,10 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.bulkhead.ExecutorBulkhead;
+import org.apache.shardingsphere.infra.executor.kernel.bulkhead.ExecutorBulkheadManager;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
@@ -27,11 +31,17 @@ import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Executor engine.
@@ -41,8 +51,11 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private final ExecutorBulkheadManager bulkheadManager;
+    
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled, final ExecutorBulkheadManager bulkheadManager) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, virtualThreadEnabled);
+        this.bulkheadManager = bulkheadManager;
     }
     
     /**
@@ -52,7 +65,34 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, false, null);
+    }
+    
+    /**
+     * Create executor engine with configuration properties.
+     * 
+     * <p>Executions of every data source are isolated by bulkhead if {@code kernel-executor-bulkhead-max-concurrency} is greater than 0,
+     * permits of all execution groups are acquired before any group executed, so one execution is either admitted or rejected as a whole,
+     * and executed by virtual threads if {@code virtual-thread-enabled} is true and supported by current JVM.</p>
+     *
+     * @param props configuration properties
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final ConfigurationProperties props) {
+        int bulkheadMaxConcurrency = props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_MAX_CONCURRENCY);
+        ExecutorBulkheadManager bulkheadManager = bulkheadMaxConcurrency > 0
+                ? new ExecutorBulkheadManager(bulkheadMaxConcurrency, props.<Long>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_MAX_WAIT_MILLISECONDS))
+                : null;
+        return new ExecutorEngine(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), props.<Boolean>getValue(ConfigurationPropertyKey.VIRTUAL_THREAD_ENABLED), bulkheadManager);
+    }
+    
+    /**
+     * Get bulkhead manager.
+     * 
+     * @return bulkhead manager
+     */
+    public Optional<ExecutorBulkheadManager> getBulkheadManager() {
+        return Optional.ofNullable(bulkheadManager);
     }
     
     /**
@@ -72,39 +112,108 @@ public final class ExecutorEngine implements AutoCloseable {
         if (executionGroupContext.getInputGroups().isEmpty()) {
             return Collections.emptyList();
         }
-        return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback)
-                : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
+        Map<String, ExecutorBulkhead> bulkheads = acquireBulkheads(executionGroupContext);
+        return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), bulkheads, firstCallback, callback)
+                : parallelExecute(executionGroupContext.getInputGroups().iterator(), bulkheads, firstCallback, callback);
     }
     
-    private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
-        ExecutionGroup<I> firstInputs = executionGroups.next();
-        List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
-        while (executionGroups.hasNext()) {
-            result.addAll(syncExecute(executionGroups.next(), callback));
+    private <I> Map<String, ExecutorBulkhead> acquireBulkheads(final ExecutionGroupContext<I> executionGroupContext) throws SQLException {
+        if (null == bulkheadManager) {
+            return Collections.emptyMap();
+        }
+        String databaseName = null == executionGroupContext.getReportContext() ? null : executionGroupContext.getReportContext().getDatabaseName();
+        Map<String, Integer> permits = new TreeMap<>();
+        for (ExecutionGroup<I> each : executionGroupContext.getInputGroups()) {
+            if (null != each.getDataSourceName()) {
+                permits.merge(each.getDataSourceName(), 1, Integer::sum);
+            }
+        }
+        Map<String, ExecutorBulkhead> result = new HashMap<>(permits.size(), 1F);
+        try {
+            for (Entry<String, Integer> entry : permits.entrySet()) {
+                ExecutorBulkhead bulkhead = bulkheadManager.getBulkhead(databaseName, entry.getKey());
+                bulkhead.acquire(entry.getValue());
+                result.put(entry.getKey(), bulkhead);
+            }
+        } catch (final SQLException | RuntimeException ex) {
+            result.forEach((key, value) -> value.cancel(permits.get(key)));
+            throw ex;
         }
         return result;
     }
     
-    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+    private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final Map<String, ExecutorBulkhead> bulkheads,
+                                         final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+        try {
+            ExecutionGroup<I> firstInputs = executionGroups.next();
+            List<O> result = new LinkedList<>(syncExecute(firstInputs, bulkheads, null == firstCallback ? callback : firstCallback));
+            while (executionGroups.hasNext()) {
+                result.addAll(syncExecute(executionGroups.next(), bulkheads, callback));
+            }
+            return result;
+        } finally {
+            cancelBulkheads(executionGroups, bulkheads);
+        }
+    }
+    
+    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final Map<String, ExecutorBulkhead> bulkheads,
+                                           final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
-        return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
+        Collection<Future<Collection<O>>> restResultFutures;
+        try {
+            restResultFutures = asyncExecute(executionGroups, bulkheads, callback);
+        } catch (final RejectedExecutionException ex) {
+            cancelBulkhead(firstInputs, bulkheads);
+            cancelBulkheads(executionGroups, bulkheads);
+            throw ex;
+        }
+        return getGroupResults(syncExecute(firstInputs, bulkheads, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
-    private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
-        return callback.execute(executionGroup.getInputs(), true);
+    private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final Map<String, ExecutorBulkhead> bulkheads, final ExecutorCallback<I, O> callback) throws SQLException {
+        return execute(bulkheads.get(executionGroup.getDataSourceName()), executionGroup, callback, true);
     }
     
-    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
+    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final Map<String, ExecutorBulkhead> bulkheads,
+                                                                  final ExecutorCallback<I, O> callback) {
         Collection<Future<Collection<O>>> result = new LinkedList<>();
         while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), callback));
+            ExecutionGroup<I> each = executionGroups.next();
+            ExecutorBulkhead bulkhead = bulkheads.get(each.getDataSourceName());
+            try {
+                result.add(executorServiceManager.getExecutorService().submit(() -> execute(bulkhead, each, callback, false)));
+            } catch (final RejectedExecutionException ex) {
+                cancelBulkhead(each, bulkheads);
+                throw ex;
+            }
         }
         return result;
     }
     
-    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false));
+    private <I> void cancelBulkheads(final Iterator<ExecutionGroup<I>> notStartedExecutionGroups, final Map<String, ExecutorBulkhead> bulkheads) {
+        while (notStartedExecutionGroups.hasNext()) {
+            cancelBulkhead(notStartedExecutionGroups.next(), bulkheads);
+        }
+    }
+    
+    private <I> void cancelBulkhead(final ExecutionGroup<I> notStartedExecutionGroup, final Map<String, ExecutorBulkhead> bulkheads) {
+        ExecutorBulkhead bulkhead = bulkheads.get(notStartedExecutionGroup.getDataSourceName());
+        if (null != bulkhead) {
+            bulkhead.cancel(1);
+        }
+    }
+    
+    private <I, O> Collection<O> execute(final ExecutorBulkhead bulkhead, final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback,
+                                         final boolean isTrunkThread) throws SQLException {
+        if (null == bulkhead) {
+            return callback.execute(executionGroup.getInputs(), isTrunkThread);
+        }
+        long startTime = System.nanoTime();
+        try {
+            return callback.execute(executionGroup.getInputs(), isTrunkThread);
+        } finally {
+            bulkhead.release(System.nanoTime() - startTime);
+        }
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.bulkhead;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.exception.ExecutorBulkheadSaturatedException;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Executor bulkhead of one data source of database.
+ * 
+ * <p>Concurrency limit is sized by additive increase and multiplicative decrease (AIMD):
+ * the limit grows by one when it is fully used and the observed latency is healthy,
+ * and shrinks by a backoff ratio when the observed latency exceeds a tolerance of the smoothed baseline latency.
+ * The limit shrinks at most once per window, executions started before the last decrease can not shrink it again.</p>
+ */
+public final class ExecutorBulkhead {
+    
+    private static final double BACKOFF_RATIO = 0.9D;
+    
+    private static final double LATENCY_TOLERANCE = 2D;
+    
+    private static final double BASELINE_SMOOTHING_FACTOR = 0.05D;
+    
+    private static final int MIN_LIMIT = 1;
+    
+    @Getter
+    private final String databaseName;
+    
+    @Getter
+    private final String dataSourceName;
+    
+    @Getter
+    private final int maxConcurrency;
+    
+    private final long maxWaitNanos;
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition released = lock.newCondition();
+    
+    private double limit;
+    
+    private int inFlight;
+    
+    private int queueDepth;
+    
+    private double baselineLatencyNanos;
+    
+    private boolean decreased;
+    
+    private long lastDecreaseNanos;
+    
+    private long rejectedCount;
+    
+    private long waitTimeNanos;
+    
+    public ExecutorBulkhead(final String databaseName, final String dataSourceName, final int maxConcurrency, final long maxWaitMillis) {
+        this.databaseName = databaseName;
+        this.dataSourceName = dataSourceName;
+        this.maxConcurrency = maxConcurrency;
+        maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        limit = maxConcurrency;
+    }
+    
+    /**
+     * Acquire execution permit, wait until permit released or max wait time elapsed.
+     * 
+     * @throws SQLException throw if bulkhead is still saturated after max wait time
+     */
+    public void acquire() throws SQLException {
+        acquire(1);
+    }
+    
+    /**
+     * Acquire execution permits at once, wait until permits released or max wait time elapsed.
+     * 
+     * <p>Permits more than current limit are granted only when there is no execution in flight.</p>
+     * 
+     * @param permits permits to be acquired
+     * @throws SQLException throw if bulkhead is still saturated after max wait time
+     */
+    public void acquire(final int permits) throws SQLException {
+        lock.lock();
+        try {
+            if (!isPermitted(permits)) {
+                long startTime = System.nanoTime();
+                try {
+                    awaitPermits(permits);
+                } finally {
+                    waitTimeNanos += System.nanoTime() - startTime;
+                }
+            }
+            inFlight += permits;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private boolean isPermitted(final int permits) {
+        return 0 == inFlight || inFlight + permits <= (int) limit;
+    }
+    
+    private void awaitPermits(final int permits) throws SQLException {
+        long remainingNanos = maxWaitNanos;
+        queueDepth++;
+        try {
+            while (!isPermitted(permits)) {
+                if (remainingNanos <= 0L) {
+                    rejectedCount++;
+                    throw new ExecutorBulkheadSaturatedException(databaseName, dataSourceName, TimeUnit.NANOSECONDS.toMillis(maxWaitNanos));
+                }
+                remainingNanos = released.awaitNanos(remainingNanos);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            rejectedCount++;
+            throw new ExecutorBulkheadSaturatedException(databaseName, dataSourceName, TimeUnit.NANOSECONDS.toMillis(maxWaitNanos - remainingNanos));
+        } finally {
+            queueDepth--;
+        }
+    }
+    
+    /**
+     * Release execution permit and adjust concurrency limit by observed latency.
+     * 
+     * @param latencyNanos observed execution latency in nanoseconds
+     */
+    public void release(final long latencyNanos) {
+        lock.lock();
+        try {
+            adjustLimit(latencyNanos);
+            inFlight--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Return permits of executions which are not started, without adjusting concurrency limit.
+     * 
+     * @param permits permits to be returned
+     */
+    public void cancel(final int permits) {
+        lock.lock();
+        try {
+            inFlight -= permits;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void adjustLimit(final long latencyNanos) {
+        if (0D == baselineLatencyNanos) {
+            baselineLatencyNanos = latencyNanos;
+        }
+        if (latencyNanos > baselineLatencyNanos * LATENCY_TOLERANCE) {
+            long currentNanos = System.nanoTime();
+            if (!decreased || currentNanos - latencyNanos - lastDecreaseNanos > 0L) {
+                limit = Math.max(MIN_LIMIT, limit * BACKOFF_RATIO);
+                decreased = true;
+                lastDecreaseNanos = currentNanos;
+            }
+        } else if (inFlight >= (int) limit) {
+            limit = Math.min(maxConcurrency, limit + 1D);
+        }
+        baselineLatencyNanos += (latencyNanos - baselineLatencyNanos) * BASELINE_SMOOTHING_FACTOR;
+    }
+    
+    /**
+     * Get current concurrency limit.
+     * 
+     * @return current concurrency limit
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Get count of executions in flight.
+     * 
+     * @return count of executions in flight
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Get count of executions waiting for permit.
+     * 
+     * @return count of executions waiting for permit
+     */
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return queueDepth;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Get total count of rejected executions.
+     * 
+     * @return total count of rejected executions
+     */
+    public long getRejectedCount() {
+        lock.lock();
+        try {
+            return rejectedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Get total wait time for permits in milliseconds.
+     * 
+     * @return total wait time for permits in milliseconds
+     */
+    public long getWaitTimeMillis() {
+        lock.lock();
+        try {
+            return TimeUnit.NANOSECONDS.toMillis(waitTimeNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
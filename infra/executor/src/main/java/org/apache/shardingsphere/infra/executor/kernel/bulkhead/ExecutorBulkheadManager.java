@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.bulkhead;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Executor bulkhead manager.
+ * 
+ * <p>Bulkheads are isolated by database, because storage units of different databases with the same name are different data sources.</p>
+ */
+@RequiredArgsConstructor
+public final class ExecutorBulkheadManager {
+    
+    private final int maxConcurrency;
+    
+    private final long maxWaitMillis;
+    
+    private final Map<BulkheadKey, ExecutorBulkhead> bulkheads = new ConcurrentHashMap<>();
+    
+    /**
+     * Get bulkhead of data source.
+     * 
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return bulkhead of data source
+     */
+    public ExecutorBulkhead getBulkhead(final String databaseName, final String dataSourceName) {
+        BulkheadKey bulkheadKey = new BulkheadKey(databaseName, dataSourceName);
+        ExecutorBulkhead result = bulkheads.get(bulkheadKey);
+        return null == result ? bulkheads.computeIfAbsent(bulkheadKey, key -> new ExecutorBulkhead(key.databaseName, key.dataSourceName, maxConcurrency, maxWaitMillis)) : result;
+    }
+    
+    /**
+     * Get all bulkheads.
+     * 
+     * @return all bulkheads
+     */
+    public Collection<ExecutorBulkhead> getBulkheads() {
+        return Collections.unmodifiableCollection(bulkheads.values());
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class BulkheadKey {
+        
+        private final String databaseName;
+        
+        private final String dataSourceName;
+    }
+}
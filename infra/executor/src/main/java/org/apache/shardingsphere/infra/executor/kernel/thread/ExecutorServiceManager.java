@@ -38,14 +38,26 @@ public final class ExecutorServiceManager {
     private final ExecutorService executorService;
     
     public ExecutorServiceManager(final int executorSize) {
-        this(executorSize, DEFAULT_NAME_FORMAT);
+        this(executorSize, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final boolean virtualThreadEnabled) {
+        this(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat, virtualThreadEnabled));
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        if (VirtualThreadSupport.isEnabled(virtualThreadEnabled)) {
+            ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.buildVirtual(nameFormat);
+            return 0 == executorSize ? VirtualThreadSupport.newThreadPerTaskExecutor(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
+        }
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
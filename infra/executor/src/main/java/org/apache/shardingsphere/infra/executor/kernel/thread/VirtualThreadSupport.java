@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Virtual thread support.
+ * 
+ * <p>Virtual thread API is loaded reflectively, so that it only takes effect on JDK 21 or later and the code base still runs on Java 8.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class VirtualThreadSupport {
+    
+    private static final int UNPINNED_SYNCHRONIZED_JAVA_VERSION = 24;
+    
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = loadVirtualThreadFactory();
+    
+    private static final AtomicBoolean WARNED = new AtomicBoolean();
+    
+    private static ThreadFactory loadVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (final ReflectiveOperationException | UnsupportedOperationException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JVM.
+     * 
+     * @return virtual thread is supported or not
+     */
+    public static boolean isSupported() {
+        return null != VIRTUAL_THREAD_FACTORY;
+    }
+    
+    /**
+     * Judge whether to use virtual thread.
+     * 
+     * <p>Fall back to platform thread if current JVM does not support virtual thread.
+     * Before JDK 24, virtual thread blocked in {@code synchronized} block pins its carrier thread, which is common in JDBC drivers,
+     * so a warning is logged to suggest using JDBC drivers guarded by {@code java.util.concurrent} locks or increasing {@code jdk.virtualThreadScheduler.parallelism}.</p>
+     * 
+     * @param virtualThreadEnabled whether virtual thread is enabled by configuration
+     * @return use virtual thread or not
+     */
+    public static boolean isEnabled(final boolean virtualThreadEnabled) {
+        if (!virtualThreadEnabled) {
+            return false;
+        }
+        if (!isSupported()) {
+            if (WARNED.compareAndSet(false, true)) {
+                log.warn("Virtual thread is enabled but not supported by JVM `{}`, use platform thread instead.", System.getProperty("java.specification.version"));
+            }
+            return false;
+        }
+        if (getJavaFeatureVersion() < UNPINNED_SYNCHRONIZED_JAVA_VERSION && WARNED.compareAndSet(false, true)) {
+            log.warn("Virtual thread blocked in synchronized block pins its carrier thread before JDK {}, please make sure JDBC drivers do not block in synchronized block, "
+                    + "or increase `jdk.virtualThreadScheduler.parallelism`.", UNPINNED_SYNCHRONIZED_JAVA_VERSION);
+        }
+        return true;
+    }
+    
+    private static int getJavaFeatureVersion() {
+        String version = System.getProperty("java.specification.version");
+        return version.startsWith("1.") ? Integer.parseInt(version.substring(2)) : Integer.parseInt(version);
+    }
+    
+    /**
+     * Get virtual thread factory.
+     * 
+     * @return virtual thread factory
+     * @throws IllegalStateException throw if virtual thread is not supported by current JVM
+     */
+    public static ThreadFactory getThreadFactory() {
+        Preconditions.checkState(isSupported(), "Virtual thread is not supported by current JVM.");
+        return VIRTUAL_THREAD_FACTORY;
+    }
+    
+    /**
+     * Create executor service which starts a new thread for each task.
+     * 
+     * @param threadFactory thread factory
+     * @return created executor service
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static ExecutorService newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
@@ -36,6 +37,7 @@ public final class JDBCExecutor {
     private final ExecutorEngine executorEngine;
     
     // TODO add transaction type to ConnectionContext
+    @Getter
     private final ConnectionContext connectionContext;
     
     /**
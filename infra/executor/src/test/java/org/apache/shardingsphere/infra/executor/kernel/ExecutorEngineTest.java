@@ -17,22 +17,31 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.exception.ExecutorBulkheadSaturatedException;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -82,6 +91,44 @@ class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    void assertParallelExecuteWithBulkhead() throws SQLException, InterruptedException {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_MAX_CONCURRENCY.getKey(), "1"),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_MAX_WAIT_MILLISECONDS.getKey(), "60000")));
+        try (ExecutorEngine bulkheadExecutorEngine = ExecutorEngine.createExecutorEngine(props)) {
+            Collection<ExecutionGroup<Object>> executionGroups = Arrays.asList(new ExecutionGroup<>(createMockedInputs(2), "ds_0"), new ExecutionGroup<>(createMockedInputs(2), "ds_0"));
+            List<String> actual = bulkheadExecutorEngine.execute(new ExecutionGroupContext<>(executionGroups, new ExecutionGroupReportContext("foo_db")), firstCallback, callback, false);
+            latch.await();
+            assertThat(actual.size(), is(4));
+            assertTrue(bulkheadExecutorEngine.getBulkheadManager().isPresent());
+            assertThat(bulkheadExecutorEngine.getBulkheadManager().get().getBulkhead("foo_db", "ds_0").getInFlight(), is(0));
+        }
+    }
+    
+    @Test
+    void assertParallelExecuteWithSaturatedBulkhead() throws SQLException {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_MAX_CONCURRENCY.getKey(), "1")));
+        try (ExecutorEngine bulkheadExecutorEngine = ExecutorEngine.createExecutorEngine(props)) {
+            bulkheadExecutorEngine.getBulkheadManager().get().getBulkhead("foo_db", "ds_0").acquire();
+            ExecutionGroupContext<Object> context = new ExecutionGroupContext<>(Collections.singleton(new ExecutionGroup<>(createMockedInputs(1), "ds_0")), new ExecutionGroupReportContext("foo_db"));
+            assertThrows(ExecutorBulkheadSaturatedException.class, () -> bulkheadExecutorEngine.execute(context, firstCallback, callback, false));
+        }
+    }
+    
+    @Test
+    void assertExecuteNothingWhenAnyBulkheadSaturated() throws SQLException {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_MAX_CONCURRENCY.getKey(), "1")));
+        try (ExecutorEngine bulkheadExecutorEngine = ExecutorEngine.createExecutorEngine(props)) {
+            bulkheadExecutorEngine.getBulkheadManager().get().getBulkhead("foo_db", "ds_1").acquire();
+            Collection<ExecutionGroup<Object>> executionGroups = Arrays.asList(new ExecutionGroup<>(createMockedInputs(1), "ds_0"), new ExecutionGroup<>(createMockedInputs(1), "ds_1"));
+            ExecutionGroupContext<Object> context = new ExecutionGroupContext<>(executionGroups, new ExecutionGroupReportContext("foo_db"));
+            assertThrows(ExecutorBulkheadSaturatedException.class, () -> bulkheadExecutorEngine.execute(context, firstCallback, callback, false));
+            assertThat(latch.getCount(), is(4L));
+            assertThat(bulkheadExecutorEngine.getBulkheadManager().get().getBulkhead("foo_db", "ds_0").getInFlight(), is(0));
+        }
+    }
+    
     @Test
     void assertSerialExecute() throws SQLException, InterruptedException {
         List<String> actual = executorEngine.execute(executionGroupContext, firstCallback, callback, true);
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.bulkhead;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ExecutorBulkheadManagerTest {
+    
+    @Test
+    void assertGetBulkhead() {
+        ExecutorBulkheadManager bulkheadManager = new ExecutorBulkheadManager(2, 0L);
+        ExecutorBulkhead actual = bulkheadManager.getBulkhead("foo_db", "foo_ds");
+        assertThat(actual.getDatabaseName(), is("foo_db"));
+        assertThat(actual.getDataSourceName(), is("foo_ds"));
+        assertThat(actual.getMaxConcurrency(), is(2));
+        assertThat(bulkheadManager.getBulkhead("foo_db", "foo_ds"), is(actual));
+        assertThat(bulkheadManager.getBulkhead("foo_db", "bar_ds"), not(actual));
+        assertThat(bulkheadManager.getBulkhead("bar_db", "foo_ds"), not(actual));
+        assertThat(bulkheadManager.getBulkheads().size(), is(3));
+    }
+}
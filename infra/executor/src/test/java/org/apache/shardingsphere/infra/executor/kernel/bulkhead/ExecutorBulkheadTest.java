@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.bulkhead;
+
+import org.apache.shardingsphere.infra.executor.exception.ExecutorBulkheadSaturatedException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExecutorBulkheadTest {
+    
+    @Test
+    void assertAcquireAndRelease() throws SQLException {
+        ExecutorBulkhead bulkhead = new ExecutorBulkhead("foo_db", "foo_ds", 2, 0L);
+        bulkhead.acquire();
+        assertThat(bulkhead.getInFlight(), is(1));
+        bulkhead.release(100L);
+        assertThat(bulkhead.getInFlight(), is(0));
+        assertThat(bulkhead.getLimit(), is(2));
+    }
+    
+    @Test
+    void assertAcquireFailFastWhenSaturated() throws SQLException {
+        ExecutorBulkhead bulkhead = new ExecutorBulkhead("foo_db", "foo_ds", 1, 0L);
+        bulkhead.acquire();
+        assertThrows(ExecutorBulkheadSaturatedException.class, bulkhead::acquire);
+        assertThat(bulkhead.getRejectedCount(), is(1L));
+        assertThat(bulkhead.getQueueDepth(), is(0));
+    }
+    
+    @Test
+    void assertAcquireTimeoutWhenSaturated() throws SQLException {
+        ExecutorBulkhead bulkhead = new ExecutorBulkhead("foo_db", "foo_ds", 1, 10L);
+        bulkhead.acquire();
+        assertThrows(ExecutorBulkheadSaturatedException.class, bulkhead::acquire);
+        assertThat(bulkhead.getRejectedCount(), is(1L));
+    }
+    
+    @Test
+    void assertAcquireAfterWaitingForRelease() throws SQLException, InterruptedException, ExecutionException, TimeoutException {
+        ExecutorBulkhead bulkhead = new ExecutorBulkhead("foo_db", "foo_ds", 1, 60000L);
+        bulkhead.acquire();
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> {
+            try {
+                bulkhead.acquire();
+            } catch (final SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        while (0 == bulkhead.getQueueDepth()) {
+            Thread.sleep(1L);
+        }
+        bulkhead.release(100L);
+        waiting.get(10L, TimeUnit.SECONDS);
+        assertThat(bulkhead.getInFlight(), is(1));
+        assertThat(bulkhead.getQueueDepth(), is(0));
+    }
+    
+    @Test
+    void assertDecreaseLimitWhenLatencyRises() throws SQLException, InterruptedException {
+        ExecutorBulkhead bulkhead = new ExecutorBulkhead("foo_db", "foo_ds", 10, 0L);
+        bulkhead.acquire();
+        bulkhead.release(100L);
+        bulkhead.acquire();
+        bulkhead.release(1000L);
+        assertThat(bulkhead.getLimit(), is(9));
+        Thread.sleep(1L);
+        bulkhead.acquire();
+        bulkhead.release(1000L);
+        assertThat(bulkhead.getLimit(), is(8));
+    }
+    
+    @Test
+    void assertDecreaseLimitOncePerWindow() throws SQLException {
+        ExecutorBulkhead bulkhead = new ExecutorBulkhead("foo_db", "foo_ds", 10, 0L);
+        bulkhead.acquire();
+        bulkhead.release(100L);
+        bulkhead.acquire(3);
+        bulkhead.release(TimeUnit.SECONDS.toNanos(1L));
+        bulkhead.release(TimeUnit.SECONDS.toNanos(1L));
+        bulkhead.release(TimeUnit.SECONDS.toNanos(1L));
+        assertThat(bulkhead.getLimit(), is(9));
+    }
+    
+    @Test
+    void assertAcquirePermitsMoreThanLimitWhenIdle() throws SQLException {
+        ExecutorBulkhead bulkhead = new ExecutorBulkhead("foo_db", "foo_ds", 1, 0L);
+        bulkhead.acquire(2);
+        assertThat(bulkhead.getInFlight(), is(2));
+        assertThrows(ExecutorBulkheadSaturatedException.class, bulkhead::acquire);
+    }
+    
+    @Test
+    void assertCancel() throws SQLException {
+        ExecutorBulkhead bulkhead = new ExecutorBulkhead("foo_db", "foo_ds", 2, 0L);
+        bulkhead.acquire(2);
+        bulkhead.cancel(2);
+        assertThat(bulkhead.getInFlight(), is(0));
+        assertThat(bulkhead.getLimit(), is(2));
+        assertThat(bulkhead.getWaitTimeMillis(), is(0L));
+    }
+    
+    @Test
+    void assertIncreaseLimitWhenLatencyHealthyAndLimitReached() throws SQLException {
+        ExecutorBulkhead bulkhead = new ExecutorBulkhead("foo_db", "foo_ds", 2, 0L);
+        bulkhead.acquire();
+        bulkhead.release(100L);
+        bulkhead.acquire();
+        bulkhead.release(1000L);
+        assertThat(bulkhead.getLimit(), is(1));
+        bulkhead.acquire();
+        bulkhead.release(100L);
+        assertThat(bulkhead.getLimit(), is(2));
+        bulkhead.acquire();
+        bulkhead.release(100L);
+        assertThat(bulkhead.getLimit(), is(2));
+    }
+}
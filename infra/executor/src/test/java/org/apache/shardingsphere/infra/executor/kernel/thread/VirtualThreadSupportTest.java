@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadSupportTest {
+    
+    @Test
+    void assertIsEnabledWithoutConfiguration() {
+        assertFalse(VirtualThreadSupport.isEnabled(false));
+    }
+    
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void assertIsEnabledWithUnsupportedJVM() {
+        assertFalse(VirtualThreadSupport.isSupported());
+        assertFalse(VirtualThreadSupport.isEnabled(true));
+        assertThrows(IllegalStateException.class, VirtualThreadSupport::getThreadFactory);
+    }
+    
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void assertExecutorServiceFallbackToPlatformThread() throws ExecutionException, InterruptedException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, "foo-%d", true);
+        assertThat(executorServiceManager.getExecutorService().submit(() -> Thread.currentThread().getName()).get(), is("ShardingSphere-foo-0"));
+        executorServiceManager.close();
+    }
+    
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void assertIsEnabledWithSupportedJVM() {
+        assertTrue(VirtualThreadSupport.isSupported());
+        assertTrue(VirtualThreadSupport.isEnabled(true));
+    }
+    
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void assertNewThreadPerTaskExecutor() throws ReflectiveOperationException, ExecutionException, InterruptedException {
+        ExecutorService executorService = VirtualThreadSupport.newThreadPerTaskExecutor(ExecutorThreadFactoryBuilder.buildVirtual("foo-%d"));
+        assertThat(executorService.submit(() -> Thread.currentThread().getName()).get(), is("ShardingSphere-foo-0"));
+        assertTrue((boolean) executorService.submit(() -> Thread.class.getMethod("isVirtual").invoke(Thread.currentThread())).get());
+        executorService.shutdown();
+    }
+}
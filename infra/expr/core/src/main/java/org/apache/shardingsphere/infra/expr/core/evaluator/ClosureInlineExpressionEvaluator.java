@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.core.evaluator;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Closure inline expression evaluator.
+ * 
+ * <p>The closure is evaluated by inline expression parser only once, and rehydrated with a new delegate for every evaluation.</p>
+ */
+public final class ClosureInlineExpressionEvaluator implements InlineExpressionEvaluator {
+    
+    private final Supplier<Closure<?>> closure;
+    
+    public ClosureInlineExpressionEvaluator(final String inlineExpression) {
+        closure = Suppliers.memoize(() -> InlineExpressionParserFactory.newInstance(inlineExpression).evaluateClosure());
+    }
+    
+    @Override
+    public String evaluate(final Map<String, ?> variables) {
+        Closure<?> result = closure.get().rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, ?> entry : variables.entrySet()) {
+            result.setProperty(entry.getKey(), entry.getValue());
+        }
+        return result.call().toString();
+    }
+}
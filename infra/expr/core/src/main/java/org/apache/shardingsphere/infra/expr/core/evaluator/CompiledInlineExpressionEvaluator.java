@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.core.evaluator;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression evaluator.
+ * 
+ * <p>Supported inline expressions are composed by literals and placeholders like {@code ${column}}, {@code ${column % 16}},
+ * {@code ${column.hashCode() % 4}} and {@code ${Math.abs(column.hashCode()) % 4}}.
+ * The values of variables are evaluated by java with the same result of groovy,
+ * if the type of any variable is not supported by compiled evaluation, the fallback evaluator will be used.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpressionEvaluator implements InlineExpressionEvaluator {
+    
+    private static final String PLACEHOLDER_BEGIN = "${";
+    
+    private static final char PLACEHOLDER_END = '}';
+    
+    private final String[] literals;
+    
+    private final Node[] nodes;
+    
+    private final InlineExpressionEvaluator fallbackEvaluator;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with place holders handled
+     * @param fallbackEvaluator fallback evaluator for variables which are not supported by compiled evaluation
+     * @return compiled inline expression evaluator, empty if the inline expression is not supported
+     */
+    public static Optional<InlineExpressionEvaluator> compile(final String inlineExpression, final InlineExpressionEvaluator fallbackEvaluator) {
+        if (null == inlineExpression || inlineExpression.indexOf('"') >= 0 || inlineExpression.indexOf('\\') >= 0) {
+            return Optional.empty();
+        }
+        List<String> literals = new ArrayList<>();
+        List<Node> nodes = new ArrayList<>();
+        int index = 0;
+        while (true) {
+            int beginIndex = inlineExpression.indexOf('$', index);
+            if (-1 == beginIndex) {
+                literals.add(inlineExpression.substring(index));
+                break;
+            }
+            int endIndex = inlineExpression.indexOf(PLACEHOLDER_END, beginIndex);
+            if (!inlineExpression.startsWith(PLACEHOLDER_BEGIN, beginIndex) || -1 == endIndex) {
+                return Optional.empty();
+            }
+            Optional<Node> node = new NodeParser(inlineExpression.substring(beginIndex + PLACEHOLDER_BEGIN.length(), endIndex)).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            literals.add(inlineExpression.substring(index, beginIndex));
+            nodes.add(node.get());
+            index = endIndex + 1;
+        }
+        return Optional.of(new CompiledInlineExpressionEvaluator(literals.toArray(new String[0]), nodes.toArray(new Node[0]), fallbackEvaluator));
+    }
+    
+    @Override
+    public String evaluate(final Map<String, ?> variables) {
+        StringBuilder result = new StringBuilder(literals[0]);
+        for (int i = 0; i < nodes.length; i++) {
+            Object value = nodes[i].evaluate(variables);
+            if (!isSupportedResult(value)) {
+                return fallbackEvaluator.evaluate(variables);
+            }
+            result.append(value).append(literals[i + 1]);
+        }
+        return result.toString();
+    }
+    
+    private boolean isSupportedResult(final Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof BigInteger;
+    }
+    
+    private interface Node {
+        
+        /**
+         * Evaluate node.
+         *
+         * @param variables variable name and value map
+         * @return evaluated value, null if the value can not be evaluated by compiled evaluation
+         */
+        Object evaluate(Map<String, ?> variables);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class VariableNode implements Node {
+        
+        private final String name;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            return variables.get(name);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class HashCodeNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object value = operand.evaluate(variables);
+            return null == value ? null : value.hashCode();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AbsNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object value = operand.evaluate(variables);
+            if (value instanceof Long) {
+                return Math.abs((long) value);
+            }
+            return isIntegerValue(value) ? Math.abs(((Number) value).intValue()) : null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class RemainderNode implements Node {
+        
+        private final Node operand;
+        
+        private final int divisor;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object value = operand.evaluate(variables);
+            if (value instanceof Long) {
+                return (long) value % divisor;
+            }
+            return isIntegerValue(value) ? ((Number) value).intValue() % divisor : null;
+        }
+    }
+    
+    private static boolean isIntegerValue(final Object value) {
+        return value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NodeParser {
+        
+        private static final String ABS_FUNCTION = "Math.abs";
+        
+        private static final String HASH_CODE_METHOD = ".hashCode()";
+        
+        private final String expression;
+        
+        private int position;
+        
+        Optional<Node> parse() {
+            Optional<Node> result = parseRemainder();
+            skipWhitespaces();
+            return position == expression.length() ? result : Optional.empty();
+        }
+        
+        private Optional<Node> parseRemainder() {
+            Optional<Node> result = parseUnary();
+            skipWhitespaces();
+            if (!result.isPresent() || !consume("%")) {
+                return result;
+            }
+            skipWhitespaces();
+            int beginIndex = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if (beginIndex == position || position - beginIndex > 9) {
+                return Optional.empty();
+            }
+            int divisor = Integer.parseInt(expression.substring(beginIndex, position));
+            return 0 == divisor ? Optional.empty() : Optional.of(new RemainderNode(result.get(), divisor));
+        }
+        
+        private Optional<Node> parseUnary() {
+            skipWhitespaces();
+            if (consume(ABS_FUNCTION)) {
+                skipWhitespaces();
+                return parseParenthesized().map(AbsNode::new);
+            }
+            if (position < expression.length() && '(' == expression.charAt(position)) {
+                return parseParenthesized();
+            }
+            Optional<Node> result = parseVariable();
+            return result.isPresent() && consume(HASH_CODE_METHOD) ? result.map(HashCodeNode::new) : result;
+        }
+        
+        private Optional<Node> parseParenthesized() {
+            if (!consume("(")) {
+                return Optional.empty();
+            }
+            Optional<Node> result = parseRemainder();
+            skipWhitespaces();
+            return consume(")") ? result : Optional.empty();
+        }
+        
+        private Optional<Node> parseVariable() {
+            int beginIndex = position;
+            if (position < expression.length() && Character.isJavaIdentifierStart(expression.charAt(position))) {
+                position++;
+                while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position))) {
+                    position++;
+                }
+            }
+            if (beginIndex == position || '$' == expression.charAt(beginIndex)) {
+                return Optional.empty();
+            }
+            return Optional.of(new VariableNode(expression.substring(beginIndex, position)));
+        }
+        
+        private boolean consume(final String token) {
+            if (expression.startsWith(token, position)) {
+                position += token.length();
+                return true;
+            }
+            return false;
+        }
+        
+        private void skipWhitespaces() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.core.evaluator;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Inline expression evaluator factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InlineExpressionEvaluatorFactory {
+    
+    /**
+     * Create new instance of inline expression evaluator.
+     * 
+     * <p>Common inline expressions are compiled into java evaluator, others are evaluated by closure of inline expression parser.</p>
+     *
+     * @param inlineExpression inline expression with place holders handled
+     * @return created instance
+     */
+    public static InlineExpressionEvaluator newInstance(final String inlineExpression) {
+        ClosureInlineExpressionEvaluator closureEvaluator = new ClosureInlineExpressionEvaluator(inlineExpression);
+        return CompiledInlineExpressionEvaluator.compile(inlineExpression, closureEvaluator).orElse(closureEvaluator);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.core.evaluator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CompiledInlineExpressionEvaluatorTest {
+    
+    @Test
+    void assertCompileSupportedExpressions() {
+        for (String each : Arrays.asList("t_order", "t_order_${order_id}", "t_order_${order_id % 16}", "ds_${ user_id.hashCode() % 4 }",
+                "ds_${Math.abs(user_id.hashCode()) % 4}", "ds_${Math.abs(user_id.hashCode() % 4)}", "t_${(order_id % 4)}_${user_id % 2}")) {
+            assertTrue(CompiledInlineExpressionEvaluator.compile(each, mock(InlineExpressionEvaluator.class)).isPresent(), each);
+        }
+    }
+    
+    @Test
+    void assertCompileUnsupportedExpressions() {
+        for (String each : Arrays.asList("t_order_${order_id / 16}", "t_order_${0..1}", "t_order_$order_id", "t_order_${order_id % 0}", "t_order_${order_id.toString()}",
+                "t_order_${\"a\"}", "t_order_${order_id % 16", "t_order_${order_id % user_id}", "t_order_${order_id % 16L}")) {
+            assertFalse(CompiledInlineExpressionEvaluator.compile(each, mock(InlineExpressionEvaluator.class)).isPresent(), each);
+        }
+    }
+    
+    @Test
+    @DisabledInNativeImage
+    void assertEvaluateSameAsClosure() {
+        for (String each : Arrays.asList("t_order", "t_order_${order_id}", "t_order_${order_id % 16}", "ds_${user_id.hashCode() % 4}",
+                "ds_${Math.abs(user_id.hashCode()) % 4}", "t_${(order_id % 4)}_${user_id.hashCode() % 2}")) {
+            InlineExpressionEvaluator closureEvaluator = new ClosureInlineExpressionEvaluator(each);
+            InlineExpressionEvaluator compiledEvaluator = CompiledInlineExpressionEvaluator.compile(each, closureEvaluator).orElseThrow(IllegalStateException::new);
+            for (Comparable<?> orderId : Arrays.<Comparable<?>>asList(7, -7, 1234567890123L, (short) 9, (byte) 3)) {
+                for (Comparable<?> userId : Arrays.<Comparable<?>>asList("foo_user", -17, 99L)) {
+                    Map<String, Comparable<?>> variables = new HashMap<>(2, 1F);
+                    variables.put("order_id", orderId);
+                    variables.put("user_id", userId);
+                    assertThat(each + variables, compiledEvaluator.evaluate(variables), is(closureEvaluator.evaluate(variables)));
+                }
+            }
+        }
+    }
+    
+    @Test
+    void assertEvaluateWithFallbackForUnsupportedValue() {
+        InlineExpressionEvaluator fallbackEvaluator = mock(InlineExpressionEvaluator.class);
+        Map<String, ?> variables = Collections.singletonMap("order_id", new BigDecimal("1.5"));
+        when(fallbackEvaluator.evaluate(variables)).thenReturn("t_order_1.5");
+        assertThat(CompiledInlineExpressionEvaluator.compile("t_order_${order_id % 16}", fallbackEvaluator).orElseThrow(IllegalStateException::new).evaluate(variables), is("t_order_1.5"));
+        verify(fallbackEvaluator).evaluate(variables);
+    }
+    
+    @Test
+    void assertEvaluateWithFallbackForMissingVariable() {
+        InlineExpressionEvaluator fallbackEvaluator = mock(InlineExpressionEvaluator.class);
+        Map<String, ?> variables = Collections.singletonMap("user_id", 1);
+        when(fallbackEvaluator.evaluate(variables)).thenReturn("t_order_null");
+        assertThat(CompiledInlineExpressionEvaluator.compile("t_order_${order_id}", fallbackEvaluator).orElseThrow(IllegalStateException::new).evaluate(variables), is("t_order_null"));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.core.evaluator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class InlineExpressionEvaluatorFactoryTest {
+    
+    @Test
+    void assertNewInstanceWithCompiledEvaluator() {
+        InlineExpressionEvaluator actual = InlineExpressionEvaluatorFactory.newInstance("t_order_${order_id % 2}");
+        assertThat(actual, instanceOf(CompiledInlineExpressionEvaluator.class));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", 3)), is("t_order_1"));
+    }
+    
+    @Test
+    @DisabledInNativeImage
+    void assertNewInstanceWithClosureEvaluator() {
+        InlineExpressionEvaluator actual = InlineExpressionEvaluatorFactory.newInstance("t_order_${order_id.intdiv(2)}");
+        assertThat(actual, instanceOf(ClosureInlineExpressionEvaluator.class));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", 5)), is("t_order_2"));
+    }
+}
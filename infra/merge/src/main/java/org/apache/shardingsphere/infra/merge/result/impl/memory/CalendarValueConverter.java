@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Calendar value converter for merged values held in memory.
+ * 
+ * <p>Date values are read in default time zone, the converter keeps their wall clock fields and interprets them in time zone of calendar as JDBC driver does.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CalendarValueConverter {
+    
+    /**
+     * Convert value with calendar.
+     *
+     * @param value value to be converted
+     * @param calendar calendar
+     * @return converted value, or original value if value is not date or calendar is null
+     */
+    public static Object convert(final Object value, final Calendar calendar) {
+        return null == calendar || !(value instanceof Date) ? value : convert((Date) value, calendar);
+    }
+    
+    private static Date convert(final Date value, final Calendar calendar) {
+        Calendar defaultCalendar = Calendar.getInstance();
+        defaultCalendar.setTime(value);
+        Calendar targetCalendar = (Calendar) calendar.clone();
+        targetCalendar.clear();
+        targetCalendar.set(defaultCalendar.get(Calendar.YEAR), defaultCalendar.get(Calendar.MONTH), defaultCalendar.get(Calendar.DAY_OF_MONTH),
+                defaultCalendar.get(Calendar.HOUR_OF_DAY), defaultCalendar.get(Calendar.MINUTE), defaultCalendar.get(Calendar.SECOND));
+        targetCalendar.set(Calendar.MILLISECOND, defaultCalendar.get(Calendar.MILLISECOND));
+        targetCalendar.set(Calendar.ERA, defaultCalendar.get(Calendar.ERA));
+        long millis = targetCalendar.getTimeInMillis();
+        if (value instanceof Timestamp) {
+            Timestamp result = new Timestamp(millis);
+            result.setNanos(((Timestamp) value).getNanos());
+            return result;
+        }
+        if (value instanceof Time) {
+            return new Time(millis);
+        }
+        if (value instanceof java.sql.Date) {
+            return new java.sql.Date(millis);
+        }
+        return new Date(millis);
+    }
+}
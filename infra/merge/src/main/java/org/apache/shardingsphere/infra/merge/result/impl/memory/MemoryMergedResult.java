@@ -82,10 +82,9 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        // TODO implement with calendar
         Object result = currentResultSetRow.getCell(columnIndex);
         wasNull = null == result;
-        return result;
+        return CalendarValueConverter.convert(result, calendar);
     }
     
     @Override
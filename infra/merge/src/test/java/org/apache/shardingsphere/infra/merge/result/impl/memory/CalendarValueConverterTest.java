@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CalendarValueConverterTest {
+    
+    @Test
+    void assertConvertTimestamp() {
+        Timestamp timestamp = Timestamp.valueOf("2023-11-14 22:13:20.123456789");
+        Timestamp expected = new Timestamp(timestamp.toLocalDateTime().toInstant(ZoneOffset.UTC).toEpochMilli());
+        expected.setNanos(timestamp.getNanos());
+        assertThat(CalendarValueConverter.convert(timestamp, Calendar.getInstance(TimeZone.getTimeZone("UTC"))), is(expected));
+    }
+    
+    @Test
+    void assertConvertWithoutCalendar() {
+        Timestamp timestamp = Timestamp.valueOf("2023-11-14 22:13:20.123456789");
+        assertThat(CalendarValueConverter.convert(timestamp, null), is(timestamp));
+    }
+    
+    @Test
+    void assertConvertNotDateValue() {
+        assertThat(CalendarValueConverter.convert(1, Calendar.getInstance(TimeZone.getTimeZone("UTC"))), is(1));
+        assertNull(CalendarValueConverter.convert(null, Calendar.getInstance(TimeZone.getTimeZone("UTC"))));
+    }
+}
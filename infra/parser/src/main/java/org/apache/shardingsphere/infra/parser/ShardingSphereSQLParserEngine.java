@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.parser;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.distsql.parser.engine.api.DistSQLStatementParserEngine;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -59,4 +60,13 @@ public final class ShardingSphereSQLParserEngine implements SQLParserEngine {
             }
         }
     }
+    
+    /**
+     * Get statistics of SQL fingerprint cache.
+     *
+     * @return statistics of SQL fingerprint cache
+     */
+    public CacheStats getSQLFingerprintCacheStats() {
+        return sqlStatementParserEngine.getSQLFingerprintCacheStats();
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.fingerprint;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * Literal bindable char stream.
+ * 
+ * <p>Tokens lexed from this char stream read their text from the SQL bound to current thread if present,
+ * which allows a cached parse tree to be visited with literals of another SQL sharing the same fingerprint.</p>
+ */
+public final class LiteralBindableCharStream implements CharStream {
+    
+    private static final ThreadLocal<String> BOUND_SQL = new ThreadLocal<>();
+    
+    private final CharStream delegate;
+    
+    public LiteralBindableCharStream(final String sql) {
+        delegate = CharStreams.fromString(sql);
+    }
+    
+    /**
+     * Bind SQL to current thread.
+     *
+     * @param sql SQL which has the same fingerprint with the lexed SQL
+     */
+    public static void bind(final String sql) {
+        BOUND_SQL.set(sql);
+    }
+    
+    /**
+     * Unbind SQL from current thread.
+     */
+    public static void unbind() {
+        BOUND_SQL.remove();
+    }
+    
+    @Override
+    public String getText(final Interval interval) {
+        String boundSQL = BOUND_SQL.get();
+        if (null == boundSQL) {
+            return delegate.getText(interval);
+        }
+        int startIndex = Math.max(interval.a, 0);
+        int stopIndex = Math.min(interval.b, boundSQL.length() - 1);
+        return startIndex > stopIndex ? "" : boundSQL.substring(startIndex, stopIndex + 1);
+    }
+    
+    @Override
+    public void consume() {
+        delegate.consume();
+    }
+    
+    @Override
+    public int LA(final int i) {
+        return delegate.LA(i);
+    }
+    
+    @Override
+    public int mark() {
+        return delegate.mark();
+    }
+    
+    @Override
+    public void release(final int marker) {
+        delegate.release(marker);
+    }
+    
+    @Override
+    public int index() {
+        return delegate.index();
+    }
+    
+    @Override
+    public void seek(final int index) {
+        delegate.seek(index);
+    }
+    
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+    
+    @Override
+    public String getSourceName() {
+        return delegate.getSourceName();
+    }
+    
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
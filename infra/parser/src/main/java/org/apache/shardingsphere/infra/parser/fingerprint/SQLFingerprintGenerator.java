@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.fingerprint;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL fingerprint generator.
+ * 
+ * <p>Replace numeric literals and contents of quoted literals with placeholders of same length, so that SQLs only differ in literals share one fingerprint
+ * and all other tokens keep their original positions.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFingerprintGenerator {
+    
+    private static final char NUMBER_PLACEHOLDER = '\u0001';
+    
+    private static final char QUOTED_PLACEHOLDER = '\u0002';
+    
+    private static final String IDENTIFIER_SYMBOLS = "_$@#:.";
+    
+    private static final String UNBINDABLE_QUOTED_SYMBOLS = "\"`]$*/";
+    
+    /**
+     * Generate SQL fingerprint.
+     *
+     * @param sql SQL
+     * @return generated SQL fingerprint, empty if SQL contains characters which could not be fingerprinted safely
+     */
+    public static Optional<SQLFingerprint> generate(final String sql) {
+        if (!isSupported(sql)) {
+            return Optional.empty();
+        }
+        char[] chars = sql.toCharArray();
+        List<SQLFingerprintLiteral> literals = new ArrayList<>();
+        int index = 0;
+        while (index < chars.length) {
+            char each = sql.charAt(index);
+            if ('\'' == each) {
+                index = generateQuotedLiteral(sql, index, chars, literals);
+            } else if ('"' == each || '`' == each) {
+                index = skipUntil(sql, index + 1, each);
+            } else if ('[' == each) {
+                index = skipUntil(sql, index + 1, ']');
+            } else if ('#' == each || '-' == each && isNextChar(sql, index, '-')) {
+                index = skipUntil(sql, index + 1, '\n');
+            } else if ('/' == each && isNextChar(sql, index, '*')) {
+                index = skipBlockComment(sql, index + 2);
+            } else if (isDigit(each) && !isIdentifierPart(sql, index - 1)) {
+                index = generateNumberLiteral(sql, index, chars, literals);
+            } else {
+                index++;
+            }
+        }
+        return Optional.of(new SQLFingerprint(new String(chars), literals));
+    }
+    
+    private static boolean isSupported(final String sql) {
+        for (int i = 0; i < sql.length(); i++) {
+            char each = sql.charAt(i);
+            if (NUMBER_PLACEHOLDER == each || QUOTED_PLACEHOLDER == each || '\\' == each || Character.isSurrogate(each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static int generateQuotedLiteral(final String sql, final int startIndex, final char[] chars, final List<SQLFingerprintLiteral> literals) {
+        boolean bindable = !isIdentifierPart(sql, startIndex - 1);
+        int index = startIndex + 1;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if ('\'' == each) {
+                if (!isNextChar(sql, index, '\'')) {
+                    break;
+                }
+                bindable = false;
+                index += 2;
+                continue;
+            }
+            if (each < ' ' || UNBINDABLE_QUOTED_SYMBOLS.indexOf(each) >= 0) {
+                bindable = false;
+            }
+            index++;
+        }
+        if (index >= sql.length()) {
+            return sql.length();
+        }
+        if (bindable && index > startIndex + 1) {
+            Arrays.fill(chars, startIndex + 1, index, QUOTED_PLACEHOLDER);
+            literals.add(new SQLFingerprintLiteral(startIndex + 1, index - 1, true));
+        }
+        return index + 1;
+    }
+    
+    private static int generateNumberLiteral(final String sql, final int startIndex, final char[] chars, final List<SQLFingerprintLiteral> literals) {
+        int index = skipDigits(sql, startIndex);
+        if (index + 1 < sql.length() && '.' == sql.charAt(index) && isDigit(sql.charAt(index + 1))) {
+            index = skipDigits(sql, index + 1);
+        }
+        if (isIdentifierPart(sql, index)) {
+            return index;
+        }
+        for (int i = startIndex; i < index; i++) {
+            if (isDigit(chars[i])) {
+                chars[i] = NUMBER_PLACEHOLDER;
+            }
+        }
+        literals.add(new SQLFingerprintLiteral(startIndex, index - 1, false));
+        return index;
+    }
+    
+    private static int skipDigits(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int skipUntil(final String sql, final int startIndex, final char terminator) {
+        int result = sql.indexOf(terminator, startIndex);
+        return -1 == result ? sql.length() : result + 1;
+    }
+    
+    private static int skipBlockComment(final String sql, final int startIndex) {
+        int result = sql.indexOf("*/", startIndex);
+        return -1 == result ? sql.length() : result + 2;
+    }
+    
+    private static boolean isNextChar(final String sql, final int index, final char expected) {
+        return index + 1 < sql.length() && expected == sql.charAt(index + 1);
+    }
+    
+    private static boolean isIdentifierPart(final String sql, final int index) {
+        if (index < 0 || index >= sql.length()) {
+            return false;
+        }
+        char each = sql.charAt(index);
+        return Character.isLetterOrDigit(each) || IDENTIFIER_SYMBOLS.indexOf(each) >= 0;
+    }
+    
+    private static boolean isDigit(final char each) {
+        return each >= '0' && each <= '9';
+    }
+}
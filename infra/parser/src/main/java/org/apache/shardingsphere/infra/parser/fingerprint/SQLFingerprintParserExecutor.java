@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.fingerprint;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.antlr.v4.runtime.Token;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.cache.SQLFingerprintCacheBuilder;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL fingerprint parser executor.
+ * 
+ * <p>Cache one parse tree per SQL fingerprint, and visit the cached parse tree with literals of current SQL bound,
+ * so that SQLs only differ in literals are lexed and parsed only once.</p>
+ */
+public final class SQLFingerprintParserExecutor {
+    
+    private final SQLParserExecutor parserExecutor;
+    
+    private final SQLStatementVisitorEngine visitorEngine;
+    
+    private final Cache<String, ParseASTNode> parseTreeCache;
+    
+    public SQLFingerprintParserExecutor(final DatabaseType databaseType, final CacheOption fingerprintCacheOption, final boolean isParseComment) {
+        parserExecutor = new SQLParserExecutor(databaseType);
+        visitorEngine = new SQLStatementVisitorEngine(databaseType, isParseComment);
+        parseTreeCache = SQLFingerprintCacheBuilder.build(fingerprintCacheOption);
+    }
+    
+    /**
+     * Parse to SQL statement.
+     *
+     * @param sql SQL to be parsed
+     * @return SQL statement
+     */
+    public SQLStatement parse(final String sql) {
+        Optional<SQLFingerprint> fingerprint = SQLFingerprintGenerator.generate(sql);
+        if (!fingerprint.isPresent()) {
+            return visitorEngine.visit(parserExecutor.parse(sql));
+        }
+        ParseASTNode cachedParseASTNode = parseTreeCache.getIfPresent(fingerprint.get().getValue());
+        if (null == cachedParseASTNode) {
+            ParseASTNode result = parserExecutor.parse(sql, new LiteralBindableCharStream(sql));
+            if (isBindable(result.getTokens(), fingerprint.get().getLiterals())) {
+                parseTreeCache.put(fingerprint.get().getValue(), result);
+            }
+            return visitorEngine.visit(result);
+        }
+        LiteralBindableCharStream.bind(sql);
+        try {
+            return visitorEngine.visit(cachedParseASTNode);
+        } finally {
+            LiteralBindableCharStream.unbind();
+        }
+    }
+    
+    private boolean isBindable(final List<Token> tokens, final List<SQLFingerprintLiteral> literals) {
+        Iterator<Token> tokenIterator = tokens.iterator();
+        Token token = null;
+        for (SQLFingerprintLiteral each : literals) {
+            while (null == token || token.getStopIndex() < each.getStopIndex()) {
+                if (!tokenIterator.hasNext()) {
+                    return false;
+                }
+                token = tokenIterator.next();
+            }
+            if (!isEnclosed(token, each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isEnclosed(final Token token, final SQLFingerprintLiteral literal) {
+        return literal.isQuoted() ? token.getStartIndex() < literal.getStartIndex() && token.getStopIndex() > literal.getStopIndex() : token.getStartIndex() <= literal.getStartIndex();
+    }
+    
+    /**
+     * Get statistics of SQL fingerprint cache.
+     *
+     * @return statistics of SQL fingerprint cache
+     */
+    public CacheStats getCacheStats() {
+        return parseTreeCache.stats();
+    }
+}
@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.infra.parser.sql;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
+import org.apache.shardingsphere.infra.parser.fingerprint.SQLFingerprintParserExecutor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
@@ -29,7 +31,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
  */
 public final class SQLStatementParserEngine {
     
-    private final SQLStatementParserExecutor sqlStatementParserExecutor;
+    private final SQLFingerprintParserExecutor sqlFingerprintParserExecutor;
     
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
     
@@ -43,7 +45,7 @@ public final class SQLStatementParserEngine {
     private final boolean isParseComment;
     
     public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment);
+        sqlFingerprintParserExecutor = new SQLFingerprintParserExecutor(databaseType, parseTreeCacheOption, isParseComment);
         sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
         this.sqlStatementCacheOption = sqlStatementCacheOption;
         this.parseTreeCacheOption = parseTreeCacheOption;
@@ -58,6 +60,15 @@ public final class SQLStatementParserEngine {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
-        return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
+        return useCache ? sqlStatementCache.get(sql) : sqlFingerprintParserExecutor.parse(sql);
+    }
+    
+    /**
+     * Get statistics of SQL fingerprint cache.
+     *
+     * @return statistics of SQL fingerprint cache
+     */
+    public CacheStats getSQLFingerprintCacheStats() {
+        return sqlFingerprintParserExecutor.getCacheStats();
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.fingerprint;
+
+import org.antlr.v4.runtime.misc.Interval;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LiteralBindableCharStreamTest {
+    
+    @Test
+    void assertGetTextWithoutBoundSQL() {
+        LiteralBindableCharStream charStream = new LiteralBindableCharStream("SELECT 1");
+        assertThat(charStream.getText(Interval.of(7, 7)), is("1"));
+        assertThat(charStream.size(), is(8));
+        assertThat(charStream.toString(), is("SELECT 1"));
+    }
+    
+    @Test
+    void assertGetTextWithBoundSQL() {
+        LiteralBindableCharStream charStream = new LiteralBindableCharStream("SELECT 1");
+        LiteralBindableCharStream.bind("SELECT 2");
+        try {
+            assertThat(charStream.getText(Interval.of(7, 7)), is("2"));
+            assertThat(charStream.getText(Interval.of(0, 100)), is("SELECT 2"));
+            assertThat(charStream.getText(Interval.of(8, 7)), is(""));
+        } finally {
+            LiteralBindableCharStream.unbind();
+        }
+        assertThat(charStream.getText(Interval.of(7, 7)), is("1"));
+    }
+}
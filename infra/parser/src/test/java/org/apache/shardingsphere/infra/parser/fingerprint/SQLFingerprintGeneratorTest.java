@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.fingerprint;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFingerprintGeneratorTest {
+    
+    @Test
+    void assertGenerateWithSameFingerprintForDifferentLiterals() {
+        Optional<SQLFingerprint> actual = SQLFingerprintGenerator.generate("SELECT * FROM t_order WHERE order_id = 123 AND status = 'OK' AND price > 1.5");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getValue(), is(SQLFingerprintGenerator.generate("SELECT * FROM t_order WHERE order_id = 456 AND status = 'NO' AND price > 9.9").get().getValue()));
+        assertThat(actual.get().getValue().length(), is("SELECT * FROM t_order WHERE order_id = 123 AND status = 'OK' AND price > 1.5".length()));
+        assertThat(actual.get().getLiterals().size(), is(3));
+        assertLiteral(actual.get().getLiterals().get(0), 39, 41, false);
+        assertLiteral(actual.get().getLiterals().get(1), 57, 58, true);
+        assertLiteral(actual.get().getLiterals().get(2), 73, 75, false);
+    }
+    
+    @Test
+    void assertGenerateWithDifferentFingerprintForDifferentLiteralLength() {
+        assertFalse(SQLFingerprintGenerator.generate("SELECT * FROM t_order WHERE order_id = 1").get().getValue()
+                .equals(SQLFingerprintGenerator.generate("SELECT * FROM t_order WHERE order_id = 10").get().getValue()));
+    }
+    
+    @Test
+    void assertGenerateWithoutLiterals() {
+        Optional<SQLFingerprint> actual = SQLFingerprintGenerator.generate("SELECT * FROM t_order_1 WHERE order_id = ?");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getValue(), is("SELECT * FROM t_order_1 WHERE order_id = ?"));
+        assertTrue(actual.get().getLiterals().isEmpty());
+    }
+    
+    @Test
+    void assertGenerateWithVerbatimIdentifiersAndComments() {
+        String sql = "SELECT `c1`, \"c2\", [c3], x'1F', 1e5, t.2, $1, 'it''s', 'a*b' /* 1 */ FROM t_order -- 2\nWHERE id = 3 # 4";
+        Optional<SQLFingerprint> actual = SQLFingerprintGenerator.generate(sql);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLiterals().size(), is(1));
+        assertLiteral(actual.get().getLiterals().get(0), sql.indexOf("= 3") + 2, sql.indexOf("= 3") + 2, false);
+    }
+    
+    @Test
+    void assertGenerateWithUnsupportedCharacters() {
+        assertFalse(SQLFingerprintGenerator.generate("SELECT * FROM t_order WHERE status = 'O\\'K'").isPresent());
+        assertFalse(SQLFingerprintGenerator.generate("SELECT * FROM t_order WHERE status = '😀'").isPresent());
+        assertFalse(SQLFingerprintGenerator.generate("SELECT * FROM t_order WHERE status = '\u0001'").isPresent());
+    }
+    
+    private void assertLiteral(final SQLFingerprintLiteral actual, final int expectedStartIndex, final int expectedStopIndex, final boolean expectedQuoted) {
+        assertThat(actual.getStartIndex(), is(expectedStartIndex));
+        assertThat(actual.getStopIndex(), is(expectedStopIndex));
+        assertThat(actual.isQuoted(), is(expectedQuoted));
+    }
+}
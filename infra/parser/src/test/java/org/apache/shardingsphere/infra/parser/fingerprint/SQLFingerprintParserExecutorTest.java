@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.fingerprint;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SQLFingerprintParserExecutorTest {
+    
+    private static final String FIRST_SQL = "SELECT * FROM t_order WHERE order_id = 1 AND status = 'OK'";
+    
+    private static final String SECOND_SQL = "SELECT * FROM t_order WHERE order_id = 2 AND status = 'NO'";
+    
+    private final SQLParserExecutor parserExecutor = mock(SQLParserExecutor.class);
+    
+    private final SQLStatementVisitorEngine visitorEngine = mock(SQLStatementVisitorEngine.class);
+    
+    private final List<String> visitedLiterals = new LinkedList<>();
+    
+    private SQLFingerprintParserExecutor sqlFingerprintParserExecutor;
+    
+    @BeforeEach
+    void setUp() throws ReflectiveOperationException {
+        sqlFingerprintParserExecutor = new SQLFingerprintParserExecutor(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new CacheOption(128, 1024L), false);
+        Plugins.getMemberAccessor().set(SQLFingerprintParserExecutor.class.getDeclaredField("parserExecutor"), sqlFingerprintParserExecutor, parserExecutor);
+        Plugins.getMemberAccessor().set(SQLFingerprintParserExecutor.class.getDeclaredField("visitorEngine"), sqlFingerprintParserExecutor, visitorEngine);
+    }
+    
+    @Test
+    void assertParseWithSameFingerprint() {
+        mockParse(createToken(39, 39), createToken(54, 57));
+        sqlFingerprintParserExecutor.parse(FIRST_SQL);
+        sqlFingerprintParserExecutor.parse(SECOND_SQL);
+        verify(parserExecutor).parse(eq(FIRST_SQL), any(CharStream.class));
+        verify(parserExecutor, never()).parse(eq(SECOND_SQL), any(CharStream.class));
+        assertThat(visitedLiterals, is(Arrays.asList("1 'OK'", "2 'NO'")));
+        assertThat(sqlFingerprintParserExecutor.getCacheStats().hitCount(), is(1L));
+        assertThat(sqlFingerprintParserExecutor.getCacheStats().missCount(), is(1L));
+    }
+    
+    @Test
+    void assertParseWithUnbindableLiterals() {
+        mockParse(createToken(39, 39), createToken(55, 56));
+        sqlFingerprintParserExecutor.parse(FIRST_SQL);
+        sqlFingerprintParserExecutor.parse(SECOND_SQL);
+        verify(parserExecutor).parse(eq(FIRST_SQL), any(CharStream.class));
+        verify(parserExecutor).parse(eq(SECOND_SQL), any(CharStream.class));
+        assertThat(visitedLiterals, is(Arrays.asList("1 'OK'", "2 'NO'")));
+        assertThat(sqlFingerprintParserExecutor.getCacheStats().missCount(), is(2L));
+    }
+    
+    @Test
+    void assertParseWithoutFingerprint() {
+        String sql = "SELECT * FROM t_order WHERE status = 'O\\'K'";
+        SQLStatement expected = mock(SQLStatement.class);
+        ParseASTNode parseASTNode = mock(ParseASTNode.class);
+        when(parserExecutor.parse(sql)).thenReturn(parseASTNode);
+        when(visitorEngine.visit(parseASTNode)).thenReturn(expected);
+        assertThat(sqlFingerprintParserExecutor.parse(sql), is(expected));
+        verify(parserExecutor, times(0)).parse(anyString(), any(CharStream.class));
+    }
+    
+    private void mockParse(final Token... tokens) {
+        when(parserExecutor.parse(anyString(), any(CharStream.class))).thenAnswer(invocation -> {
+            CharStream charStream = invocation.getArgument(1);
+            ParseASTNode result = mock(ParseASTNode.class);
+            when(result.getTokens()).thenReturn(Arrays.asList(tokens));
+            when(visitorEngine.visit(result)).thenAnswer(visitInvocation -> {
+                visitedLiterals.add(charStream.getText(Interval.of(39, 39)) + " " + charStream.getText(Interval.of(54, 57)));
+                return mock(SQLStatement.class);
+            });
+            return result;
+        });
+    }
+    
+    private Token createToken(final int startIndex, final int stopIndex) {
+        CommonToken result = new CommonToken(Token.MIN_USER_TOKEN_TYPE);
+        result.setStartIndex(startIndex);
+        result.setStopIndex(stopIndex);
+        return result;
+    }
+}
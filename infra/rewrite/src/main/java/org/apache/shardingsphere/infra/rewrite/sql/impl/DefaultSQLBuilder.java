@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.template.SQLRewriteTemplate;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 
 /**
@@ -26,7 +27,7 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 public final class DefaultSQLBuilder extends AbstractSQLBuilder {
     
     public DefaultSQLBuilder(final SQLRewriteContext context) {
-        super(context, null);
+        super(new SQLRewriteTemplate(context), null);
     }
     
     @Override
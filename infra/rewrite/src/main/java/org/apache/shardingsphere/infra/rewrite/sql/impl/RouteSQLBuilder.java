@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.template.SQLRewriteTemplate;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
@@ -30,7 +31,11 @@ public final class RouteSQLBuilder extends AbstractSQLBuilder {
     private final RouteUnit routeUnit;
     
     public RouteSQLBuilder(final SQLRewriteContext context, final RouteUnit routeUnit) {
-        super(context, routeUnit);
+        this(new SQLRewriteTemplate(context), routeUnit);
+    }
+    
+    public RouteSQLBuilder(final SQLRewriteTemplate template, final RouteUnit routeUnit) {
+        super(template, routeUnit);
         this.routeUnit = routeUnit;
     }
     
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.template;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * SQL rewrite template.
+ * 
+ * <p>SQL tokens are sorted and texts between them are cut only once for a SQL rewrite context.
+ * Texts of SQL tokens which are not route unit aware are fixed as well, so SQL of each route unit only fills in texts of route unit aware and composable SQL tokens.</p>
+ */
+public final class SQLRewriteTemplate {
+    
+    private static final int DYNAMIC_TEXT_LENGTH_ESTIMATION = 16;
+    
+    @Getter
+    private final String sql;
+    
+    private final List<SQLToken> sqlTokens;
+    
+    private final List<String> fixedTexts;
+    
+    private final List<SQLToken> dynamicSQLTokens;
+    
+    private final int estimatedLength;
+    
+    public SQLRewriteTemplate(final SQLRewriteContext context) {
+        this(context.getSql(), context.getSqlTokens());
+    }
+    
+    public SQLRewriteTemplate(final String sql, final List<SQLToken> sqlTokens) {
+        this.sql = sql;
+        this.sqlTokens = new ArrayList<>(sqlTokens);
+        Collections.sort(this.sqlTokens);
+        fixedTexts = new ArrayList<>();
+        dynamicSQLTokens = new ArrayList<>();
+        if (this.sqlTokens.isEmpty()) {
+            fixedTexts.add(sql);
+            estimatedLength = sql.length();
+            return;
+        }
+        StringBuilder fixedText = new StringBuilder(sql.length()).append(sql, 0, this.sqlTokens.get(0).getStartIndex());
+        for (int i = 0; i < this.sqlTokens.size(); i++) {
+            SQLToken each = this.sqlTokens.get(i);
+            if (isDynamic(each)) {
+                fixedTexts.add(fixedText.toString());
+                fixedText.setLength(0);
+                dynamicSQLTokens.add(each);
+            } else {
+                fixedText.append(each);
+            }
+            fixedText.append(getConjunctionText(each, i));
+        }
+        fixedTexts.add(fixedText.toString());
+        estimatedLength = fixedTexts.stream().mapToInt(String::length).sum() + dynamicSQLTokens.size() * DYNAMIC_TEXT_LENGTH_ESTIMATION;
+    }
+    
+    private boolean isDynamic(final SQLToken sqlToken) {
+        return sqlToken instanceof RouteUnitAware || sqlToken instanceof ComposableSQLToken;
+    }
+    
+    /**
+     * Judge whether SQL rewrite template contains SQL tokens.
+     *
+     * @return contains SQL tokens or not
+     */
+    public boolean containsSQLTokens() {
+        return !sqlTokens.isEmpty();
+    }
+    
+    /**
+     * Fill template into SQL.
+     *
+     * @param dynamicTextProvider text provider of route unit aware and composable SQL tokens
+     * @return SQL
+     */
+    public String fill(final Function<SQLToken, String> dynamicTextProvider) {
+        if (dynamicSQLTokens.isEmpty()) {
+            return fixedTexts.get(0);
+        }
+        StringBuilder result = new StringBuilder(estimatedLength);
+        for (int i = 0; i < dynamicSQLTokens.size(); i++) {
+            result.append(fixedTexts.get(i)).append(dynamicTextProvider.apply(dynamicSQLTokens.get(i)));
+        }
+        return result.append(fixedTexts.get(dynamicSQLTokens.size())).toString();
+    }
+    
+    /**
+     * Get conjunction text after SQL token.
+     *
+     * @param sqlToken SQL token
+     * @return conjunction text
+     */
+    public String getConjunctionText(final SQLToken sqlToken) {
+        return getConjunctionText(sqlToken, sqlTokens.indexOf(sqlToken));
+    }
+    
+    private String getConjunctionText(final SQLToken sqlToken, final int sqlTokenIndex) {
+        int startIndex = Math.min(sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex(), sql.length());
+        int stopIndex = sqlTokens.size() - 1 == sqlTokenIndex ? sql.length() : sqlTokens.get(sqlTokenIndex + 1).getStartIndex();
+        return sql.substring(startIndex, stopIndex);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.template;
+
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.RouteUnitAwareSQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class SQLRewriteTemplateTest {
+    
+    @Test
+    void assertFillWithoutSQLTokens() {
+        SQLRewriteTemplate actual = new SQLRewriteTemplate("SELECT * FROM tbl", Collections.emptyList());
+        assertFalse(actual.containsSQLTokens());
+        assertThat(actual.fill(each -> "ignored"), is("SELECT * FROM tbl"));
+    }
+    
+    @Test
+    void assertFillWithUnsortedSQLTokens() {
+        SQLRewriteTemplate actual = new SQLRewriteTemplate("SELECT * FROM tbl WHERE id=? AND name=?",
+                Arrays.asList(new SQLTokenFixture(33, 36), new RouteUnitAwareSQLTokenFixture(14, 16)));
+        assertThat(actual.fill(each -> "tbl_0"), is("SELECT * FROM tbl_0 WHERE id=? AND XXX=?"));
+        assertThat(actual.fill(each -> "tbl_1"), is("SELECT * FROM tbl_1 WHERE id=? AND XXX=?"));
+    }
+    
+    @Test
+    void assertFillForEachRouteUnit() {
+        SQLRewriteTemplate template = new SQLRewriteTemplate("SELECT * FROM tbl WHERE id=?", Collections.singletonList(new RouteUnitAwareSQLTokenFixture(14, 16)));
+        assertThat(new RouteSQLBuilder(template, createRouteUnit("tbl_0")).toSQL(), is("SELECT * FROM tbl_0 WHERE id=?"));
+        assertThat(new RouteSQLBuilder(template, createRouteUnit("tbl_1")).toSQL(), is("SELECT * FROM tbl_1 WHERE id=?"));
+    }
+    
+    private RouteUnit createRouteUnit(final String actualTableName) {
+        return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", actualTableName)));
+    }
+}
@@ -31,12 +31,15 @@ public final class TransactionConnectionContext implements AutoCloseable {
     
     private volatile long beginMills;
     
+    private volatile long commitTimestamp;
+    
     private volatile String readWriteSplitReplicaRoute;
     
     @Override
     public void close() {
         inTransaction = false;
         beginMills = 0L;
+        commitTimestamp = 0L;
         readWriteSplitReplicaRoute = null;
     }
 }
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.DeleteStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Execution context generator for add batch of prepared statement.
+ * 
+ * <p>SQL of single row insert and single table update or delete, which is rewritten by data node contained rules only, depends on route unit but not on parameters.
+ * So SQL of each route unit is rewritten once in a batch, and later parameter sets are only routed.</p>
+ */
+public final class BatchExecutionContextGenerator {
+    
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    private final Map<RouteUnit, String> rewrittenSQLs = new HashMap<>();
+    
+    private Boolean routeOnceSupported;
+    
+    /**
+     * Generate execution context.
+     *
+     * @param queryContext query context
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @param connectionContext connection context
+     * @return execution context
+     */
+    public ExecutionContext generate(final QueryContext queryContext, final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData,
+                                     final ConfigurationProperties props, final ConnectionContext connectionContext) {
+        if (null == routeOnceSupported) {
+            routeOnceSupported = isRouteOnceSupported(queryContext.getSqlStatementContext(), database, props);
+        }
+        if (!routeOnceSupported) {
+            return kernelProcessor.generateExecutionContext(queryContext, database, globalRuleMetaData, props, connectionContext);
+        }
+        RouteContext routeContext = new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(connectionContext, queryContext, globalRuleMetaData, database);
+        Collection<ExecutionUnit> executionUnits = createExecutionUnits(routeContext, queryContext.getParameters());
+        if (null != executionUnits) {
+            return new ExecutionContext(queryContext, executionUnits, routeContext);
+        }
+        SQLRewriteResult rewriteResult = new SQLRewriteEntry(database, globalRuleMetaData, props).rewrite(queryContext, routeContext, connectionContext);
+        cacheRewrittenSQLs(rewriteResult, queryContext.getParameters());
+        return new ExecutionContext(queryContext, ExecutionContextBuilder.build(database, rewriteResult, queryContext.getSqlStatementContext()), routeContext);
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private boolean isRouteOnceSupported(final SQLStatementContext sqlStatementContext, final ShardingSphereDatabase database, final ConfigurationProperties props) {
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW) || !isRouteOnceSupported(sqlStatementContext)) {
+            return false;
+        }
+        Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators = OrderedSPILoader.getServices(SQLRewriteContextDecorator.class, database.getRuleMetaData().getRules());
+        return decorators.keySet().stream().allMatch(DataNodeContainedRule.class::isInstance);
+    }
+    
+    private boolean isRouteOnceSupported(final SQLStatementContext sqlStatementContext) {
+        if (sqlStatementContext instanceof InsertStatementContext) {
+            InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+            return null == insertStatementContext.getInsertSelectContext() && 1 == insertStatementContext.getInsertValueContexts().size()
+                    && !insertStatementContext.getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false);
+        }
+        if (sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext) {
+            return 1 == sqlStatementContext.getTablesContext().getTableNames().size();
+        }
+        return false;
+    }
+    
+    private Collection<ExecutionUnit> createExecutionUnits(final RouteContext routeContext, final List<Object> params) {
+        if (routeContext.getRouteUnits().isEmpty()) {
+            return null;
+        }
+        Collection<ExecutionUnit> result = new LinkedHashSet<>(routeContext.getRouteUnits().size(), 1F);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            String sql = rewrittenSQLs.get(each);
+            if (null == sql) {
+                return null;
+            }
+            result.add(new ExecutionUnit(each.getDataSourceMapper().getActualName(), new SQLUnit(sql, new ArrayList<>(params), createTableRouteMappers(each))));
+        }
+        return result;
+    }
+    
+    private List<RouteMapper> createTableRouteMappers(final RouteUnit routeUnit) {
+        List<RouteMapper> result = new ArrayList<>(routeUnit.getTableMappers().size());
+        for (RouteMapper each : routeUnit.getTableMappers()) {
+            result.add(new RouteMapper(each.getLogicName(), each.getActualName()));
+        }
+        return result;
+    }
+    
+    private void cacheRewrittenSQLs(final SQLRewriteResult rewriteResult, final List<Object> params) {
+        if (!(rewriteResult instanceof RouteSQLRewriteResult)) {
+            routeOnceSupported = false;
+            return;
+        }
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : ((RouteSQLRewriteResult) rewriteResult).getSqlRewriteUnits().entrySet()) {
+            if (!params.equals(entry.getValue().getParameters())) {
+                routeOnceSupported = false;
+                rewrittenSQLs.clear();
+                return;
+            }
+            rewrittenSQLs.put(entry.getKey(), entry.getValue().getSql());
+        }
+    }
+    
+    /**
+     * Clear rewritten SQLs and route once decision of current batch.
+     */
+    public void clear() {
+        rewrittenSQLs.clear();
+        routeOnceSupported = null;
+    }
+}
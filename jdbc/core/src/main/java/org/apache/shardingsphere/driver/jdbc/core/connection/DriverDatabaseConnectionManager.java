@@ -25,6 +25,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.driver.jdbc.adapter.invocation.MethodInvocationRecorder;
 import org.apache.shardingsphere.driver.jdbc.core.ShardingSphereSavepoint;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
 import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
 import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
@@ -42,6 +43,7 @@ import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.traffic.rule.TrafficRule;
 import org.apache.shardingsphere.transaction.ConnectionSavepointManager;
 import org.apache.shardingsphere.transaction.ConnectionTransaction;
+import org.apache.shardingsphere.transaction.LocalTransactionFanOutExecutor;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
 
 import javax.sql.DataSource;
@@ -172,9 +174,9 @@ public final class DriverDatabaseConnectionManager implements DatabaseConnection
     public void commit() throws SQLException {
         try {
             if (connectionTransaction.isLocalTransaction() && connectionTransaction.isRollbackOnly()) {
-                forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback);
+                rollbackLocalTransaction();
             } else if (connectionTransaction.isLocalTransaction()) {
-                forceExecuteTemplate.execute(cachedConnections.values(), Connection::commit);
+                commitLocalTransaction();
             } else {
                 connectionTransaction.commit();
             }
@@ -193,7 +195,7 @@ public final class DriverDatabaseConnectionManager implements DatabaseConnection
     public void rollback() throws SQLException {
         try {
             if (connectionTransaction.isLocalTransaction()) {
-                forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback);
+                rollbackLocalTransaction();
             } else {
                 connectionTransaction.rollback();
             }
@@ -204,6 +206,35 @@ public final class DriverDatabaseConnectionManager implements DatabaseConnection
         }
     }
     
+    private void commitLocalTransaction() throws SQLException {
+        if (isParallelCommitEnabled()) {
+            throwSQLExceptionIfNecessary(LocalTransactionFanOutExecutor.commit(cachedConnections.entries()));
+        } else {
+            forceExecuteTemplate.execute(cachedConnections.values(), Connection::commit);
+        }
+    }
+    
+    private void rollbackLocalTransaction() throws SQLException {
+        if (isParallelCommitEnabled()) {
+            throwSQLExceptionIfNecessary(LocalTransactionFanOutExecutor.rollback(cachedConnections.entries()));
+        } else {
+            forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback);
+        }
+    }
+    
+    private boolean isParallelCommitEnabled() {
+        return cachedConnections.size() > 1 && contextManager.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.TRANSACTION_PARALLEL_COMMIT_ENABLED);
+    }
+    
+    private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
+        if (exceptions.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException("");
+        exceptions.forEach(ex::setNextException);
+        throw ex;
+    }
+    
     /**
      * Rollback to savepoint.
      *
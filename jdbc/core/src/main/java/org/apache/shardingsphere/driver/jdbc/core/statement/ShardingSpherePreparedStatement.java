@@ -23,6 +23,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.DriverExecutor;
 import org.apache.shardingsphere.driver.executor.batch.BatchExecutionUnit;
+import org.apache.shardingsphere.driver.executor.batch.BatchExecutionContextGenerator;
 import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
 import org.apache.shardingsphere.driver.executor.callback.impl.PreparedStatementExecuteQueryCallback;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractPreparedStatementAdapter;
@@ -137,6 +138,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final BatchPreparedStatementExecutor batchPreparedStatementExecutor;
     
+    private final BatchExecutionContextGenerator batchExecutionContextGenerator = new BatchExecutionContextGenerator();
+    
     private final Collection<Comparable<?>> generatedValues = new LinkedList<>();
     
     private final KernelProcessor kernelProcessor;
@@ -604,6 +607,16 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         return Collections.singleton(result);
     }
     
+    private Collection<ExecutionContext> createBatchExecutionContext(final QueryContext queryContext) {
+        RuleMetaData globalRuleMetaData = metaDataContexts.getMetaData().getGlobalRuleMetaData();
+        ShardingSphereDatabase currentDatabase = metaDataContexts.getMetaData().getDatabase(databaseName);
+        SQLAuditEngine.audit(queryContext.getSqlStatementContext(), queryContext.getParameters(), globalRuleMetaData, currentDatabase, null, queryContext.getHintValueContext());
+        ExecutionContext result = batchExecutionContextGenerator.generate(
+                queryContext, currentDatabase, globalRuleMetaData, metaDataContexts.getMetaData().getProps(), connection.getDatabaseConnectionManager().getConnectionContext());
+        findGeneratedKey(result).ifPresent(optional -> generatedValues.addAll(optional.getGeneratedValues()));
+        return Collections.singleton(result);
+    }
+    
     private Collection<ExecutionContext> createExecutionContext(final QueryContext queryContext, final String trafficInstanceId) {
         ExecutionUnit executionUnit = new ExecutionUnit(trafficInstanceId, new SQLUnit(queryContext.getSql(), queryContext.getParameters()));
         return Collections.singleton(new ExecutionContext(queryContext, Collections.singletonList(executionUnit), new RouteContext()));
@@ -686,7 +699,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         try {
             QueryContext queryContext = createQueryContext();
             trafficInstanceId = getInstanceIdAndSet(queryContext).orElse(null);
-            executionContexts = null == trafficInstanceId ? createExecutionContext(queryContext) : createExecutionContext(queryContext, trafficInstanceId);
+            executionContexts = null == trafficInstanceId ? createBatchExecutionContext(queryContext) : createExecutionContext(queryContext, trafficInstanceId);
             batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContexts.iterator().next().getExecutionUnits());
         } finally {
             currentResultSet = null;
@@ -750,6 +763,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     public void clearBatch() {
         currentResultSet = null;
         batchPreparedStatementExecutor.clear();
+        batchExecutionContextGenerator.clear();
         clearParameters();
     }
     
@@ -780,4 +794,12 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     public Collection<PreparedStatement> getRoutedStatements() {
         return statements;
     }
+    
+    @Override
+    protected void closeCurrentResultSet() throws SQLException {
+        if (null != currentResultSet) {
+            currentResultSet.close();
+            currentResultSet = null;
+        }
+    }
 }
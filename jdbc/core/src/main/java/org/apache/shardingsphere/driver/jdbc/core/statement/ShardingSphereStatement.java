@@ -721,4 +721,12 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     private String getGeneratedKeysColumnName(final String columnName) {
         return metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType() instanceof MySQLDatabaseType ? "GENERATED_KEY" : columnName;
     }
+    
+    @Override
+    protected void closeCurrentResultSet() throws SQLException {
+        if (null != currentResultSet) {
+            currentResultSet.close();
+            currentResultSet = null;
+        }
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchExecutionContextGeneratorTest {
+    
+    private static final String SQL = "INSERT INTO t_order (order_id, user_id) VALUES (?, ?)";
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    @Test
+    void assertGenerateWithRewriteOncePerRouteUnit() {
+        InsertStatementContext sqlStatementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getInsertValueContexts().size()).thenReturn(1);
+        when(sqlStatementContext.getInsertSelectContext()).thenReturn(null);
+        when(sqlStatementContext.getGeneratedKeyContext()).thenReturn(Optional.empty());
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(routeUnit);
+        Map<RouteUnit, SQLRewriteUnit> rewriteUnits = new LinkedHashMap<>();
+        rewriteUnits.put(routeUnit, new SQLRewriteUnit("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)", Arrays.asList(1, 10)));
+        BatchExecutionContextGenerator generator = new BatchExecutionContextGenerator();
+        try (
+                MockedConstruction<SQLRouteEngine> routeEngines = mockConstruction(SQLRouteEngine.class, (mock, context) -> when(mock.route(any(), any(), any(), any())).thenReturn(routeContext));
+                MockedConstruction<SQLRewriteEntry> rewriteEntries = mockConstruction(SQLRewriteEntry.class,
+                        (mock, context) -> when(mock.rewrite(any(), any(), any())).thenReturn(new RouteSQLRewriteResult(rewriteUnits)))) {
+            generate(generator, sqlStatementContext, Arrays.asList(1, 10));
+            ExecutionContext actual = generate(generator, sqlStatementContext, Arrays.asList(2, 20));
+            assertThat(rewriteEntries.constructed().size(), is(1));
+            assertThat(routeEngines.constructed().size(), is(2));
+            ExecutionUnit actualExecutionUnit = actual.getExecutionUnits().iterator().next();
+            assertThat(actualExecutionUnit.getDataSourceName(), is("ds_0"));
+            assertThat(actualExecutionUnit.getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)"));
+            assertThat(actualExecutionUnit.getSqlUnit().getParameters(), is(Arrays.<Object>asList(2, 20)));
+        }
+    }
+    
+    @Test
+    void assertGenerateWithUnsupportedStatement() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        try (MockedConstruction<KernelProcessor> kernelProcessors = mockConstruction(KernelProcessor.class)) {
+            BatchExecutionContextGenerator generator = new BatchExecutionContextGenerator();
+            generate(generator, sqlStatementContext, Collections.singletonList(1));
+            generate(generator, sqlStatementContext, Collections.singletonList(2));
+            assertThat(kernelProcessors.constructed().size(), is(1));
+            verify(kernelProcessors.constructed().get(0), times(2)).generateExecutionContext(any(), any(), any(), any(), any());
+        }
+    }
+    
+    private ExecutionContext generate(final BatchExecutionContextGenerator generator, final SQLStatementContext sqlStatementContext, final List<Object> params) {
+        return generator.generate(new QueryContext(sqlStatementContext, SQL, params, new HintValueContext()), mockDatabase(), mock(RuleMetaData.class), props, mock(ConnectionContext.class));
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getRuleMetaData()).thenReturn(new RuleMetaData(Collections.emptyList()));
+        return result;
+    }
+}
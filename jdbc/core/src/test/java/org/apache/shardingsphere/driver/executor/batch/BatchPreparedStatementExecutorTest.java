@@ -121,6 +121,24 @@ class BatchPreparedStatementExecutorTest {
         executorEngine.close();
     }
     
+    @Test
+    void assertAddBatchForExecutionUnits() {
+        executor.addBatchForExecutionUnits(Arrays.asList(createExecutionUnit("ds_0", 1), createExecutionUnit("ds_1", 1)));
+        executor.addBatchForExecutionUnits(Collections.singleton(createExecutionUnit("ds_0", 2)));
+        List<BatchExecutionUnit> actual = new LinkedList<>(executor.getBatchExecutionUnits());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getParameterSets(), is(Arrays.asList(Collections.singletonList(1), Collections.singletonList(2))));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap().get(1), is(1));
+        assertThat(actual.get(1).getParameterSets(), is(Collections.singletonList(Collections.singletonList(1))));
+        executor.clear();
+        executor.addBatchForExecutionUnits(Collections.singleton(createExecutionUnit("ds_0", 3)));
+        assertThat(executor.getBatchExecutionUnits().iterator().next().getParameterSets(), is(Collections.singletonList(Collections.singletonList(3))));
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName, final Object param) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(param))));
+    }
+    
     @Test
     void assertNoPreparedStatement() throws SQLException {
         PreparedStatement preparedStatement = getPreparedStatement();
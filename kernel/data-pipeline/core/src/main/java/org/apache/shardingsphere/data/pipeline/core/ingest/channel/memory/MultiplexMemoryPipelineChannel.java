@@ -30,6 +30,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -45,9 +46,12 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     private final Map<String, Integer> channelAssignment = new HashMap<>();
     
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
+        this(channelNumber, () -> new SimpleMemoryPipelineChannel(blockQueueSize < 1 ? 5 : blockQueueSize, ackCallback));
+    }
+    
+    public MultiplexMemoryPipelineChannel(final int channelNumber, final Supplier<PipelineChannel> channelCreator) {
         this.channelNumber = channelNumber;
-        int handledQueueSize = blockQueueSize < 1 ? 5 : blockQueueSize;
-        channels = IntStream.range(0, channelNumber).mapToObj(each -> new SimpleMemoryPipelineChannel(handledQueueSize, ackCallback)).collect(Collectors.toList());
+        channels = IntStream.range(0, channelNumber).mapToObj(each -> channelCreator.get()).collect(Collectors.toList());
     }
     
     @Override
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ring buffer pipeline channel.
+ * <p>It supports one push thread and one fetch thread.</p>
+ * 
+ * <p>Records of each push are published to the ring buffer by one batched claim, and sizes of pushes are published ahead of them,
+ * so that peek and poll still return records of one push. A push larger than capacity is peeked and polled by its available records.
+ * Pushing records after closed throws {@link org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineJobCancelingException}.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private final SingleProducerSingleConsumerRingBuffer<Record> ringBuffer;
+    
+    private final SingleProducerSingleConsumerRingBuffer<Integer> pushSizes;
+    
+    private final AckCallback ackCallback;
+    
+    private int remainingPushSize;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final AckCallback ackCallback) {
+        ringBuffer = new SingleProducerSingleConsumerRingBuffer<>(bufferSize);
+        pushSizes = new SingleProducerSingleConsumerRingBuffer<>(ringBuffer.getCapacity() + 1);
+        this.ackCallback = ackCallback;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void pushRecords(final List<Record> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        pushSizes.publish(records.size());
+        ringBuffer.publishAll(records);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final long timeout, final TimeUnit timeUnit) {
+        List<Record> result = new ArrayList<>();
+        long deadlineNanos = System.nanoTime() + timeUnit.toNanos(timeout);
+        while ((result.size() < batchSize || remainingPushSize > 0) && ringBuffer.awaitAvailable(deadlineNanos)) {
+            do {
+                result.add(pollRecord());
+            } while (remainingPushSize > 0 && 0 != ringBuffer.getOccupancy());
+        }
+        return result;
+    }
+    
+    private Record pollRecord() {
+        if (0 == remainingPushSize) {
+            remainingPushSize = pushSizes.poll();
+        }
+        remainingPushSize--;
+        return ringBuffer.poll();
+    }
+    
+    @Override
+    public List<Record> peekRecords() {
+        return ringBuffer.peek(getNextPushSize());
+    }
+    
+    @Override
+    public List<Record> pollRecords() {
+        int count = getNextPushSize();
+        if (0 == count || ringBuffer.getOccupancy() < count) {
+            return Collections.emptyList();
+        }
+        List<Record> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(pollRecord());
+        }
+        return result;
+    }
+    
+    private int getNextPushSize() {
+        int result = remainingPushSize;
+        if (0 == result) {
+            Integer pushSize = pushSizes.peek();
+            result = null == pushSize ? 0 : pushSize;
+        }
+        return result > ringBuffer.getCapacity() ? Math.min(result, ringBuffer.getOccupancy()) : result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    /**
+     * Get capacity.
+     *
+     * @return capacity of records
+     */
+    public int getCapacity() {
+        return ringBuffer.getCapacity();
+    }
+    
+    @Override
+    public void close() {
+        pushSizes.close();
+        ringBuffer.close();
+    }
+}
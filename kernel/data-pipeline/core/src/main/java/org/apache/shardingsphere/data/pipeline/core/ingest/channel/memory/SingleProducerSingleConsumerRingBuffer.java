@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineJobCancelingException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single producer single consumer ring buffer.
+ * 
+ * <p>The producer and the consumer only share two sequences, waiting side is parked and signaled by the other side.</p>
+ *
+ * @param <E> type of element
+ */
+public final class SingleProducerSingleConsumerRingBuffer<E> {
+    
+    private final Object[] elements;
+    
+    private final int mask;
+    
+    private volatile long producerSequence;
+    
+    private volatile long consumerSequence;
+    
+    private volatile Thread waitingProducer;
+    
+    private volatile Thread waitingConsumer;
+    
+    private volatile boolean closed;
+    
+    public SingleProducerSingleConsumerRingBuffer(final int minCapacity) {
+        int capacity = 1 << 32 - Integer.numberOfLeadingZeros(Math.max(1, minCapacity) - 1);
+        elements = new Object[capacity];
+        mask = capacity - 1;
+    }
+    
+    /**
+     * Get capacity.
+     *
+     * @return capacity
+     */
+    public int getCapacity() {
+        return elements.length;
+    }
+    
+    /**
+     * Get occupancy.
+     *
+     * @return count of published elements which are not consumed
+     */
+    public int getOccupancy() {
+        long consumed = consumerSequence;
+        return (int) (producerSequence - consumed);
+    }
+    
+    /**
+     * Publish element, wait if the ring buffer is full.
+     *
+     * @param element element
+     * @throws InterruptedException interrupted exception
+     */
+    public void publish(final E element) throws InterruptedException {
+        publishAll(Collections.singletonList(element));
+    }
+    
+    /**
+     * Publish elements in batches.
+     * 
+     * <p>Each batch claims all free slots it needs and is published at once, producer waits if the ring buffer is full.</p>
+     *
+     * @param batch elements
+     * @throws InterruptedException interrupted exception
+     * @throws PipelineJobCancelingException pipeline job canceling exception if the ring buffer is closed
+     */
+    public void publishAll(final List<E> batch) throws InterruptedException {
+        int index = 0;
+        while (index < batch.size()) {
+            long sequence = producerSequence;
+            int claimedSize = claim(sequence, batch.size() - index);
+            for (int i = 0; i < claimedSize; i++) {
+                elements[(int) (sequence + i & mask)] = batch.get(index++);
+            }
+            producerSequence = sequence + claimedSize;
+            signal(waitingConsumer);
+        }
+    }
+    
+    private int claim(final long sequence, final int requiredSize) throws InterruptedException {
+        while (!closed) {
+            int freeSize = elements.length - (int) (sequence - consumerSequence);
+            if (freeSize > 0) {
+                return Math.min(freeSize, requiredSize);
+            }
+            waitingProducer = Thread.currentThread();
+            if (elements.length == sequence - consumerSequence && !closed) {
+                LockSupport.park(this);
+            }
+            waitingProducer = null;
+            checkInterrupted();
+        }
+        throw new PipelineJobCancelingException();
+    }
+    
+    /**
+     * Wait until any element is available.
+     *
+     * @param deadlineNanos deadline of {@link System#nanoTime()}
+     * @return whether any element is available
+     * @throws InterruptedException interrupted exception
+     */
+    public boolean awaitAvailable(final long deadlineNanos) throws InterruptedException {
+        while (consumerSequence == producerSequence) {
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0L || closed) {
+                return false;
+            }
+            waitingConsumer = Thread.currentThread();
+            if (consumerSequence == producerSequence && !closed) {
+                LockSupport.parkNanos(this, remainingNanos);
+            }
+            waitingConsumer = null;
+            checkInterrupted();
+        }
+        return true;
+    }
+    
+    /**
+     * Peek element.
+     *
+     * @return element, null if the ring buffer is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        long sequence = consumerSequence;
+        return sequence == producerSequence ? null : (E) elements[(int) (sequence & mask)];
+    }
+    
+    /**
+     * Peek elements.
+     *
+     * @param count count of elements
+     * @return elements, empty if fewer elements are available
+     */
+    @SuppressWarnings("unchecked")
+    public List<E> peek(final int count) {
+        long sequence = consumerSequence;
+        if (producerSequence - sequence < count) {
+            return Collections.emptyList();
+        }
+        List<E> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add((E) elements[(int) (sequence + i & mask)]);
+        }
+        return result;
+    }
+    
+    /**
+     * Poll element.
+     *
+     * @return element, null if the ring buffer is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long sequence = consumerSequence;
+        if (sequence == producerSequence) {
+            return null;
+        }
+        int index = (int) (sequence & mask);
+        E result = (E) elements[index];
+        elements[index] = null;
+        consumerSequence = sequence + 1L;
+        signal(waitingProducer);
+        return result;
+    }
+    
+    private void signal(final Thread waitingThread) {
+        if (null != waitingThread) {
+            LockSupport.unpark(waitingThread);
+        }
+    }
+    
+    private void checkInterrupted() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+    
+    /**
+     * Close, waiting producer and consumer are released.
+     */
+    public void close() {
+        closed = true;
+        signal(waitingProducer);
+        signal(waitingConsumer);
+    }
+}
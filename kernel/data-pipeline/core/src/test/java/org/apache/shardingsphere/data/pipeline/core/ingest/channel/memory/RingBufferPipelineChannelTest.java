@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineJobCancelingException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertPushAndFetchRecordsAcrossThreads() throws InterruptedException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, new EmptyAckCallback());
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < 100; i++) {
+                channel.pushRecords(Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition())));
+            }
+        });
+        thread.start();
+        List<Record> actual = new ArrayList<>(100);
+        while (actual.size() < 100) {
+            actual.addAll(channel.fetchRecords(10, 1, TimeUnit.SECONDS));
+        }
+        thread.join();
+        assertThat(actual.size(), is(100));
+        assertTrue(channel.pollRecords().isEmpty());
+    }
+    
+    @Test
+    void assertFetchRecordsWithBatchSize() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(10, new EmptyAckCallback());
+        Record record = new PlaceholderRecord(new IngestFinishedPosition());
+        channel.pushRecords(Arrays.asList(record, record));
+        channel.pushRecords(Arrays.asList(record, record));
+        channel.pushRecords(Collections.singletonList(record));
+        assertThat(channel.fetchRecords(3, 1, TimeUnit.SECONDS).size(), is(4));
+        assertThat(channel.fetchRecords(3, 1, TimeUnit.SECONDS).size(), is(1));
+    }
+    
+    @Test
+    void assertFetchRecordsTimeoutCorrectly() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(10, new EmptyAckCallback());
+        long startMillis = System.currentTimeMillis();
+        channel.fetchRecords(1, 1, TimeUnit.MILLISECONDS);
+        long delta = System.currentTimeMillis() - startMillis;
+        assertTrue(delta >= 1 && delta < 50, "Delta is not in [1,50) : " + delta);
+        startMillis = System.currentTimeMillis();
+        channel.fetchRecords(1, 500, TimeUnit.MILLISECONDS);
+        delta = System.currentTimeMillis() - startMillis;
+        assertTrue(delta >= 500 && delta < 750, "Delta is not in [500,750) : " + delta);
+    }
+    
+    @Test
+    void assertPeekAndPollRecords() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(10, new EmptyAckCallback());
+        assertTrue(channel.peekRecords().isEmpty());
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.pushRecords(records);
+        assertThat(channel.peekRecords(), is(records));
+        assertThat(channel.pollRecords(), is(records));
+        assertTrue(channel.pollRecords().isEmpty());
+    }
+    
+    @Test
+    void assertPeekAndPollRecordsOfEachPush() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new EmptyAckCallback());
+        List<Record> firstRecords = Arrays.asList(new PlaceholderRecord(new IngestFinishedPosition()), new PlaceholderRecord(new IngestFinishedPosition()));
+        List<Record> secondRecords = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.pushRecords(firstRecords);
+        channel.pushRecords(Collections.emptyList());
+        channel.pushRecords(secondRecords);
+        assertThat(channel.peekRecords(), is(firstRecords));
+        assertThat(channel.pollRecords(), is(firstRecords));
+        assertThat(channel.peekRecords(), is(secondRecords));
+        assertThat(channel.pollRecords(), is(secondRecords));
+        assertTrue(channel.peekRecords().isEmpty());
+    }
+    
+    @Test
+    void assertPollRecordsOfPushLargerThanCapacity() throws InterruptedException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, new EmptyAckCallback());
+        List<Record> records = Arrays.asList(new PlaceholderRecord(new IngestFinishedPosition()), new PlaceholderRecord(new IngestFinishedPosition()),
+                new PlaceholderRecord(new IngestFinishedPosition()));
+        Thread thread = new Thread(() -> channel.pushRecords(records));
+        thread.start();
+        List<Record> actual = new ArrayList<>(3);
+        while (actual.size() < 3) {
+            actual.addAll(channel.pollRecords());
+        }
+        thread.join();
+        assertThat(actual, is(records));
+        assertTrue(channel.pollRecords().isEmpty());
+    }
+    
+    @Test
+    void assertCloseReleasesWaitingProducer() throws InterruptedException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(1, new EmptyAckCallback());
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.pushRecords(records);
+        AtomicReference<Throwable> actual = new AtomicReference<>();
+        Thread thread = new Thread(() -> channel.pushRecords(records));
+        thread.setUncaughtExceptionHandler((t, ex) -> actual.set(ex));
+        thread.start();
+        channel.close();
+        thread.join(1000L);
+        assertThat(thread.isAlive(), is(false));
+        assertThat(actual.get(), instanceOf(PipelineJobCancelingException.class));
+    }
+    
+    @Test
+    void assertPushRecordsAfterClosed() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(10, new EmptyAckCallback());
+        channel.close();
+        assertThrows(PipelineJobCancelingException.class, () -> channel.pushRecords(Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()))));
+    }
+    
+    @Test
+    void assertAck() {
+        AckCallback ackCallback = mock(AckCallback.class);
+        List<Record> records = Collections.emptyList();
+        new RingBufferPipelineChannel(1, ackCallback).ack(records);
+        verify(ackCallback).onAck(records);
+    }
+}
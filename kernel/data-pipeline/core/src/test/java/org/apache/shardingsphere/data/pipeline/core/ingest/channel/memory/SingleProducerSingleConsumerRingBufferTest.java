@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineJobCancelingException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleProducerSingleConsumerRingBufferTest {
+    
+    @Test
+    void assertCapacityRoundedUpToPowerOfTwo() {
+        assertThat(new SingleProducerSingleConsumerRingBuffer<>(0).getCapacity(), is(1));
+        assertThat(new SingleProducerSingleConsumerRingBuffer<>(1).getCapacity(), is(1));
+        assertThat(new SingleProducerSingleConsumerRingBuffer<>(5).getCapacity(), is(8));
+        assertThat(new SingleProducerSingleConsumerRingBuffer<>(8).getCapacity(), is(8));
+    }
+    
+    @Test
+    void assertPublishAllWrapsAround() throws InterruptedException {
+        SingleProducerSingleConsumerRingBuffer<Integer> ringBuffer = new SingleProducerSingleConsumerRingBuffer<>(4);
+        ringBuffer.publishAll(Arrays.asList(1, 2, 3));
+        assertThat(ringBuffer.poll(), is(1));
+        assertThat(ringBuffer.poll(), is(2));
+        ringBuffer.publishAll(Arrays.asList(4, 5, 6));
+        assertThat(ringBuffer.getOccupancy(), is(4));
+        assertThat(ringBuffer.peek(), is(3));
+        for (int i = 3; i <= 6; i++) {
+            assertThat(ringBuffer.poll(), is(i));
+        }
+        assertThat(ringBuffer.poll(), nullValue());
+    }
+    
+    @Test
+    void assertPeekElements() throws InterruptedException {
+        SingleProducerSingleConsumerRingBuffer<Integer> ringBuffer = new SingleProducerSingleConsumerRingBuffer<>(4);
+        ringBuffer.publishAll(Arrays.asList(1, 2, 3));
+        ringBuffer.poll();
+        ringBuffer.publishAll(Arrays.asList(4, 5));
+        assertThat(ringBuffer.peek(4), is(Arrays.asList(2, 3, 4, 5)));
+        assertTrue(ringBuffer.peek(5).isEmpty());
+        assertThat(ringBuffer.getOccupancy(), is(4));
+    }
+    
+    @Test
+    void assertPublishAllWaitsForConsumer() throws InterruptedException {
+        SingleProducerSingleConsumerRingBuffer<Integer> ringBuffer = new SingleProducerSingleConsumerRingBuffer<>(2);
+        Thread thread = new Thread(() -> {
+            try {
+                ringBuffer.publishAll(Arrays.asList(1, 2, 3, 4, 5));
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+        int expected = 1;
+        while (expected <= 5) {
+            if (ringBuffer.awaitAvailable(System.nanoTime() + 1000000000L)) {
+                assertThat(ringBuffer.poll(), is(expected++));
+            }
+        }
+        thread.join();
+        assertThat(ringBuffer.getOccupancy(), is(0));
+    }
+    
+    @Test
+    void assertAwaitAvailableAfterClosed() throws InterruptedException {
+        SingleProducerSingleConsumerRingBuffer<Integer> ringBuffer = new SingleProducerSingleConsumerRingBuffer<>(2);
+        ringBuffer.close();
+        assertThat(ringBuffer.awaitAvailable(System.nanoTime() + 1000000000L), is(false));
+    }
+    
+    @Test
+    void assertPublishAllAfterClosed() {
+        SingleProducerSingleConsumerRingBuffer<Integer> ringBuffer = new SingleProducerSingleConsumerRingBuffer<>(2);
+        ringBuffer.close();
+        assertThrows(PipelineJobCancelingException.class, () -> ringBuffer.publishAll(Arrays.asList(1, 2)));
+    }
+}
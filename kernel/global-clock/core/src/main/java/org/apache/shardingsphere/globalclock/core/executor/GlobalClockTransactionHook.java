@@ -17,7 +17,10 @@
 
 package org.apache.shardingsphere.globalclock.core.executor;
 
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.globalclock.core.provider.CommitOrderedGlobalClockProvider;
 import org.apache.shardingsphere.globalclock.core.provider.GlobalClockProvider;
+import org.apache.shardingsphere.globalclock.core.provider.GlobalClockTimestampBatcher;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.lock.GlobalLockNames;
 import org.apache.shardingsphere.infra.lock.LockContext;
@@ -34,12 +37,26 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Global clock transaction hook.
+ * 
+ * <p>If the global clock provider is commit ordered, snapshot timestamps never pass the oldest committing timestamp.
+ * To keep read your writes, a finished commit waits until snapshot timestamps pass its commit timestamp.
+ * This is head-of-line blocking: the commit latency includes the time older concurrent commits are still in flight.
+ * The wait is bounded, and a warning is logged if older commits are not finished in time.</p>
  */
+@Slf4j
 public final class GlobalClockTransactionHook extends TransactionHookAdapter {
     
+    private static final long COMMIT_VISIBLE_TIMEOUT_MILLIS = 1000L;
+    
+    private static final long COMMIT_VISIBLE_MIN_CHECK_INTERVAL_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    
+    private static final long COMMIT_VISIBLE_MAX_CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+    
     private final LockDefinition lockDefinition = new GlobalLockDefinition(GlobalLockNames.GLOBAL_LOCK.getLockName());
     
     private boolean enabled;
@@ -48,6 +65,8 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
     
     private GlobalClockProvider globalClockProvider;
     
+    private GlobalClockTimestampBatcher snapshotTimestampBatcher;
+    
     @Override
     public void init(final Properties props) {
         if (!Boolean.parseBoolean(props.getProperty("enabled"))) {
@@ -63,7 +82,9 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
         enabled = true;
         this.globalClockTransactionExecutor = globalClockTransactionExecutor.get();
         globalClockProvider = TypedSPILoader.getService(GlobalClockProvider.class, String.join(".", props.getProperty("type"), props.getProperty("provider")));
-        
+        snapshotTimestampBatcher = new GlobalClockTimestampBatcher(globalClockProvider instanceof CommitOrderedGlobalClockProvider
+                ? ((CommitOrderedGlobalClockProvider) globalClockProvider)::getSnapshotTimestamp
+                : globalClockProvider::getCurrentTimestamp);
     }
     
     @Override
@@ -71,7 +92,7 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
         if (!enabled) {
             return;
         }
-        transactionContext.setBeginMills(globalClockProvider.getCurrentTimestamp());
+        transactionContext.setBeginMills(snapshotTimestampBatcher.getTimestamp());
     }
     
     @Override
@@ -88,7 +109,7 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
             return;
         }
         if (null == isolationLevel || TransactionIsolationLevel.READ_COMMITTED == isolationLevel) {
-            globalClockTransactionExecutor.sendSnapshotTimestamp(connections, globalClockProvider.getCurrentTimestamp());
+            globalClockTransactionExecutor.sendSnapshotTimestamp(connections, snapshotTimestampBatcher.getTimestamp());
         }
     }
     
@@ -98,6 +119,12 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
         if (!enabled) {
             return;
         }
+        if (globalClockProvider instanceof CommitOrderedGlobalClockProvider) {
+            if (transactionContext.isInTransaction()) {
+                startOrderedCommit((CommitOrderedGlobalClockProvider) globalClockProvider, connections, transactionContext);
+            }
+            return;
+        }
         if (lockContext.tryLock(lockDefinition, 200L)) {
             globalClockTransactionExecutor.sendCommitTimestamp(connections, globalClockProvider.getCurrentTimestamp());
         }
@@ -109,6 +136,10 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
         if (!enabled) {
             return;
         }
+        if (globalClockProvider instanceof CommitOrderedGlobalClockProvider) {
+            finishOrderedCommit((CommitOrderedGlobalClockProvider) globalClockProvider, transactionContext);
+            return;
+        }
         try {
             globalClockProvider.getNextTimestamp();
         } finally {
@@ -116,6 +147,46 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
         }
     }
     
+    private void startOrderedCommit(final CommitOrderedGlobalClockProvider provider, final Collection<Connection> connections,
+                                    final TransactionConnectionContext transactionContext) throws SQLException {
+        long commitTimestamp = provider.startCommit();
+        boolean sent = false;
+        try {
+            globalClockTransactionExecutor.sendCommitTimestamp(connections, commitTimestamp);
+            sent = true;
+        } finally {
+            if (sent) {
+                transactionContext.setCommitTimestamp(commitTimestamp);
+            } else {
+                provider.finishCommit(commitTimestamp);
+            }
+        }
+    }
+    
+    private void finishOrderedCommit(final CommitOrderedGlobalClockProvider provider, final TransactionConnectionContext transactionContext) {
+        long commitTimestamp = transactionContext.getCommitTimestamp();
+        if (0L == commitTimestamp) {
+            return;
+        }
+        transactionContext.setCommitTimestamp(0L);
+        provider.finishCommit(commitTimestamp);
+        awaitCommitVisible(commitTimestamp);
+    }
+    
+    private void awaitCommitVisible(final long commitTimestamp) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(COMMIT_VISIBLE_TIMEOUT_MILLIS);
+        long checkIntervalNanos = COMMIT_VISIBLE_MIN_CHECK_INTERVAL_NANOS;
+        while (snapshotTimestampBatcher.getTimestamp() <= commitTimestamp) {
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0L) {
+                log.warn("Commit timestamp `{}` is not visible after {} ms because older commits are still in flight, following reads may not see it.", commitTimestamp, COMMIT_VISIBLE_TIMEOUT_MILLIS);
+                return;
+            }
+            LockSupport.parkNanos(Math.min(checkIntervalNanos, remainingNanos));
+            checkIntervalNanos = Math.min(checkIntervalNanos << 1, COMMIT_VISIBLE_MAX_CHECK_INTERVAL_NANOS);
+        }
+    }
+    
     @Override
     public String getType() {
         return "GLOBAL_CLOCK";
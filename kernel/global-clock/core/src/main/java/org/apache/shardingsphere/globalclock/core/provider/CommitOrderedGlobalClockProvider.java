@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.core.provider;
+
+/**
+ * Commit ordered global clock provider.
+ * 
+ * <p>Committing timestamps are tracked, so commits do not need to be serialized by global lock.</p>
+ */
+public interface CommitOrderedGlobalClockProvider extends GlobalClockProvider {
+    
+    /**
+     * Get snapshot timestamp.
+     * 
+     * <p>All commits with timestamp less than snapshot timestamp are finished.</p>
+     *
+     * @return snapshot timestamp
+     */
+    long getSnapshotTimestamp();
+    
+    /**
+     * Start commit.
+     * 
+     * <p>Snapshot timestamp will not be greater than the returned commit timestamp until the commit is finished.</p>
+     *
+     * @return unique commit timestamp
+     */
+    long startCommit();
+    
+    /**
+     * Finish commit.
+     *
+     * @param commitTimestamp commit timestamp returned by start commit
+     */
+    void finishCommit(long commitTimestamp);
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.core.provider;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Global clock timestamp batcher.
+ * 
+ * <p>Concurrent requests share one timestamp request, which is always started after all requests of the batch arrived,
+ * so the shared timestamp is as fresh as an own request of each caller.</p>
+ */
+@RequiredArgsConstructor
+public final class GlobalClockTimestampBatcher {
+    
+    private final LongSupplier timestampSupplier;
+    
+    private final Object lock = new Object();
+    
+    private Batch pendingBatch;
+    
+    private boolean requesting;
+    
+    /**
+     * Get timestamp.
+     *
+     * @return timestamp
+     */
+    public long getTimestamp() {
+        Batch batch;
+        synchronized (lock) {
+            if (null == pendingBatch) {
+                pendingBatch = new Batch();
+            }
+            batch = pendingBatch;
+            if (requesting) {
+                awaitFinishedOrPromoted(batch);
+                if (batch.finished) {
+                    return batch.getResult();
+                }
+                batch.promoted = false;
+            }
+            requesting = true;
+            pendingBatch = null;
+        }
+        try {
+            batch.timestamp = timestampSupplier.getAsLong();
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            batch.failure = ex;
+        }
+        synchronized (lock) {
+            batch.finished = true;
+            if (null == pendingBatch) {
+                requesting = false;
+            } else {
+                pendingBatch.promoted = true;
+            }
+            lock.notifyAll();
+        }
+        return batch.getResult();
+    }
+    
+    private void awaitFinishedOrPromoted(final Batch batch) {
+        boolean interrupted = false;
+        while (!batch.finished && !batch.promoted) {
+            try {
+                lock.wait();
+            } catch (final InterruptedException ignored) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static final class Batch {
+        
+        private boolean finished;
+        
+        private boolean promoted;
+        
+        private long timestamp;
+        
+        private RuntimeException failure;
+        
+        private long getResult() {
+            if (null != failure) {
+                throw failure;
+            }
+            return timestamp;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.core.executor;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.globalclock.core.provider.CommitOrderedGlobalClockProvider;
+import org.apache.shardingsphere.globalclock.core.provider.GlobalClockTimestampBatcher;
+import org.apache.shardingsphere.infra.lock.LockContext;
+import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.internal.configuration.plugins.Plugins;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GlobalClockTransactionHookTest {
+    
+    @Mock
+    private GlobalClockTransactionExecutor globalClockTransactionExecutor;
+    
+    @Mock
+    private CommitOrderedGlobalClockProvider globalClockProvider;
+    
+    private final Collection<Connection> connections = Collections.singleton(mock(Connection.class));
+    
+    private final GlobalClockTransactionHook transactionHook = new GlobalClockTransactionHook();
+    
+    @BeforeEach
+    void setUp() {
+        setField("enabled", true);
+        setField("globalClockTransactionExecutor", globalClockTransactionExecutor);
+        setField("globalClockProvider", globalClockProvider);
+        setField("snapshotTimestampBatcher", new GlobalClockTimestampBatcher(globalClockProvider::getSnapshotTimestamp));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setField(final String fieldName, final Object value) {
+        Plugins.getMemberAccessor().set(GlobalClockTransactionHook.class.getDeclaredField(fieldName), transactionHook, value);
+    }
+    
+    @Test
+    void assertCommitOutsideTransaction() throws SQLException {
+        TransactionConnectionContext transactionContext = new TransactionConnectionContext();
+        transactionHook.beforeCommit(connections, transactionContext, mock(LockContext.class));
+        transactionHook.afterCommit(connections, transactionContext, mock(LockContext.class));
+        verify(globalClockProvider, never()).startCommit();
+        verify(globalClockProvider, never()).finishCommit(anyLong());
+        verify(globalClockTransactionExecutor, never()).sendCommitTimestamp(anyCollection(), anyLong());
+    }
+    
+    @Test
+    void assertCommitInTransaction() throws SQLException {
+        TransactionConnectionContext transactionContext = createTransactionContext();
+        when(globalClockProvider.startCommit()).thenReturn(10L);
+        when(globalClockProvider.getSnapshotTimestamp()).thenReturn(11L);
+        transactionHook.beforeCommit(connections, transactionContext, mock(LockContext.class));
+        verify(globalClockTransactionExecutor).sendCommitTimestamp(connections, 10L);
+        assertThat(transactionContext.getCommitTimestamp(), is(10L));
+        transactionHook.afterCommit(connections, transactionContext, mock(LockContext.class));
+        verify(globalClockProvider).finishCommit(10L);
+        assertThat(transactionContext.getCommitTimestamp(), is(0L));
+    }
+    
+    @Test
+    void assertBeforeCommitFailedWithSQLException() throws SQLException {
+        TransactionConnectionContext transactionContext = createTransactionContext();
+        when(globalClockProvider.startCommit()).thenReturn(10L);
+        doThrow(SQLException.class).when(globalClockTransactionExecutor).sendCommitTimestamp(connections, 10L);
+        assertThrows(SQLException.class, () -> transactionHook.beforeCommit(connections, transactionContext, mock(LockContext.class)));
+        verify(globalClockProvider).finishCommit(10L);
+        assertThat(transactionContext.getCommitTimestamp(), is(0L));
+    }
+    
+    @Test
+    void assertBeforeCommitFailedWithRuntimeException() throws SQLException {
+        TransactionConnectionContext transactionContext = createTransactionContext();
+        when(globalClockProvider.startCommit()).thenReturn(10L);
+        doThrow(IllegalStateException.class).when(globalClockTransactionExecutor).sendCommitTimestamp(connections, 10L);
+        assertThrows(IllegalStateException.class, () -> transactionHook.beforeCommit(connections, transactionContext, mock(LockContext.class)));
+        verify(globalClockProvider).finishCommit(10L);
+        assertThat(transactionContext.getCommitTimestamp(), is(0L));
+    }
+    
+    private TransactionConnectionContext createTransactionContext() {
+        TransactionConnectionContext result = new TransactionConnectionContext();
+        result.setInTransaction(true);
+        return result;
+    }
+}
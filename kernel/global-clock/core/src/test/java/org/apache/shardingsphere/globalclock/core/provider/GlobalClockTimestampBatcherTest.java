@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.core.provider;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GlobalClockTimestampBatcherTest {
+    
+    @Test
+    void assertGetTimestamp() {
+        AtomicLong clock = new AtomicLong();
+        GlobalClockTimestampBatcher batcher = new GlobalClockTimestampBatcher(clock::incrementAndGet);
+        assertThat(batcher.getTimestamp(), is(1L));
+        assertThat(batcher.getTimestamp(), is(2L));
+    }
+    
+    @Test
+    void assertGetTimestampWithConcurrentRequests() throws InterruptedException, ExecutionException {
+        AtomicLong clock = new AtomicLong();
+        AtomicInteger requestCount = new AtomicInteger();
+        CountDownLatch firstRequestStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstRequest = new CountDownLatch(1);
+        GlobalClockTimestampBatcher batcher = new GlobalClockTimestampBatcher(() -> {
+            if (1 == requestCount.incrementAndGet()) {
+                firstRequestStarted.countDown();
+                awaitQuietly(releaseFirstRequest);
+            }
+            return clock.incrementAndGet();
+        });
+        ExecutorService executorService = Executors.newFixedThreadPool(5);
+        try {
+            Future<Long> first = executorService.submit(batcher::getTimestamp);
+            assertTrue(firstRequestStarted.await(10L, TimeUnit.SECONDS));
+            Collection<Future<Long>> followers = new ArrayList<>(4);
+            for (int i = 0; i < 4; i++) {
+                followers.add(executorService.submit(batcher::getTimestamp));
+            }
+            Thread.sleep(300L);
+            releaseFirstRequest.countDown();
+            assertThat(first.get(), is(1L));
+            for (Future<Long> each : followers) {
+                assertThat(each.get(), is(2L));
+            }
+            assertThat(requestCount.get(), is(2));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(10L, TimeUnit.SECONDS);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Test
+    void assertGetTimestampWithFailure() {
+        GlobalClockTimestampBatcher batcher = new GlobalClockTimestampBatcher(() -> {
+            throw new IllegalStateException("unavailable");
+        });
+        assertThrows(IllegalStateException.class, batcher::getTimestamp);
+    }
+}
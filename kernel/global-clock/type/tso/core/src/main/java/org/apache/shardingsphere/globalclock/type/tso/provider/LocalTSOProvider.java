@@ -17,15 +17,21 @@
 
 package org.apache.shardingsphere.globalclock.type.tso.provider;
 
+import org.apache.shardingsphere.globalclock.core.provider.CommitOrderedGlobalClockProvider;
+
+import java.util.NavigableSet;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Local timestamp oracle provider.
  */
-public final class LocalTSOProvider implements TSOProvider {
+public final class LocalTSOProvider implements TSOProvider, CommitOrderedGlobalClockProvider {
     
     private final AtomicLong localClock = new AtomicLong();
     
+    private final NavigableSet<Long> committingTimestamps = new TreeSet<>();
+    
     @Override
     public long getCurrentTimestamp() {
         return localClock.get();
@@ -36,6 +42,23 @@ public final class LocalTSOProvider implements TSOProvider {
         return localClock.incrementAndGet();
     }
     
+    @Override
+    public synchronized long getSnapshotTimestamp() {
+        return committingTimestamps.isEmpty() ? localClock.get() + 1L : committingTimestamps.first();
+    }
+    
+    @Override
+    public synchronized long startCommit() {
+        long result = localClock.incrementAndGet();
+        committingTimestamps.add(result);
+        return result;
+    }
+    
+    @Override
+    public synchronized void finishCommit(final long commitTimestamp) {
+        committingTimestamps.remove(commitTimestamp);
+    }
+    
     @Override
     public String getType() {
         return "TSO.local";
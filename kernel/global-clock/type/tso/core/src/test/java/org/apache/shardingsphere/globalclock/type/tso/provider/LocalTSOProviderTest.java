@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LocalTSOProviderTest {
+    
+    @Test
+    void assertGetSnapshotTimestampWithoutCommittingTimestamps() {
+        LocalTSOProvider provider = new LocalTSOProvider();
+        assertThat(provider.getSnapshotTimestamp(), is(1L));
+        provider.finishCommit(provider.startCommit());
+        assertThat(provider.getSnapshotTimestamp(), is(2L));
+    }
+    
+    @Test
+    void assertGetSnapshotTimestampWithCommittingTimestamps() {
+        LocalTSOProvider provider = new LocalTSOProvider();
+        long firstCommitTimestamp = provider.startCommit();
+        long secondCommitTimestamp = provider.startCommit();
+        assertThat(firstCommitTimestamp, is(1L));
+        assertThat(secondCommitTimestamp, is(2L));
+        provider.finishCommit(secondCommitTimestamp);
+        assertThat(provider.getSnapshotTimestamp(), is(firstCommitTimestamp));
+        provider.finishCommit(firstCommitTimestamp);
+        assertThat(provider.getSnapshotTimestamp(), is(3L));
+    }
+}
@@ -38,7 +38,9 @@ public enum RedisTSOPropertyKey implements TypedPropertyKey {
     
     MAX_IDLE("maxIdle", "8", int.class),
     
-    MAX_TOTAL("maxTotal", "18", int.class);
+    MAX_TOTAL("maxTotal", "18", int.class),
+    
+    COMMIT_LEASE_MILLIS("commitLeaseMillis", "30000", long.class);
     
     private final String key;
     
@@ -19,21 +19,54 @@ package org.apache.shardingsphere.globalclock.type.tso.provider;
 
 import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.globalclock.core.provider.CommitOrderedGlobalClockProvider;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Redis timestamp oracle provider.
+ * 
+ * <p>Lease deadlines of committing timestamps are computed and checked by the clock of redis server, so that proxies with skewed clocks agree on them.</p>
  */
 @Slf4j
-public final class RedisTSOProvider implements TSOProvider {
+public final class RedisTSOProvider implements TSOProvider, CommitOrderedGlobalClockProvider {
     
     private static final String CSN_KEY = "csn";
     
+    private static final String COMMITTING_CSN_KEY = "committing_csn";
+    
+    private static final String COMMITTING_CSN_DEADLINE_KEY = "committing_csn_deadline";
+    
+    private static final String CURRENT_MILLIS_SCRIPT = "redis.replicate_commands() "
+            + "local time = redis.call('TIME') "
+            + "local currentMillis = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) ";
+    
+    private static final String START_COMMIT_SCRIPT = CURRENT_MILLIS_SCRIPT
+            + "local csn = redis.call('INCR', KEYS[1]) "
+            + "redis.call('ZADD', KEYS[2], csn, csn) "
+            + "redis.call('HSET', KEYS[3], csn, currentMillis + tonumber(ARGV[1])) "
+            + "return csn";
+    
+    private static final String FINISH_COMMIT_SCRIPT = "redis.call('ZREM', KEYS[1], ARGV[1]) "
+            + "redis.call('HDEL', KEYS[2], ARGV[1]) "
+            + "return 0";
+    
+    private static final String SNAPSHOT_SCRIPT = CURRENT_MILLIS_SCRIPT
+            + "while true do "
+            + "local first = redis.call('ZRANGE', KEYS[2], 0, 0) "
+            + "if #first == 0 then return tonumber(redis.call('GET', KEYS[1])) + 1 end "
+            + "local deadline = tonumber(redis.call('HGET', KEYS[3], first[1])) "
+            + "if deadline and deadline >= currentMillis then return tonumber(first[1]) end "
+            + "redis.call('ZREM', KEYS[2], first[1]) "
+            + "redis.call('HDEL', KEYS[3], first[1]) "
+            + "end";
+    
     private static final long ERROR_CSN = 0;
     
     private static final long INIT_CSN = Integer.MAX_VALUE;
@@ -44,9 +77,12 @@ public final class RedisTSOProvider implements TSOProvider {
     
     private Properties props;
     
+    private long commitLeaseMillis;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
+        commitLeaseMillis = Long.parseLong(getValue(props, RedisTSOPropertyKey.COMMIT_LEASE_MILLIS));
         if (initialized.compareAndSet(false, true)) {
             createJedisPool();
             checkJedisPool();
@@ -96,6 +132,28 @@ public final class RedisTSOProvider implements TSOProvider {
         }
     }
     
+    @Override
+    public long getSnapshotTimestamp() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return (Long) jedis.eval(SNAPSHOT_SCRIPT, Arrays.asList(CSN_KEY, COMMITTING_CSN_KEY, COMMITTING_CSN_DEADLINE_KEY), Collections.emptyList());
+        }
+    }
+    
+    @Override
+    public long startCommit() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return (Long) jedis.eval(START_COMMIT_SCRIPT, Arrays.asList(CSN_KEY, COMMITTING_CSN_KEY, COMMITTING_CSN_DEADLINE_KEY),
+                    Collections.singletonList(String.valueOf(commitLeaseMillis)));
+        }
+    }
+    
+    @Override
+    public void finishCommit(final long commitTimestamp) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.eval(FINISH_COMMIT_SCRIPT, Arrays.asList(COMMITTING_CSN_KEY, COMMITTING_CSN_DEADLINE_KEY), Collections.singletonList(String.valueOf(commitTimestamp)));
+        }
+    }
+    
     @Override
     public String getType() {
         return "TSO.redis";
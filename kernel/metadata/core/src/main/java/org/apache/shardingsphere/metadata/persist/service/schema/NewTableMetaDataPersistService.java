@@ -35,6 +35,7 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 /**
  * TODO Rename TableMetaDataPersistService when metadata structure adjustment completed. #25485
@@ -94,15 +95,20 @@ public final class NewTableMetaDataPersistService implements SchemaMetaDataPersi
     }
     
     private Map<String, ShardingSphereTable> getTableMetaDataByTableNames(final String databaseName, final String schemaName, final Collection<String> tableNames) {
-        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tableNames.size(), 1F);
-        tableNames.forEach(each -> {
-            String table = repository.getDirectly(NewDatabaseMetaDataNode.getTableVersionNode(databaseName, schemaName, each,
-                    repository.getDirectly(NewDatabaseMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each))));
-            if (!Strings.isNullOrEmpty(table)) {
-                result.put(each.toLowerCase(), new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(table, YamlShardingSphereTable.class)));
+        Map<String, String> activeVersions = repository.batchGetDirectly(
+                tableNames.stream().map(each -> NewDatabaseMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each)).collect(Collectors.toList()));
+        Map<String, String> versionNodes = new LinkedHashMap<>(tableNames.size(), 1F);
+        for (String each : tableNames) {
+            String activeVersion = activeVersions.get(NewDatabaseMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each));
+            if (!Strings.isNullOrEmpty(activeVersion)) {
+                versionNodes.put(each, NewDatabaseMetaDataNode.getTableVersionNode(databaseName, schemaName, each, activeVersion));
             }
-        });
-        return result;
+        }
+        Map<String, String> tables = repository.batchGetDirectly(versionNodes.values());
+        return versionNodes.entrySet().parallelStream().filter(entry -> !Strings.isNullOrEmpty(tables.get(entry.getValue())))
+                .collect(Collectors.toMap(entry -> entry.getKey().toLowerCase(),
+                        entry -> new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(tables.get(entry.getValue()), YamlShardingSphereTable.class)),
+                        (oldValue, currentValue) -> currentValue, LinkedHashMap::new));
     }
     
     @Override
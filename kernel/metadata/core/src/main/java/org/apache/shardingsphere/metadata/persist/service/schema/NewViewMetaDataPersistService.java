@@ -35,6 +35,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 /**
  * TODO Rename ViewMetaDataPersistService when metadata structure adjustment completed. #25485
@@ -94,15 +95,20 @@ public final class NewViewMetaDataPersistService implements SchemaMetaDataPersis
     }
     
     private Map<String, ShardingSphereView> getViewMetaDataByViewNames(final String databaseName, final String schemaName, final Collection<String> viewNames) {
-        Map<String, ShardingSphereView> result = new LinkedHashMap<>(viewNames.size(), 1F);
-        viewNames.forEach(each -> {
-            String view = repository.getDirectly(NewDatabaseMetaDataNode.getViewVersionNode(databaseName, schemaName, each,
-                    repository.getDirectly(NewDatabaseMetaDataNode.getViewActiveVersionNode(databaseName, schemaName, each))));
-            if (!Strings.isNullOrEmpty(view)) {
-                result.put(each.toLowerCase(), new YamlViewSwapper().swapToObject(YamlEngine.unmarshal(view, YamlShardingSphereView.class)));
+        Map<String, String> activeVersions = repository.batchGetDirectly(
+                viewNames.stream().map(each -> NewDatabaseMetaDataNode.getViewActiveVersionNode(databaseName, schemaName, each)).collect(Collectors.toList()));
+        Map<String, String> versionNodes = new LinkedHashMap<>(viewNames.size(), 1F);
+        for (String each : viewNames) {
+            String activeVersion = activeVersions.get(NewDatabaseMetaDataNode.getViewActiveVersionNode(databaseName, schemaName, each));
+            if (!Strings.isNullOrEmpty(activeVersion)) {
+                versionNodes.put(each, NewDatabaseMetaDataNode.getViewVersionNode(databaseName, schemaName, each, activeVersion));
             }
-        });
-        return result;
+        }
+        Map<String, String> views = repository.batchGetDirectly(versionNodes.values());
+        return versionNodes.entrySet().parallelStream().filter(entry -> !Strings.isNullOrEmpty(views.get(entry.getValue())))
+                .collect(Collectors.toMap(entry -> entry.getKey().toLowerCase(),
+                        entry -> new YamlViewSwapper().swapToObject(YamlEngine.unmarshal(views.get(entry.getValue()), YamlShardingSphereView.class)),
+                        (oldValue, currentValue) -> currentValue, LinkedHashMap::new));
     }
     
     @Override
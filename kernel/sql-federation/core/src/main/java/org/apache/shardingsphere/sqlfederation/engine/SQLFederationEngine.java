@@ -24,6 +24,7 @@ import org.apache.calcite.linq4j.Enumerator;
 import org.apache.calcite.runtime.Bindable;
 import org.apache.calcite.schema.Schema;
 import org.apache.calcite.schema.Table;
+import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.datanode.DataNode;
@@ -54,6 +55,7 @@ import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.Optimiz
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationTableStatisticsLoader;
 import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationDecider;
@@ -77,6 +79,8 @@ public final class SQLFederationEngine implements AutoCloseable {
     
     private static final int DEFAULT_METADATA_VERSION = 0;
     
+    private static final long STATISTICS_LOAD_INTERVAL_MILLIS = 30000L;
+    
     @SuppressWarnings("rawtypes")
     private final Map<ShardingSphereRule, SQLFederationDecider> deciders;
     
@@ -94,6 +98,8 @@ public final class SQLFederationEngine implements AutoCloseable {
     
     private ResultSet resultSet;
     
+    private EnumerableScanExecutor scanExecutor;
+    
     public SQLFederationEngine(final String databaseName, final String schemaName, final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics, final JDBCExecutor jdbcExecutor) {
         deciders = OrderedSPILoader.getServices(SQLFederationDecider.class, metaData.getDatabase(databaseName).getRuleMetaData().getRules());
         this.databaseName = databaseName;
@@ -179,7 +185,10 @@ public final class SQLFederationEngine implements AutoCloseable {
         OptimizerPlannerContext plannerContext = sqlFederationRule.getOptimizerContext().getPlannerContext(databaseName);
         Schema sqlFederationSchema = plannerContext.getValidator(schemaName).getCatalogReader().getRootSchema().plus().getSubSchema(schemaName);
         registerTableScanExecutor(sqlFederationSchema, prepareEngine, callback, federationContext, sqlFederationRule.getOptimizerContext(), databaseName, schemaName);
-        SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(plannerContext.getConverter(schemaName));
+        if (plannerContext.tryMarkStatisticsLoaded(System.currentTimeMillis(), STATISTICS_LOAD_INTERVAL_MILLIS)) {
+            loadTableStatistics(plannerContext, databaseName);
+        }
+        SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(plannerContext.getConverter(schemaName), metaData.getDatabase(databaseName).getRuleMetaData());
         SQLFederationCompilerEngine compilerEngine = new SQLFederationCompilerEngine(databaseName, schemaName, sqlFederationRule.getConfiguration().getExecutionPlanCache());
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
         // TODO open useCache flag when ShardingSphereTable contains version
@@ -208,7 +217,10 @@ public final class SQLFederationEngine implements AutoCloseable {
             return;
         }
         TableScanExecutorContext executorContext = new TableScanExecutorContext(databaseName, schemaName, metaData.getProps(), federationContext);
-        EnumerableScanExecutor scanExecutor = new EnumerableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, metaData.getGlobalRuleMetaData(), executorContext, statistics);
+        if (null != scanExecutor) {
+            scanExecutor.close();
+        }
+        scanExecutor = new EnumerableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, metaData.getGlobalRuleMetaData(), executorContext, statistics);
         // TODO register only the required tables
         for (String each : metaData.getDatabase(databaseName).getSchema(schemaName).getAllTableNames()) {
             Table table = sqlFederationSchema.getTable(each);
@@ -218,6 +230,23 @@ public final class SQLFederationEngine implements AutoCloseable {
         }
     }
     
+    private void loadTableStatistics(final OptimizerPlannerContext plannerContext, final String databaseName) {
+        Map<String, Double> rowCounts = SQLFederationTableStatisticsLoader.loadRowCounts(databaseName, statistics);
+        for (Entry<String, ShardingSphereSchema> entry : metaData.getDatabase(databaseName).getSchemas().entrySet()) {
+            SqlValidator validator = plannerContext.getValidator(entry.getKey());
+            Schema sqlFederationSchema = null == validator ? null : validator.getCatalogReader().getRootSchema().plus().getSubSchema(entry.getKey());
+            if (null == sqlFederationSchema) {
+                continue;
+            }
+            for (String each : entry.getValue().getAllTableNames()) {
+                Table table = sqlFederationSchema.getTable(each);
+                if (table instanceof SQLFederationTable) {
+                    ((SQLFederationTable) table).getStatistic().setRowCount(rowCounts.get(each.toLowerCase()));
+                }
+            }
+        }
+    }
+    
     private Map<String, Object> createParameters(final List<Object> params) {
         Map<String, Object> result = new HashMap<>(params.size(), 1F);
         int index = 0;
@@ -232,5 +261,8 @@ public final class SQLFederationEngine implements AutoCloseable {
         if (null != resultSet) {
             resultSet.close();
         }
+        if (null != scanExecutor) {
+            scanExecutor.close();
+        }
     }
 }
@@ -25,6 +25,7 @@ import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.metadata.database.system.SystemDatabase;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -32,6 +33,7 @@ import org.apache.shardingsphere.infra.database.opengauss.type.OpenGaussDatabase
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -62,6 +64,7 @@ import org.apache.shardingsphere.sqlfederation.executor.SQLFederationExecutorCon
 import org.apache.shardingsphere.sqlfederation.executor.TableScanExecutorContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.EmptyRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.row.MemoryEnumerator;
+import org.apache.shardingsphere.sqlfederation.executor.row.SQLFederationPrefetchRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.row.SQLFederationRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutor;
@@ -81,6 +84,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -99,6 +109,11 @@ public final class EnumerableScanExecutor implements ScanExecutor {
     
     private static final String PG_ROLES = "pg_roles";
     
+    private static final int PREFETCH_PARALLELISM = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final ExecutorService PREFETCH_EXECUTOR_SERVICE = new ThreadPoolExecutor(0, PREFETCH_PARALLELISM,
+            60L, TimeUnit.SECONDS, new SynchronousQueue<>(), ExecutorThreadFactoryBuilder.build("SQLFederation-Scan-%d"));
+    
     private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine;
     
     private final JDBCExecutor jdbcExecutor;
@@ -115,6 +130,8 @@ public final class EnumerableScanExecutor implements ScanExecutor {
     
     private final ProcessEngine processEngine = new ProcessEngine();
     
+    private final Collection<SQLFederationPrefetchRowEnumerator> prefetchRowEnumerators = new ConcurrentLinkedQueue<>();
+    
     static {
         SYSTEM_CATALOG_TABLES.add(PG_DATABASE);
         SYSTEM_CATALOG_TABLES.add(PG_TABLES);
@@ -138,7 +155,10 @@ public final class EnumerableScanExecutor implements ScanExecutor {
             return createEmptyEnumerable();
         }
         try {
-            return createEnumerable(queryContext, database, context);
+            int prefetchRows = executorContext.getProps().getValue(ConfigurationPropertyKey.SQL_FEDERATION_SCAN_PREFETCH_ROWS);
+            return prefetchRows > 0 && !jdbcExecutor.getConnectionContext().getTransactionContext().isInTransaction()
+                    ? createPrefetchEnumerable(queryContext, database, context, prefetchRows)
+                    : createEnumerable(queryContext, database, context);
         } finally {
             processEngine.completeSQLExecution();
         }
@@ -150,20 +170,75 @@ public final class EnumerableScanExecutor implements ScanExecutor {
             @SneakyThrows
             @Override
             public Enumerator<Object> enumerator() {
-                computeConnectionOffsets(context);
-                ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext =
-                        prepareEngine.prepare(context.getRouteContext(), executorContext.getConnectionOffsets(), context.getExecutionUnits(), new ExecutionGroupReportContext(database.getName()));
-                setParameters(executionGroupContext.getInputGroups());
-                processEngine.executeSQL(executionGroupContext, context.getQueryContext());
-                List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
-                MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps(), new ConnectionContext());
-                MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
-                Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-                return new SQLFederationRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+                return createRowEnumerator(queryContext, database, prepare(database, context));
             }
         };
     }
     
+    @SneakyThrows(SQLException.class)
+    private AbstractEnumerable<Object> createPrefetchEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context, final int prefetchRows) {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepare(database, context);
+        SQLFederationPrefetchRowEnumerator prefetchRowEnumerator;
+        try {
+            prefetchRowEnumerator = new SQLFederationPrefetchRowEnumerator(() -> createRowEnumerator(queryContext, database, executionGroupContext),
+                    getStatements(executionGroupContext.getInputGroups()), prefetchRows, PREFETCH_EXECUTOR_SERVICE);
+        } catch (final RejectedExecutionException ignored) {
+            return createPreparedEnumerable(queryContext, database, context, executionGroupContext);
+        }
+        prefetchRowEnumerators.add(prefetchRowEnumerator);
+        return new AbstractEnumerable<Object>() {
+            
+            @SneakyThrows
+            @Override
+            public Enumerator<Object> enumerator() {
+                return prefetchRowEnumerators.remove(prefetchRowEnumerator) ? prefetchRowEnumerator : createRowEnumerator(queryContext, database, prepare(database, context));
+            }
+        };
+    }
+    
+    private AbstractEnumerable<Object> createPreparedEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context,
+                                                                final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) {
+        AtomicReference<ExecutionGroupContext<JDBCExecutionUnit>> preparedExecutionGroupContext = new AtomicReference<>(executionGroupContext);
+        return new AbstractEnumerable<Object>() {
+            
+            @SneakyThrows
+            @Override
+            public Enumerator<Object> enumerator() {
+                ExecutionGroupContext<JDBCExecutionUnit> prepared = preparedExecutionGroupContext.getAndSet(null);
+                return createRowEnumerator(queryContext, database, null == prepared ? prepare(database, context) : prepared);
+            }
+        };
+    }
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> prepare(final ShardingSphereDatabase database, final ExecutionContext context) throws SQLException {
+        computeConnectionOffsets(context);
+        ExecutionGroupContext<JDBCExecutionUnit> result =
+                prepareEngine.prepare(context.getRouteContext(), executorContext.getConnectionOffsets(), context.getExecutionUnits(), new ExecutionGroupReportContext(database.getName()));
+        setParameters(result.getInputGroups());
+        processEngine.executeSQL(result, context.getQueryContext());
+        return result;
+    }
+    
+    private Enumerator<Object> createRowEnumerator(final QueryContext queryContext, final ShardingSphereDatabase database,
+                                                   final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
+        List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
+        MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps(), new ConnectionContext());
+        MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
+        Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
+        return new SQLFederationRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+    }
+    
+    /**
+     * Close prefetched table scans which are not consumed.
+     */
+    public void close() {
+        for (SQLFederationPrefetchRowEnumerator each : prefetchRowEnumerators) {
+            if (prefetchRowEnumerators.remove(each)) {
+                each.close();
+            }
+        }
+    }
+    
     private void computeConnectionOffsets(final ExecutionContext context) {
         for (ExecutionUnit each : context.getExecutionUnits()) {
             if (executorContext.getConnectionOffsets().containsKey(each.getDataSourceName())) {
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.sqlfederation.executor.row;
+
+import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.Enumerator;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SQL federation prefetch row enumerator.
+ * 
+ * <p>Rows of source enumerator are fetched by another thread into a bounded buffer, the fetching pauses when the buffer is full.
+ * Closing does not wait for the fetching thread, it cancels the statements and the fetching task instead.</p>
+ */
+public final class SQLFederationPrefetchRowEnumerator implements Enumerator<Object> {
+    
+    private static final Object NULL_ROW = new Object();
+    
+    private static final Object END_OF_ROWS = new Object();
+    
+    private static final long POLL_TIMEOUT_MILLISECONDS = 100L;
+    
+    private final BlockingQueue<Object> rows;
+    
+    private final Collection<Statement> statements;
+    
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    
+    private final Future<?> producer;
+    
+    private volatile boolean closed;
+    
+    private volatile Exception failure;
+    
+    private boolean finished;
+    
+    private Object currentRow;
+    
+    public SQLFederationPrefetchRowEnumerator(final Callable<Enumerator<Object>> sourceEnumeratorCreator, final Collection<Statement> statements,
+                                              final int bufferSize, final ExecutorService executorService) {
+        rows = new ArrayBlockingQueue<>(bufferSize);
+        this.statements = statements;
+        producer = executorService.submit(() -> produce(sourceEnumeratorCreator));
+    }
+    
+    private void produce(final Callable<Enumerator<Object>> sourceEnumeratorCreator) {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Enumerator<Object> sourceEnumerator = sourceEnumeratorCreator.call();
+            try {
+                while (!closed && sourceEnumerator.moveNext()) {
+                    Object row = sourceEnumerator.current();
+                    offer(null == row ? NULL_ROW : row);
+                }
+            } finally {
+                sourceEnumerator.close();
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            failure = ex;
+        } finally {
+            offerEndOfRows();
+        }
+    }
+    
+    private void offer(final Object row) throws InterruptedException {
+        boolean offered = false;
+        while (!closed && !offered) {
+            offered = rows.offer(row, POLL_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private void offerEndOfRows() {
+        try {
+            offer(END_OF_ROWS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Override
+    public Object current() {
+        return NULL_ROW == currentRow ? null : currentRow;
+    }
+    
+    @SneakyThrows
+    @Override
+    public boolean moveNext() {
+        if (finished) {
+            return false;
+        }
+        Object row = take();
+        if (null == row) {
+            finished = true;
+            currentRow = null;
+            return false;
+        }
+        if (END_OF_ROWS == row) {
+            finished = true;
+            currentRow = null;
+            if (null != failure && !closed) {
+                throw failure;
+            }
+            return false;
+        }
+        currentRow = row;
+        return true;
+    }
+    
+    private Object take() throws InterruptedException {
+        Object result = null;
+        while (!closed && null == result) {
+            result = rows.poll(POLL_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+        }
+        return result;
+    }
+    
+    @Override
+    public void reset() {
+    }
+    
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        rows.clear();
+        if (started.compareAndSet(false, true)) {
+            closeStatements();
+        } else {
+            cancelStatements();
+        }
+        producer.cancel(true);
+        finished = true;
+        currentRow = null;
+    }
+    
+    private void closeStatements() {
+        for (Statement each : statements) {
+            try {
+                each.close();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
+    private void cancelStatements() {
+        for (Statement each : statements) {
+            try {
+                each.cancel();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.sqlfederation.executor.row;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SQLFederationPrefetchRowEnumeratorTest {
+    
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    void assertMoveNext() {
+        try (Enumerator<Object> actual = new SQLFederationPrefetchRowEnumerator(() -> Linq4j.enumerator(Arrays.asList(1, null, 3)), Collections.emptyList(), 1, executorService)) {
+            assertTrue(actual.moveNext());
+            assertThat(actual.current(), is(1));
+            assertTrue(actual.moveNext());
+            assertThat(actual.current(), nullValue());
+            assertTrue(actual.moveNext());
+            assertThat(actual.current(), is(3));
+            assertFalse(actual.moveNext());
+            assertFalse(actual.moveNext());
+        }
+    }
+    
+    @Test
+    void assertMoveNextWithFailure() {
+        Enumerator<Object> actual = new SQLFederationPrefetchRowEnumerator(() -> {
+            throw new SQLException("foo");
+        }, Collections.emptyList(), 1, executorService);
+        assertThrows(SQLException.class, actual::moveNext);
+        actual.close();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCloseBeforeAllRowsConsumed() throws SQLException {
+        Enumerator<Object> sourceEnumerator = mock(Enumerator.class);
+        Statement statement = mock(Statement.class);
+        when(sourceEnumerator.moveNext()).thenReturn(true);
+        when(sourceEnumerator.current()).thenReturn(1);
+        Enumerator<Object> actual = new SQLFederationPrefetchRowEnumerator(() -> sourceEnumerator, Collections.singletonList(statement), 2, executorService);
+        assertTrue(actual.moveNext());
+        actual.close();
+        assertFalse(actual.moveNext());
+        verify(statement).cancel();
+        verify(sourceEnumerator, timeout(1000L)).close();
+    }
+    
+    @Test
+    void assertCloseBeforeProduceStarted() throws SQLException {
+        ExecutorService blockedExecutorService = Executors.newSingleThreadExecutor();
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            blockedExecutorService.submit(() -> {
+                latch.await();
+                return null;
+            });
+            Statement statement = mock(Statement.class);
+            Enumerator<Object> actual = new SQLFederationPrefetchRowEnumerator(() -> Linq4j.enumerator(Arrays.asList(1, 2)), Collections.singletonList(statement), 1, blockedExecutorService);
+            actual.close();
+            assertFalse(actual.moveNext());
+            verify(statement).close();
+            verify(statement, never()).cancel();
+        } finally {
+            latch.countDown();
+            blockedExecutorService.shutdownNow();
+        }
+    }
+    
+    @Test
+    void assertPrefetchBoundedRows() {
+        Enumerator<Object> actual = new SQLFederationPrefetchRowEnumerator(() -> Linq4j.enumerator(IntStream.range(0, 100).boxed().collect(Collectors.toList())), Collections.emptyList(), 4, executorService);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(actual.moveNext());
+            assertThat(actual.current(), is(i));
+        }
+        assertFalse(actual.moveNext());
+        actual.close();
+    }
+}
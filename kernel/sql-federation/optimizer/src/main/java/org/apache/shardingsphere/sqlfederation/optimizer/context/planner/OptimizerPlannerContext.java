@@ -22,6 +22,7 @@ import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Optimize planner context.
@@ -33,6 +34,8 @@ public final class OptimizerPlannerContext {
     
     private final Map<String, SqlToRelConverter> converters;
     
+    private final AtomicLong statisticsLoadedMillis = new AtomicLong();
+    
     /**
      * Get validator.
      * 
@@ -52,4 +55,16 @@ public final class OptimizerPlannerContext {
     public SqlToRelConverter getConverter(final String schemaName) {
         return converters.get(schemaName.toLowerCase());
     }
+    
+    /**
+     * Try to mark table statistics loaded, which succeeds only if statistics are not loaded within the interval.
+     *
+     * @param currentMillis current millis
+     * @param intervalMillis interval millis of loading table statistics
+     * @return whether marked or not
+     */
+    public boolean tryMarkStatisticsLoaded(final long currentMillis, final long intervalMillis) {
+        long loadedMillis = statisticsLoadedMillis.get();
+        return (0L == loadedMillis || currentMillis - loadedMillis >= intervalMillis) && statisticsLoadedMillis.compareAndSet(loadedMillis, currentMillis);
+    }
 }
@@ -25,6 +25,7 @@ import org.apache.calcite.schema.Table;
 import org.apache.calcite.schema.impl.AbstractSchema;
 import org.apache.calcite.schema.impl.ViewTable;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
@@ -45,19 +46,19 @@ public final class SQLFederationSchema extends AbstractSchema {
     
     private final Map<String, Table> tableMap;
     
-    public SQLFederationSchema(final String schemaName, final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
+    public SQLFederationSchema(final String schemaName, final ShardingSphereSchema schema, final RuleMetaData ruleMetaData, final DatabaseType protocolType,
+                               final JavaTypeFactory javaTypeFactory) {
         name = schemaName;
-        tableMap = createTableMap(schema, protocolType, javaTypeFactory);
+        tableMap = createTableMap(schema, ruleMetaData, protocolType, javaTypeFactory);
     }
     
-    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
+    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final RuleMetaData ruleMetaData, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
         Map<String, Table> result = new LinkedHashMap<>(schema.getTables().size(), 1F);
         for (ShardingSphereTable each : schema.getTables().values()) {
             if (schema.containsView(each.getName())) {
                 result.put(each.getName().toLowerCase(), getViewTable(schema, each, protocolType, javaTypeFactory));
             } else {
-                // TODO implement table statistic logic after using custom operators
-                result.put(each.getName().toLowerCase(), new SQLFederationTable(each, new SQLFederationStatistic(), protocolType));
+                result.put(each.getName().toLowerCase(), new SQLFederationTable(each, new SQLFederationStatistic(each, ruleMetaData), protocolType));
             }
         }
         return result;
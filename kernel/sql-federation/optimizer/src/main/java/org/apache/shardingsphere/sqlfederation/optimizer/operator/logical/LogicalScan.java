@@ -21,7 +21,9 @@ import lombok.Getter;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalAggregate;
 import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.logical.LogicalJoin;
 import org.apache.calcite.rel.logical.LogicalProject;
 import org.apache.calcite.rel.logical.LogicalTableScan;
 import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.LogicalScanPushDownRelBuilder;
@@ -71,6 +73,28 @@ public final class LogicalScan extends TableScan {
         resetRowType(logicalProject);
     }
     
+    /**
+     * Push down logical aggregate.
+     *
+     * @param logicalAggregate logical aggregate
+     */
+    public void pushDown(final LogicalAggregate logicalAggregate) {
+        pushDownRelBuilder.aggregate(pushDownRelBuilder.groupKey(logicalAggregate.getGroupSet()), logicalAggregate.getAggCallList());
+        resetRowType(logicalAggregate);
+    }
+    
+    /**
+     * Push down logical join.
+     *
+     * @param logicalJoin logical join
+     * @param rightScan right logical scan
+     */
+    public void pushDown(final LogicalJoin logicalJoin, final LogicalScan rightScan) {
+        pushDownRelBuilder.push(rightScan.peek());
+        pushDownRelBuilder.join(logicalJoin.getJoinType(), logicalJoin.getCondition(), logicalJoin.getVariablesSet());
+        resetRowType(logicalJoin);
+    }
+    
     /**
      * Peek rel node.
      *
@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.calcite.tools.RelBuilder;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Push aggregate into scan rule.
+ * 
+ * <p>Partial aggregate is pushed into scan, and is merged by aggregate above scan. AVG is split into SUM and COUNT.</p>
+ */
+@Value.Enclosing
+public final class PushAggregateIntoScanRule extends RelRule<PushAggregateIntoScanRule.Config> implements TransformationRule {
+    
+    private static final Collection<SqlKind> SUPPORTED_AGGREGATIONS = EnumSet.of(SqlKind.COUNT, SqlKind.SUM, SqlKind.SUM0, SqlKind.MIN, SqlKind.MAX, SqlKind.AVG);
+    
+    private PushAggregateIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalScan logicalScan = call.rel(call.rels.length - 1);
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (PushFilterIntoScanRule.SYSTEM_SCHEMAS.contains(each.toLowerCase())) {
+                return false;
+            }
+        }
+        if (containsAggregate(logicalScan.peek())) {
+            return false;
+        }
+        LogicalAggregate logicalAggregate = call.rel(0);
+        if (Aggregate.Group.SIMPLE != logicalAggregate.getGroupType()) {
+            return false;
+        }
+        List<RexNode> inputs = getInputs(call);
+        Collection<Integer> groupIndexes = new HashSet<>();
+        for (int each : logicalAggregate.getGroupSet()) {
+            if (!(inputs.get(each) instanceof RexInputRef) || !groupIndexes.add(((RexInputRef) inputs.get(each)).getIndex())) {
+                return false;
+            }
+        }
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            if (!isPushable(each, inputs)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean containsAggregate(final RelNode relNode) {
+        if (relNode instanceof Aggregate) {
+            return true;
+        }
+        for (RelNode each : relNode.getInputs()) {
+            if (containsAggregate(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private List<RexNode> getInputs(final RelOptRuleCall call) {
+        if (call.rel(1) instanceof LogicalProject) {
+            return ((LogicalProject) call.rel(1)).getProjects();
+        }
+        LogicalScan logicalScan = call.rel(1);
+        return logicalScan.getCluster().getRexBuilder().identityProjects(logicalScan.getRowType());
+    }
+    
+    private boolean isPushable(final AggregateCall aggregateCall, final List<RexNode> inputs) {
+        SqlKind kind = aggregateCall.getAggregation().getKind();
+        if (!SUPPORTED_AGGREGATIONS.contains(kind) || aggregateCall.isDistinct() || aggregateCall.hasFilter() || aggregateCall.isApproximate()
+                || !aggregateCall.getCollation().getFieldCollations().isEmpty() || aggregateCall.getArgList().size() > 1) {
+            return false;
+        }
+        if (aggregateCall.getArgList().isEmpty()) {
+            return SqlKind.COUNT == kind;
+        }
+        RexNode input = inputs.get(aggregateCall.getArgList().get(0));
+        if (input instanceof RexInputRef) {
+            return true;
+        }
+        if (!input.isA(SqlKind.CAST) || !(((RexCall) input).getOperands().get(0) instanceof RexInputRef)) {
+            return false;
+        }
+        RelDataType sourceType = ((RexCall) input).getOperands().get(0).getType();
+        switch (kind) {
+            case COUNT:
+                return true;
+            case MIN:
+            case MAX:
+                return SqlTypeUtil.isNumeric(sourceType) && SqlTypeUtil.isNumeric(input.getType());
+            default:
+                return SqlTypeUtil.isExactNumeric(sourceType) && SqlTypeUtil.isNumeric(input.getType());
+        }
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalAggregate logicalAggregate = call.rel(0);
+        LogicalScan logicalScan = call.rel(call.rels.length - 1);
+        List<RexNode> inputs = getInputs(call);
+        List<Integer> groupIndexes = logicalAggregate.getGroupSet().asList().stream().map(each -> ((RexInputRef) inputs.get(each)).getIndex()).collect(Collectors.toList());
+        List<AggregateCall> partialAggregateCalls = new ArrayList<>(logicalAggregate.getAggCallList().size());
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            partialAggregateCalls.addAll(createPartialAggregateCalls(each, inputs, groupIndexes.size(), logicalScan));
+        }
+        logicalScan.pushDown(LogicalAggregate.create(logicalScan, Collections.emptyList(), ImmutableBitSet.of(groupIndexes), null, partialAggregateCalls));
+        call.transformTo(createMergeRelNode(call.builder(), logicalAggregate, logicalScan, inputs, groupIndexes));
+    }
+    
+    private Collection<AggregateCall> createPartialAggregateCalls(final AggregateCall aggregateCall, final List<RexNode> inputs, final int groupCount, final LogicalScan logicalScan) {
+        List<Integer> argList = aggregateCall.getArgList().stream().map(each -> getInputIndex(inputs.get(each))).collect(Collectors.toList());
+        switch (aggregateCall.getAggregation().getKind()) {
+            case COUNT:
+                return Collections.singleton(createAggregateCall(SqlStdOperatorTable.COUNT, argList, groupCount, logicalScan));
+            case MIN:
+                return Collections.singleton(createAggregateCall(SqlStdOperatorTable.MIN, argList, groupCount, logicalScan));
+            case MAX:
+                return Collections.singleton(createAggregateCall(SqlStdOperatorTable.MAX, argList, groupCount, logicalScan));
+            case AVG:
+                return Arrays.asList(createAggregateCall(SqlStdOperatorTable.SUM, argList, groupCount, logicalScan), createAggregateCall(SqlStdOperatorTable.COUNT, argList, groupCount, logicalScan));
+            default:
+                return Collections.singleton(createAggregateCall(SqlStdOperatorTable.SUM, argList, groupCount, logicalScan));
+        }
+    }
+    
+    private int getInputIndex(final RexNode input) {
+        return input instanceof RexInputRef ? ((RexInputRef) input).getIndex() : ((RexInputRef) ((RexCall) input).getOperands().get(0)).getIndex();
+    }
+    
+    private AggregateCall createAggregateCall(final SqlAggFunction aggFunction, final List<Integer> argList, final int groupCount, final RelNode input) {
+        return AggregateCall.create(aggFunction, false, false, false, Collections.emptyList(), argList, -1, null, RelCollations.EMPTY, groupCount, input, null, null);
+    }
+    
+    private RelNode createMergeRelNode(final RelBuilder relBuilder, final LogicalAggregate logicalAggregate, final LogicalScan logicalScan, final List<RexNode> inputs,
+                                       final List<Integer> groupIndexes) {
+        relBuilder.push(logicalScan);
+        List<Integer> sortedGroupIndexes = groupIndexes.stream().sorted().collect(Collectors.toList());
+        List<RexNode> mergeInputs = new ArrayList<>(logicalScan.getRowType().getFieldCount());
+        for (Integer each : groupIndexes) {
+            mergeInputs.add(relBuilder.field(sortedGroupIndexes.indexOf(each)));
+        }
+        int partialIndex = groupIndexes.size();
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            Optional<RelDataType> castType = findCastType(each, inputs);
+            mergeInputs.add(SqlKind.COUNT == each.getAggregation().getKind() || !castType.isPresent()
+                    ? relBuilder.field(partialIndex)
+                    : relBuilder.getRexBuilder().makeCast(castType.get(), relBuilder.field(partialIndex)));
+            partialIndex++;
+            if (SqlKind.AVG == each.getAggregation().getKind()) {
+                mergeInputs.add(relBuilder.field(partialIndex++));
+            }
+        }
+        relBuilder.project(mergeInputs);
+        List<RelBuilder.AggCall> mergeAggregateCalls = new ArrayList<>(mergeInputs.size());
+        int mergeIndex = groupIndexes.size();
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            mergeAggregateCalls.add(createMergeAggregateCall(relBuilder, each.getAggregation().getKind(), relBuilder.field(mergeIndex++)));
+            if (SqlKind.AVG == each.getAggregation().getKind()) {
+                mergeAggregateCalls.add(relBuilder.aggregateCall(SqlStdOperatorTable.SUM0, relBuilder.field(mergeIndex++)));
+            }
+        }
+        relBuilder.aggregate(relBuilder.groupKey(ImmutableBitSet.range(groupIndexes.size())), mergeAggregateCalls);
+        List<RexNode> results = new ArrayList<>(logicalAggregate.getRowType().getFieldCount());
+        int resultIndex = 0;
+        for (; resultIndex < groupIndexes.size(); resultIndex++) {
+            results.add(relBuilder.field(resultIndex));
+        }
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            if (SqlKind.AVG == each.getAggregation().getKind()) {
+                results.add(relBuilder.call(SqlStdOperatorTable.DIVIDE, relBuilder.field(resultIndex), relBuilder.field(resultIndex + 1)));
+                resultIndex += 2;
+            } else {
+                results.add(relBuilder.field(resultIndex++));
+            }
+        }
+        relBuilder.project(results, logicalAggregate.getRowType().getFieldNames());
+        relBuilder.convert(logicalAggregate.getRowType(), false);
+        return relBuilder.build();
+    }
+    
+    private Optional<RelDataType> findCastType(final AggregateCall aggregateCall, final List<RexNode> inputs) {
+        return aggregateCall.getArgList().isEmpty() || inputs.get(aggregateCall.getArgList().get(0)) instanceof RexInputRef
+                ? Optional.empty()
+                : Optional.of(inputs.get(aggregateCall.getArgList().get(0)).getType());
+    }
+    
+    private RelBuilder.AggCall createMergeAggregateCall(final RelBuilder relBuilder, final SqlKind kind, final RexNode partialResult) {
+        switch (kind) {
+            case COUNT:
+            case SUM0:
+                return relBuilder.aggregateCall(SqlStdOperatorTable.SUM0, partialResult);
+            case MIN:
+                return relBuilder.min(partialResult);
+            case MAX:
+                return relBuilder.max(partialResult);
+            default:
+                return relBuilder.sum(partialResult);
+        }
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushAggregateIntoScanRule.Config.builder().description(PushAggregateIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalAggregate.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs())).build();
+        
+        Config PROJECT = ImmutablePushAggregateIntoScanRule.Config.builder().description(PushAggregateIntoScanRule.class.getSimpleName() + "WithProject")
+                .operandSupplier(b0 -> b0.operand(LogicalAggregate.class).inputs(b1 -> b1.operand(LogicalProject.class).inputs(b2 -> b2.operand(LogicalScan.class).anyInputs()))).build();
+        
+        @Override
+        default PushAggregateIntoScanRule toRule() {
+            return new PushAggregateIntoScanRule(this);
+        }
+    }
+}
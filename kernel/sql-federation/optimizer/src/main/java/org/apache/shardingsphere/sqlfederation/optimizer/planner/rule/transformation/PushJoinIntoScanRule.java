@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.metadata.RelColumnOrigin;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rule.identifier.type.ColocatedJoinRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Push join into scan rule.
+ * 
+ * <p>Inner join of co-located tables is pushed into one scan, so that each data node returns joined rows.</p>
+ */
+@Value.Enclosing
+public final class PushJoinIntoScanRule extends RelRule<PushJoinIntoScanRule.Config> implements TransformationRule {
+    
+    private PushJoinIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+        LogicalScan leftScan = call.rel(1);
+        LogicalScan rightScan = call.rel(2);
+        if (JoinRelType.INNER != logicalJoin.getJoinType() || !logicalJoin.getVariablesSet().isEmpty() || !isPushable(leftScan) || !isPushable(rightScan) || !isSameSchema(leftScan, rightScan)) {
+            return false;
+        }
+        RuleMetaData ruleMetaData = call.getPlanner().getContext().unwrap(RuleMetaData.class);
+        if (null == ruleMetaData) {
+            return false;
+        }
+        Collection<ColocatedJoinRule> colocatedJoinRules = ruleMetaData.findRules(ColocatedJoinRule.class);
+        if (colocatedJoinRules.isEmpty()) {
+            return false;
+        }
+        Map<String, Map<String, String>> joinColumns = getJoinColumns(logicalJoin, leftScan, rightScan);
+        for (String each : getTableNames(leftScan.peek())) {
+            for (String rightTableName : getTableNames(rightScan.peek())) {
+                if (!isColocatedJoin(colocatedJoinRules, each, rightTableName, joinColumns.getOrDefault(getTablePairKey(each, rightTableName), Collections.emptyMap()))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    private boolean isPushable(final LogicalScan logicalScan) {
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (PushFilterIntoScanRule.SYSTEM_SCHEMAS.contains(each.toLowerCase())) {
+                return false;
+            }
+        }
+        return !containsAggregate(logicalScan.peek());
+    }
+    
+    private boolean containsAggregate(final RelNode relNode) {
+        if (relNode instanceof Aggregate) {
+            return true;
+        }
+        for (RelNode each : relNode.getInputs()) {
+            if (containsAggregate(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isSameSchema(final LogicalScan leftScan, final LogicalScan rightScan) {
+        List<String> leftQualifiedName = leftScan.getTable().getQualifiedName();
+        List<String> rightQualifiedName = rightScan.getTable().getQualifiedName();
+        return leftQualifiedName.subList(0, leftQualifiedName.size() - 1).equals(rightQualifiedName.subList(0, rightQualifiedName.size() - 1));
+    }
+    
+    private Map<String, Map<String, String>> getJoinColumns(final LogicalJoin logicalJoin, final LogicalScan leftScan, final LogicalScan rightScan) {
+        JoinInfo joinInfo = logicalJoin.analyzeCondition();
+        RelMetadataQuery metadataQuery = logicalJoin.getCluster().getMetadataQuery();
+        Map<String, Map<String, String>> result = new HashMap<>();
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            Optional<RelColumnOrigin> leftColumnOrigin = findColumnOrigin(metadataQuery, leftScan.peek(), joinInfo.leftKeys.get(i));
+            Optional<RelColumnOrigin> rightColumnOrigin = findColumnOrigin(metadataQuery, rightScan.peek(), joinInfo.rightKeys.get(i));
+            if (leftColumnOrigin.isPresent() && rightColumnOrigin.isPresent()) {
+                result.computeIfAbsent(getTablePairKey(getTableName(leftColumnOrigin.get().getOriginTable()), getTableName(rightColumnOrigin.get().getOriginTable())), key -> new LinkedHashMap<>())
+                        .put(getColumnName(leftColumnOrigin.get()), getColumnName(rightColumnOrigin.get()));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> getTableNames(final RelNode relNode) {
+        Collection<String> result = new LinkedHashSet<>();
+        if (relNode instanceof TableScan) {
+            result.add(getTableName(relNode.getTable()));
+        }
+        for (RelNode each : relNode.getInputs()) {
+            result.addAll(getTableNames(each));
+        }
+        return result;
+    }
+    
+    private String getTablePairKey(final String leftTableName, final String rightTableName) {
+        return leftTableName.toLowerCase() + "." + rightTableName.toLowerCase();
+    }
+    
+    private Optional<RelColumnOrigin> findColumnOrigin(final RelMetadataQuery metadataQuery, final RelNode relNode, final int index) {
+        RelColumnOrigin result = metadataQuery.getColumnOrigin(relNode, index);
+        return null == result || result.isDerived() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private String getTableName(final RelOptTable table) {
+        List<String> qualifiedName = table.getQualifiedName();
+        return qualifiedName.get(qualifiedName.size() - 1);
+    }
+    
+    private String getColumnName(final RelColumnOrigin columnOrigin) {
+        return columnOrigin.getOriginTable().getRowType().getFieldNames().get(columnOrigin.getOriginColumnOrdinal());
+    }
+    
+    private boolean isColocatedJoin(final Collection<ColocatedJoinRule> colocatedJoinRules, final String leftTableName, final String rightTableName, final Map<String, String> joinColumns) {
+        for (ColocatedJoinRule each : colocatedJoinRules) {
+            if (each.isColocatedJoin(leftTableName, rightTableName, joinColumns)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+        LogicalScan leftScan = call.rel(1);
+        LogicalScan rightScan = call.rel(2);
+        leftScan.pushDown(logicalJoin, rightScan);
+        call.transformTo(leftScan);
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushJoinIntoScanRule.Config.builder().description(PushJoinIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalJoin.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs(), b2 -> b2.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushJoinIntoScanRule toRule() {
+            return new PushJoinIntoScanRule(this);
+        }
+    }
+}
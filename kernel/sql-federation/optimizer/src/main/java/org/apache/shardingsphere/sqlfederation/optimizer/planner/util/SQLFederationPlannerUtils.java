@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import org.apache.calcite.adapter.enumerable.EnumerableRules;
 import org.apache.calcite.config.CalciteConnectionConfig;
 import org.apache.calcite.jdbc.CalciteSchema;
+import org.apache.calcite.plan.Contexts;
 import org.apache.calcite.plan.ConventionTraitDef;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptPlanner;
@@ -49,11 +50,14 @@ import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.calcite.sql2rel.SqlToRelConverter.Config;
 import org.apache.calcite.sql2rel.StandardConvertletTable;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.view.ShardingSphereViewExpander;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableModifyConverterRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableScanConverterRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushAggregateIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushFilterIntoScanRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushJoinIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushProjectIntoScanRule;
 
 import java.util.Arrays;
@@ -94,17 +98,19 @@ public final class SQLFederationPlannerUtils {
     /**
      * Create new instance of hep planner.
      *
+     * @param ruleMetaData rule meta data
      * @return hep planner instance
      */
-    public static RelOptPlanner createHepPlanner() {
+    public static RelOptPlanner createHepPlanner(final RuleMetaData ruleMetaData) {
         HepProgramBuilder builder = new HepProgramBuilder();
         builder.addGroupBegin().addRuleCollection(getFilterRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getProjectRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
+        builder.addGroupBegin().addRuleCollection(getJoinRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getAggregationRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getCalcRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getSubQueryRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addMatchLimit(DEFAULT_MATCH_LIMIT);
-        return new HepPlanner(builder.build());
+        return new HepPlanner(builder.build(), Contexts.of(ruleMetaData));
     }
     
     private static void setUpRules(final RelOptPlanner planner) {
@@ -184,8 +190,18 @@ public final class SQLFederationPlannerUtils {
         return result;
     }
     
+    private static Collection<RelOptRule> getJoinRules() {
+        Collection<RelOptRule> result = new LinkedList<>();
+        result.add(PushJoinIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushFilterIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushProjectIntoScanRule.Config.DEFAULT.toRule());
+        return result;
+    }
+    
     private static Collection<RelOptRule> getAggregationRules() {
         Collection<RelOptRule> result = new LinkedList<>();
+        result.add(PushAggregateIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushAggregateIntoScanRule.Config.PROJECT.toRule());
         result.add(CoreRules.AGGREGATE_MERGE);
         result.add(CoreRules.AGGREGATE_REDUCE_FUNCTIONS);
         return result;
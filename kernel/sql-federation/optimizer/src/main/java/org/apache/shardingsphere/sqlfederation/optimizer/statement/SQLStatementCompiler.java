@@ -26,6 +26,7 @@ import org.apache.calcite.rel.metadata.RelMetadataQueryBase;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.sql.SqlNode;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.optimizer.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.optimizer.converter.SQLNodeConverterEngine;
@@ -42,6 +43,8 @@ public final class SQLStatementCompiler {
     
     private final SqlToRelConverter converter;
     
+    private final RuleMetaData ruleMetaData;
+    
     /**
      * Compile sql statement to execution plan.
      *
@@ -55,7 +58,7 @@ public final class SQLStatementCompiler {
         RelNode logicalPlan = converter.convertQuery(sqlNode, true, true).rel;
         RelDataType resultColumnType = Objects.requireNonNull(converter.validator).getValidatedNodeType(sqlNode);
         RelNode replacePlan = LogicalScanRelShuttle.replace(logicalPlan, databaseType);
-        RelNode rewritePlan = rewrite(replacePlan, SQLFederationPlannerUtils.createHepPlanner());
+        RelNode rewritePlan = rewrite(replacePlan, SQLFederationPlannerUtils.createHepPlanner(ruleMetaData));
         RelNode physicalPlan = optimize(rewritePlan, converter);
         RelMetadataQueryBase.THREAD_PROVIDERS.remove();
         return new SQLFederationExecutionPlan(physicalPlan, resultColumnType);
@@ -17,20 +17,82 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
 
+import lombok.Setter;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.identifier.type.GlobalUniqueKeyRule;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
  * SQL federation statistic.
+ * 
+ * <p>Primary key is declared as key only if it is unique across data nodes, because federation scans union rows of all data nodes.</p>
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    private final List<ImmutableBitSet> keys;
+    
+    @Setter
+    private volatile Double rowCount;
+    
+    public SQLFederationStatistic(final ShardingSphereTable table, final RuleMetaData ruleMetaData) {
+        keys = createKeys(table, ruleMetaData);
+    }
+    
+    private List<ImmutableBitSet> createKeys(final ShardingSphereTable table, final RuleMetaData ruleMetaData) {
+        ImmutableBitSet.Builder builder = ImmutableBitSet.builder();
+        Collection<String> keyColumnNames = new LinkedList<>();
+        int index = 0;
+        for (ShardingSphereColumn each : table.getColumnValues()) {
+            if (each.isPrimaryKey()) {
+                builder.set(index);
+                keyColumnNames.add(each.getName());
+            }
+            index++;
+        }
+        if (keyColumnNames.isEmpty()) {
+            return Collections.emptyList();
+        }
+        for (GlobalUniqueKeyRule each : ruleMetaData.findRules(GlobalUniqueKeyRule.class)) {
+            if (!each.isGlobalUniqueKey(table.getName(), keyColumnNames)) {
+                return Collections.emptyList();
+            }
+        }
+        return Collections.singletonList(builder.build());
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        for (ImmutableBitSet each : keys) {
+            if (columns.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        return keys;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SQL federation table statistics loader.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationTableStatisticsLoader {
+    
+    private static final String SHARDING_SPHERE = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    /**
+     * Load row counts of logic tables.
+     *
+     * @param databaseName database name
+     * @param statistics ShardingSphere statistics
+     * @return row counts, key is lower case logic table name
+     */
+    public static Map<String, Double> loadRowCounts(final String databaseName, final ShardingSphereStatistics statistics) {
+        Optional<ShardingSphereTableData> tableData = findTableStatistics(databaseName, statistics);
+        if (!tableData.isPresent()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Double> result = new HashMap<>();
+        for (ShardingSphereRowData each : tableData.get().getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() <= ROW_COUNT_INDEX || null == row.get(LOGIC_TABLE_NAME_INDEX) || !databaseName.equalsIgnoreCase(String.valueOf(row.get(LOGIC_DATABASE_NAME_INDEX)))) {
+                continue;
+            }
+            toRowCount(row.get(ROW_COUNT_INDEX)).ifPresent(optional -> result.merge(String.valueOf(row.get(LOGIC_TABLE_NAME_INDEX)).toLowerCase(), optional, Double::sum));
+        }
+        return result;
+    }
+    
+    private static Optional<ShardingSphereTableData> findTableStatistics(final String databaseName, final ShardingSphereStatistics statistics) {
+        if (null == statistics) {
+            return Optional.empty();
+        }
+        Optional<ShardingSphereTableData> result = findTableStatistics(statistics.getDatabase(databaseName));
+        return result.isPresent() ? result : findTableStatistics(statistics.getDatabase(SHARDING_SPHERE));
+    }
+    
+    private static Optional<ShardingSphereTableData> findTableStatistics(final ShardingSphereDatabaseData databaseData) {
+        if (null == databaseData) {
+            return Optional.empty();
+        }
+        ShardingSphereSchemaData schemaData = databaseData.getSchema(SHARDING_SPHERE);
+        return null == schemaData ? Optional.empty() : Optional.ofNullable(schemaData.getTable(SHARDING_TABLE_STATISTICS));
+    }
+    
+    private static Optional<Double> toRowCount(final Object value) {
+        if (value instanceof Number) {
+            return Optional.of(((Number) value).doubleValue());
+        }
+        try {
+            return null == value ? Optional.empty() : Optional.of(new BigDecimal(String.valueOf(value)).doubleValue());
+        } catch (final NumberFormatException ignored) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.identifier.type.GlobalUniqueKeyRule;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationStatisticTest {
+    
+    @Test
+    void assertGetKeysWithPrimaryKey() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(true), new RuleMetaData(Collections.emptyList()));
+        assertThat(actual.getKeys(), is(Collections.singletonList(ImmutableBitSet.of(1))));
+        assertTrue(actual.isKey(ImmutableBitSet.of(0, 1)));
+        assertFalse(actual.isKey(ImmutableBitSet.of(0)));
+    }
+    
+    @Test
+    void assertGetKeysWithoutGlobalUniquePrimaryKey() {
+        GlobalUniqueKeyRule rule = mock(GlobalUniqueKeyRule.class);
+        when(rule.isGlobalUniqueKey("t_order", Collections.singletonList("order_id"))).thenReturn(false);
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(true), new RuleMetaData(Collections.singleton(rule)));
+        assertTrue(actual.getKeys().isEmpty());
+        assertFalse(actual.isKey(ImmutableBitSet.of(0, 1)));
+    }
+    
+    @Test
+    void assertGetKeysWithoutPrimaryKey() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(false), new RuleMetaData(Collections.emptyList()));
+        assertTrue(actual.getKeys().isEmpty());
+        assertFalse(actual.isKey(ImmutableBitSet.of(0, 1)));
+    }
+    
+    @Test
+    void assertGetRowCount() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(true), new RuleMetaData(Collections.emptyList()));
+        assertNull(actual.getRowCount());
+        actual.setRowCount(10D);
+        assertThat(actual.getRowCount(), is(10D));
+    }
+    
+    private ShardingSphereTable createTable(final boolean containsPrimaryKey) {
+        ShardingSphereColumn userIdColumn = new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false);
+        ShardingSphereColumn orderIdColumn = new ShardingSphereColumn("order_id", Types.INTEGER, containsPrimaryKey, false, false, true, false, false);
+        return new ShardingSphereTable("t_order", Arrays.asList(userIdColumn, orderIdColumn), Collections.emptyList(), Collections.emptyList());
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local transaction fan out executor.
+ * 
+ * <p>Commit or rollback all connections of a local transaction concurrently, the last connection is finished by the caller thread.
+ * Fan out threads are bounded, connections are finished by the caller thread too when all fan out threads are busy.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class LocalTransactionFanOutExecutor {
+    
+    private static final int FAN_OUT_PARALLELISM = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(0, FAN_OUT_PARALLELISM,
+            60L, TimeUnit.SECONDS, new SynchronousQueue<>(), ExecutorThreadFactoryBuilder.build("Transaction-FanOut-%d"), new CallerRunsPolicy());
+    
+    /**
+     * Commit connections.
+     *
+     * @param connections connections, key is data source name
+     * @return SQL exceptions in order of connections
+     */
+    public static Collection<SQLException> commit(final Collection<Entry<String, Connection>> connections) {
+        return execute(connections, LocalTransactionFanOutExecutor::commit, "Commit");
+    }
+    
+    /**
+     * Commit connection of one data source.
+     *
+     * @param connection connection
+     * @throws SQLException SQL exception
+     */
+    public static void commit(final Connection connection) throws SQLException {
+        connection.commit();
+    }
+    
+    /**
+     * Rollback connections.
+     *
+     * @param connections connections, key is data source name
+     * @return SQL exceptions in order of connections
+     */
+    public static Collection<SQLException> rollback(final Collection<Entry<String, Connection>> connections) {
+        return execute(connections, LocalTransactionFanOutExecutor::rollback, "Rollback");
+    }
+    
+    /**
+     * Rollback connection of one data source.
+     *
+     * @param connection connection
+     * @throws SQLException SQL exception
+     */
+    public static void rollback(final Connection connection) throws SQLException {
+        connection.rollback();
+    }
+    
+    private static Collection<SQLException> execute(final Collection<Entry<String, Connection>> connections, final ConnectionCallback callback, final String operation) {
+        List<Entry<String, Connection>> entries = new ArrayList<>(connections);
+        long[] latencies = new long[entries.size()];
+        List<Future<SQLException>> futures = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size() - 1; i++) {
+            int index = i;
+            futures.add(EXECUTOR_SERVICE.submit(() -> execute(entries.get(index).getValue(), callback, latencies, index)));
+        }
+        Collection<SQLException> result = new LinkedList<>();
+        SQLException lastException = entries.isEmpty() ? null : execute(entries.get(entries.size() - 1).getValue(), callback, latencies, entries.size() - 1);
+        for (Future<SQLException> each : futures) {
+            SQLException ex = getResult(each);
+            if (null != ex) {
+                result.add(ex);
+            }
+        }
+        if (null != lastException) {
+            result.add(lastException);
+        }
+        logLatencies(entries, latencies, operation);
+        return result;
+    }
+    
+    private static SQLException execute(final Connection connection, final ConnectionCallback callback, final long[] latencies, final int index) {
+        long startNanos = System.nanoTime();
+        try {
+            callback.execute(connection);
+            return null;
+        } catch (final SQLException ex) {
+            return ex;
+        } finally {
+            latencies[index] = System.nanoTime() - startNanos;
+        }
+    }
+    
+    private static SQLException getResult(final Future<SQLException> future) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (final InterruptedException ignored) {
+                    interrupted = true;
+                } catch (final ExecutionException ex) {
+                    return new SQLException(ex.getCause());
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    private static void logLatencies(final List<Entry<String, Connection>> entries, final long[] latencies, final String operation) {
+        if (!log.isDebugEnabled() || entries.isEmpty()) {
+            return;
+        }
+        Map<String, Long> latencyMillis = new LinkedHashMap<>(entries.size(), 1F);
+        int slowestIndex = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            latencyMillis.merge(entries.get(i).getKey(), TimeUnit.NANOSECONDS.toMillis(latencies[i]), Math::max);
+            if (latencies[i] > latencies[slowestIndex]) {
+                slowestIndex = i;
+            }
+        }
+        log.debug("{} of {} connections finished, slowest data source: {} ({} ms), latency millis: {}.",
+                operation, entries.size(), entries.get(slowestIndex).getKey(), TimeUnit.NANOSECONDS.toMillis(latencies[slowestIndex]), latencyMillis);
+    }
+    
+    @FunctionalInterface
+    private interface ConnectionCallback {
+        
+        void execute(Connection connection) throws SQLException;
+    }
+}
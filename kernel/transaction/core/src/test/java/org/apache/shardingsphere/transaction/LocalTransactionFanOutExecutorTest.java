@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map.Entry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class LocalTransactionFanOutExecutorTest {
+    
+    @Test
+    void assertCommitConcurrently() throws SQLException {
+        CountDownLatch latch = new CountDownLatch(2);
+        Connection connection0 = mockAwaitingConnection(latch);
+        Connection connection1 = mockAwaitingConnection(latch);
+        Collection<SQLException> actual = LocalTransactionFanOutExecutor.commit(Arrays.asList(new SimpleEntry<>("ds_0", connection0), new SimpleEntry<>("ds_1", connection1)));
+        assertTrue(actual.isEmpty());
+        verify(connection0).commit();
+        verify(connection1).commit();
+    }
+    
+    private Connection mockAwaitingConnection(final CountDownLatch latch) throws SQLException {
+        Connection result = mock(Connection.class);
+        doAnswer(invocation -> {
+            latch.countDown();
+            if (!latch.await(10L, TimeUnit.SECONDS)) {
+                throw new SQLException("Connections are not committed concurrently.");
+            }
+            return null;
+        }).when(result).commit();
+        return result;
+    }
+    
+    @Test
+    void assertRollbackWithExceptions() throws SQLException {
+        Connection connection0 = mock(Connection.class);
+        Connection connection1 = mock(Connection.class);
+        Connection connection2 = mock(Connection.class);
+        SQLException ex0 = new SQLException("ds_0");
+        SQLException ex2 = new SQLException("ds_2");
+        doThrow(ex0).when(connection0).rollback();
+        doThrow(ex2).when(connection2).rollback();
+        Collection<Entry<String, Connection>> connections = Arrays.asList(new SimpleEntry<>("ds_0", connection0), new SimpleEntry<>("ds_1", connection1), new SimpleEntry<>("ds_2", connection2));
+        assertThat(LocalTransactionFanOutExecutor.rollback(connections), is(Arrays.asList(ex0, ex2)));
+        verify(connection1).rollback();
+    }
+    
+    @Test
+    void assertCommitMoreConnectionsThanFanOutThreads() throws SQLException {
+        Collection<Entry<String, Connection>> connections = new LinkedList<>();
+        for (int i = 0; i < Runtime.getRuntime().availableProcessors() * 4; i++) {
+            connections.add(new SimpleEntry<>("ds_" + i, mock(Connection.class)));
+        }
+        assertTrue(LocalTransactionFanOutExecutor.commit(connections).isEmpty());
+        for (Entry<String, Connection> each : connections) {
+            verify(each.getValue()).commit();
+        }
+    }
+    
+    @Test
+    void assertCommitWithoutConnections() {
+        assertTrue(LocalTransactionFanOutExecutor.commit(Collections.emptyList()).isEmpty());
+    }
+}
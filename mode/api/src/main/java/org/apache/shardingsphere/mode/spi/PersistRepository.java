@@ -19,7 +19,10 @@ package org.apache.shardingsphere.mode.spi;
 
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -39,6 +42,23 @@ public interface PersistRepository extends TypedSPI {
      */
     String getDirectly(String key);
     
+    /**
+     * Get values of keys from registry center directly in batch.
+     *
+     * @param keys keys
+     * @return values of existing keys, keyed by key
+     */
+    default Map<String, String> batchGetDirectly(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            String value = getDirectly(each);
+            if (null != value) {
+                result.put(each, value);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get names of sub-node.
      *
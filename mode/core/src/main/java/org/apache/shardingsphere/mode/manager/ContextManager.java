@@ -20,7 +20,6 @@ package org.apache.shardingsphere.mode.manager;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
-import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
@@ -32,8 +31,13 @@ import org.apache.shardingsphere.infra.metadata.database.schema.SchemaManager;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.collector.ShardingSphereStatisticsCollector;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
 import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.state.cluster.ClusterState;
 import org.apache.shardingsphere.infra.state.cluster.ClusterStateContext;
 import org.apache.shardingsphere.metadata.persist.MetaDataBasedPersistService;
@@ -47,6 +51,8 @@ import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -76,7 +82,7 @@ public final class ContextManager implements AutoCloseable {
         shardingSphereDatabaseContextManager = new ShardingSphereDatabaseContextManager(this.metaDataContexts);
         configurationContextManager = new ConfigurationContextManager(this.metaDataContexts, instanceContext);
         resourceMetaDataContextManager = new ResourceMetaDataContextManager(this.metaDataContexts);
-        executorEngine = ExecutorEngine.createExecutorEngineWithSize(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        executorEngine = ExecutorEngine.createExecutorEngine(metaDataContexts.getMetaData().getProps());
     }
     
     /**
@@ -150,6 +156,53 @@ public final class ContextManager implements AutoCloseable {
         }
     }
     
+    /**
+     * Refresh statistics.
+     */
+    public synchronized void refreshStatistics() {
+        ShardingSphereMetaData metaData = metaDataContexts.get().getMetaData();
+        for (Entry<String, ShardingSphereDatabaseData> entry : metaDataContexts.get().getStatistics().getDatabaseData().entrySet()) {
+            if (metaData.containsDatabase(entry.getKey())) {
+                refreshStatistics(entry.getKey(), entry.getValue(), metaData);
+            }
+        }
+    }
+    
+    private void refreshStatistics(final String databaseName, final ShardingSphereDatabaseData databaseData, final ShardingSphereMetaData metaData) {
+        ShardingSphereDatabase database = metaData.getDatabase(databaseName);
+        for (Entry<String, ShardingSphereSchemaData> entry : databaseData.getSchemaData().entrySet()) {
+            if (!database.containsSchema(entry.getKey())) {
+                continue;
+            }
+            ShardingSphereSchemaData collectedSchemaData = collectStatistics(databaseName, database.getSchema(entry.getKey()), entry.getValue(), metaData.getDatabases());
+            if (!collectedSchemaData.getTableData().isEmpty()) {
+                entry.getValue().getTableData().putAll(collectedSchemaData.getTableData());
+                metaDataContexts.get().getPersistService().getShardingSphereDataPersistService().persist(databaseName, entry.getKey(), collectedSchemaData, metaData.getDatabases());
+            }
+        }
+    }
+    
+    private ShardingSphereSchemaData collectStatistics(final String databaseName, final ShardingSphereSchema schema, final ShardingSphereSchemaData schemaData,
+                                                       final Map<String, ShardingSphereDatabase> databases) {
+        ShardingSphereSchemaData result = new ShardingSphereSchemaData();
+        for (String each : schemaData.getTableData().keySet()) {
+            if (!schema.containsTable(each)) {
+                continue;
+            }
+            ShardingSphereTable table = schema.getTable(each);
+            Optional<ShardingSphereStatisticsCollector> statisticsCollector = TypedSPILoader.findService(ShardingSphereStatisticsCollector.class, table.getName());
+            if (!statisticsCollector.isPresent()) {
+                continue;
+            }
+            try {
+                statisticsCollector.get().collect(databaseName, table, databases).ifPresent(optional -> result.getTableData().put(each, optional));
+            } catch (final SQLException ex) {
+                log.error("Refresh statistics of table: {} failed", table.getName(), ex);
+            }
+        }
+        return result;
+    }
+    
     private MetaDataContexts createMetaDataContexts(final String databaseName) throws SQLException {
         ShardingSphereDatabase database = metaDataContexts.get().getMetaData().getDatabase(databaseName);
         Map<String, DataSourcePoolProperties> dataSourcePoolPropsFromRegCenter = metaDataContexts.get().getPersistService().getDataSourceUnitService().load(databaseName);
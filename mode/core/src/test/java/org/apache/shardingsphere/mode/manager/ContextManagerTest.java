@@ -36,10 +36,15 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
 import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.state.cluster.ClusterState;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.metadata.persist.data.ShardingSphereDataPersistService;
 import org.apache.shardingsphere.metadata.persist.service.database.DatabaseMetaDataPersistService;
 import org.apache.shardingsphere.mode.fixture.ModeRuleConfigurationFixture;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
@@ -323,6 +328,27 @@ class ContextManagerTest {
         return result;
     }
     
+    @Test
+    void assertRefreshStatistics() {
+        ShardingSphereStatistics statistics = new ShardingSphereStatistics();
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.getTableData().put("foo_statistics", new ShardingSphereTableData("foo_statistics"));
+        databaseData.getSchemaData().put("foo_schema", schemaData);
+        statistics.getDatabaseData().put("foo_db", databaseData);
+        when(metaDataContexts.getStatistics()).thenReturn(statistics);
+        ShardingSphereSchema schema = metaDataContexts.getMetaData().getDatabase("foo_db").getSchema("foo_schema");
+        when(schema.containsTable("foo_statistics")).thenReturn(true);
+        when(schema.getTable("foo_statistics")).thenReturn(new ShardingSphereTable("foo_statistics", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        ShardingSphereDataPersistService dataPersistService = mock(ShardingSphereDataPersistService.class);
+        MetaDataPersistService persistService = mock(MetaDataPersistService.class);
+        when(persistService.getShardingSphereDataPersistService()).thenReturn(dataPersistService);
+        when(metaDataContexts.getPersistService()).thenReturn(persistService);
+        contextManager.refreshStatistics();
+        assertThat(schemaData.getTable("foo_statistics").getRows().size(), is(1));
+        verify(dataPersistService).persist(eq("foo_db"), eq("foo_schema"), any(ShardingSphereSchemaData.class), any());
+    }
+    
     @Test
     void assertUpdateClusterStatus() {
         contextManager.updateClusterState("READ_ONLY");
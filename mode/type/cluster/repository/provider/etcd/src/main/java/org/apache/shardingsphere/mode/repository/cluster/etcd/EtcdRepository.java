@@ -23,6 +23,7 @@ import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.GetResponse;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.OptionsUtil;
@@ -43,7 +44,12 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -76,6 +82,23 @@ public final class EtcdRepository implements ClusterPersistRepository {
         return keyValues.isEmpty() ? null : keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8);
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public Map<String, String> batchGetDirectly(final Collection<String> keys) {
+        Map<String, CompletableFuture<GetResponse>> futures = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            futures.put(each, client.getKVClient().get(ByteSequence.from(each, StandardCharsets.UTF_8)));
+        }
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (Entry<String, CompletableFuture<GetResponse>> entry : futures.entrySet()) {
+            List<KeyValue> keyValues = entry.getValue().get().getKvs();
+            if (!keyValues.isEmpty()) {
+                result.put(entry.getKey(), keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+    
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public List<String> getChildrenKeys(final String key) {
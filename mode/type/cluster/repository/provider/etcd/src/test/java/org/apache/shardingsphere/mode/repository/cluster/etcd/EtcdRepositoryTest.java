@@ -47,9 +47,11 @@ import org.mockito.quality.Strictness;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -141,6 +143,18 @@ class EtcdRepositoryTest {
         verify(getResponse).getKvs();
     }
     
+    @Test
+    void assertBatchGetDirectly() {
+        KeyValue keyValue = new KeyValue(io.etcd.jetcd.api.KeyValue.newBuilder()
+                .setKey(ByteString.copyFromUtf8("key1")).setValue(ByteString.copyFromUtf8("value1")).build(), ByteSequence.EMPTY);
+        GetResponse emptyResponse = mock(GetResponse.class);
+        when(getResponse.getKvs()).thenReturn(Collections.singletonList(keyValue));
+        when(kv.get(ByteSequence.from("key2", StandardCharsets.UTF_8))).thenReturn(CompletableFuture.completedFuture(emptyResponse));
+        Map<String, String> actual = repository.batchGetDirectly(Arrays.asList("key1", "key2"));
+        verify(kv).get(ByteSequence.from("key1", StandardCharsets.UTF_8));
+        assertThat(actual, is(Collections.singletonMap("key1", "value1")));
+    }
+    
     @Test
     void assertGetChildrenKeys() {
         io.etcd.jetcd.api.KeyValue keyValue1 = io.etcd.jetcd.api.KeyValue.newBuilder()
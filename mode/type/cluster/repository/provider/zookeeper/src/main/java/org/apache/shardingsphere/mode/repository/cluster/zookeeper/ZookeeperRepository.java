@@ -42,18 +42,23 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.listener.Sess
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.KeeperException.Code;
 import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Registry repository of ZooKeeper.
@@ -179,6 +184,35 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         }
     }
     
+    @Override
+    public Map<String, String> batchGetDirectly(final Collection<String> keys) {
+        Map<String, String> result = new ConcurrentHashMap<>(keys.size(), 1F);
+        CountDownLatch latch = new CountDownLatch(keys.size());
+        AtomicReference<KeeperException> failure = new AtomicReference<>();
+        try {
+            for (String each : keys) {
+                client.getData().inBackground((framework, event) -> {
+                    Code code = Code.get(event.getResultCode());
+                    if (Code.OK == code) {
+                        result.put(each, new String(event.getData(), StandardCharsets.UTF_8));
+                    } else if (Code.NONODE != code) {
+                        failure.compareAndSet(null, KeeperException.create(code, each));
+                    }
+                    latch.countDown();
+                }).forPath(each);
+            }
+            latch.await();
+            if (null != failure.get()) {
+                ZookeeperExceptionHandler.handleException(failure.get());
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+        }
+        return result;
+    }
+    
     @Override
     public boolean isExisted(final String key) {
         try {
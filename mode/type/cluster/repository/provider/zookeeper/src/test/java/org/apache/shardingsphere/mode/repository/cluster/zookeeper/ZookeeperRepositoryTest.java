@@ -22,11 +22,15 @@ import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
+import org.apache.curator.framework.api.CuratorEvent;
 import org.apache.curator.framework.api.DeleteBuilder;
+import org.apache.curator.framework.api.ErrorListenerPathable;
 import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
+import org.apache.curator.framework.api.GetDataBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
@@ -37,6 +41,7 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.Zookeep
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.Code;
 import org.apache.zookeeper.data.Stat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -181,6 +186,30 @@ class ZookeeperRepositoryTest {
         assertThat(childrenKeys.size(), is(2));
     }
     
+    @Test
+    void assertBatchGetDirectly() throws Exception {
+        GetDataBuilder getDataBuilder = mock(GetDataBuilder.class);
+        ErrorListenerPathable<byte[]> pathable = mock(ErrorListenerPathable.class);
+        when(client.getData()).thenReturn(getDataBuilder);
+        when(getDataBuilder.inBackground(any(BackgroundCallback.class))).thenAnswer(invocation -> {
+            BackgroundCallback callback = invocation.getArgument(0);
+            when(pathable.forPath(anyString())).thenAnswer(forPathInvocation -> {
+                String path = forPathInvocation.getArgument(0);
+                CuratorEvent event = mock(CuratorEvent.class);
+                if ("/test/exist".equals(path)) {
+                    when(event.getResultCode()).thenReturn(Code.OK.intValue());
+                    when(event.getData()).thenReturn("value".getBytes(StandardCharsets.UTF_8));
+                } else {
+                    when(event.getResultCode()).thenReturn(Code.NONODE.intValue());
+                }
+                callback.processResult(client, event);
+                return null;
+            });
+            return pathable;
+        });
+        assertThat(REPOSITORY.batchGetDirectly(Arrays.asList("/test/exist", "/test/not_exist")), is(Collections.singletonMap("/test/exist", "value")));
+    }
+    
     @Test
     void assertBuildCuratorClientWithCustomConfig() {
         Properties props = PropertiesBuilder.build(
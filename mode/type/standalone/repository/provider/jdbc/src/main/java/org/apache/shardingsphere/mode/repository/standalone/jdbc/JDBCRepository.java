@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.mode.repository.standalone.jdbc;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import com.zaxxer.hikari.HikariDataSource;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -34,9 +35,13 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
 
@@ -48,6 +53,8 @@ public final class JDBCRepository implements StandalonePersistRepository {
     
     private static final String SEPARATOR = "/";
     
+    private static final int BATCH_GET_SIZE = 500;
+    
     private JDBCRepositorySQL repositorySQL;
     
     private HikariDataSource dataSource;
@@ -94,6 +101,40 @@ public final class JDBCRepository implements StandalonePersistRepository {
         return "";
     }
     
+    @Override
+    public Map<String, String> batchGetDirectly(final Collection<String> keys) {
+        if (null == repositorySQL.getSelectByKeysSQL()) {
+            return StandalonePersistRepository.super.batchGetDirectly(keys);
+        }
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (List<String> each : Lists.partition(new ArrayList<>(keys), BATCH_GET_SIZE)) {
+            try {
+                result.putAll(batchGetDirectly(each));
+            } catch (final SQLException ex) {
+                log.error("Get {} data by keys: {} failed", getType(), each, ex);
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, String> batchGetDirectly(final List<String> keys) throws SQLException {
+        Map<String, String> result = new HashMap<>(keys.size(), 1F);
+        String sql = String.format(repositorySQL.getSelectByKeysSQL(), String.join(", ", Collections.nCopies(keys.size(), "?")));
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < keys.size(); i++) {
+                preparedStatement.setString(i + 1, keys.get(i));
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.put(resultSet.getString("key"), resultSet.getString("value"));
+                }
+            }
+        }
+        return result;
+    }
+    
     @Override
     public List<String> getChildrenKeys(final String key) {
         try (
@@ -43,6 +43,9 @@ public final class JDBCRepositorySQL {
     @JacksonXmlProperty(localName = "select-by-key")
     private String selectByKeySQL;
     
+    @JacksonXmlProperty(localName = "select-by-keys")
+    private String selectByKeysSQL;
+    
     @JacksonXmlProperty(localName = "select-by-parent")
     private String selectByParentKeySQL;
     
@@ -35,7 +35,10 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -118,6 +121,25 @@ class JDBCRepositoryTest {
         assertThat(actual, is(""));
     }
     
+    @Test
+    void assertBatchGet() throws SQLException {
+        when(mockJdbcConnection.prepareStatement(String.format(repositorySQL.getSelectByKeysSQL(), "?, ?"))).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true, false);
+        when(mockResultSet.getString("key")).thenReturn("key1");
+        when(mockResultSet.getString("value")).thenReturn("value1");
+        Map<String, String> actual = repository.batchGetDirectly(Arrays.asList("key1", "key2"));
+        verify(mockPreparedStatement).setString(1, "key1");
+        verify(mockPreparedStatement).setString(2, "key2");
+        assertThat(actual, is(Collections.singletonMap("key1", "value1")));
+    }
+    
+    @Test
+    void assertBatchGetFailure() throws SQLException {
+        when(mockJdbcConnection.prepareStatement(String.format(repositorySQL.getSelectByKeysSQL(), "?"))).thenThrow(SQLException.class);
+        assertTrue(repository.batchGetDirectly(Collections.singletonList("key")).isEmpty());
+    }
+    
     @Test
     void assertPersistAndGetChildrenKeys() throws SQLException {
         when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByParentKeySQL())).thenReturn(mockPreparedStatement);
@@ -163,6 +163,10 @@ METADATA
     : M E T A D A T A
     ;
 
+STATISTICS
+    : S T A T I S T I C S
+    ;
+
 TRUE
     : T R U E
     ;
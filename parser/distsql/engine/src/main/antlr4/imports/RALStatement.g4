@@ -55,6 +55,10 @@ refreshTableMetadata
     : REFRESH TABLE METADATA refreshScope?
     ;
 
+refreshTableStatistics
+    : REFRESH TABLE STATISTICS
+    ;
+
 showTableMetadata
     : SHOW TABLE METADATA tableName (COMMA_ tableName*)? (FROM databaseName)?
     ;
@@ -39,6 +39,7 @@ execute
     | showLogicalTables
     | refreshDatabaseMetadata
     | refreshTableMetadata
+    | refreshTableStatistics
     | showTableMetadata
     | exportDatabaseConfiguration
     | importDatabaseConfiguration
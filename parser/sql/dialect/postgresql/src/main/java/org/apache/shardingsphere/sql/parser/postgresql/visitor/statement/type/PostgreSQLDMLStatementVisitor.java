@@ -17,13 +17,18 @@
 
 package org.apache.shardingsphere.sql.parser.postgresql.visitor.statement.type;
 
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
 import org.apache.shardingsphere.sql.parser.api.ASTNode;
 import org.apache.shardingsphere.sql.parser.api.visitor.statement.type.DMLStatementVisitor;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CallArgumentContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CallContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CheckpointContext;
+import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyContext;
+import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyOptionContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyWithTableBinaryContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyWithTableOrQueryBinaryCsvContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyWithTableOrQueryContext;
@@ -44,6 +49,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectState
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.value.collection.CollectionValue;
 import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.StringLiteralValue;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCallStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCheckpointStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
@@ -51,6 +57,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Optional;
 
 /**
  * DML statement visitor for PostgreSQL.
@@ -108,9 +115,28 @@ public final class PostgreSQLDMLStatementVisitor extends PostgreSQLStatementVisi
         if (null != ctx.preparableStmt()) {
             result.setPrepareStatementQuerySegment(extractPrepareStatementQuerySegmentFromPreparableStmt(ctx.preparableStmt()));
         }
+        result.setFromStdin(null != ctx.STDIN());
+        result.setToStdout(null != ctx.STDOUT());
+        if (null != ctx.copyOptionList()) {
+            for (CopyOptionContext each : ctx.copyOptionList().copyOption()) {
+                setCopyOption(result, each);
+            }
+        }
         return result;
     }
     
+    private void setCopyOption(final PostgreSQLCopyStatement copyStatement, final CopyOptionContext ctx) {
+        if (null != ctx.FORMAT()) {
+            copyStatement.setFormat(ctx.identifier().getText().toLowerCase());
+        } else if (null != ctx.DELIMITER()) {
+            copyStatement.setDelimiter(getCopyOptionValue(ctx.STRING_()));
+        } else if (null != ctx.NULL()) {
+            copyStatement.setNullMarker(getCopyOptionValue(ctx.STRING_()));
+        } else if (null != ctx.HEADER()) {
+            copyStatement.setHeader(null == ctx.booleanValue() || null != ctx.booleanValue().TRUE() || null != ctx.booleanValue().ON() || "1".equals(ctx.booleanValue().getText()));
+        }
+    }
+    
     private PrepareStatementQuerySegment extractPrepareStatementQuerySegmentFromPreparableStmt(final PreparableStmtContext ctx) {
         PrepareStatementQuerySegment result = new PrepareStatementQuerySegment(ctx.start.getStartIndex(), ctx.stop.getStopIndex());
         if (null != ctx.select()) {
@@ -137,6 +163,16 @@ public final class PostgreSQLDMLStatementVisitor extends PostgreSQLStatementVisi
         if (null != ctx.preparableStmt()) {
             result.setPrepareStatementQuerySegment(extractPrepareStatementQuerySegmentFromPreparableStmt(ctx.preparableStmt()));
         }
+        result.setFromStdin(null != ctx.STDIN());
+        result.setToStdout(null != ctx.STDOUT());
+        if (null != ctx.BINARY()) {
+            result.setFormat("binary");
+        } else if (null != ctx.CSV()) {
+            result.setFormat("csv");
+            result.setHeader(null != ctx.HEADER());
+        }
+        findCopyOptionValue(ctx, PostgreSQLStatementParser.DELIMITER).ifPresent(result::setDelimiter);
+        findCopyOptionValue(ctx, PostgreSQLStatementParser.NULL).ifPresent(result::setNullMarker);
         return result;
     }
     
@@ -146,9 +182,39 @@ public final class PostgreSQLDMLStatementVisitor extends PostgreSQLStatementVisi
         if (null != ctx.qualifiedName()) {
             result.setTableSegment((SimpleTableSegment) visit(ctx.qualifiedName()));
         }
+        result.setFromStdin(null != ctx.STDIN());
+        result.setToStdout(null != ctx.STDOUT());
+        if (null != ctx.BINARY()) {
+            result.setFormat("binary");
+        }
+        findCopyOptionValue(ctx, PostgreSQLStatementParser.DELIMITERS).ifPresent(result::setDelimiter);
+        findCopyOptionValue(ctx, PostgreSQLStatementParser.NULL).ifPresent(result::setNullMarker);
         return result;
     }
     
+    private Optional<String> findCopyOptionValue(final ParserRuleContext ctx, final int optionTokenType) {
+        boolean optionFound = false;
+        for (ParseTree each : ctx.children) {
+            if (!(each instanceof TerminalNode)) {
+                continue;
+            }
+            int tokenType = ((TerminalNode) each).getSymbol().getType();
+            if (optionTokenType == tokenType) {
+                optionFound = true;
+            } else if (optionFound && PostgreSQLStatementParser.STRING_ == tokenType) {
+                return Optional.of(getCopyOptionValue((TerminalNode) each));
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private String getCopyOptionValue(final TerminalNode stringNode) {
+        String text = stringNode.getText();
+        return 'E' == Character.toUpperCase(text.charAt(0))
+                ? StringLiteralValue.getStandardEscapesStringLiteralValue(text.substring(1)).getValue()
+                : new StringLiteralValue(text).getValue().replace("''", "'");
+    }
+    
     @Override
     public ASTNode visitCheckpoint(final CheckpointContext ctx) {
         return new PostgreSQLCheckpointStatement();
@@ -18,9 +18,13 @@
 package org.apache.shardingsphere.sql.parser.core;
 
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
@@ -34,4 +38,12 @@ class ParseASTNodeTest {
         when(parseTree.getChild(0)).thenReturn(parseTree);
         assertThat(new ParseASTNode(parseTree, mock(CommonTokenStream.class)).getRootNode(), is(parseTree));
     }
+    
+    @Test
+    void assertGetTokens() {
+        CommonTokenStream tokenStream = mock(CommonTokenStream.class);
+        List<Token> tokens = Collections.singletonList(mock(Token.class));
+        when(tokenStream.getTokens()).thenReturn(tokens);
+        assertThat(new ParseASTNode(mock(ParseTree.class), tokenStream).getTokens(), is(tokens));
+    }
 }
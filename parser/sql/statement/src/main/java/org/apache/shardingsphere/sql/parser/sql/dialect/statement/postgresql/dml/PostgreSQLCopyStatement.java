@@ -39,6 +39,18 @@ public final class PostgreSQLCopyStatement extends CopyStatement implements Post
     
     private PrepareStatementQuerySegment prepareStatementQuerySegment;
     
+    private boolean fromStdin;
+    
+    private boolean toStdout;
+    
+    private String format;
+    
+    private String delimiter;
+    
+    private String nullMarker;
+    
+    private boolean header;
+    
     /**
      * Get prepare statement query segment.
      *
@@ -47,4 +59,31 @@ public final class PostgreSQLCopyStatement extends CopyStatement implements Post
     public Optional<PrepareStatementQuerySegment> getPrepareStatementQuerySegment() {
         return Optional.ofNullable(prepareStatementQuerySegment);
     }
+    
+    /**
+     * Get format.
+     *
+     * @return format
+     */
+    public Optional<String> getFormat() {
+        return Optional.ofNullable(format);
+    }
+    
+    /**
+     * Get delimiter.
+     *
+     * @return delimiter
+     */
+    public Optional<String> getDelimiter() {
+        return Optional.ofNullable(delimiter);
+    }
+    
+    /**
+     * Get null marker.
+     *
+     * @return null marker
+     */
+    public Optional<String> getNullMarker() {
+        return Optional.ofNullable(nullMarker);
+    }
 }
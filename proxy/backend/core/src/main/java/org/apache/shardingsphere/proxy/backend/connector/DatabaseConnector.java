@@ -398,6 +398,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -409,6 +410,20 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null == mergedResult) {
+            return Optional.empty();
+        }
+        try {
+            mergedResult.close();
+        } catch (final SQLException ex) {
+            return Optional.of(ex);
+        } finally {
+            mergedResult = null;
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -20,13 +20,15 @@ package org.apache.shardingsphere.proxy.backend.connector;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DatabaseConnectionManager;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionPostProcessor;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.SessionVariablesReplayer;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
@@ -37,7 +39,6 @@ import org.apache.shardingsphere.transaction.spi.TransactionHook;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -49,7 +50,6 @@ import java.util.concurrent.atomic.AtomicBoolean;
 /**
  * Database connection manager of ShardingSphere-Proxy.
  */
-@RequiredArgsConstructor
 @Getter
 public final class ProxyDatabaseConnectionManager implements DatabaseConnectionManager<Connection> {
     
@@ -69,6 +69,14 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     
     private final Collection<TransactionHook> transactionHooks = ShardingSphereServiceLoader.getServiceInstances(TransactionHook.class);
     
+    @Getter(AccessLevel.NONE)
+    private final SessionVariablesReplayer sessionVariablesReplayer;
+    
+    public ProxyDatabaseConnectionManager(final ConnectionSession connectionSession) {
+        this.connectionSession = connectionSession;
+        sessionVariablesReplayer = new SessionVariablesReplayer(connectionSession);
+    }
+    
     @Override
     public List<Connection> getConnections(final String dataSourceName, final int connectionOffset, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         Preconditions.checkNotNull(connectionSession.getDatabaseName(), "Current database name is null.");
@@ -109,7 +117,8 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     }
     
     private List<Connection> createNewConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
-        List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDatabaseName().toLowerCase(), dataSourceName, connectionSize, connectionMode);
+        List<Connection> result = ProxyContext.getInstance().getBackendDataSource()
+                .getConnections(connectionSession.getDatabaseName().toLowerCase(), dataSourceName, connectionSize, connectionMode, sessionVariablesReplayer);
         setSessionVariablesIfNecessary(result);
         for (Connection each : result) {
             replayTransactionOption(each);
@@ -123,29 +132,17 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     }
     
     private void setSessionVariablesIfNecessary(final List<Connection> connections) throws SQLException {
-        if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || connections.isEmpty()) {
+        if (connections.isEmpty() || !sessionVariablesReplayer.isReplayRequired()) {
             return;
         }
-        String databaseType = connections.iterator().next().getMetaData().getDatabaseProductName();
-        List<String> setSQLs = connectionSession.getRequiredSessionVariableRecorder().toSetSQLs(databaseType);
         try {
-            executeSetSessionVariables(connections, setSQLs);
+            sessionVariablesReplayer.replay(connections);
         } catch (final SQLException ex) {
             releaseConnection(connections, ex);
             throw ex;
         }
     }
     
-    private void executeSetSessionVariables(final List<Connection> connections, final List<String> setSQLs) throws SQLException {
-        for (Connection each : connections) {
-            try (Statement statement = each.createStatement()) {
-                for (String eachSetSQL : setSQLs) {
-                    statement.execute(eachSetSQL);
-                }
-            }
-        }
-    }
-    
     private void releaseConnection(final List<Connection> connections, final SQLException sqlException) {
         for (Connection each : connections) {
             try {
@@ -326,26 +323,13 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     }
     
     private void resetSessionVariablesIfNecessary(final Collection<Connection> values, final Collection<SQLException> exceptions) {
-        if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || values.isEmpty()) {
+        if (values.isEmpty() || !sessionVariablesReplayer.isResetRequired()) {
             return;
         }
-        String databaseType;
-        try {
-            databaseType = values.iterator().next().getMetaData().getDatabaseProductName();
-        } catch (final SQLException ex) {
-            exceptions.add(ex);
-            return;
-        }
-        List<String> resetSQLs = connectionSession.getRequiredSessionVariableRecorder().toResetSQLs(databaseType);
-        for (Connection each : values) {
-            try (Statement statement = each.createStatement()) {
-                for (String eachResetSQL : resetSQLs) {
-                    statement.execute(eachResetSQL);
-                }
-            } catch (final SQLException ex) {
-                exceptions.add(ex);
-            }
-        }
-        connectionSession.getRequiredSessionVariableRecorder().removeVariablesWithDefaultValue();
+        sessionVariablesReplayer.reset(values, isSessionVariablesReuseEnabled(), exceptions);
+    }
+    
+    private boolean isSessionVariablesReuseEnabled() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLES_REUSE_ENABLED);
     }
 }
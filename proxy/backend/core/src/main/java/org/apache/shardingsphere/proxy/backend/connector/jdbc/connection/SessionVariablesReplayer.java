@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datasource.pool.KeptSessionVariables;
+import org.apache.shardingsphere.infra.datasource.pool.KeptSessionVariablesReconciler;
+import org.apache.shardingsphere.infra.datasource.pool.KeptSessionVariablesRegistry;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.RequiredSessionVariableRecorder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Session variables replayer of backend connections.
+ * 
+ * <p>If reuse is enabled, variables are kept on released connections by {@link KeptSessionVariablesRegistry},
+ * so that only the difference between the kept and the required variables is sent when the connection is acquired again.
+ * Kept variables are reconciled when the storage unit hands out the connection, so other borrowers get them reset.
+ * Connections which are not handed out by the storage unit are never kept, because nobody reconciles their variables.</p>
+ */
+@RequiredArgsConstructor
+public final class SessionVariablesReplayer implements KeptSessionVariablesReconciler {
+    
+    private final ConnectionSession connectionSession;
+    
+    private final Map<Connection, Map<String, String>> appliedVariables = Collections.synchronizedMap(new IdentityHashMap<>());
+    
+    private final Collection<Connection> acceptedConnections = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    
+    /**
+     * Judge whether replay is required for acquired connections.
+     *
+     * @return replay is required or not
+     */
+    public boolean isReplayRequired() {
+        return !getRecorder().isEmpty();
+    }
+    
+    /**
+     * Replay session variables on acquired connections.
+     * 
+     * <p>Connections whose kept variables have been reconciled are skipped.</p>
+     *
+     * @param connections acquired connections
+     * @throws SQLException SQL exception
+     */
+    public void replay(final List<Connection> connections) throws SQLException {
+        RequiredSessionVariableRecorder recorder = getRecorder();
+        List<String> setSQLs = recorder.toSetSQLs(connections.iterator().next().getMetaData().getDatabaseProductName());
+        Map<String, String> variables = Collections.unmodifiableMap(recorder.getVariables());
+        for (Connection each : connections) {
+            if (appliedVariables.containsKey(each)) {
+                continue;
+            }
+            if (!setSQLs.isEmpty()) {
+                executeReplaySQLs(each, setSQLs);
+            }
+            appliedVariables.put(each, variables);
+        }
+    }
+    
+    @Override
+    public void reconcile(final Connection connection, final KeptSessionVariables keptSessionVariables) throws SQLException {
+        RequiredSessionVariableRecorder recorder = getRecorder();
+        List<String> replaySQLs = recorder.toSetSQLs(connection.getMetaData().getDatabaseProductName(), keptSessionVariables.getVariables());
+        if (!replaySQLs.isEmpty()) {
+            executeReplaySQLs(connection, replaySQLs);
+        }
+        appliedVariables.put(connection, Collections.unmodifiableMap(recorder.getVariables()));
+    }
+    
+    @Override
+    public void accept(final Connection connection) {
+        acceptedConnections.add(connection);
+    }
+    
+    /**
+     * Execute replay SQLs on connection.
+     *
+     * @param connection connection
+     * @param replaySQLs replay SQLs
+     * @throws SQLException SQL exception
+     */
+    public void executeReplaySQLs(final Connection connection, final List<String> replaySQLs) throws SQLException {
+        execute(connection, replaySQLs);
+    }
+    
+    /**
+     * Judge whether reset is required for connections to be released.
+     *
+     * @return reset is required or not
+     */
+    public boolean isResetRequired() {
+        if (!getRecorder().isEmpty()) {
+            return true;
+        }
+        synchronized (appliedVariables) {
+            return appliedVariables.values().stream().anyMatch(each -> !each.isEmpty());
+        }
+    }
+    
+    /**
+     * Reset session variables on connections to be released.
+     * 
+     * <p>If reuse is enabled, connections acquired from storage unit with kept session variables reconciled and whose variables are exactly known
+     * are released without reset, and their variables are kept. Other connections, such as connections of distributed transactions, are always reset.</p>
+     *
+     * @param connections connections to be released
+     * @param reuseEnabled whether to keep session variables on released connections
+     * @param exceptions SQL exceptions
+     */
+    public void reset(final Collection<Connection> connections, final boolean reuseEnabled, final Collection<SQLException> exceptions) {
+        if (!connections.isEmpty() && !getRecorder().isEmpty()) {
+            resetVariables(connections, reuseEnabled, exceptions);
+        }
+        appliedVariables.clear();
+        acceptedConnections.clear();
+        getRecorder().removeVariablesWithDefaultValue();
+    }
+    
+    private void resetVariables(final Collection<Connection> connections, final boolean reuseEnabled, final Collection<SQLException> exceptions) {
+        List<String> resetSQLs;
+        try {
+            resetSQLs = getRecorder().toResetSQLs(connections.iterator().next().getMetaData().getDatabaseProductName());
+        } catch (final SQLException ex) {
+            exceptions.add(ex);
+            return;
+        }
+        Map<String, String> variables = getRecorder().getVariables();
+        for (Connection each : connections) {
+            if (reuseEnabled && !variables.isEmpty() && acceptedConnections.contains(each) && variables.equals(appliedVariables.get(each))) {
+                KeptSessionVariablesRegistry.keep(each, new KeptSessionVariables(Collections.unmodifiableMap(variables), resetSQLs));
+                continue;
+            }
+            try {
+                executeResetSQLs(each, resetSQLs);
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+    }
+    
+    /**
+     * Execute reset SQLs on connection.
+     *
+     * @param connection connection
+     * @param resetSQLs reset SQLs
+     * @throws SQLException SQL exception
+     */
+    public void executeResetSQLs(final Connection connection, final List<String> resetSQLs) throws SQLException {
+        execute(connection, resetSQLs);
+    }
+    
+    private void execute(final Connection connection, final List<String> sqls) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String each : sqls) {
+                statement.execute(each);
+            }
+        }
+    }
+    
+    private RequiredSessionVariableRecorder getRecorder() {
+        return connectionSession.getRequiredSessionVariableRecorder();
+    }
+}
@@ -19,6 +19,9 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
 
 import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.infra.database.core.GlobalDataSourceRegistry;
+import org.apache.shardingsphere.infra.datasource.pool.CatalogSwitchableDataSource;
+import org.apache.shardingsphere.infra.datasource.pool.KeptSessionVariablesReconciler;
+import org.apache.shardingsphere.infra.datasource.pool.KeptSessionVariablesRegistry;
 import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.proxy.backend.connector.BackendDataSource;
@@ -50,8 +53,24 @@ public final class JDBCBackendDataSource implements BackendDataSource {
      * @throws SQLException SQL exception
      */
     public List<Connection> getConnections(final String databaseName, final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
+        return getConnections(databaseName, dataSourceName, connectionSize, connectionMode, KeptSessionVariablesRegistry.RESET_RECONCILER);
+    }
+    
+    /**
+     * Get connections.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param connectionSize size of connections
+     * @param connectionMode connection mode
+     * @param reconciler reconciler of session variables kept on acquired connections
+     * @return connections
+     * @throws SQLException SQL exception
+     */
+    public List<Connection> getConnections(final String databaseName, final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode,
+                                           final KeptSessionVariablesReconciler reconciler) throws SQLException {
         return getConnections(databaseName, dataSourceName, connectionSize, connectionMode,
-                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(TransactionRule.class).getDefaultType());
+                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(TransactionRule.class).getDefaultType(), reconciler);
     }
     
     /**
@@ -65,9 +84,26 @@ public final class JDBCBackendDataSource implements BackendDataSource {
      * @return connections
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     public List<Connection> getConnections(final String databaseName, final String dataSourceName,
                                            final int connectionSize, final ConnectionMode connectionMode, final TransactionType transactionType) throws SQLException {
+        return getConnections(databaseName, dataSourceName, connectionSize, connectionMode, transactionType, KeptSessionVariablesRegistry.RESET_RECONCILER);
+    }
+    
+    /**
+     * Get connections.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param connectionSize size of connections to be got
+     * @param connectionMode connection mode
+     * @param transactionType transaction type
+     * @param reconciler reconciler of session variables kept on acquired connections
+     * @return connections
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
+    public List<Connection> getConnections(final String databaseName, final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode,
+                                           final TransactionType transactionType, final KeptSessionVariablesReconciler reconciler) throws SQLException {
         DataSource dataSource = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData()
                 .getDatabase(databaseName).getResourceMetaData().getStorageUnits().get(dataSourceName).getDataSource();
         if (dataSourceName.contains(".")) {
@@ -78,22 +114,22 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         }
         Preconditions.checkNotNull(dataSource, "Can not get connection from datasource %s.", dataSourceName);
         if (1 == connectionSize) {
-            return Collections.singletonList(createConnection(databaseName, dataSourceName, dataSource, transactionType));
+            return Collections.singletonList(createConnection(databaseName, dataSourceName, dataSource, transactionType, reconciler));
         }
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
-            return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
+            return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType, reconciler);
         }
         synchronized (dataSource) {
-            return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
+            return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType, reconciler);
         }
     }
     
-    private List<Connection> createConnections(final String databaseName, final String dataSourceName,
-                                               final DataSource dataSource, final int connectionSize, final TransactionType transactionType) throws SQLException {
+    private List<Connection> createConnections(final String databaseName, final String dataSourceName, final DataSource dataSource,
+                                               final int connectionSize, final TransactionType transactionType, final KeptSessionVariablesReconciler reconciler) throws SQLException {
         List<Connection> result = new ArrayList<>(connectionSize);
         for (int i = 0; i < connectionSize; i++) {
             try {
-                result.add(createConnection(databaseName, dataSourceName, dataSource, transactionType));
+                result.add(createConnection(databaseName, dataSourceName, dataSource, transactionType, reconciler));
             } catch (final SQLException ex) {
                 for (Connection each : result) {
                     each.close();
@@ -104,10 +140,11 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         return result;
     }
     
-    private Connection createConnection(final String databaseName, final String dataSourceName, final DataSource dataSource, final TransactionType transactionType) throws SQLException {
+    private Connection createConnection(final String databaseName, final String dataSourceName, final DataSource dataSource,
+                                        final TransactionType transactionType, final KeptSessionVariablesReconciler reconciler) throws SQLException {
         TransactionRule transactionRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(TransactionRule.class);
         ShardingSphereTransactionManager transactionManager = transactionRule.getResource().getTransactionManager(transactionType);
-        Connection result = isInTransaction(transactionManager) ? transactionManager.getConnection(databaseName, dataSourceName) : dataSource.getConnection();
+        Connection result = isInTransaction(transactionManager) ? transactionManager.getConnection(databaseName, dataSourceName) : getConnection(dataSource, reconciler);
         if (dataSourceName.contains(".")) {
             String catalog = dataSourceName.split("\\.")[1];
             result.setCatalog(catalog);
@@ -115,6 +152,11 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         return result;
     }
     
+    private Connection getConnection(final DataSource dataSource, final KeptSessionVariablesReconciler reconciler) throws SQLException {
+        return dataSource instanceof CatalogSwitchableDataSource ? ((CatalogSwitchableDataSource) dataSource).getConnection(reconciler)
+                : KeptSessionVariablesRegistry.reconcile(dataSource.getConnection(), reconciler);
+    }
+    
     private boolean isInTransaction(final ShardingSphereTransactionManager transactionManager) {
         return null != transactionManager && transactionManager.isInTransaction();
     }
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.ParameterMarkerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Batched insert coalescer.
+ * 
+ * <p>Parameter sets of a single-row insert are coalesced into multi-row inserts with bounded rows,
+ * and parameters of each coalesced insert are bounded by the parameter count limit of MySQL and PostgreSQL protocols.
+ * The coalesced inserts are routed and rewritten as multi-row inserts, so rows are split into actual tables by insert values token,
+ * and keys are generated for every row.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BatchedInsertCoalescer {
+    
+    private static final int MAX_PARAMETER_COUNT = 65535;
+    
+    private final String sql;
+    
+    private final int rowStartIndex;
+    
+    private final int rowStopIndex;
+    
+    private final int maxRows;
+    
+    private final Map<Integer, String> coalescedSQLs = new HashMap<>(2, 1F);
+    
+    /**
+     * Find batched insert coalescer.
+     *
+     * @param sql SQL of single-row insert
+     * @param sqlStatement SQL statement
+     * @param maxRows max rows of each coalesced insert, which is lowered if parameters of max rows exceed 65535
+     * @return found batched insert coalescer, empty if the SQL statement can not be coalesced
+     */
+    public static Optional<BatchedInsertCoalescer> find(final String sql, final SQLStatement sqlStatement, final int maxRows) {
+        if (maxRows <= 1 || !(sqlStatement instanceof InsertStatement)) {
+            return Optional.empty();
+        }
+        InsertStatement insertStatement = (InsertStatement) sqlStatement;
+        if (insertStatement.getInsertSelect().isPresent() || 1 != insertStatement.getValues().size()) {
+            return Optional.empty();
+        }
+        int actualMaxRows = Math.min(maxRows, MAX_PARAMETER_COUNT / Math.max(1, insertStatement.getParameterCount()));
+        if (actualMaxRows <= 1) {
+            return Optional.empty();
+        }
+        InsertValuesSegment row = insertStatement.getValues().iterator().next();
+        return isTailRow(sql, row) && isOnlyParameterizedInRow(insertStatement, row)
+                ? Optional.of(new BatchedInsertCoalescer(sql, row.getStartIndex(), row.getStopIndex(), actualMaxRows))
+                : Optional.empty();
+    }
+    
+    private static boolean isTailRow(final String sql, final InsertValuesSegment row) {
+        if (row.getStopIndex() >= sql.length() || '(' != sql.charAt(row.getStartIndex()) || ')' != sql.charAt(row.getStopIndex())) {
+            return false;
+        }
+        String tail = sql.substring(row.getStopIndex() + 1).trim();
+        return tail.isEmpty() || ";".equals(tail);
+    }
+    
+    private static boolean isOnlyParameterizedInRow(final InsertStatement insertStatement, final InsertValuesSegment row) {
+        if (!(insertStatement instanceof AbstractSQLStatement)) {
+            return false;
+        }
+        Collection<ParameterMarkerSegment> parameterMarkerSegments = ((AbstractSQLStatement) insertStatement).getParameterMarkerSegments();
+        if (parameterMarkerSegments.size() != insertStatement.getParameterCount()) {
+            return false;
+        }
+        for (ParameterMarkerSegment each : parameterMarkerSegments) {
+            if (each.getStartIndex() < row.getStartIndex() || each.getStopIndex() > row.getStopIndex()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Coalesce parameter sets.
+     *
+     * @param parameterSets parameter sets of single-row insert
+     * @return coalesced inserts
+     */
+    public List<CoalescedInsert> coalesce(final Collection<List<Object>> parameterSets) {
+        List<CoalescedInsert> result = new ArrayList<>((parameterSets.size() + maxRows - 1) / maxRows);
+        Iterator<List<Object>> iterator = parameterSets.iterator();
+        while (iterator.hasNext()) {
+            List<Object> params = new ArrayList<>();
+            int rowCount = 0;
+            while (iterator.hasNext() && rowCount < maxRows) {
+                params.addAll(iterator.next());
+                rowCount++;
+            }
+            result.add(new CoalescedInsert(coalescedSQLs.computeIfAbsent(rowCount, this::createCoalescedSQL), params, rowCount));
+        }
+        return result;
+    }
+    
+    private String createCoalescedSQL(final int rowCount) {
+        String row = sql.substring(rowStartIndex, rowStopIndex + 1);
+        StringBuilder result = new StringBuilder(sql.length() + (row.length() + 2) * (rowCount - 1));
+        result.append(sql, 0, rowStopIndex + 1);
+        for (int i = 1; i < rowCount; i++) {
+            result.append(", ").append(row);
+        }
+        result.append(sql, rowStopIndex + 1, sql.length());
+        return result.toString();
+    }
+}
@@ -83,28 +83,47 @@ public final class BackendTransactionManager implements TransactionManager {
     
     @Override
     public void commit() throws SQLException {
-        for (TransactionHook each : transactionHooks) {
-            each.beforeCommit(connection.getCachedConnections().values(), getTransactionContext(), ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext());
+        if (!connection.getConnectionSession().getTransactionStatus().isInTransaction()) {
+            return;
         }
-        if (connection.getConnectionSession().getTransactionStatus().isInTransaction()) {
-            try {
-                if (TransactionType.LOCAL == transactionType || null == shardingSphereTransactionManager) {
-                    localTransactionManager.commit();
-                } else {
-                    shardingSphereTransactionManager.commit(connection.getConnectionSession().getTransactionStatus().isExceptionOccur());
-                }
-            } finally {
-                for (TransactionHook each : transactionHooks) {
-                    each.afterCommit(connection.getCachedConnections().values(), getTransactionContext(), ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext());
-                }
-                connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
-                connection.getConnectionSession().getTransactionStatus().setExceptionOccur(false);
-                connection.getConnectionSession().getConnectionContext().clearTransactionConnectionContext();
-                connection.getConnectionSession().getConnectionContext().clearCursorConnectionContext();
+        beforeCommit();
+        try {
+            if (TransactionType.LOCAL == transactionType || null == shardingSphereTransactionManager) {
+                localTransactionManager.commit();
+            } else {
+                shardingSphereTransactionManager.commit(connection.getConnectionSession().getTransactionStatus().isExceptionOccur());
+            }
+        } finally {
+            afterCommit(transactionHooks);
+            connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
+            connection.getConnectionSession().getTransactionStatus().setExceptionOccur(false);
+            connection.getConnectionSession().getConnectionContext().clearTransactionConnectionContext();
+            connection.getConnectionSession().getConnectionContext().clearCursorConnectionContext();
+        }
+    }
+    
+    private void beforeCommit() throws SQLException {
+        Collection<TransactionHook> committingHooks = new LinkedList<>();
+        boolean allCommitting = false;
+        try {
+            for (TransactionHook each : transactionHooks) {
+                each.beforeCommit(connection.getCachedConnections().values(), getTransactionContext(), ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext());
+                committingHooks.add(each);
+            }
+            allCommitting = true;
+        } finally {
+            if (!allCommitting) {
+                afterCommit(committingHooks);
             }
         }
     }
     
+    private void afterCommit(final Collection<TransactionHook> committingHooks) throws SQLException {
+        for (TransactionHook each : committingHooks) {
+            each.afterCommit(connection.getCachedConnections().values(), getTransactionContext(), ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext());
+        }
+    }
+    
     @Override
     public void rollback() throws SQLException {
         for (TransactionHook each : transactionHooks) {
@@ -18,8 +18,11 @@
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.transaction.ConnectionSavepointManager;
+import org.apache.shardingsphere.transaction.LocalTransactionFanOutExecutor;
 
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -58,6 +61,13 @@ public final class LocalTransactionManager {
     }
     
     private Collection<SQLException> commitConnections() {
+        if (isParallelExecution()) {
+            try {
+                return LocalTransactionFanOutExecutor.commit(databaseConnectionManager.getCachedConnections().entries());
+            } finally {
+                finishTransactions();
+            }
+        }
         Collection<SQLException> result = new LinkedList<>();
         for (Connection each : databaseConnectionManager.getCachedConnections().values()) {
             try {
@@ -84,6 +94,13 @@ public final class LocalTransactionManager {
     }
     
     private Collection<SQLException> rollbackConnections() {
+        if (isParallelExecution()) {
+            try {
+                return LocalTransactionFanOutExecutor.rollback(databaseConnectionManager.getCachedConnections().entries());
+            } finally {
+                finishTransactions();
+            }
+        }
         Collection<SQLException> result = new LinkedList<>();
         for (Connection each : databaseConnectionManager.getCachedConnections().values()) {
             try {
@@ -97,6 +114,17 @@ public final class LocalTransactionManager {
         return result;
     }
     
+    private boolean isParallelExecution() {
+        return databaseConnectionManager.getCachedConnections().size() > 1
+                && ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.TRANSACTION_PARALLEL_COMMIT_ENABLED);
+    }
+    
+    private void finishTransactions() {
+        for (Connection each : databaseConnectionManager.getCachedConnections().values()) {
+            ConnectionSavepointManager.getInstance().transactionFinished(each);
+        }
+    }
+    
     private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
         if (exceptions.isEmpty()) {
             return;
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.updatable;
+
+import org.apache.shardingsphere.distsql.handler.ral.update.RALUpdater;
+import org.apache.shardingsphere.distsql.statement.ral.updatable.RefreshTableStatisticsStatement;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+/**
+ * Refresh table statistics updater.
+ */
+public final class RefreshTableStatisticsUpdater implements RALUpdater<RefreshTableStatisticsStatement> {
+    
+    @Override
+    public void executeUpdate(final String databaseName, final RefreshTableStatisticsStatement sqlStatement) {
+        ProxyContext.getInstance().getContextManager().refreshStatistics();
+    }
+    
+    @Override
+    public Class<RefreshTableStatisticsStatement> getType() {
+        return RefreshTableStatisticsStatement.class;
+    }
+}
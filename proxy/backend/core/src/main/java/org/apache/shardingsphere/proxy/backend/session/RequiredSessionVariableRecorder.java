@@ -18,7 +18,11 @@
 package org.apache.shardingsphere.proxy.backend.session;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -55,6 +59,17 @@ public final class RequiredSessionVariableRecorder {
         return sessionVariables.isEmpty();
     }
     
+    /**
+     * Get variables to be kept on connections after replayed.
+     *
+     * @return variables whose value is not default
+     */
+    public Map<String, String> getVariables() {
+        Map<String, String> result = new HashMap<>(sessionVariables);
+        result.values().removeIf(DEFAULT::equalsIgnoreCase);
+        return result;
+    }
+    
     /**
      * Get set SQLs for database.
      *
@@ -65,30 +80,67 @@ public final class RequiredSessionVariableRecorder {
         if (sessionVariables.isEmpty()) {
             return Collections.emptyList();
         }
+        return toSetSQLs(databaseType, new LinkedHashMap<>(sessionVariables), Collections.emptyList());
+    }
+    
+    /**
+     * Get set SQLs which only change the difference between variables applied on connection and recorded variables.
+     *
+     * @param databaseType database type
+     * @param appliedVariables variables applied on connection
+     * @return set SQLs
+     */
+    public List<String> toSetSQLs(final String databaseType, final Map<String, String> appliedVariables) {
+        Map<String, String> changedVariables = new LinkedHashMap<>(sessionVariables.size(), 1F);
+        for (Entry<String, String> entry : sessionVariables.entrySet()) {
+            boolean isDefaultOnConnection = DEFAULT.equalsIgnoreCase(entry.getValue()) && !appliedVariables.containsKey(entry.getKey());
+            if (!isDefaultOnConnection && !entry.getValue().equals(appliedVariables.get(entry.getKey()))) {
+                changedVariables.put(entry.getKey(), entry.getValue());
+            }
+        }
+        Collection<String> removedVariables = new LinkedList<>();
+        for (String each : appliedVariables.keySet()) {
+            if (!sessionVariables.containsKey(each)) {
+                removedVariables.add(each);
+            }
+        }
+        if (changedVariables.isEmpty() && removedVariables.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return toSetSQLs(databaseType, changedVariables, removedVariables);
+    }
+    
+    private List<String> toSetSQLs(final String databaseType, final Map<String, String> changedVariables, final Collection<String> removedVariables) {
         // TODO Refactor the following switch by SPI if we support more database in future
         switch (databaseType) {
             case "MySQL":
-                return Collections.singletonList(aggregateToMySQLSetSQL());
+                return Collections.singletonList(aggregateToMySQLSetSQL(changedVariables, removedVariables));
             case "PostgreSQL":
-                return convertToPostgreSQLSetSQLs();
+                return convertToPostgreSQLSetSQLs(changedVariables, removedVariables);
             default:
                 return Collections.emptyList();
         }
     }
     
-    private String aggregateToMySQLSetSQL() {
+    private String aggregateToMySQLSetSQL(final Map<String, String> changedVariables, final Collection<String> removedVariables) {
         StringJoiner result = new StringJoiner(",", "SET ", "");
-        for (Entry<String, String> entry : sessionVariables.entrySet()) {
+        for (Entry<String, String> entry : changedVariables.entrySet()) {
             result.add(entry.getKey() + "=" + entry.getValue());
         }
+        for (String each : removedVariables) {
+            result.add(each + "=" + (each.startsWith("@") ? NULL : DEFAULT));
+        }
         return result.toString();
     }
     
-    private List<String> convertToPostgreSQLSetSQLs() {
-        List<String> result = new ArrayList<>(sessionVariables.size());
-        for (Entry<String, String> entry : sessionVariables.entrySet()) {
+    private List<String> convertToPostgreSQLSetSQLs(final Map<String, String> changedVariables, final Collection<String> removedVariables) {
+        List<String> result = new ArrayList<>(changedVariables.size() + removedVariables.size());
+        for (Entry<String, String> entry : changedVariables.entrySet()) {
             result.add("SET " + entry.getKey() + "=" + entry.getValue());
         }
+        for (String each : removedVariables) {
+            result.add("RESET " + each);
+        }
         return result;
     }
     
@@ -19,6 +19,9 @@ package org.apache.shardingsphere.proxy.backend.connector;
 
 import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.datasource.pool.KeptSessionVariablesReconciler;
+import org.apache.shardingsphere.infra.datasource.pool.KeptSessionVariablesRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionPostProcessor;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource.JDBCBackendDataSource;
@@ -92,6 +95,8 @@ class ProxyDatabaseConnectionManagerTest {
     @BeforeEach
     void setUp() {
         when(ProxyContext.getInstance().getBackendDataSource()).thenReturn(backendDataSource);
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLES_REUSE_ENABLED))
+                .thenReturn(false);
         when(connectionSession.getDatabaseName()).thenReturn(String.format(SCHEMA_PATTERN, 0));
         databaseConnectionManager = new ProxyDatabaseConnectionManager(connectionSession);
         when(connectionSession.getDatabaseConnectionManager()).thenReturn(databaseConnectionManager);
@@ -111,7 +116,7 @@ class ProxyDatabaseConnectionManagerTest {
     @Test
     void assertGetConnectionCacheIsEmpty() throws SQLException {
         connectionSession.getTransactionStatus().setInTransaction(true);
-        when(backendDataSource.getConnections(anyString(), anyString(), eq(2), any())).thenReturn(MockConnectionUtils.mockNewConnections(2));
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(2), any(), any(KeptSessionVariablesReconciler.class))).thenReturn(MockConnectionUtils.mockNewConnections(2));
         List<Connection> actualConnections = databaseConnectionManager.getConnections("ds1", 0, 2, ConnectionMode.MEMORY_STRICTLY);
         assertThat(actualConnections.size(), is(2));
         assertThat(databaseConnectionManager.getConnectionSize(), is(2));
@@ -132,7 +137,7 @@ class ProxyDatabaseConnectionManagerTest {
     void assertGetConnectionSizeGreaterThanCache() throws SQLException {
         connectionSession.getTransactionStatus().setInTransaction(true);
         MockConnectionUtils.setCachedConnections(databaseConnectionManager, "ds1", 10);
-        when(backendDataSource.getConnections(anyString(), anyString(), eq(2), any())).thenReturn(MockConnectionUtils.mockNewConnections(2));
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(2), any(), any(KeptSessionVariablesReconciler.class))).thenReturn(MockConnectionUtils.mockNewConnections(2));
         List<Connection> actualConnections = databaseConnectionManager.getConnections("ds1", 0, 12, ConnectionMode.MEMORY_STRICTLY);
         assertThat(actualConnections.size(), is(12));
         assertThat(databaseConnectionManager.getConnectionSize(), is(12));
@@ -142,7 +147,7 @@ class ProxyDatabaseConnectionManagerTest {
     @Test
     void assertGetConnectionWithConnectionPostProcessors() throws SQLException {
         connectionSession.getTransactionStatus().setInTransaction(true);
-        when(backendDataSource.getConnections(anyString(), anyString(), eq(2), any())).thenReturn(MockConnectionUtils.mockNewConnections(2));
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(2), any(), any(KeptSessionVariablesReconciler.class))).thenReturn(MockConnectionUtils.mockNewConnections(2));
         setConnectionPostProcessors();
         List<Connection> actualConnections = databaseConnectionManager.getConnections("ds1", 0, 2, ConnectionMode.MEMORY_STRICTLY);
         verify(databaseConnectionManager.getConnectionPostProcessors().iterator().next(), times(2)).process(any());
@@ -220,7 +225,7 @@ class ProxyDatabaseConnectionManagerTest {
         when(ProxyContext.getInstance()).thenReturn(proxyContext);
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
         when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
-        when(proxyContext.getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+        when(proxyContext.getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class), any(KeptSessionVariablesReconciler.class))).thenReturn(Collections.singletonList(connection));
         List<Connection> actualConnections = databaseConnectionManager.getConnections("", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
         Connection actualConnection = actualConnections.get(0);
         verify(actualConnection.createStatement()).execute("SET key=value");
@@ -235,7 +240,7 @@ class ProxyDatabaseConnectionManagerTest {
             connection = mock(Connection.class, RETURNS_DEEP_STUBS);
             when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
             when(connection.createStatement().execute("SET key=value")).thenThrow(expectedException);
-            when(ProxyContext.getInstance().getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+            when(ProxyContext.getInstance().getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class), any(KeptSessionVariablesReconciler.class))).thenReturn(Collections.singletonList(connection));
             databaseConnectionManager.getConnections("", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
         } catch (final SQLException ex) {
             assertThat(ex, is(expectedException));
@@ -247,7 +252,7 @@ class ProxyDatabaseConnectionManagerTest {
     void assertGetConnectionsWithoutTransactions() throws SQLException {
         connectionSession.getTransactionStatus().setInTransaction(false);
         List<Connection> connections = MockConnectionUtils.mockNewConnections(1);
-        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(connections);
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any(), any(KeptSessionVariablesReconciler.class))).thenReturn(connections);
         List<Connection> fetchedConnections = databaseConnectionManager.getConnections("ds1", 0, 1, null);
         assertThat(fetchedConnections.size(), is(1));
         assertTrue(fetchedConnections.contains(connections.get(0)));
@@ -265,13 +270,13 @@ class ProxyDatabaseConnectionManagerTest {
     
     @Test
     void assertGetConnectionWithConnectionOffset() throws SQLException {
-        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(MockConnectionUtils.mockNewConnections(1));
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any(), any(KeptSessionVariablesReconciler.class))).thenReturn(MockConnectionUtils.mockNewConnections(1));
         assertThat(databaseConnectionManager.getConnections("ds1", 0, 1, ConnectionMode.MEMORY_STRICTLY),
                 is(databaseConnectionManager.getConnections("ds1", 0, 1, ConnectionMode.MEMORY_STRICTLY)));
-        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(MockConnectionUtils.mockNewConnections(1));
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any(), any(KeptSessionVariablesReconciler.class))).thenReturn(MockConnectionUtils.mockNewConnections(1));
         assertThat(databaseConnectionManager.getConnections("ds1", 1, 1, ConnectionMode.MEMORY_STRICTLY),
                 is(databaseConnectionManager.getConnections("ds1", 1, 1, ConnectionMode.MEMORY_STRICTLY)));
-        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(MockConnectionUtils.mockNewConnections(1));
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any(), any(KeptSessionVariablesReconciler.class))).thenReturn(MockConnectionUtils.mockNewConnections(1));
         assertThat(databaseConnectionManager.getConnections("ds1", 0, 1, ConnectionMode.MEMORY_STRICTLY),
                 not(databaseConnectionManager.getConnections("ds1", 1, 1, ConnectionMode.MEMORY_STRICTLY)));
     }
@@ -408,6 +413,22 @@ class ProxyDatabaseConnectionManagerTest {
         assertTrue(connectionSession.getRequiredSessionVariableRecorder().isEmpty());
     }
     
+    @Test
+    void assertCloseConnectionsAndKeepVariablesWhenReuseEnabled() throws SQLException {
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLES_REUSE_ENABLED))
+                .thenReturn(true);
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(backendDataSource.getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class), any(KeptSessionVariablesReconciler.class)))
+                .thenAnswer(invocation -> Collections.singletonList(KeptSessionVariablesRegistry.reconcile(connection, invocation.getArgument(4))));
+        databaseConnectionManager.getConnections("ds", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        databaseConnectionManager.closeConnections(false);
+        databaseConnectionManager.getConnections("ds", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(connection.createStatement(), never()).execute("RESET ALL");
+        verify(connection.createStatement()).execute("SET key=value");
+    }
+    
     @Test
     void assertCloseConnectionsAndFailedToGetDatabaseType() throws SQLException {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "default");
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
+
+import org.apache.shardingsphere.infra.datasource.pool.KeptSessionVariablesRegistry;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.RequiredSessionVariableRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SessionVariablesReplayerTest {
+    
+    @Mock
+    private ConnectionSession connectionSession;
+    
+    private final RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+    
+    @BeforeEach
+    void setUp() {
+        when(connectionSession.getRequiredSessionVariableRecorder()).thenReturn(recorder);
+    }
+    
+    @Test
+    void assertReplayAndResetWithoutReuse() throws SQLException {
+        recorder.setVariable("key", "value");
+        Connection connection = mockConnection();
+        SessionVariablesReplayer replayer = new SessionVariablesReplayer(connectionSession);
+        assertTrue(replayer.isReplayRequired());
+        replayer.replay(Collections.singletonList(connection));
+        verify(connection.createStatement()).execute("SET key=value");
+        assertTrue(replayer.isResetRequired());
+        replayer.reset(Collections.singletonList(connection), false, new LinkedList<>());
+        verify(connection.createStatement()).execute("RESET ALL");
+    }
+    
+    @Test
+    void assertReplayWithReusedConnection() throws SQLException {
+        recorder.setVariable("key", "value");
+        Connection connection = mockConnection();
+        SessionVariablesReplayer replayer = new SessionVariablesReplayer(connectionSession);
+        replayer.accept(connection);
+        replayer.replay(Collections.singletonList(connection));
+        replayer.reset(Collections.singletonList(connection), true, new LinkedList<>());
+        replayer.reconcile(connection, KeptSessionVariablesRegistry.take(connection).orElseThrow(IllegalStateException::new));
+        replayer.replay(Collections.singletonList(connection));
+        verify(connection.createStatement(), times(1)).execute("SET key=value");
+        verify(connection.createStatement(), never()).execute("RESET ALL");
+    }
+    
+    @Test
+    void assertReplayDifferenceOnReusedConnection() throws SQLException {
+        recorder.setVariable("key", "value");
+        Connection connection = mockConnection();
+        SessionVariablesReplayer replayer = new SessionVariablesReplayer(connectionSession);
+        replayer.accept(connection);
+        replayer.replay(Collections.singletonList(connection));
+        replayer.reset(Collections.singletonList(connection), true, new LinkedList<>());
+        recorder.setVariable("key", "default");
+        recorder.removeVariablesWithDefaultValue();
+        SessionVariablesReplayer anotherReplayer = new SessionVariablesReplayer(connectionSession);
+        assertFalse(anotherReplayer.isReplayRequired());
+        anotherReplayer.reconcile(connection, KeptSessionVariablesRegistry.take(connection).orElseThrow(IllegalStateException::new));
+        verify(connection.createStatement()).execute("RESET key");
+        assertFalse(anotherReplayer.isResetRequired());
+    }
+    
+    @Test
+    void assertResetNotAcceptedConnectionWhenReuseEnabled() throws SQLException {
+        recorder.setVariable("key", "value");
+        Connection connection = mockConnection();
+        SessionVariablesReplayer replayer = new SessionVariablesReplayer(connectionSession);
+        replayer.replay(Collections.singletonList(connection));
+        replayer.reset(Collections.singletonList(connection), true, new LinkedList<>());
+        verify(connection.createStatement()).execute("RESET ALL");
+        assertFalse(KeptSessionVariablesRegistry.take(connection).isPresent());
+    }
+    
+    @Test
+    void assertResetChangedVariablesWhenReuseEnabled() throws SQLException {
+        recorder.setVariable("key", "value");
+        Connection connection = mockConnection();
+        SessionVariablesReplayer replayer = new SessionVariablesReplayer(connectionSession);
+        replayer.accept(connection);
+        replayer.replay(Collections.singletonList(connection));
+        recorder.setVariable("another_key", "value");
+        replayer.reset(Collections.singletonList(connection), true, new LinkedList<>());
+        verify(connection.createStatement()).execute("RESET ALL");
+        assertFalse(KeptSessionVariablesRegistry.take(connection).isPresent());
+    }
+    
+    private Connection mockConnection() throws SQLException {
+        Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        return result;
+    }
+}
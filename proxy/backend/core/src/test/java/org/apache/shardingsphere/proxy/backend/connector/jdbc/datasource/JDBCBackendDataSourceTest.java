@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datasource.pool.KeptSessionVariablesReconciler;
 import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -35,7 +36,9 @@ import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
 import org.apache.shardingsphere.transaction.ShardingSphereTransactionManagerEngine;
+import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
+import org.apache.shardingsphere.transaction.spi.ShardingSphereTransactionManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -65,9 +68,12 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(AutoMockExtension.class)
@@ -126,6 +132,27 @@ class JDBCBackendDataSourceTest {
         assertThrows(OverallConnectionNotEnoughException.class, () -> new JDBCBackendDataSource().getConnections("schema", String.format(DATA_SOURCE_PATTERN, 1), 6, ConnectionMode.MEMORY_STRICTLY));
     }
     
+    @Test
+    void assertGetConnectionAcceptedByReconcilerWithoutTransaction() throws SQLException {
+        KeptSessionVariablesReconciler reconciler = mock(KeptSessionVariablesReconciler.class);
+        List<Connection> actual = new JDBCBackendDataSource().getConnections("schema", String.format(DATA_SOURCE_PATTERN, 1), 1, ConnectionMode.MEMORY_STRICTLY, TransactionType.XA, reconciler);
+        verify(reconciler).accept(actual.get(0));
+    }
+    
+    @Test
+    void assertGetConnectionNotAcceptedByReconcilerInTransaction() throws SQLException {
+        ShardingSphereTransactionManager transactionManager = mock(ShardingSphereTransactionManager.class);
+        when(transactionManager.isInTransaction()).thenReturn(true);
+        Connection connection = mock(Connection.class);
+        when(transactionManager.getConnection("schema", String.format(DATA_SOURCE_PATTERN, 1))).thenReturn(connection);
+        TransactionRule transactionRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(TransactionRule.class);
+        when(transactionRule.getResource().getTransactionManager(TransactionType.XA)).thenReturn(transactionManager);
+        KeptSessionVariablesReconciler reconciler = mock(KeptSessionVariablesReconciler.class);
+        List<Connection> actual = new JDBCBackendDataSource().getConnections("schema", String.format(DATA_SOURCE_PATTERN, 1), 1, ConnectionMode.MEMORY_STRICTLY, TransactionType.XA, reconciler);
+        assertThat(actual, is(Collections.singletonList(connection)));
+        verify(reconciler, never()).accept(any());
+    }
+    
     @Test
     void assertGetConnectionsByMultiThreads() throws InterruptedException {
         JDBCBackendDataSource jdbcBackendDataSource = new JDBCBackendDataSource();
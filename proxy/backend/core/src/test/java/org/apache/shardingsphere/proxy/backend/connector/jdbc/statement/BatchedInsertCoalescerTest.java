@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchedInsertCoalescerTest {
+    
+    @Test
+    void assertCoalesce() {
+        String sql = "INSERT INTO t_order (order_id, status) VALUES (?, ?)";
+        List<CoalescedInsert> actual = BatchedInsertCoalescer.find(sql, parse("PostgreSQL", sql), 2).get().coalesce(
+                Arrays.asList(Arrays.asList(1, "a"), Arrays.asList(2, "b"), Arrays.asList(3, "c"), Arrays.asList(4, "d"), Arrays.asList(5, "e")));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, ?)"));
+        assertThat(actual.get(0).getParameters(), is(Arrays.asList(1, "a", 2, "b")));
+        assertThat(actual.get(0).getRowCount(), is(2));
+        assertThat(actual.get(1).getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, ?)"));
+        assertThat(actual.get(1).getParameters(), is(Arrays.asList(3, "c", 4, "d")));
+        assertThat(actual.get(2).getSql(), is(sql));
+        assertThat(actual.get(2).getParameters(), is(Arrays.asList(5, "e")));
+        assertThat(actual.get(2).getRowCount(), is(1));
+    }
+    
+    @Test
+    void assertCoalesceWithLiteralInRow() {
+        String sql = "INSERT INTO t_order (order_id, status) VALUES (?, 'init');";
+        List<CoalescedInsert> actual = BatchedInsertCoalescer.find(sql, parse("MySQL", sql), 10).get().coalesce(Arrays.asList(Arrays.asList(1), Arrays.asList(2)));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, 'init'), (?, 'init');"));
+        assertThat(actual.get(0).getParameters(), is(Arrays.asList(1, 2)));
+    }
+    
+    @Test
+    void assertCoalesceWithParameterCountLimit() {
+        String sql = "INSERT INTO t_order (order_id, status) VALUES (?, ?)";
+        List<List<Object>> parameterSets = new ArrayList<>(40000);
+        for (int i = 0; i < 40000; i++) {
+            parameterSets.add(Arrays.asList(i, "a"));
+        }
+        List<CoalescedInsert> actual = BatchedInsertCoalescer.find(sql, parse("PostgreSQL", sql), 100000).get().coalesce(parameterSets);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getRowCount(), is(32767));
+        assertThat(actual.get(0).getParameters().size(), is(65534));
+        assertThat(actual.get(1).getRowCount(), is(7233));
+    }
+    
+    @Test
+    void assertFindWithNotEnoughMaxRows() {
+        String sql = "INSERT INTO t_order (order_id, status) VALUES (?, ?)";
+        assertFalse(BatchedInsertCoalescer.find(sql, parse("PostgreSQL", sql), 1).isPresent());
+    }
+    
+    @Test
+    void assertFindWithSelect() {
+        String sql = "SELECT * FROM t_order WHERE order_id = ?";
+        assertFalse(BatchedInsertCoalescer.find(sql, parse("PostgreSQL", sql), 100).isPresent());
+    }
+    
+    @Test
+    void assertFindWithMultipleRows() {
+        String sql = "INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, ?)";
+        assertFalse(BatchedInsertCoalescer.find(sql, parse("PostgreSQL", sql), 100).isPresent());
+    }
+    
+    @Test
+    void assertFindWithReturning() {
+        String sql = "INSERT INTO t_order (order_id, status) VALUES (?, ?) RETURNING order_id";
+        assertFalse(BatchedInsertCoalescer.find(sql, parse("PostgreSQL", sql), 100).isPresent());
+    }
+    
+    @Test
+    void assertFindWithOnDuplicateKeyUpdate() {
+        String sql = "INSERT INTO t_order (order_id, status) VALUES (?, ?) ON DUPLICATE KEY UPDATE status = ?";
+        assertFalse(BatchedInsertCoalescer.find(sql, parse("MySQL", sql), 100).isPresent());
+    }
+    
+    @Test
+    void assertFindWithSingleRowInsert() {
+        String sql = "INSERT INTO t_order (order_id, status) VALUES (?, ?)";
+        assertTrue(BatchedInsertCoalescer.find(sql, parse("MySQL", sql), 100).isPresent());
+    }
+    
+    private SQLStatement parse(final String databaseType, final String sql) {
+        return new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()).getSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, databaseType)).parse(sql, false);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction;
 
+import com.google.common.collect.LinkedHashMultimap;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
@@ -32,6 +33,7 @@ import org.apache.shardingsphere.transaction.ShardingSphereTransactionManagerEng
 import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
 import org.apache.shardingsphere.transaction.spi.ShardingSphereTransactionManager;
+import org.apache.shardingsphere.transaction.spi.TransactionHook;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -41,9 +43,14 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -69,12 +76,16 @@ class BackendTransactionManagerTest {
     @Mock
     private ShardingSphereTransactionManager shardingSphereTransactionManager;
     
+    @Mock
+    private TransactionHook transactionHook;
+    
     private BackendTransactionManager backendTransactionManager;
     
     @BeforeEach
     void setUp() {
         when(connectionSession.getTransactionStatus()).thenReturn(transactionStatus);
         when(databaseConnectionManager.getConnectionSession()).thenReturn(connectionSession);
+        when(databaseConnectionManager.getCachedConnections()).thenReturn(LinkedHashMultimap.create());
         ConnectionContext connectionContext = mock(ConnectionContext.class);
         when(connectionSession.getConnectionContext()).thenReturn(connectionContext);
         TransactionConnectionContext context = new TransactionConnectionContext();
@@ -133,6 +144,22 @@ class BackendTransactionManagerTest {
         verify(transactionStatus, times(0)).setInTransaction(false);
         verify(localTransactionManager, times(0)).commit();
         verify(shardingSphereTransactionManager, times(0)).commit(false);
+        verify(transactionHook, times(0)).beforeCommit(any(), any(), any());
+        verify(transactionHook, times(0)).afterCommit(any(), any(), any());
+    }
+    
+    @Test
+    void assertCommitWhenBeforeCommitHookFailed() throws SQLException {
+        ContextManager contextManager = mockContextManager();
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        newBackendTransactionManager(TransactionType.LOCAL, true);
+        TransactionHook failedTransactionHook = mock(TransactionHook.class);
+        doThrow(SQLException.class).when(failedTransactionHook).beforeCommit(any(), any(), any());
+        setTransactionHooks(Arrays.asList(transactionHook, failedTransactionHook));
+        assertThrows(SQLException.class, () -> backendTransactionManager.commit());
+        verify(transactionHook).afterCommit(any(), any(), any());
+        verify(failedTransactionHook, times(0)).afterCommit(any(), any(), any());
+        verify(localTransactionManager, times(0)).commit();
     }
     
     @Test
@@ -171,7 +198,7 @@ class BackendTransactionManagerTest {
         when(transactionStatus.isInTransaction()).thenReturn(inTransaction);
         backendTransactionManager = new BackendTransactionManager(databaseConnectionManager);
         setLocalTransactionManager();
-        setTransactionHooks();
+        setTransactionHooks(Collections.singletonList(transactionHook));
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
@@ -180,8 +207,8 @@ class BackendTransactionManagerTest {
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setTransactionHooks() {
-        Plugins.getMemberAccessor().set(BackendTransactionManager.class.getDeclaredField("transactionHooks"), backendTransactionManager, Collections.emptyList());
+    private void setTransactionHooks(final Collection<TransactionHook> transactionHooks) {
+        Plugins.getMemberAccessor().set(BackendTransactionManager.class.getDeclaredField("transactionHooks"), backendTransactionManager, transactionHooks);
     }
     
     private ContextManager mockContextManager() {
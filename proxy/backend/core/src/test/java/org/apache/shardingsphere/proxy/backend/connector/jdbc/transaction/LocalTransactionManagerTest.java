@@ -18,15 +18,23 @@
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
@@ -35,10 +43,17 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-@ExtendWith(MockitoExtension.class)
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class LocalTransactionManagerTest {
     
@@ -92,4 +107,35 @@ class LocalTransactionManagerTest {
         verify(transactionStatus).isInTransaction();
         verify(connection).rollback();
     }
+    
+    @Test
+    void assertCommitInParallel() throws SQLException {
+        Connection anotherConnection = mockParallelConnections();
+        localTransactionManager.commit();
+        verify(connection).commit();
+        verify(anotherConnection).commit();
+    }
+    
+    @Test
+    void assertRollbackInParallelWithException() throws SQLException {
+        Connection anotherConnection = mockParallelConnections();
+        SQLException expected = new SQLException("rollback failed");
+        doThrow(expected).when(anotherConnection).rollback();
+        SQLException actual = assertThrows(SQLException.class, () -> localTransactionManager.rollback());
+        assertThat(actual, is(expected));
+        verify(connection).rollback();
+    }
+    
+    private Connection mockParallelConnections() {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps())
+                .thenReturn(new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.TRANSACTION_PARALLEL_COMMIT_ENABLED.getKey(), Boolean.TRUE.toString()))));
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        Connection result = mock(Connection.class);
+        Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
+        cachedConnections.put("ds1", connection);
+        cachedConnections.put("ds2", result);
+        when(databaseConnectionManager.getCachedConnections()).thenReturn(cachedConnections);
+        return result;
+    }
 }
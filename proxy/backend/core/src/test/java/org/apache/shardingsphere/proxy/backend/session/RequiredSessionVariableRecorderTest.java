@@ -21,7 +21,9 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -67,6 +69,39 @@ class RequiredSessionVariableRecorderTest {
         assertThat(recorder.toResetSQLs(databaseType), is(Collections.singletonList("RESET ALL")));
     }
     
+    @Test
+    void assertGetVariables() {
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("sql_mode", "default");
+        recorder.setVariable("max_sort_length", "1024");
+        assertThat(recorder.getVariables(), is(Collections.singletonMap("max_sort_length", "1024")));
+    }
+    
+    @Test
+    void assertToMySQLSetSQLsWithAppliedVariables() {
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("max_sort_length", "1024");
+        recorder.setVariable("sql_mode", "default");
+        Map<String, String> appliedVariables = new HashMap<>(2, 1F);
+        appliedVariables.put("max_sort_length", "1024");
+        appliedVariables.put("@variable_name", "'variable_value'");
+        assertThat(recorder.toSetSQLs("MySQL", appliedVariables), is(Collections.singletonList("SET @variable_name=NULL")));
+        appliedVariables.remove("@variable_name");
+        assertTrue(recorder.toSetSQLs("MySQL", appliedVariables).isEmpty());
+        appliedVariables.put("sql_mode", "''");
+        assertThat(recorder.toSetSQLs("MySQL", appliedVariables), is(Collections.singletonList("SET sql_mode=default")));
+    }
+    
+    @Test
+    void assertToPostgreSQLSetSQLsWithAppliedVariables() {
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("client_encoding", "utf8");
+        Map<String, String> appliedVariables = new HashMap<>(2, 1F);
+        appliedVariables.put("client_encoding", "latin1");
+        appliedVariables.put("datestyle", "iso");
+        assertThat(recorder.toSetSQLs("PostgreSQL", appliedVariables), is(Arrays.asList("SET client_encoding=utf8", "RESET datestyle")));
+    }
+    
     @Test
     void assertRecordUnsupportedDatabaseType() {
         RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
@@ -19,11 +19,13 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.VirtualThreadSupport;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +35,7 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * The thread is virtual thread if {@code virtual-thread-enabled} is true and supported by current JVM.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -61,7 +64,12 @@ public final class ConnectionThreadExecutorGroup {
     }
     
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+        ThreadFactory threadFactory = VirtualThreadSupport.isEnabled(VirtualThreadEnabledProvider.isEnabled()) ? VirtualThreadSupport.getThreadFactory() : Thread::new;
+        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread result = threadFactory.newThread(runnable);
+            result.setName(String.format("Connection-%d-ThreadExecutor", connectionId));
+            return result;
+        });
     }
     
     /**
@@ -17,28 +17,24 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
-import lombok.Getter;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.util.concurrent.ExecutorService;
 
 /**
  * User executor group.
+ * 
+ * <p>Executor services of platform threads and virtual threads are created lazily, and chosen by {@code virtual-thread-enabled} every time.</p>
  */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class UserExecutorGroup {
     
     private static final String NAME_FORMAT = "Command-%d";
     
     private static final UserExecutorGroup INSTANCE = new UserExecutorGroup();
     
-    @Getter
-    private final ExecutorService executorService;
-    
-    private UserExecutorGroup() {
-        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
-        executorService = executorServiceManager.getExecutorService();
-    }
-    
     /**
      * Get instance of user executor group.
      *
@@ -47,4 +43,23 @@ public final class UserExecutorGroup {
     public static UserExecutorGroup getInstance() {
         return INSTANCE;
     }
+    
+    /**
+     * Get executor service.
+     *
+     * @return executor service
+     */
+    public ExecutorService getExecutorService() {
+        return VirtualThreadEnabledProvider.isEnabled() ? VirtualExecutorServiceHolder.EXECUTOR_SERVICE : PlatformExecutorServiceHolder.EXECUTOR_SERVICE;
+    }
+    
+    private static final class PlatformExecutorServiceHolder {
+        
+        private static final ExecutorService EXECUTOR_SERVICE = new ExecutorServiceManager(0, NAME_FORMAT, false).getExecutorService();
+    }
+    
+    private static final class VirtualExecutorServiceHolder {
+        
+        private static final ExecutorService EXECUTOR_SERVICE = new ExecutorServiceManager(0, NAME_FORMAT, true).getExecutorService();
+    }
 }
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+/**
+ * Virtual thread enabled provider.
+ * 
+ * <p>{@code virtual-thread-enabled} is resolved from proxy context whenever an executor is created, so it is never read before context manager initialized.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadEnabledProvider {
+    
+    /**
+     * Judge whether virtual thread is enabled by current configuration.
+     *
+     * @return virtual thread is enabled or not, false if context manager is not initialized
+     */
+    public static boolean isEnabled() {
+        ContextManager contextManager = ProxyContext.getInstance().getContextManager();
+        return null != contextManager && contextManager.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.VIRTUAL_THREAD_ENABLED);
+    }
+}
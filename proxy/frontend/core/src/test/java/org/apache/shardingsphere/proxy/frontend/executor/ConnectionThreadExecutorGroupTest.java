@@ -15,28 +15,74 @@
  * limitations under the License.
  */
 
+
 package org.apache.shardingsphere.proxy.frontend.executor;
 
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
 class ConnectionThreadExecutorGroupTest {
     
     @Test
     void assertRegister() {
+        mockProps(new Properties());
         int connectionId = 1;
         ConnectionThreadExecutorGroup.getInstance().register(connectionId);
         assertNotNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
     }
     
+    @Test
+    void assertRegisterWithVirtualThreadEnabled() throws ExecutionException, InterruptedException {
+        mockProps(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.VIRTUAL_THREAD_ENABLED.getKey(), Boolean.TRUE.toString())));
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        assertThat(ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(() -> Thread.currentThread().getName()).get(), is("Connection-3-ThreadExecutor"));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+    }
+    
+    @Test
+    void assertRegisterWithoutContextManager() {
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(null);
+        int connectionId = 4;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        assertNotNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+    }
+    
     @Test
     void assertUnregister() {
+        mockProps(new Properties());
         int connectionId = 2;
         ConnectionThreadExecutorGroup.getInstance().register(connectionId);
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
+    
+    private void mockProps(final Properties props) {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(props));
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+    }
 }
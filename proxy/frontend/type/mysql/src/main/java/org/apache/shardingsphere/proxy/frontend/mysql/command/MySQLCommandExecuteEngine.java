@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacketBatch;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
@@ -37,8 +39,10 @@ import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.MySQLQueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.err.MySQLErrorPacketFactory;
 
+import java.nio.charset.Charset;
 import java.sql.SQLException;
 
 /**
@@ -46,6 +50,8 @@ import java.sql.SQLException;
  */
 public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private static final int MAX_BATCH_SIZE = 64 * 1024;
+    
     @Override
     public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
         return MySQLCommandPacketType.valueOf(((MySQLPacketPayload) payload).readInt1());
@@ -76,16 +82,50 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         }
         int count = 0;
         int flushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            count++;
-            databaseConnectionManager.getResourceLock().doAwait(context);
-            DatabasePacket dataValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(dataValue);
-            if (flushThreshold == count) {
-                context.flush();
-                count = 0;
+        Charset charset = context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        MySQLPacketBatch batch = null;
+        try {
+            while (queryCommandExecutor.next()) {
+                count++;
+                databaseConnectionManager.getResourceLock().doAwait(context);
+                if (null == batch) {
+                    batch = new MySQLPacketBatch(context.alloc().ioBuffer(), charset);
+                }
+                DatabasePacket dataValue = getQueryRowPacket(queryCommandExecutor);
+                if (!batch.add(dataValue)) {
+                    writeBatch(context, batch);
+                    batch = null;
+                    context.write(queryCommandExecutor instanceof MySQLQueryCommandExecutor ? queryCommandExecutor.getQueryRowPacket() : dataValue);
+                } else if (batch.getSize() >= MAX_BATCH_SIZE) {
+                    writeBatch(context, batch);
+                    batch = null;
+                }
+                if (flushThreshold == count) {
+                    if (null != batch) {
+                        writeBatch(context, batch);
+                        batch = null;
+                    }
+                    context.flush();
+                    count = 0;
+                }
+            }
+        } finally {
+            if (null != batch) {
+                writeBatch(context, batch);
             }
         }
         context.write(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(databaseConnectionManager.getConnectionSession())));
     }
+    
+    private DatabasePacket getQueryRowPacket(final QueryCommandExecutor queryCommandExecutor) throws SQLException {
+        return queryCommandExecutor instanceof MySQLQueryCommandExecutor ? ((MySQLQueryCommandExecutor) queryCommandExecutor).getReusableQueryRowPacket() : queryCommandExecutor.getQueryRowPacket();
+    }
+    
+    private void writeBatch(final ChannelHandlerContext context, final MySQLPacketBatch batch) {
+        if (batch.isEmpty()) {
+            batch.release();
+        } else {
+            context.write(batch);
+        }
+    }
 }
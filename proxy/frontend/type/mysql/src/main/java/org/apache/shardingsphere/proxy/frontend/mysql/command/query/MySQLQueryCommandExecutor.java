@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query;
+
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+
+import java.sql.SQLException;
+
+/**
+ * Query command executor for MySQL.
+ */
+public interface MySQLQueryCommandExecutor extends QueryCommandExecutor {
+    
+    /**
+     * Get reusable query row packet.
+     * 
+     * <p>The same packet instance is refilled for every row, so it must be written synchronously before moving to next row.</p>
+     *
+     * @return reusable packet of current query row
+     * @throws SQLException SQL exception
+     */
+    MySQLPacket getReusableQueryRowPacket() throws SQLException;
+}
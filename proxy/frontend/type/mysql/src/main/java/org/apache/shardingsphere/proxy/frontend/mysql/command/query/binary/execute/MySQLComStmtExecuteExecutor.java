@@ -27,6 +27,7 @@ import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLNewParametersBo
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.binder.context.aware.ParameterAware;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
@@ -41,9 +42,9 @@ import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
-import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.MySQLQueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLServerPreparedStatement;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
 
@@ -56,7 +57,7 @@ import java.util.List;
  * COM_STMT_EXECUTE command executor for MySQL.
  */
 @RequiredArgsConstructor
-public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
+public final class MySQLComStmtExecuteExecutor implements MySQLQueryCommandExecutor {
     
     private final MySQLComStmtExecutePacket packet;
     
@@ -67,6 +68,8 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     @Getter
     private ResponseType responseType;
     
+    private final ReusableBinaryResultSetRowPacket reusableRowPacket = new ReusableBinaryResultSetRowPacket();
+    
     @Override
     public Collection<DatabasePacket> execute() throws SQLException {
         MySQLServerPreparedStatement preparedStatement = updateAndGetPreparedStatement();
@@ -122,8 +125,39 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
         return new BinaryRow(result);
     }
     
+    @Override
+    public MySQLPacket getReusableQueryRowPacket() throws SQLException {
+        reusableRowPacket.fill(proxyBackendHandler.getRowData().getCells());
+        return reusableRowPacket;
+    }
+    
     @Override
     public void close() throws SQLException {
         proxyBackendHandler.close();
     }
+    
+    private static final class ReusableBinaryResultSetRowPacket extends MySQLPacket {
+        
+        private MySQLBinaryColumnType[] columnTypes = new MySQLBinaryColumnType[0];
+        
+        private Object[] values = new Object[0];
+        
+        private void fill(final List<QueryResponseCell> cells) {
+            if (cells.size() != values.length) {
+                columnTypes = new MySQLBinaryColumnType[cells.size()];
+                values = new Object[cells.size()];
+            }
+            int index = 0;
+            for (QueryResponseCell each : cells) {
+                columnTypes[index] = MySQLBinaryColumnType.valueOfJDBCType(each.getJdbcType());
+                values[index] = each.getData();
+                index++;
+            }
+        }
+        
+        @Override
+        protected void write(final MySQLPacketPayload payload) {
+            MySQLBinaryResultSetRowPacket.write(payload, columnTypes, values);
+        }
+    }
 }
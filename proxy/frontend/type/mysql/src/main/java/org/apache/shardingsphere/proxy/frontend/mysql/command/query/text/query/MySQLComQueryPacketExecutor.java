@@ -23,6 +23,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.MySQLComSetOptionPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -31,13 +32,14 @@ import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
-import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.MySQLQueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.EmptyStatement;
@@ -47,11 +49,12 @@ import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtils;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * COM_QUERY command packet executor for MySQL.
  */
-public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
+public final class MySQLComQueryPacketExecutor implements MySQLQueryCommandExecutor {
     
     private final ConnectionSession connectionSession;
     
@@ -59,6 +62,8 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     private final int characterSet;
     
+    private final ReusableTextResultSetRowPacket reusableRowPacket = new ReusableTextResultSetRowPacket();
+    
     @Getter
     private volatile ResponseType responseType;
     
@@ -123,8 +128,26 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         return new MySQLTextResultSetRowPacket(proxyBackendHandler.getRowData().getData());
     }
     
+    @Override
+    public MySQLPacket getReusableQueryRowPacket() throws SQLException {
+        reusableRowPacket.cells = proxyBackendHandler.getRowData().getCells();
+        return reusableRowPacket;
+    }
+    
     @Override
     public void close() throws SQLException {
         proxyBackendHandler.close();
     }
+    
+    private static final class ReusableTextResultSetRowPacket extends MySQLPacket {
+        
+        private List<QueryResponseCell> cells;
+        
+        @Override
+        protected void write(final MySQLPacketPayload payload) {
+            for (QueryResponseCell each : cells) {
+                MySQLTextResultSetRowPacket.writeValue(payload, each.getData());
+            }
+        }
+    }
 }
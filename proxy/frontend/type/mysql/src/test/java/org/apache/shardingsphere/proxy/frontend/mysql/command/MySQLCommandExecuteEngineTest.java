@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacketBatch;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.MySQLQueryCommandExecutor;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.apache.shardingsphere.transaction.api.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MySQLCommandExecuteEngineTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Channel channel;
+    
+    @Mock
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ProxyDatabaseConnectionManager databaseConnectionManager;
+    
+    @BeforeEach
+    void setUp() {
+        when(context.channel()).thenReturn(channel);
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        ConnectionSession connectionSession = mock(ConnectionSession.class);
+        when(connectionSession.getTransactionStatus()).thenReturn(new TransactionStatus(TransactionType.LOCAL));
+        when(databaseConnectionManager.getConnectionSession()).thenReturn(connectionSession);
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
+    }
+    
+    @Test
+    void assertWriteQueryDataWithUpdate() throws SQLException {
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.UPDATE);
+        new MySQLCommandExecuteEngine().writeQueryData(context, databaseConnectionManager, queryCommandExecutor, 0);
+        verify(context, never()).write(any());
+    }
+    
+    @Test
+    void assertWriteQueryDataInBatch() throws SQLException {
+        mockFlushThreshold(128);
+        when(queryCommandExecutor.next()).thenReturn(true, true, true, false);
+        MySQLPacket packet = mockPacket(1);
+        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(packet);
+        new MySQLCommandExecuteEngine().writeQueryData(context, databaseConnectionManager, queryCommandExecutor, 0);
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(context, times(2)).write(captor.capture());
+        List<Object> actual = captor.getAllValues();
+        assertThat(actual.get(0), instanceOf(MySQLPacketBatch.class));
+        assertThat(((MySQLPacketBatch) actual.get(0)).getPacketCount(), is(3));
+        assertThat(actual.get(1), instanceOf(MySQLEofPacket.class));
+        verify(context, never()).flush();
+    }
+    
+    @Test
+    void assertWriteQueryDataWithFlushThreshold() throws SQLException {
+        mockFlushThreshold(2);
+        when(queryCommandExecutor.next()).thenReturn(true, true, true, false);
+        MySQLPacket packet = mockPacket(1);
+        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(packet);
+        new MySQLCommandExecuteEngine().writeQueryData(context, databaseConnectionManager, queryCommandExecutor, 0);
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(context, times(3)).write(captor.capture());
+        List<Object> actual = captor.getAllValues();
+        assertThat(((MySQLPacketBatch) actual.get(0)).getPacketCount(), is(2));
+        assertThat(((MySQLPacketBatch) actual.get(1)).getPacketCount(), is(1));
+        assertThat(actual.get(2), instanceOf(MySQLEofPacket.class));
+        verify(context).flush();
+    }
+    
+    @Test
+    void assertWriteQueryDataWithPacketMoreThan16MB() throws SQLException {
+        mockFlushThreshold(128);
+        when(queryCommandExecutor.next()).thenReturn(true, true, false);
+        MySQLPacket smallPacket = mockPacket(1);
+        MySQLPacket largePacket = mockPacket(0xFFFFFF);
+        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(smallPacket, largePacket);
+        new MySQLCommandExecuteEngine().writeQueryData(context, databaseConnectionManager, queryCommandExecutor, 0);
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(context, times(3)).write(captor.capture());
+        List<Object> actual = captor.getAllValues();
+        assertThat(((MySQLPacketBatch) actual.get(0)).getPacketCount(), is(1));
+        assertThat(actual.get(1), is(largePacket));
+        assertThat(actual.get(2), instanceOf(MySQLEofPacket.class));
+    }
+    
+    @Test
+    void assertWriteQueryDataWithReusableRowPacket() throws SQLException {
+        mockFlushThreshold(128);
+        MySQLQueryCommandExecutor mySQLQueryCommandExecutor = mock(MySQLQueryCommandExecutor.class);
+        when(mySQLQueryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
+        when(mySQLQueryCommandExecutor.next()).thenReturn(true, true, false);
+        MySQLPacket packet = mockPacket(1);
+        when(mySQLQueryCommandExecutor.getReusableQueryRowPacket()).thenReturn(packet);
+        new MySQLCommandExecuteEngine().writeQueryData(context, databaseConnectionManager, mySQLQueryCommandExecutor, 0);
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(context, times(2)).write(captor.capture());
+        assertThat(((MySQLPacketBatch) captor.getAllValues().get(0)).getPacketCount(), is(2));
+        verify(mySQLQueryCommandExecutor, never()).getQueryRowPacket();
+    }
+    
+    private void mockFlushThreshold(final int flushThreshold) {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps())
+                .thenReturn(new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), String.valueOf(flushThreshold)))));
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+    }
+    
+    private MySQLPacket mockPacket(final int payloadLength) {
+        MySQLPacket result = mock(MySQLPacket.class);
+        doAnswer(invocation -> ((PacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(payloadLength)).when(result).write(any(PacketPayload.class));
+        return result;
+    }
+}
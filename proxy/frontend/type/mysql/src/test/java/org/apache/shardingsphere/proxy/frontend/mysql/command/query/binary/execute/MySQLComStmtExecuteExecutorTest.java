@@ -154,6 +154,8 @@ class MySQLComStmtExecuteExecutorTest {
         assertTrue(executor.next());
         MySQLPacket actualQueryRowPacket = executor.getQueryRowPacket();
         assertThat(actualQueryRowPacket, instanceOf(MySQLBinaryResultSetRowPacket.class));
+        MySQLPacket reusableRowPacket = executor.getReusableQueryRowPacket();
+        assertThat(executor.getReusableQueryRowPacket(), is(reusableRowPacket));
         executor.close();
         verify(proxyBackendHandler).close();
     }
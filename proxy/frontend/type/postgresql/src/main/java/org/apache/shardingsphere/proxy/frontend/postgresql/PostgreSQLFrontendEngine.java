@@ -26,6 +26,8 @@ import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationEng
 import org.apache.shardingsphere.proxy.frontend.postgresql.authentication.PostgreSQLAuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLCommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLPortalContextRegistry;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyInSession;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyInSessionRegistry;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
 /**
@@ -43,6 +45,7 @@ public final class PostgreSQLFrontendEngine implements DatabaseProtocolFrontendE
     @Override
     public void release(final ConnectionSession connectionSession) {
         PostgreSQLPortalContextRegistry.getInstance().remove(connectionSession.getConnectionId());
+        PostgreSQLCopyInSessionRegistry.getInstance().remove(connectionSession.getConnectionId()).ifPresent(PostgreSQLCopyInSession::cancel);
     }
     
     @Override
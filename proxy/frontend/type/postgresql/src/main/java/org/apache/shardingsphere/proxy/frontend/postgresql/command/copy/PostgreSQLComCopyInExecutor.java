@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLCopyInResponsePacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Command copy in executor for PostgreSQL, which starts {@code COPY ... FROM STDIN}.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLComCopyInExecutor implements CommandExecutor {
+    
+    private final String sql;
+    
+    private final PostgreSQLCopyStatement copyStatement;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Override
+    public Collection<DatabasePacket> execute() throws SQLException {
+        PostgreSQLCopyRouteEngine routeEngine = new PostgreSQLCopyRouteEngine(sql, copyStatement, connectionSession);
+        PostgreSQLCopyInSession session = new PostgreSQLCopyInSession(routeEngine, copyStatement, new PostgreSQLCopyConnections(connectionSession),
+                connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+        PostgreSQLCopyInSessionRegistry.getInstance().register(connectionSession.getConnectionId(), session);
+        return Collections.singleton(new PostgreSQLCopyInResponsePacket("binary".equals(copyStatement.getFormat().orElse("text")), routeEngine.getColumnTypes().size()));
+    }
+}
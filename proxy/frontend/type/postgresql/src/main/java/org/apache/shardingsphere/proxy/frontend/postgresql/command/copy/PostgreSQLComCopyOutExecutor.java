@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyOut;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Command copy out executor for PostgreSQL, which streams {@code COPY ... TO STDOUT} of routed targets one after another.
+ */
+public final class PostgreSQLComCopyOutExecutor implements QueryCommandExecutor {
+    
+    private final String sql;
+    
+    private final PostgreSQLCopyStatement copyStatement;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final PostgreSQLCopyConnections connections;
+    
+    @Getter
+    private final ResponseType responseType = ResponseType.QUERY;
+    
+    private Iterator<PostgreSQLCopyTarget> targets;
+    
+    private boolean multipleTargets;
+    
+    private PostgreSQLCopyTarget currentTarget;
+    
+    private Connection currentConnection;
+    
+    private CopyOut currentCopyOut;
+    
+    private boolean skipHeader;
+    
+    private byte[] currentData;
+    
+    @Getter
+    private long copiedRowCount;
+    
+    public PostgreSQLComCopyOutExecutor(final String sql, final PostgreSQLCopyStatement copyStatement, final ConnectionSession connectionSession) {
+        this.sql = sql;
+        this.copyStatement = copyStatement;
+        this.connectionSession = connectionSession;
+        connections = new PostgreSQLCopyConnections(connectionSession);
+    }
+    
+    @Override
+    public Collection<DatabasePacket> execute() throws SQLException {
+        Collection<PostgreSQLCopyTarget> routedTargets = new PostgreSQLCopyRouteEngine(sql, copyStatement, connectionSession).routeCopyOut();
+        multipleTargets = routedTargets.size() > 1;
+        ShardingSpherePreconditions.checkState(!multipleTargets || !"binary".equals(copyStatement.getFormat().orElse("text")),
+                () -> new UnsupportedSQLOperationException("COPY TO STDOUT in binary format from multiple data nodes"));
+        targets = routedTargets.iterator();
+        openNextCopyOut(false);
+        return Collections.singleton(new PostgreSQLCopyOutResponsePacket(1 == currentCopyOut.getFormat(), currentCopyOut.getFieldCount()));
+    }
+    
+    private boolean openNextCopyOut(final boolean skipHeader) throws SQLException {
+        if (!targets.hasNext()) {
+            return false;
+        }
+        currentTarget = targets.next();
+        currentConnection = connections.getConnection(currentTarget.getDataSourceName());
+        currentCopyOut = currentConnection.unwrap(PGConnection.class).getCopyAPI().copyOut(currentTarget.getSql());
+        this.skipHeader = skipHeader;
+        return true;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (null != currentCopyOut) {
+            currentData = currentCopyOut.readFromCopy();
+            if (null != currentData) {
+                if (skipHeader) {
+                    skipHeader = false;
+                    continue;
+                }
+                return true;
+            }
+            closeCurrentCopyOut();
+            if (!openNextCopyOut(copyStatement.isHeader())) {
+                return false;
+            }
+        }
+        return false;
+    }
+    
+    private void closeCurrentCopyOut() throws SQLException {
+        copiedRowCount += currentCopyOut.getHandledRowCount();
+        currentCopyOut = null;
+        connections.releaseConnection(currentTarget.getDataSourceName(), currentConnection);
+        currentConnection = null;
+    }
+    
+    @Override
+    public PostgreSQLPacket getQueryRowPacket() {
+        return new PostgreSQLCopyDataPacket(currentData);
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (null != currentCopyOut && currentCopyOut.isActive()) {
+                currentCopyOut.cancelCopy();
+            }
+        } finally {
+            currentCopyOut = null;
+            connections.close();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Backend connections of PostgreSQL copy.
+ * 
+ * <p>Copy spans several command packets, so connections held by a transaction are reused, otherwise dedicated connections without auto commit are held until copy finished,
+ * and rolled back if they are closed before commit.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyConnections {
+    
+    private final ConnectionSession connectionSession;
+    
+    private final Map<String, Integer> connectionOffsets = new HashMap<>();
+    
+    private final Collection<Connection> dedicatedConnections = new LinkedList<>();
+    
+    /**
+     * Get connection which is not used by other copy targets.
+     *
+     * @param dataSourceName data source name
+     * @return connection
+     * @throws SQLException SQL exception
+     */
+    public Connection getConnection(final String dataSourceName) throws SQLException {
+        int connectionOffset = connectionOffsets.merge(dataSourceName, 1, Integer::sum) - 1;
+        if (connectionSession.getTransactionStatus().isInConnectionHeldTransaction()) {
+            return connectionSession.getDatabaseConnectionManager().getConnections(dataSourceName, connectionOffset, 1, ConnectionMode.MEMORY_STRICTLY).get(0);
+        }
+        Connection result =
+                ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDatabaseName().toLowerCase(), dataSourceName, 1, ConnectionMode.MEMORY_STRICTLY).get(0);
+        dedicatedConnections.add(result);
+        result.setAutoCommit(false);
+        return result;
+    }
+    
+    /**
+     * Release connection.
+     *
+     * @param dataSourceName data source name
+     * @param connection connection to be released
+     * @throws SQLException SQL exception
+     */
+    public void releaseConnection(final String dataSourceName, final Connection connection) throws SQLException {
+        connectionOffsets.computeIfPresent(dataSourceName, (key, value) -> 1 == value ? null : value - 1);
+        if (dedicatedConnections.remove(connection)) {
+            closeDedicatedConnection(connection);
+        }
+    }
+    
+    /**
+     * Commit dedicated connections.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void commit() throws SQLException {
+        for (Connection each : dedicatedConnections) {
+            each.commit();
+        }
+    }
+    
+    /**
+     * Close dedicated connections.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void close() throws SQLException {
+        connectionOffsets.clear();
+        SQLException ex = null;
+        for (Connection each : dedicatedConnections) {
+            try {
+                closeDedicatedConnection(each);
+            } catch (final SQLException closeException) {
+                ex = closeException;
+            }
+        }
+        dedicatedConnections.clear();
+        if (null != ex) {
+            throw ex;
+        }
+    }
+    
+    private void closeDedicatedConnection(final Connection connection) throws SQLException {
+        try {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        } finally {
+            connection.close();
+        }
+    }
+}
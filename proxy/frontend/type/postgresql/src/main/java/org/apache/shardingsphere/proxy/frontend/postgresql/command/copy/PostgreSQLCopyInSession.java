@@ -0,0 +1,324 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+import org.postgresql.PGConnection;
+import org.postgresql.PGStatement;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.DateTimeException;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL copy in session, which lives from {@code COPY ... FROM STDIN} to copy done or copy fail.
+ * 
+ * <p>Copy data is piped to backend copies of the routed targets. Rows of sharding tables are parsed in text format and routed in batches,
+ * so memory is bounded by the batch size, and blocking writes of backend copies hold back reading of further copy data.
+ * Only values of routing columns are converted, other values are routed as original text, and the original lines are copied to backend.</p>
+ * 
+ * <p>Outside of a transaction, backend copies run on dedicated connections without auto commit, and are committed only after every backend copy ended,
+ * so rejected copy data of any target rolls back all targets.</p>
+ */
+@Slf4j
+public final class PostgreSQLCopyInSession {
+    
+    private static final int ROUTE_BATCH_SIZE = 1000;
+    
+    private static final Pattern TIMESTAMP_WITH_OFFSET_PATTERN = Pattern.compile("(\\d+-\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}(?:\\.\\d+)?)([+-]\\d{1,2}(?::?\\d{2}){0,2})");
+    
+    private final PostgreSQLCopyRouteEngine routeEngine;
+    
+    private final PostgreSQLCopyConnections connections;
+    
+    private final Charset charset;
+    
+    private final boolean rowRoutingRequired;
+    
+    private final char delimiter;
+    
+    private final String nullMarker;
+    
+    private final Map<PostgreSQLCopyTarget, CopyIn> copyIns = new LinkedHashMap<>();
+    
+    private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+    
+    private final List<byte[]> pendingLines = new ArrayList<>(ROUTE_BATCH_SIZE);
+    
+    private final List<List<Object>> pendingRows = new ArrayList<>(ROUTE_BATCH_SIZE);
+    
+    private long routedRowCount;
+    
+    private boolean endOfData;
+    
+    public PostgreSQLCopyInSession(final PostgreSQLCopyRouteEngine routeEngine, final PostgreSQLCopyStatement copyStatement,
+                                   final PostgreSQLCopyConnections connections, final Charset charset) throws SQLException {
+        this.routeEngine = routeEngine;
+        this.connections = connections;
+        this.charset = charset;
+        rowRoutingRequired = routeEngine.isRowRoutingRequired();
+        String delimiter = copyStatement.getDelimiter().orElse(String.valueOf(PostgreSQLCopyTextFormat.DEFAULT_DELIMITER));
+        this.delimiter = delimiter.charAt(0);
+        nullMarker = copyStatement.getNullMarker().orElse(PostgreSQLCopyTextFormat.DEFAULT_NULL_MARKER);
+        if (rowRoutingRequired) {
+            ShardingSpherePreconditions.checkState("text".equals(copyStatement.getFormat().orElse("text")) && 1 == delimiter.length(),
+                    () -> new UnsupportedSQLOperationException("COPY into sharding table with format other than text"));
+            return;
+        }
+        try {
+            for (PostgreSQLCopyTarget each : routeEngine.routeTable()) {
+                getCopyIn(each);
+            }
+        } catch (final SQLException | RuntimeException ex) {
+            cancel();
+            throw ex;
+        }
+    }
+    
+    /**
+     * Write copy data.
+     *
+     * @param data copy data
+     * @throws SQLException SQL exception
+     */
+    public void write(final byte[] data) throws SQLException {
+        if (!rowRoutingRequired) {
+            for (CopyIn each : copyIns.values()) {
+                each.writeToCopy(data, 0, data.length);
+            }
+            return;
+        }
+        int lineStartIndex = 0;
+        for (int i = 0; i < data.length; i++) {
+            if ('\n' != data[i]) {
+                continue;
+            }
+            if (0 == partialLine.size()) {
+                addLine(Arrays.copyOfRange(data, lineStartIndex, i + 1));
+            } else {
+                partialLine.write(data, lineStartIndex, i + 1 - lineStartIndex);
+                addLine(partialLine.toByteArray());
+                partialLine.reset();
+            }
+            lineStartIndex = i + 1;
+        }
+        partialLine.write(data, lineStartIndex, data.length - lineStartIndex);
+    }
+    
+    private void addLine(final byte[] line) throws SQLException {
+        if (endOfData) {
+            return;
+        }
+        String text = new String(line, charset);
+        int endIndex = text.length();
+        while (endIndex > 0 && ('\n' == text.charAt(endIndex - 1) || '\r' == text.charAt(endIndex - 1))) {
+            endIndex--;
+        }
+        text = text.substring(0, endIndex);
+        if (PostgreSQLCopyTextFormat.END_OF_DATA_MARKER.equals(text)) {
+            endOfData = true;
+            return;
+        }
+        List<String> fields = PostgreSQLCopyTextFormat.parseFields(text, delimiter, nullMarker);
+        List<Integer> columnTypes = routeEngine.getColumnTypes();
+        if (fields.size() != columnTypes.size()) {
+            throw new SQLException(String.format("COPY row has %d columns, but %d columns expected", fields.size(), columnTypes.size()), "22P04");
+        }
+        List<Object> row = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            row.add(routeEngine.isRoutingColumn(i) ? convertValue(fields.get(i), columnTypes.get(i)) : fields.get(i));
+        }
+        pendingLines.add(line);
+        pendingRows.add(row);
+        if (pendingRows.size() >= ROUTE_BATCH_SIZE) {
+            flushPendingRows();
+        }
+    }
+    
+    private Object convertValue(final String value, final int columnType) throws SQLException {
+        if (null == value) {
+            return null;
+        }
+        try {
+            switch (columnType) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                    return Integer.parseInt(value);
+                case Types.BIGINT:
+                    return Long.parseLong(value);
+                case Types.NUMERIC:
+                case Types.DECIMAL:
+                    return convertNumeric(value);
+                case Types.REAL:
+                case Types.FLOAT:
+                case Types.DOUBLE:
+                    return Double.parseDouble(value);
+                case Types.DATE:
+                    return convertDate(value);
+                case Types.TIMESTAMP:
+                case Types.TIMESTAMP_WITH_TIMEZONE:
+                    return convertTimestamp(value);
+                default:
+                    return value;
+            }
+        } catch (final IllegalArgumentException | DateTimeException ex) {
+            throw new SQLException(String.format("Invalid input syntax for type %s: `%s`", JDBCType.valueOf(columnType).getName(), value), "22P02", ex);
+        }
+    }
+    
+    private Object convertNumeric(final String value) {
+        switch (value.toLowerCase()) {
+            case "nan":
+                return Double.NaN;
+            case "infinity":
+            case "+infinity":
+                return Double.POSITIVE_INFINITY;
+            case "-infinity":
+                return Double.NEGATIVE_INFINITY;
+            default:
+                return new BigDecimal(value);
+        }
+    }
+    
+    private Date convertDate(final String value) {
+        switch (value.toLowerCase()) {
+            case "infinity":
+                return new Date(PGStatement.DATE_POSITIVE_INFINITY);
+            case "-infinity":
+                return new Date(PGStatement.DATE_NEGATIVE_INFINITY);
+            default:
+                return Date.valueOf(value);
+        }
+    }
+    
+    private Timestamp convertTimestamp(final String value) {
+        switch (value.toLowerCase()) {
+            case "infinity":
+                return new Timestamp(PGStatement.DATE_POSITIVE_INFINITY);
+            case "-infinity":
+                return new Timestamp(PGStatement.DATE_NEGATIVE_INFINITY);
+            default:
+                Matcher matcher = TIMESTAMP_WITH_OFFSET_PATTERN.matcher(value);
+                if (!matcher.matches()) {
+                    return Timestamp.valueOf(value);
+                }
+                return Timestamp.from(Timestamp.valueOf(matcher.group(1)).toLocalDateTime().atOffset(ZoneOffset.of(matcher.group(2))).toInstant());
+        }
+    }
+    
+    private void flushPendingRows() throws SQLException {
+        if (pendingRows.isEmpty()) {
+            return;
+        }
+        List<Collection<PostgreSQLCopyTarget>> rowTargets = routeEngine.routeRows(pendingRows);
+        for (int i = 0; i < rowTargets.size(); i++) {
+            byte[] line = pendingLines.get(i);
+            for (PostgreSQLCopyTarget each : rowTargets.get(i)) {
+                getCopyIn(each).writeToCopy(line, 0, line.length);
+            }
+        }
+        routedRowCount += pendingRows.size();
+        pendingLines.clear();
+        pendingRows.clear();
+    }
+    
+    private CopyIn getCopyIn(final PostgreSQLCopyTarget target) throws SQLException {
+        CopyIn result = copyIns.get(target);
+        if (null == result) {
+            Connection connection = connections.getConnection(target.getDataSourceName());
+            result = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(target.getSql());
+            copyIns.put(target, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Finish copy.
+     *
+     * @return copied row count
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        long result = 0L;
+        try {
+            if (rowRoutingRequired) {
+                if (partialLine.size() > 0) {
+                    addLine(partialLine.toByteArray());
+                    partialLine.reset();
+                }
+                flushPendingRows();
+                result = routedRowCount;
+            }
+            for (CopyIn each : copyIns.values()) {
+                long handledRowCount = each.endCopy();
+                result = rowRoutingRequired ? result : Math.max(result, handledRowCount);
+            }
+            connections.commit();
+        } catch (final SQLException | RuntimeException ex) {
+            cancel();
+            throw ex;
+        }
+        copyIns.clear();
+        connections.close();
+        return result;
+    }
+    
+    /**
+     * Cancel copy.
+     */
+    public void cancel() {
+        for (CopyIn each : copyIns.values()) {
+            try {
+                if (each.isActive()) {
+                    each.cancelCopy();
+                }
+            } catch (final SQLException ex) {
+                log.warn("Cancel copy failed.", ex);
+            }
+        }
+        copyIns.clear();
+        pendingLines.clear();
+        pendingRows.clear();
+        try {
+            connections.close();
+        } catch (final SQLException ex) {
+            log.warn("Close copy connections failed.", ex);
+        }
+    }
+}
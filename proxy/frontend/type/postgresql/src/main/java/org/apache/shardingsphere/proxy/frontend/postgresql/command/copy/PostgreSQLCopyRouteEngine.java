@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.QuoteCharacter;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.RoutingColumnRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.prepare.PrepareStatementQuerySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Route engine for PostgreSQL copy.
+ * 
+ * <p>Rows of copy are routed as multi-row insert statement, so the sharding algorithms decide the data node of each row.</p>
+ */
+public final class PostgreSQLCopyRouteEngine {
+    
+    private final String sql;
+    
+    private final PostgreSQLCopyStatement copyStatement;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final List<String> columnNames = new ArrayList<>();
+    
+    private final List<Integer> columnTypes = new ArrayList<>();
+    
+    private final Collection<Integer> routingColumnIndexes = new HashSet<>();
+    
+    public PostgreSQLCopyRouteEngine(final String sql, final PostgreSQLCopyStatement copyStatement, final ConnectionSession connectionSession) {
+        this.sql = sql;
+        this.copyStatement = copyStatement;
+        this.connectionSession = connectionSession;
+        metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        database = metaData.getDatabase(connectionSession.getDatabaseName());
+        if (null != copyStatement.getTableSegment()) {
+            checkTableRules(copyStatement.getTableSegment().getTableName().getIdentifier().getValue());
+            initColumns(copyStatement.getTableSegment());
+        }
+    }
+    
+    private void checkTableRules(final String tableName) {
+        for (ShardingSphereRule each : database.getRuleMetaData().getRules()) {
+            if (each instanceof TableContainedRule && !(each instanceof DataNodeContainedRule)) {
+                ShardingSpherePreconditions.checkState(!((TableContainedRule) each).getLogicTableMapper().contains(tableName),
+                        () -> new UnsupportedSQLOperationException(String.format("COPY on table `%s` with %s", tableName, each.getClass().getSimpleName())));
+            }
+        }
+    }
+    
+    private void initColumns(final SimpleTableSegment tableSegment) {
+        String schemaName = tableSegment.getOwner().map(optional -> optional.getIdentifier().getValue())
+                .orElseGet(() -> new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(database.getName()));
+        String tableName = tableSegment.getTableName().getIdentifier().getValue();
+        ShardingSphereSchema schema = database.getSchema(schemaName);
+        ShardingSpherePreconditions.checkState(null != schema && schema.containsTable(tableName), () -> new NoSuchTableException(tableName));
+        ShardingSphereTable table = schema.getTable(tableName);
+        if (copyStatement.getColumns().isEmpty()) {
+            for (ShardingSphereColumn each : table.getColumnValues()) {
+                addColumn(tableName, each.getName(), QuoteCharacter.QUOTE.wrap(each.getName()), each.getDataType());
+            }
+            return;
+        }
+        for (ColumnSegment each : copyStatement.getColumns()) {
+            String columnName = each.getIdentifier().getValue();
+            addColumn(tableName, columnName, each.getIdentifier().getValueWithQuoteCharacters(), table.containsColumn(columnName) ? table.getColumn(columnName).getDataType() : Types.VARCHAR);
+        }
+    }
+    
+    private void addColumn(final String tableName, final String columnName, final String columnText, final int columnType) {
+        if (isRoutingColumn(tableName, columnName)) {
+            routingColumnIndexes.add(columnNames.size());
+        }
+        columnNames.add(columnText);
+        columnTypes.add(columnType);
+    }
+    
+    private boolean isRoutingColumn(final String tableName, final String columnName) {
+        for (ShardingSphereRule each : database.getRuleMetaData().getRules()) {
+            if (each instanceof RoutingColumnRule && ((RoutingColumnRule) each).isRoutingColumn(tableName, columnName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get column types of copied rows.
+     *
+     * @return column types
+     */
+    public List<Integer> getColumnTypes() {
+        return Collections.unmodifiableList(columnTypes);
+    }
+    
+    /**
+     * Judge whether value of column is needed to route rows of copy.
+     *
+     * @param columnIndex column index of copied rows, start from 0
+     * @return whether value of column is needed to route rows or not
+     */
+    public boolean isRoutingColumn(final int columnIndex) {
+        return routingColumnIndexes.contains(columnIndex);
+    }
+    
+    /**
+     * Judge whether rows of copy need to be routed one by one.
+     *
+     * @return need to route rows or not
+     */
+    public boolean isRowRoutingRequired() {
+        String tableName = copyStatement.getTableSegment().getTableName().getIdentifier().getValue();
+        for (ShardingSphereRule each : database.getRuleMetaData().getRules()) {
+            if (each instanceof DataNodeContainedRule && ((DataNodeContainedRule) each).getDataNodesByTableName(tableName).size() > 1
+                    && ((DataNodeContainedRule) each).isNeedAccumulate(Collections.singleton(tableName))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Route copy of table without routing rows.
+     *
+     * @return copy targets
+     */
+    public Collection<PostgreSQLCopyTarget> routeTable() {
+        List<Object> params = Collections.nCopies(columnNames.size(), null);
+        return getTargets(route(createInsertSQL(1), params));
+    }
+    
+    /**
+     * Route rows of copy.
+     *
+     * @param rows rows to be routed
+     * @return copy targets of each row
+     */
+    public List<Collection<PostgreSQLCopyTarget>> routeRows(final List<List<Object>> rows) {
+        List<Object> params = new ArrayList<>(rows.size() * columnNames.size());
+        rows.forEach(params::addAll);
+        RouteContext routeContext = route(createInsertSQL(rows.size()), params);
+        Collection<Collection<DataNode>> originalDataNodes = routeContext.getOriginalDataNodes();
+        if (originalDataNodes.isEmpty()) {
+            return Collections.nCopies(rows.size(), getTargets(routeContext));
+        }
+        ShardingSpherePreconditions.checkState(rows.size() == originalDataNodes.size(), () -> new UnsupportedSQLOperationException("COPY rows can not be routed one by one"));
+        Map<String, String> actualDataSourceNames = new HashMap<>(routeContext.getRouteUnits().size(), 1F);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            actualDataSourceNames.put(each.getDataSourceMapper().getLogicName(), each.getDataSourceMapper().getActualName());
+        }
+        List<Collection<PostgreSQLCopyTarget>> result = new ArrayList<>(rows.size());
+        for (Collection<DataNode> each : originalDataNodes) {
+            ShardingSpherePreconditions.checkState(1 == each.size(), () -> new UnsupportedSQLOperationException("COPY row which routes to multiple data nodes"));
+            DataNode dataNode = each.iterator().next();
+            result.add(Collections.singleton(createTarget(actualDataSourceNames.getOrDefault(dataNode.getDataSourceName(), dataNode.getDataSourceName()), dataNode.getTableName())));
+        }
+        return result;
+    }
+    
+    private String createInsertSQL(final int rowCount) {
+        String values = columnNames.stream().map(each -> "?").collect(Collectors.joining(", ", "(", ")"));
+        StringBuilder result = new StringBuilder("INSERT INTO ").append(getTableText()).append(columnNames.stream().collect(Collectors.joining(", ", " (", ")"))).append(" VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(values);
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Route copy to standard output.
+     *
+     * @return copy targets in order
+     */
+    public Collection<PostgreSQLCopyTarget> routeCopyOut() {
+        if (null != copyStatement.getTableSegment()) {
+            return getTargets(route("SELECT * FROM " + getTableText(), Collections.emptyList()));
+        }
+        PrepareStatementQuerySegment querySegment = copyStatement.getPrepareStatementQuerySegment().orElseThrow(() -> new UnsupportedSQLOperationException("COPY without table or query"));
+        RouteContext routeContext = route(sql.substring(querySegment.getStartIndex(), querySegment.getStopIndex() + 1), Collections.emptyList());
+        ShardingSpherePreconditions.checkState(1 == routeContext.getRouteUnits().size() && isTableNamesUnchanged(routeContext.getRouteUnits().iterator().next()),
+                () -> new UnsupportedSQLOperationException("COPY query which routes to multiple data nodes or renamed tables"));
+        return Collections.singleton(new PostgreSQLCopyTarget(routeContext.getRouteUnits().iterator().next().getDataSourceMapper().getActualName(), sql));
+    }
+    
+    private boolean isTableNamesUnchanged(final RouteUnit routeUnit) {
+        return routeUnit.getTableMappers().stream().allMatch(each -> each.getLogicName().equalsIgnoreCase(each.getActualName()));
+    }
+    
+    private String getTableText() {
+        SimpleTableSegment tableSegment = copyStatement.getTableSegment();
+        int startIndex = tableSegment.getOwner().map(optional -> optional.getStartIndex()).orElseGet(() -> tableSegment.getTableName().getStartIndex());
+        return sql.substring(startIndex, tableSegment.getTableName().getStopIndex() + 1);
+    }
+    
+    private RouteContext route(final String routeSQL, final List<Object> params) {
+        SQLParserRule sqlParserRule = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(connectionSession.getProtocolType()).parse(routeSQL, !params.isEmpty());
+        SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, connectionSession.getDefaultDatabaseName()).bind(sqlStatement, params);
+        if (sqlStatementContext instanceof InsertStatementContext) {
+            ShardingSpherePreconditions.checkState(!((InsertStatementContext) sqlStatementContext).getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false),
+                    () -> new UnsupportedSQLOperationException("COPY without values of generated key column"));
+        }
+        QueryContext queryContext = new QueryContext(sqlStatementContext, routeSQL, params);
+        return new SQLRouteEngine(database.getRuleMetaData().getRules(), metaData.getProps()).route(connectionSession.getConnectionContext(), queryContext, metaData.getGlobalRuleMetaData(), database);
+    }
+    
+    private Collection<PostgreSQLCopyTarget> getTargets(final RouteContext routeContext) {
+        String logicTableName = copyStatement.getTableSegment().getTableName().getIdentifier().getValue();
+        Collection<PostgreSQLCopyTarget> result = new LinkedHashSet<>();
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            Iterator<String> actualTableNames = each.getTableMappers().stream().filter(mapper -> logicTableName.equalsIgnoreCase(mapper.getLogicName())).map(RouteMapper::getActualName).iterator();
+            if (!actualTableNames.hasNext()) {
+                result.add(createTarget(each.getDataSourceMapper().getActualName(), logicTableName));
+            }
+            while (actualTableNames.hasNext()) {
+                result.add(createTarget(each.getDataSourceMapper().getActualName(), actualTableNames.next()));
+            }
+        }
+        return result;
+    }
+    
+    private PostgreSQLCopyTarget createTarget(final String dataSourceName, final String actualTableName) {
+        TableNameSegment tableName = copyStatement.getTableSegment().getTableName();
+        if (tableName.getIdentifier().getValue().equals(actualTableName)) {
+            return new PostgreSQLCopyTarget(dataSourceName, sql);
+        }
+        String actualSQL = sql.substring(0, tableName.getStartIndex()) + tableName.getIdentifier().getQuoteCharacter().wrap(actualTableName) + sql.substring(tableName.getStopIndex() + 1);
+        return new PostgreSQLCopyTarget(dataSourceName, actualSQL);
+    }
+}
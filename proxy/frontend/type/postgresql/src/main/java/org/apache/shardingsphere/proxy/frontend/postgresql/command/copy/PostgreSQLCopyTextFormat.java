@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PostgreSQL copy text format.
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/sql-copy.html">COPY File Formats</a>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyTextFormat {
+    
+    /**
+     * Default delimiter of text format.
+     */
+    public static final char DEFAULT_DELIMITER = '\t';
+    
+    /**
+     * Default null marker of text format.
+     */
+    public static final String DEFAULT_NULL_MARKER = "\\N";
+    
+    /**
+     * End of data marker of text format.
+     */
+    public static final String END_OF_DATA_MARKER = "\\.";
+    
+    /**
+     * Parse fields of line in text format.
+     *
+     * @param line line without line terminator
+     * @param delimiter delimiter
+     * @param nullMarker null marker
+     * @return field values, {@code null} for null fields
+     */
+    public static List<String> parseFields(final String line, final char delimiter, final String nullMarker) {
+        List<String> result = new ArrayList<>();
+        int fieldStartIndex = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char each = line.charAt(i);
+            if ('\\' == each) {
+                i++;
+            } else if (delimiter == each) {
+                result.add(decodeField(line.substring(fieldStartIndex, i), nullMarker));
+                fieldStartIndex = i + 1;
+            }
+        }
+        result.add(decodeField(line.substring(fieldStartIndex), nullMarker));
+        return result;
+    }
+    
+    private static String decodeField(final String rawField, final String nullMarker) {
+        if (rawField.equals(nullMarker)) {
+            return null;
+        }
+        if (-1 == rawField.indexOf('\\')) {
+            return rawField;
+        }
+        StringBuilder result = new StringBuilder(rawField.length());
+        for (int i = 0; i < rawField.length(); i++) {
+            char each = rawField.charAt(i);
+            if ('\\' != each || i + 1 == rawField.length()) {
+                result.append(each);
+                continue;
+            }
+            char escaped = rawField.charAt(++i);
+            switch (escaped) {
+                case 'b':
+                    result.append('\b');
+                    break;
+                case 'f':
+                    result.append('\f');
+                    break;
+                case 'n':
+                    result.append('\n');
+                    break;
+                case 'r':
+                    result.append('\r');
+                    break;
+                case 't':
+                    result.append('\t');
+                    break;
+                case 'v':
+                    result.append('\u000B');
+                    break;
+                case 'x':
+                    i = appendEscapedCode(rawField, i + 1, 2, 16, result) - 1;
+                    break;
+                default:
+                    if (escaped >= '0' && escaped <= '7') {
+                        i = appendEscapedCode(rawField, i, 3, 8, result) - 1;
+                    } else {
+                        result.append(escaped);
+                    }
+            }
+        }
+        return result.toString();
+    }
+    
+    private static int appendEscapedCode(final String rawField, final int startIndex, final int maxLength, final int radix, final StringBuilder result) {
+        int endIndex = startIndex;
+        while (endIndex < rawField.length() && endIndex - startIndex < maxLength && -1 != Character.digit(rawField.charAt(endIndex), radix)) {
+            endIndex++;
+        }
+        if (startIndex == endIndex) {
+            result.append('x');
+            return endIndex;
+        }
+        result.append((char) Integer.parseInt(rawField.substring(startIndex, endIndex), radix));
+        return endIndex;
+    }
+}
@@ -42,9 +42,13 @@ import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.BatchedInsertCoalescer;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.CoalescedInsert;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -91,19 +95,54 @@ public final class PostgreSQLBatchedStatementsExecutor {
         this.connectionSession = connectionSession;
         metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         this.preparedStatement = preparedStatement;
+        Optional<BatchedInsertCoalescer> batchedInsertCoalescer = findBatchedInsertCoalescer(parameterSets);
+        anyExecutionContext = batchedInsertCoalescer.isPresent()
+                ? prepareForCoalescedInserts(batchedInsertCoalescer.get().coalesce(parameterSets), preparedStatement.getHintValueContext())
+                : prepareForParameterSets(parameterSets);
+    }
+    
+    private Optional<BatchedInsertCoalescer> findBatchedInsertCoalescer(final List<List<Object>> parameterSets) {
+        if (parameterSets.size() <= 1) {
+            return Optional.empty();
+        }
+        int maxRows = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_INSERT_COALESCING_MAX_ROWS);
+        return BatchedInsertCoalescer.find(preparedStatement.getSql(), preparedStatement.getSqlStatementContext().getSqlStatement(), maxRows);
+    }
+    
+    private ExecutionContext prepareForCoalescedInserts(final Collection<CoalescedInsert> coalescedInserts, final HintValueContext hintValueContext) {
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
+        SQLParserEngine sqlParserEngine = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(database.getProtocolType());
+        ExecutionContext result = null;
+        for (CoalescedInsert each : coalescedInserts) {
+            SQLStatement sqlStatement = sqlParserEngine.parse(each.getSql(), true);
+            SQLStatementContext sqlStatementContext = new SQLBindEngine(metaDataContexts.getMetaData(), connectionSession.getDatabaseName(), hintValueContext).bind(sqlStatement, each.getParameters());
+            ExecutionContext executionContext = createExecutionContext(new QueryContext(sqlStatementContext, each.getSql(), each.getParameters(), hintValueContext));
+            addExecutionUnitParams(executionContext);
+            if (null == result) {
+                result = executionContext;
+            }
+        }
+        return result;
+    }
+    
+    private ExecutionContext prepareForParameterSets(final List<List<Object>> parameterSets) {
         Iterator<List<Object>> parameterSetsIterator = parameterSets.iterator();
         SQLStatementContext sqlStatementContext = null;
-        ExecutionContext executionContext = null;
+        ExecutionContext result = null;
         if (parameterSetsIterator.hasNext()) {
             List<Object> firstGroupOfParam = parameterSetsIterator.next();
             sqlStatementContext = createSQLStatementContext(firstGroupOfParam, preparedStatement.getHintValueContext());
-            executionContext = createExecutionContext(createQueryContext(sqlStatementContext, firstGroupOfParam, preparedStatement.getHintValueContext()));
-            for (ExecutionUnit each : executionContext.getExecutionUnits()) {
-                executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
-            }
+            result = createExecutionContext(createQueryContext(sqlStatementContext, firstGroupOfParam, preparedStatement.getHintValueContext()));
+            addExecutionUnitParams(result);
         }
-        anyExecutionContext = executionContext;
         prepareForRestOfParametersSet(parameterSetsIterator, sqlStatementContext, preparedStatement.getHintValueContext());
+        return result;
+    }
+    
+    private void addExecutionUnitParams(final ExecutionContext executionContext) {
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
+        }
     }
     
     private SQLStatementContext createSQLStatementContext(final List<Object> params, final HintValueContext hintValueContext) {
@@ -116,10 +155,7 @@ public final class PostgreSQLBatchedStatementsExecutor {
             if (sqlStatementContext instanceof ParameterAware) {
                 ((ParameterAware) sqlStatementContext).setUpParameters(eachGroupOfParam);
             }
-            ExecutionContext eachExecutionContext = createExecutionContext(createQueryContext(sqlStatementContext, eachGroupOfParam, hintValueContext));
-            for (ExecutionUnit each : eachExecutionContext.getExecutionUnits()) {
-                executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
-            }
+            addExecutionUnitParams(createExecutionContext(createQueryContext(sqlStatementContext, eachGroupOfParam, hintValueContext)));
         }
     }
     
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSQLComCopyDataExecutorTest {
+    
+    private static final int CONNECTION_ID = 101;
+    
+    private static final byte[] DATA = {'1', '\n'};
+    
+    @Mock
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private PostgreSQLComCopyDataPacket packet;
+    
+    @Mock
+    private PostgreSQLCopyInSession session;
+    
+    @BeforeEach
+    void setUp() {
+        when(connectionSession.getConnectionId()).thenReturn(CONNECTION_ID);
+        when(packet.getData()).thenReturn(DATA);
+        PostgreSQLCopyInSessionRegistry.getInstance().register(CONNECTION_ID, session);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        PostgreSQLCopyInSessionRegistry.getInstance().remove(CONNECTION_ID);
+    }
+    
+    @Test
+    void assertExecute() throws SQLException {
+        assertTrue(new PostgreSQLComCopyDataExecutor(packet, connectionSession).execute().isEmpty());
+        verify(session).write(DATA);
+        assertTrue(PostgreSQLCopyInSessionRegistry.getInstance().get(CONNECTION_ID).isPresent());
+    }
+    
+    @Test
+    void assertExecuteFailed() throws SQLException {
+        doThrow(SQLException.class).when(session).write(DATA);
+        assertThrows(SQLException.class, () -> new PostgreSQLComCopyDataExecutor(packet, connectionSession).execute());
+        verify(session).cancel();
+        assertFalse(PostgreSQLCopyInSessionRegistry.getInstance().get(CONNECTION_ID).isPresent());
+    }
+}
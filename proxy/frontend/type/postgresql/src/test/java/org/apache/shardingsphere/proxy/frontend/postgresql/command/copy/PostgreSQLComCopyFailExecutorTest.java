@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLComCopyFailPacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSQLComCopyFailExecutorTest {
+    
+    private static final int CONNECTION_ID = 103;
+    
+    @Mock
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private PostgreSQLComCopyFailPacket packet;
+    
+    @Mock
+    private PostgreSQLCopyInSession session;
+    
+    @Test
+    void assertExecute() {
+        when(connectionSession.getConnectionId()).thenReturn(CONNECTION_ID);
+        when(packet.getErrorMessage()).thenReturn("canceled by user");
+        PostgreSQLCopyInSessionRegistry.getInstance().register(CONNECTION_ID, session);
+        SQLException actual = assertThrows(SQLException.class, () -> new PostgreSQLComCopyFailExecutor(packet, connectionSession).execute());
+        assertThat(actual.getSQLState(), is("57014"));
+        verify(session).cancel();
+        assertFalse(PostgreSQLCopyInSessionRegistry.getInstance().get(CONNECTION_ID).isPresent());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class PostgreSQLCopyInSessionRegistryTest {
+    
+    @Test
+    void assertRegisterAndRemove() {
+        PostgreSQLCopyInSession session = mock(PostgreSQLCopyInSession.class);
+        PostgreSQLCopyInSessionRegistry.getInstance().register(1, session);
+        assertThat(PostgreSQLCopyInSessionRegistry.getInstance().get(1).orElse(null), is(session));
+        assertThat(PostgreSQLCopyInSessionRegistry.getInstance().remove(1).orElse(null), is(session));
+        assertFalse(PostgreSQLCopyInSessionRegistry.getInstance().get(1).isPresent());
+    }
+    
+    @Test
+    void assertRegisterCancelsPreviousSession() {
+        PostgreSQLCopyInSession previous = mock(PostgreSQLCopyInSession.class);
+        PostgreSQLCopyInSessionRegistry.getInstance().register(2, previous);
+        PostgreSQLCopyInSessionRegistry.getInstance().register(2, mock(PostgreSQLCopyInSession.class));
+        verify(previous).cancel();
+        PostgreSQLCopyInSessionRegistry.getInstance().remove(2);
+    }
+}
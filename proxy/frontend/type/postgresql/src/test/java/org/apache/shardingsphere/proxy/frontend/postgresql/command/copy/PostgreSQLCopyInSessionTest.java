@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGStatement;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSQLCopyInSessionTest {
+    
+    private final PostgreSQLCopyTarget target = new PostgreSQLCopyTarget("ds_0", "COPY t_order_0 FROM STDIN");
+    
+    @Mock
+    private PostgreSQLCopyRouteEngine routeEngine;
+    
+    @Mock
+    private PostgreSQLCopyConnections connections;
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private PGConnection pgConnection;
+    
+    @Mock
+    private CopyManager copyManager;
+    
+    @Mock
+    private CopyIn copyIn;
+    
+    private void mockCopyIn() throws SQLException {
+        when(connections.getConnection("ds_0")).thenReturn(connection);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(target.getSql())).thenReturn(copyIn);
+    }
+    
+    @Test
+    void assertCopyWithoutRowRouting() throws SQLException {
+        when(routeEngine.routeTable()).thenReturn(Collections.singleton(target));
+        mockCopyIn();
+        PostgreSQLCopyInSession session = new PostgreSQLCopyInSession(routeEngine, new PostgreSQLCopyStatement(), connections, StandardCharsets.UTF_8);
+        byte[] data = "1\tfoo\n".getBytes(StandardCharsets.UTF_8);
+        session.write(data);
+        verify(copyIn).writeToCopy(data, 0, data.length);
+        when(copyIn.endCopy()).thenReturn(1L);
+        assertThat(session.finish(), is(1L));
+        verify(connections).commit();
+        verify(connections).close();
+    }
+    
+    @Test
+    void assertCopyWithRowRouting() throws SQLException {
+        when(routeEngine.isRowRoutingRequired()).thenReturn(true);
+        when(routeEngine.getColumnTypes()).thenReturn(Arrays.asList(Types.INTEGER, Types.VARCHAR));
+        when(routeEngine.isRoutingColumn(0)).thenReturn(true);
+        List<Collection<PostgreSQLCopyTarget>> rowTargets = Arrays.asList(Collections.singleton(target), Collections.singleton(target));
+        when(routeEngine.routeRows(Arrays.asList(Arrays.asList(1, "foo"), Arrays.asList(2, null)))).thenReturn(rowTargets);
+        mockCopyIn();
+        PostgreSQLCopyInSession session = new PostgreSQLCopyInSession(routeEngine, new PostgreSQLCopyStatement(), connections, StandardCharsets.UTF_8);
+        session.write("1\tfoo\n2\t".getBytes(StandardCharsets.UTF_8));
+        session.write("\\N\n\\.\n".getBytes(StandardCharsets.UTF_8));
+        verify(copyIn, never()).writeToCopy(any(byte[].class), anyInt(), anyInt());
+        assertThat(session.finish(), is(2L));
+        verify(copyIn, times(2)).writeToCopy(any(byte[].class), eq(0), anyInt());
+        verify(copyIn).endCopy();
+    }
+    
+    @Test
+    void assertCopyWithSpecialValuesOfRoutingColumns() throws SQLException {
+        when(routeEngine.isRowRoutingRequired()).thenReturn(true);
+        when(routeEngine.getColumnTypes()).thenReturn(Arrays.asList(Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP, Types.DATE, Types.DATE, Types.NUMERIC));
+        when(routeEngine.isRoutingColumn(anyInt())).thenReturn(true);
+        List<Object> expectedRow = Arrays.asList(Timestamp.from(Instant.parse("2023-01-01T02:00:00.123Z")), new Timestamp(PGStatement.DATE_POSITIVE_INFINITY),
+                new Timestamp(PGStatement.DATE_NEGATIVE_INFINITY), new Date(PGStatement.DATE_POSITIVE_INFINITY), new Date(PGStatement.DATE_NEGATIVE_INFINITY), Double.NaN);
+        when(routeEngine.routeRows(Collections.singletonList(expectedRow))).thenReturn(Collections.singletonList(Collections.singleton(target)));
+        mockCopyIn();
+        PostgreSQLCopyInSession session = new PostgreSQLCopyInSession(routeEngine, new PostgreSQLCopyStatement(), connections, StandardCharsets.UTF_8);
+        byte[] line = "2023-01-01 10:00:00.123+08\tinfinity\t-infinity\tinfinity\t-infinity\tNaN\n".getBytes(StandardCharsets.UTF_8);
+        session.write(line);
+        assertThat(session.finish(), is(1L));
+        verify(copyIn).writeToCopy(line, 0, line.length);
+    }
+    
+    @Test
+    void assertCopyWithSpecialValuesOfOtherColumns() throws SQLException {
+        when(routeEngine.isRowRoutingRequired()).thenReturn(true);
+        when(routeEngine.getColumnTypes()).thenReturn(Arrays.asList(Types.INTEGER, Types.TIMESTAMP, Types.DATE, Types.NUMERIC));
+        when(routeEngine.isRoutingColumn(0)).thenReturn(true);
+        List<Object> expectedRow = Arrays.asList(1, "2023-01-01 10:00:00+05:30", "-infinity", "NaN");
+        when(routeEngine.routeRows(Collections.singletonList(expectedRow))).thenReturn(Collections.singletonList(Collections.singleton(target)));
+        mockCopyIn();
+        PostgreSQLCopyInSession session = new PostgreSQLCopyInSession(routeEngine, new PostgreSQLCopyStatement(), connections, StandardCharsets.UTF_8);
+        byte[] line = "1\t2023-01-01 10:00:00+05:30\t-infinity\tNaN\n".getBytes(StandardCharsets.UTF_8);
+        session.write(line);
+        assertThat(session.finish(), is(1L));
+        verify(copyIn).writeToCopy(line, 0, line.length);
+    }
+    
+    @Test
+    void assertCopyWithMismatchedColumnCount() throws SQLException {
+        when(routeEngine.isRowRoutingRequired()).thenReturn(true);
+        when(routeEngine.getColumnTypes()).thenReturn(Arrays.asList(Types.INTEGER, Types.VARCHAR));
+        PostgreSQLCopyInSession session = new PostgreSQLCopyInSession(routeEngine, new PostgreSQLCopyStatement(), connections, StandardCharsets.UTF_8);
+        SQLException actual = assertThrows(SQLException.class, () -> session.write("1\n".getBytes(StandardCharsets.UTF_8)));
+        assertThat(actual.getSQLState(), is("22P04"));
+    }
+    
+    @Test
+    void assertCopyWithInvalidValue() throws SQLException {
+        when(routeEngine.isRowRoutingRequired()).thenReturn(true);
+        when(routeEngine.getColumnTypes()).thenReturn(Arrays.asList(Types.INTEGER, Types.VARCHAR));
+        when(routeEngine.isRoutingColumn(0)).thenReturn(true);
+        PostgreSQLCopyInSession session = new PostgreSQLCopyInSession(routeEngine, new PostgreSQLCopyStatement(), connections, StandardCharsets.UTF_8);
+        SQLException actual = assertThrows(SQLException.class, () -> session.write("foo\tbar\n".getBytes(StandardCharsets.UTF_8)));
+        assertThat(actual.getSQLState(), is("22P02"));
+    }
+    
+    @Test
+    void assertFinishFailedWithoutCommit() throws SQLException {
+        when(routeEngine.routeTable()).thenReturn(Collections.singleton(target));
+        mockCopyIn();
+        PostgreSQLCopyInSession session = new PostgreSQLCopyInSession(routeEngine, new PostgreSQLCopyStatement(), connections, StandardCharsets.UTF_8);
+        when(copyIn.endCopy()).thenThrow(SQLException.class);
+        assertThrows(SQLException.class, session::finish);
+        verify(connections, never()).commit();
+        verify(connections).close();
+    }
+}
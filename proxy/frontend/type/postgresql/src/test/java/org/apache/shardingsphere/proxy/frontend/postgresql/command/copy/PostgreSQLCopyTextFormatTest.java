@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PostgreSQLCopyTextFormatTest {
+    
+    @Test
+    void assertParseFields() {
+        assertThat(PostgreSQLCopyTextFormat.parseFields("1\tfoo\t\\N", '\t', "\\N"), is(Arrays.asList("1", "foo", null)));
+    }
+    
+    @Test
+    void assertParseFieldsWithEscapes() {
+        assertThat(PostgreSQLCopyTextFormat.parseFields("a\\tb\t\\n\\\\\t\\101\\x42", '\t', "\\N"), is(Arrays.asList("a\tb", "\n\\", "AB")));
+    }
+    
+    @Test
+    void assertParseFieldsWithCustomDelimiterAndNullMarker() {
+        assertThat(PostgreSQLCopyTextFormat.parseFields("1,,NULL", ',', "NULL"), is(Arrays.asList("1", "", null)));
+    }
+}